@@ -0,0 +1,47 @@
+package com.example.demo.audit;
+
+import com.example.demo.event.AvailabilityChangedEvent;
+import com.example.demo.event.BookingChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+
+/**
+ * Turns committed booking and availability changes into audit records.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditEventListener {
+    
+    private final AuditLog auditLog;
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        auditLog.record(AuditRecord.builder()
+            .timestamp(Instant.now())
+            .action(switch (event.getType()) {
+                case BOOKED -> AuditRecord.Action.BOOKING_CREATED;
+                case RESCHEDULED -> AuditRecord.Action.BOOKING_RESCHEDULED;
+                case CANCELLED -> AuditRecord.Action.BOOKING_CANCELLED;
+            })
+            .bookingId(event.getBookingId())
+            .candidateEmail(event.getCandidateEmail())
+            .interviewerId(event.getInterviewerId())
+            .timeSlotId(event.getTimeSlotId())
+            .previousTimeSlotId(event.getPreviousTimeSlotId())
+            .build());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        auditLog.record(AuditRecord.builder()
+            .timestamp(Instant.now())
+            .action(AuditRecord.Action.AVAILABILITY_UPDATED)
+            .interviewerId(event.getInterviewerId())
+            .detail(String.format("email=%s windows=%d maxPerWeek=%d", event.getInterviewerEmail(),
+                event.getAvailabilityWindows(), event.getMaxInterviewsPerWeek()))
+            .build());
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.demo.audit;
+
+import com.example.demo.util.MpscRingBuffer;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only audit trail. Request threads only enqueue into a lock-free ring buffer; a single
+ * writer thread drains it in batches and appends NDJSON lines to the audit file. When the
+ * buffer is full the {@link OverflowPolicy} decides whether the record is dropped (and
+ * counted) or the caller waits for space up to a bounded timeout.
+ */
+@Slf4j
+public class AuditLog implements AutoCloseable {
+    
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+    
+    private static final long IDLE_PARK_NANOS = Duration.ofMillis(1).toNanos();
+    
+    private final MpscRingBuffer<AuditRecord> buffer;
+    private final Path path;
+    private final int batchSize;
+    private final boolean fsync;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final Thread writer;
+    private volatile boolean running;
+    private FileOutputStream out; // Owned by the writer thread
+    
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong writeErrors = new AtomicLong();
+    
+    public AuditLog(Path path, int capacity, int batchSize, boolean fsync,
+                    OverflowPolicy overflowPolicy, Duration blockTimeout) {
+        this.buffer = new MpscRingBuffer<>(capacity);
+        this.path = path;
+        this.batchSize = batchSize;
+        this.fsync = fsync;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        this.writer = new Thread(this::run, "audit-writer");
+        this.writer.setDaemon(true);
+    }
+    
+    public synchronized void start() throws IOException {
+        if (!running) {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            running = true;
+            writer.start();
+        }
+    }
+    
+    /**
+     * Stops the writer after it has flushed everything enqueued so far.
+     */
+    @Override
+    public synchronized void close() {
+        if (running) {
+            running = false;
+            LockSupport.unpark(writer);
+            try {
+                writer.join(Duration.ofSeconds(10).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    public boolean record(AuditRecord record) {
+        if (buffer.offer(record)) {
+            published.incrementAndGet();
+            return true;
+        }
+        if (overflowPolicy == OverflowPolicy.BLOCK && awaitSpace(record)) {
+            published.incrementAndGet();
+            return true;
+        }
+        dropped.incrementAndGet();
+        return false;
+    }
+    
+    private boolean awaitSpace(AuditRecord record) {
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(IDLE_PARK_NANOS / 10);
+            if (buffer.offer(record)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void run() {
+        List<AuditRecord> batch = new ArrayList<>(batchSize);
+        while (true) {
+            boolean stopping = !running;
+            buffer.drain(batch::add, batchSize);
+            if (batch.isEmpty()) {
+                if (stopping) {
+                    closeFile();
+                    return;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            write(batch);
+            batch.clear();
+        }
+    }
+    
+    private void write(List<AuditRecord> batch) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(batch.size() * 256);
+            for (AuditRecord record : batch) {
+                writeLine(bytes, record);
+            }
+            if (out == null) {
+                out = new FileOutputStream(path.toFile(), true);
+            }
+            bytes.writeTo(out);
+            if (fsync) {
+                out.getChannel().force(false);
+            }
+            written.addAndGet(batch.size());
+        } catch (IOException e) {
+            // Reopen on the next batch in case the file was rotated or removed
+            closeFile();
+            writeErrors.incrementAndGet();
+            dropped.addAndGet(batch.size());
+            log.error("Failed to append {} audit records to {}", batch.size(), path, e);
+        }
+    }
+    
+    private void closeFile() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                log.warn("Failed to close audit file {}", path, e);
+            }
+            out = null;
+        }
+    }
+    
+    private void writeLine(ByteArrayOutputStream out, AuditRecord record) throws IOException {
+        try (JsonGenerator json = jsonFactory.createGenerator(out, JsonEncoding.UTF8)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.writeStartObject();
+            json.writeStringField("timestamp", record.getTimestamp().toString());
+            json.writeStringField("action", record.getAction().name());
+            writeNumber(json, "bookingId", record.getBookingId());
+            if (record.getCandidateEmail() != null) {
+                json.writeStringField("candidateEmail", record.getCandidateEmail());
+            }
+            writeNumber(json, "interviewerId", record.getInterviewerId());
+            writeNumber(json, "timeSlotId", record.getTimeSlotId());
+            writeNumber(json, "previousTimeSlotId", record.getPreviousTimeSlotId());
+            if (record.getDetail() != null) {
+                json.writeStringField("detail", record.getDetail());
+            }
+            json.writeEndObject();
+        }
+        out.write('\n');
+    }
+    
+    private static void writeNumber(JsonGenerator json, String field, Long value) throws IOException {
+        if (value != null) {
+            json.writeNumberField(field, value);
+        }
+    }
+    
+    public long getPublished() {
+        return published.get();
+    }
+    
+    public long getDropped() {
+        return dropped.get();
+    }
+    
+    public long getWritten() {
+        return written.get();
+    }
+    
+    public long getWriteErrors() {
+        return writeErrors.get();
+    }
+    
+    public int getDepth() {
+        return buffer.size();
+    }
+    
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.audit;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+@Value
+@Builder
+public class AuditRecord {
+    
+    public enum Action {
+        BOOKING_CREATED,
+        BOOKING_RESCHEDULED,
+        BOOKING_CANCELLED,
+        AVAILABILITY_UPDATED
+    }
+    
+    Instant timestamp;
+    Action action;
+    Long bookingId;
+    String candidateEmail;
+    Long interviewerId;
+    Long timeSlotId;
+    Long previousTimeSlotId;
+    String detail;
+}
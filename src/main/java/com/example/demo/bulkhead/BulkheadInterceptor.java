@@ -0,0 +1,104 @@
+package com.example.demo.bulkhead;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Admits each request to the bulkhead of its {@link TrafficClass} and routes the connections it
+ * takes to that class's pool. A full bulkhead surfaces as {@code BulkheadFullException} (503).
+ * The permit is returned when the request completes; an async request (streamed bodies, the
+ * reactive feed) keeps it until its async processing completes, and its {@code Callable} work
+ * runs under the request's traffic class so it draws from the same pool.
+ */
+@RequiredArgsConstructor
+public class BulkheadInterceptor implements AsyncHandlerInterceptor, CallableProcessingInterceptor {
+    
+    private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+    private static final String TRAFFIC_CLASS_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".trafficClass";
+    
+    private final BulkheadRegistry bulkheadRegistry;
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+        TrafficClass trafficClass = TrafficClass.of(request.getMethod(), request.getRequestURI());
+        bulkheadRegistry.acquire(trafficClass);
+        request.setAttribute(PERMIT_ATTRIBUTE, trafficClass);
+        request.setAttribute(TRAFFIC_CLASS_ATTRIBUTE, trafficClass);
+        TrafficClassContext.set(trafficClass);
+        return true;
+    }
+    
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The worker thread is free again, but the request is still running; hand the permit to the async cycle
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof TrafficClass trafficClass) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            request.getAsyncContext().addListener(new PermitRelease(trafficClass));
+        }
+        TrafficClassContext.clear();
+    }
+    
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof TrafficClass trafficClass) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            bulkheadRegistry.release(trafficClass);
+        }
+        TrafficClassContext.clear();
+    }
+    
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        Object trafficClass = request.getAttribute(TRAFFIC_CLASS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (trafficClass instanceof TrafficClass) {
+            TrafficClassContext.set((TrafficClass) trafficClass);
+        }
+    }
+    
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object concurrentResult) {
+        TrafficClassContext.clear();
+    }
+    
+    private final class PermitRelease implements AsyncListener {
+        
+        private final TrafficClass trafficClass;
+        
+        private PermitRelease(TrafficClass trafficClass) {
+            this.trafficClass = trafficClass;
+        }
+        
+        // Fires exactly once per async cycle, after a dispatch, a timeout or an error
+        @Override
+        public void onComplete(AsyncEvent event) {
+            bulkheadRegistry.release(trafficClass);
+        }
+        
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+        
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+        
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // A new async cycle drops the listeners of the previous one
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
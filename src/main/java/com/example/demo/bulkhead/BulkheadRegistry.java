@@ -0,0 +1,64 @@
+package com.example.demo.bulkhead;
+
+import com.example.demo.exception.BulkheadFullException;
+import com.example.demo.util.Bulkhead;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One {@link Bulkhead} per {@link TrafficClass}, sized from {@code bulkhead.<class>.max-concurrent},
+ * {@code max-queued} and {@code max-wait-ms}. Admissions, queued admissions and shed requests
+ * are published as {@code bulkhead.*} meters tagged with the partition.
+ */
+@Component
+@Slf4j
+public class BulkheadRegistry {
+    
+    private final Map<TrafficClass, Bulkhead> bulkheads = new EnumMap<>(TrafficClass.class);
+    
+    public BulkheadRegistry(Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            String prefix = "bulkhead." + trafficClass.key() + ".";
+            Bulkhead bulkhead = new Bulkhead(
+                environment.getProperty(prefix + "max-concurrent", Integer.class, trafficClass.defaultMaxConcurrent()),
+                environment.getProperty(prefix + "max-queued", Integer.class, trafficClass.defaultMaxQueued()),
+                Duration.ofMillis(environment.getProperty(prefix + "max-wait-ms", Long.class,
+                    trafficClass.defaultMaxWait().toMillis())));
+            bulkheads.put(trafficClass, bulkhead);
+            meterRegistry.ifAvailable(registry -> register(registry, trafficClass.key(), bulkhead));
+        }
+    }
+    
+    public Bulkhead get(TrafficClass trafficClass) {
+        return bulkheads.get(trafficClass);
+    }
+    
+    public void acquire(TrafficClass trafficClass) {
+        if (!bulkheads.get(trafficClass).tryAcquire()) {
+            log.debug("Bulkhead {} is full, shedding request", trafficClass.key());
+            throw new BulkheadFullException(
+                "Too many " + trafficClass.key() + " requests in progress, please retry shortly", 1);
+        }
+    }
+    
+    public void release(TrafficClass trafficClass) {
+        bulkheads.get(trafficClass).release();
+    }
+    
+    private static void register(MeterRegistry registry, String partition, Bulkhead bulkhead) {
+        Gauge.builder("bulkhead.active", bulkhead, Bulkhead::getActive).tag("partition", partition).register(registry);
+        Gauge.builder("bulkhead.queued", bulkhead, Bulkhead::getQueued).tag("partition", partition).register(registry);
+        FunctionCounter.builder("bulkhead.admitted", bulkhead, Bulkhead::getAdmitted).tag("partition", partition).register(registry);
+        FunctionCounter.builder("bulkhead.delayed", bulkhead, Bulkhead::getDelayed).tag("partition", partition).register(registry);
+        FunctionCounter.builder("bulkhead.rejected", bulkhead, Bulkhead::getRejected).tag("partition", partition).register(registry);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.demo.bulkhead;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One pool per {@link TrafficClass} over the same database, so a flood of reads waits on the
+ * read pool while bookings still find free connections in theirs. Threads outside a request
+ * use the admin pool.
+ */
+public class PartitionedDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    
+    private final Map<TrafficClass, HikariDataSource> pools;
+    
+    public PartitionedDataSource(Map<TrafficClass, HikariDataSource> pools) {
+        this.pools = Map.copyOf(pools);
+        setTargetDataSources(new HashMap<>(pools));
+        setDefaultTargetDataSource(pools.get(TrafficClass.ADMIN));
+        setLenientFallback(false);
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TrafficClassContext.current();
+    }
+    
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.bulkhead;
+
+import java.time.Duration;
+
+/**
+ * Partitions that requests are admitted to and draw connections from. The defaults apply when
+ * {@code bulkhead.<key>.*} is not configured.
+ */
+public enum TrafficClass {
+    
+    READ("read", 16, 32, Duration.ofMillis(100), 6),
+    BOOKING("booking", 24, 100, Duration.ofSeconds(1), 10),
+    ADMIN("admin", 4, 8, Duration.ofSeconds(2), 4);
+    
+    private final String key;
+    private final int defaultMaxConcurrent;
+    private final int defaultMaxQueued;
+    private final Duration defaultMaxWait;
+    private final int defaultPoolSize;
+    
+    TrafficClass(String key, int defaultMaxConcurrent, int defaultMaxQueued, Duration defaultMaxWait, int defaultPoolSize) {
+        this.key = key;
+        this.defaultMaxConcurrent = defaultMaxConcurrent;
+        this.defaultMaxQueued = defaultMaxQueued;
+        this.defaultMaxWait = defaultMaxWait;
+        this.defaultPoolSize = defaultPoolSize;
+    }
+    
+    public String key() {
+        return key;
+    }
+    
+    int defaultMaxConcurrent() {
+        return defaultMaxConcurrent;
+    }
+    
+    int defaultMaxQueued() {
+        return defaultMaxQueued;
+    }
+    
+    Duration defaultMaxWait() {
+        return defaultMaxWait;
+    }
+    
+    public int defaultPoolSize() {
+        return defaultPoolSize;
+    }
+    
+    /**
+     * Exports, cohort runs, availability changes, re-homing and bulk cancellation are admin
+     * traffic; other GETs and the free/busy and panel-availability lookups are reads; the rest
+     * (bookings, holds, panel bookings, waitlist) are booking writes.
+     */
+    public static TrafficClass of(String method, String path) {
+        if (path.startsWith("/api/v1/exports/") || path.startsWith("/api/v1/cohorts/")
+                || path.equals("/api/v1/bookings/cancellations")
+                || (path.startsWith("/api/v1/interviewers/") && !"GET".equals(method)
+                    && !path.equals("/api/v1/interviewers/free-busy"))) {
+            return ADMIN;
+        }
+        if ("GET".equals(method) || path.equals("/api/v1/interviewers/free-busy")) {
+            return READ;
+        }
+        return BOOKING;
+    }
+}
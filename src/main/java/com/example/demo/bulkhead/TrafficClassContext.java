@@ -0,0 +1,26 @@
+package com.example.demo.bulkhead;
+
+/**
+ * Traffic class of the request the current thread is serving, including a streamed body that
+ * runs on the async executor. Unset means background work (schedulers, relays, async exports),
+ * which shares the admin partition.
+ */
+public final class TrafficClassContext {
+    
+    private static final ThreadLocal<TrafficClass> CURRENT = new ThreadLocal<>();
+    
+    private TrafficClassContext() {
+    }
+    
+    public static TrafficClass current() {
+        return CURRENT.get();
+    }
+    
+    static void set(TrafficClass trafficClass) {
+        CURRENT.set(trafficClass);
+    }
+    
+    static void clear() {
+        CURRENT.remove();
+    }
+}
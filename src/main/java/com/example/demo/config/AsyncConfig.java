@@ -0,0 +1,32 @@
+package com.example.demo.config;
+
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+    
+    // Declared explicitly because Boot backs off its default executor once any other executor exists;
+    // it remains the executor for MVC async requests and unqualified @Async methods
+    @Lazy
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+    
+    // Single worker so waitlist matching never races with itself
+    @Bean
+    public ThreadPoolTaskExecutor waitlistExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("waitlist-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.demo.config;
+
+import com.example.demo.audit.AuditLog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+public class AuditConfig {
+    
+    @Bean(destroyMethod = "close")
+    public AuditLog auditLog(@Value("${audit.file.path:audit/audit.ndjson}") Path path,
+                             @Value("${audit.buffer-capacity:8192}") int capacity,
+                             @Value("${audit.batch-size:256}") int batchSize,
+                             @Value("${audit.fsync:false}") boolean fsync,
+                             @Value("${audit.overflow-policy:DROP}") AuditLog.OverflowPolicy overflowPolicy,
+                             @Value("${audit.block-timeout-ms:50}") long blockTimeoutMillis,
+                             ObjectProvider<MeterRegistry> meterRegistry) throws IOException {
+        AuditLog auditLog = new AuditLog(path, capacity, batchSize, fsync, overflowPolicy,
+            Duration.ofMillis(blockTimeoutMillis));
+        auditLog.start();
+        
+        meterRegistry.ifAvailable(registry -> {
+            FunctionCounter.builder("audit.records.published", auditLog, AuditLog::getPublished).register(registry);
+            FunctionCounter.builder("audit.records.dropped", auditLog, AuditLog::getDropped).register(registry);
+            FunctionCounter.builder("audit.records.written", auditLog, AuditLog::getWritten).register(registry);
+            FunctionCounter.builder("audit.write.errors", auditLog, AuditLog::getWriteErrors).register(registry);
+            Gauge.builder("audit.buffer.depth", auditLog, AuditLog::getDepth).register(registry);
+        });
+        return auditLog;
+    }
+}
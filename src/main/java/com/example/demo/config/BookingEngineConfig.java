@@ -0,0 +1,56 @@
+package com.example.demo.config;
+
+import com.example.demo.engine.BookingEngine;
+import com.example.demo.engine.JdbcEngineStateLoader;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "booking.engine.enabled", havingValue = "true")
+public class BookingEngineConfig {
+    
+    // Started after Hibernate, which creates the schema the engine reads from in tests
+    @Bean(destroyMethod = "close")
+    @DependsOn("entityManagerFactory")
+    public BookingEngine bookingEngine(@Value("${booking.engine.journal-dir:journal}") Path directory,
+                                       @Value("${booking.engine.segment-size-mb:64}") int segmentSizeMb,
+                                       @Value("${booking.engine.fsync:true}") boolean fsync,
+                                       @Value("${booking.engine.queue-capacity:65536}") int queueCapacity,
+                                       @Value("${booking.engine.batch-size:1024}") int batchSize,
+                                       @Value("${booking.engine.snapshot-interval:1000000}") long snapshotInterval,
+                                       @Value("${booking.engine.horizon-days:14}") long horizonDays,
+                                       @Value("${booking.engine.command-timeout-ms:5000}") long commandTimeoutMillis,
+                                       @Value("${sharding.enabled:false}") boolean sharded,
+                                       JdbcTemplate jdbcTemplate,
+                                       ObjectProvider<MeterRegistry> meterRegistry) throws IOException {
+        // The engine is one writer over one database; sharding splits bookings across several
+        if (sharded) {
+            throw new IllegalStateException("booking.engine.enabled cannot be combined with sharding.enabled");
+        }
+        BookingEngine engine = new BookingEngine(directory, segmentSizeMb * 1024 * 1024, fsync,
+            new JdbcEngineStateLoader(jdbcTemplate), queueCapacity, batchSize, snapshotInterval,
+            Duration.ofDays(horizonDays), Duration.ofMillis(commandTimeoutMillis));
+        engine.start();
+        
+        meterRegistry.ifAvailable(registry -> {
+            FunctionCounter.builder("booking.engine.commands.accepted", engine, BookingEngine::getAccepted).register(registry);
+            FunctionCounter.builder("booking.engine.commands.rejected", engine, BookingEngine::getRejected).register(registry);
+            FunctionCounter.builder("booking.engine.journal.commits", engine, BookingEngine::getCommits).register(registry);
+            Gauge.builder("booking.engine.queue.depth", engine, BookingEngine::getQueueDepth).register(registry);
+            Gauge.builder("booking.engine.projection.lag.bytes", engine, BookingEngine::getProjectionLag).register(registry);
+        });
+        return engine;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.demo.config;
+
+import com.example.demo.bulkhead.PartitionedDataSource;
+import com.example.demo.bulkhead.TrafficClass;
+import com.example.demo.sharding.ShardDirectory;
+import com.example.demo.sharding.ShardRoutingDataSource;
+import com.example.demo.sharding.ShardSchemaInitializer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Spring Boot backs off its JDBC DataSource auto-configuration as soon as an R2DBC
+ * ConnectionFactory is present, so the JDBC pool used by JPA is declared explicitly
+ * from the regular {@code spring.datasource.*} properties. With {@code sharding.enabled}
+ * there is one such pool per {@code sharding.urls} entry behind a routing data source;
+ * with {@code bulkhead.partition-pools} there is one per traffic class instead.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+    
+    private static final String PARTITIONED =
+        "${bulkhead.enabled:true} and ${bulkhead.partition-pools:false} and !${sharding.enabled:false}";
+    
+    @Bean
+    @ConditionalOnExpression("!(" + PARTITIONED + ") and !${sharding.enabled:false}")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties,
+                                       @Value("${booking.engine.enabled:false}") boolean bookingEngine) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        if (bookingEngine) {
+            reserveEvenIdsForEngine(pool);
+        }
+        return pool;
+    }
+    
+    @Bean
+    @ConditionalOnExpression(PARTITIONED)
+    public PartitionedDataSource partitionedDataSource(DataSourceProperties properties, Environment environment,
+                                                       @Value("${booking.engine.enabled:false}") boolean bookingEngine,
+                                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<TrafficClass, HikariDataSource> pools = new EnumMap<>(TrafficClass.class);
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            pool.setPoolName(trafficClass.key());
+            pool.setMaximumPoolSize(environment.getProperty(
+                "bulkhead." + trafficClass.key() + ".pool-size", Integer.class, trafficClass.defaultPoolSize()));
+            if (bookingEngine) {
+                reserveEvenIdsForEngine(pool);
+            }
+            // Boot only instruments pools it can unwrap from a DataSource bean
+            meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            pools.put(trafficClass, pool);
+        }
+        return new PartitionedDataSource(pools);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+    public ShardRoutingDataSource shardRoutingDataSource(DataSourceProperties properties, ShardDirectory directory,
+                                                         Environment environment) {
+        // A request-scoped EntityManager would keep the first shard's connection for the whole request
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            throw new IllegalStateException("sharding.enabled requires spring.jpa.open-in-view=false");
+        }
+        List<HikariDataSource> shards = new ArrayList<>();
+        List<String> urls = directory.shardUrls();
+        for (int shard = 0; shard < urls.size(); shard++) {
+            HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(urls.get(shard))
+                .build();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            pool.setPoolName("shard-" + shard);
+            if (urls.get(shard).startsWith("jdbc:mysql:")) {
+                pool.setConnectionInitSql(String.format(
+                    "SET SESSION auto_increment_increment = %d, auto_increment_offset = %d", urls.size(), shard + 1));
+            }
+            shards.add(pool);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+    public ShardSchemaInitializer shardSchemaInitializer(ShardDirectory directory, DataSource dataSource) {
+        return new ShardSchemaInitializer(directory, dataSource);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "sharding.enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer shardSchemaIntegrator(ShardSchemaInitializer initializer) {
+        return properties -> properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER,
+            (IntegratorProvider) () -> List.of(initializer));
+    }
+    
+    // The booking engine projects even booking ids; everything else gets odd ones
+    private static void reserveEvenIdsForEngine(HikariDataSource pool) {
+        if (pool.getJdbcUrl().startsWith("jdbc:mysql:")) {
+            pool.setConnectionInitSql("SET SESSION auto_increment_increment = 2, auto_increment_offset = 1");
+        }
+    }
+}
@@ -1,12 +1,30 @@
 package com.example.demo.config;
 
+import com.example.demo.bulkhead.BulkheadInterceptor;
+import com.example.demo.bulkhead.BulkheadRegistry;
+import com.example.demo.ratelimit.RateLimitInterceptor;
+import com.example.demo.ratelimit.RateLimitService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
     
+    private final RateLimitService rateLimitService;
+    private final BulkheadRegistry bulkheadRegistry;
+    
+    @Value("${ratelimit.trust-forwarded-for:false}")
+    private boolean trustForwardedFor;
+    
+    @Value("${bulkhead.enabled:true}")
+    private boolean bulkheadEnabled;
+    
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -15,5 +33,23 @@ public class WebConfig implements WebMvcConfigurer {
             .allowedHeaders("*")
             .allowCredentials(true);
     }
+    
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        // Streamed bodies run on the async executor; carry the request's traffic class over to it
+        if (bulkheadEnabled) {
+            configurer.registerCallableInterceptors(new BulkheadInterceptor(bulkheadRegistry));
+        }
+    }
+    
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(rateLimitService, trustForwardedFor))
+            .addPathPatterns("/api/v1/bookings/**", "/api/v1/time-slots/**", "/api/v1/holds/**", "/api/v1/panels/**");
+        // After the rate limiter, so throttled clients never take a permit
+        if (bulkheadEnabled) {
+            registry.addInterceptor(new BulkheadInterceptor(bulkheadRegistry))
+                .addPathPatterns("/api/**");
+        }
+    }
 }
-
@@ -1,10 +1,14 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.request.AutoBookRequest;
 import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.dto.request.BulkCancelRequest;
 import com.example.demo.dto.request.UpdateBookingRequest;
 import com.example.demo.dto.response.ApiResponse;
 import com.example.demo.dto.response.BookingResponse;
-import com.example.demo.service.BookingService;
+import com.example.demo.dto.response.CancellationResponse;
+import com.example.demo.ratelimit.RateLimitService;
+import com.example.demo.service.ShardedBookingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -18,11 +22,13 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class BookingController {
     
-    private final BookingService bookingService;
+    private final ShardedBookingService bookingService;
+    private final RateLimitService rateLimitService;
     
     @PostMapping
     public ResponseEntity<ApiResponse<BookingResponse>> bookSlot(
             @Valid @RequestBody BookSlotRequest request) {
+        rateLimitService.checkCandidate(request.getCandidateEmail());
         BookingResponse booking = bookingService.bookSlot(request);
         
         ApiResponse<BookingResponse> response = ApiResponse.<BookingResponse>builder()
@@ -35,9 +41,26 @@ public class BookingController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    @PostMapping("/auto")
+    public ResponseEntity<ApiResponse<BookingResponse>> autoBook(
+            @Valid @RequestBody AutoBookRequest request) {
+        rateLimitService.checkCandidate(request.getCandidateEmail());
+        BookingResponse booking = bookingService.autoBook(request);
+        
+        ApiResponse<BookingResponse> response = ApiResponse.<BookingResponse>builder()
+            .success(true)
+            .message("Earliest matching slot booked successfully")
+            .data(booking)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
     @PutMapping
     public ResponseEntity<ApiResponse<BookingResponse>> updateBooking(
             @Valid @RequestBody UpdateBookingRequest request) {
+        rateLimitService.checkCandidate(request.getCandidateEmail());
         BookingResponse booking = bookingService.updateBooking(request);
         
         ApiResponse<BookingResponse> response = ApiResponse.<BookingResponse>builder()
@@ -63,5 +86,37 @@ public class BookingController {
         
         return ResponseEntity.ok(response);
     }
+    
+    @DeleteMapping("/{bookingId}")
+    public ResponseEntity<ApiResponse<CancellationResponse>> cancelBooking(
+            @PathVariable Long bookingId,
+            @RequestParam String candidateEmail,
+            @RequestParam(defaultValue = "true") boolean releaseSlot) {
+        rateLimitService.checkCandidate(candidateEmail);
+        CancellationResponse cancellation = bookingService.cancelBooking(bookingId, candidateEmail, releaseSlot);
+        
+        ApiResponse<CancellationResponse> response = ApiResponse.<CancellationResponse>builder()
+            .success(true)
+            .message("Booking cancelled successfully")
+            .data(cancellation)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/cancellations")
+    public ResponseEntity<ApiResponse<CancellationResponse>> cancelBookings(
+            @Valid @RequestBody BulkCancelRequest request) {
+        CancellationResponse cancellation = bookingService.cancelBookings(request);
+        
+        ApiResponse<CancellationResponse> response = ApiResponse.<CancellationResponse>builder()
+            .success(true)
+            .message(String.format("%d bookings cancelled", cancellation.getCancelledBookings()))
+            .data(cancellation)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.ok(response);
+    }
 }
-
@@ -0,0 +1,51 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.request.CohortScheduleRequest;
+import com.example.demo.dto.response.ApiResponse;
+import com.example.demo.dto.response.CohortScheduleResponse;
+import com.example.demo.service.CohortSchedulingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/cohorts")
+@RequiredArgsConstructor
+public class CohortController {
+    
+    private final CohortSchedulingService cohortSchedulingService;
+    
+    @PostMapping("/preview")
+    public ResponseEntity<ApiResponse<CohortScheduleResponse>> preview(
+            @Valid @RequestBody CohortScheduleRequest request) {
+        CohortScheduleResponse plan = cohortSchedulingService.preview(request);
+        
+        ApiResponse<CohortScheduleResponse> response = ApiResponse.<CohortScheduleResponse>builder()
+            .success(true)
+            .message("Cohort assignment computed")
+            .data(plan)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/schedule")
+    public ResponseEntity<ApiResponse<CohortScheduleResponse>> schedule(
+            @Valid @RequestBody CohortScheduleRequest request) {
+        CohortScheduleResponse result = cohortSchedulingService.schedule(request);
+        
+        ApiResponse<CohortScheduleResponse> response = ApiResponse.<CohortScheduleResponse>builder()
+            .success(true)
+            .message("Cohort scheduled successfully")
+            .data(result)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+}
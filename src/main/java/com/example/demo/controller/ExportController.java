@@ -0,0 +1,53 @@
+package com.example.demo.controller;
+
+import com.example.demo.service.ExportService;
+import com.example.demo.service.ExportService.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/exports")
+@RequiredArgsConstructor
+public class ExportController {
+    
+    private final ExportService exportService;
+    
+    @GetMapping("/bookings")
+    public ResponseEntity<StreamingResponseBody> exportBookings(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        exportService.validateRange(from, to);
+        
+        return streaming("bookings", exportFormat,
+            out -> exportService.exportBookings(from, to, exportFormat, out));
+    }
+    
+    @GetMapping("/time-slots")
+    public ResponseEntity<StreamingResponseBody> exportTimeSlots(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "csv") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        exportService.validateRange(from, to);
+        
+        return streaming("time-slots", exportFormat,
+            out -> exportService.exportTimeSlots(from, to, exportFormat, out));
+    }
+    
+    private ResponseEntity<StreamingResponseBody> streaming(String name, ExportFormat format, StreamingResponseBody body) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getContentType()))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + name + "." + format.getExtension() + "\"")
+            .body(body);
+    }
+}
@@ -1,14 +1,23 @@
 package com.example.demo.controller;
 
 import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.dto.request.FreeBusyRequest;
 import com.example.demo.dto.request.InterviewerAvailabilityRequest;
 import com.example.demo.dto.response.ApiResponse;
+import com.example.demo.dto.response.RehomeResponse;
+import com.example.demo.service.BookingRehomeService;
+import com.example.demo.service.CalendarFeedService;
+import com.example.demo.service.FreeBusyService;
 import com.example.demo.service.InterviewerService;
+import com.example.demo.sharding.ShardRouter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 
@@ -18,11 +27,16 @@ import java.time.LocalDateTime;
 public class InterviewerController {
     
     private final InterviewerService interviewerService;
+    private final CalendarFeedService calendarFeedService;
+    private final FreeBusyService freeBusyService;
+    private final BookingRehomeService bookingRehomeService;
+    private final ShardRouter shardRouter;
     
     @PostMapping("/availability")
     public ResponseEntity<ApiResponse<Interviewer>> createOrUpdateAvailability(
             @Valid @RequestBody InterviewerAvailabilityRequest request) {
-        Interviewer interviewer = interviewerService.createOrUpdateInterviewerAvailability(request);
+        Interviewer interviewer = shardRouter.onHomeShard(request.getEmail(),
+            () -> interviewerService.createOrUpdateInterviewerAvailability(request));
         
         ApiResponse<Interviewer> response = ApiResponse.<Interviewer>builder()
             .success(true)
@@ -34,9 +48,47 @@ public class InterviewerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
+    @PostMapping("/free-busy")
+    public ResponseEntity<StreamingResponseBody> getFreeBusy(@Valid @RequestBody FreeBusyRequest request) {
+        freeBusyService.validateRange(request.getFrom(), request.getTo());
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(out -> freeBusyService.writeFreeBusy(
+                request.getInterviewerIds(), request.getFrom(), request.getTo(), out));
+    }
+    
+    @PostMapping("/{id}/rehome/preview")
+    public ResponseEntity<ApiResponse<RehomeResponse>> previewRehome(@PathVariable Long id) {
+        RehomeResponse plan = shardRouter.onShardOf(id, () -> bookingRehomeService.preview(id));
+        
+        ApiResponse<RehomeResponse> response = ApiResponse.<RehomeResponse>builder()
+            .success(true)
+            .message("Re-home plan computed")
+            .data(plan)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/{id}/rehome")
+    public ResponseEntity<ApiResponse<RehomeResponse>> rehome(@PathVariable Long id) {
+        RehomeResponse result = shardRouter.onShardOf(id, () -> bookingRehomeService.rehome(id));
+        
+        ApiResponse<RehomeResponse> response = ApiResponse.<RehomeResponse>builder()
+            .success(true)
+            .message("Orphaned bookings re-homed")
+            .data(result)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<Interviewer>> getInterviewer(@PathVariable Long id) {
-        Interviewer interviewer = interviewerService.getInterviewerById(id);
+        Interviewer interviewer = shardRouter.onShardOf(id, () -> interviewerService.getInterviewerById(id));
         
         ApiResponse<Interviewer> response = ApiResponse.<Interviewer>builder()
             .success(true)
@@ -50,7 +102,7 @@ public class InterviewerController {
     
     @GetMapping("/email/{email}")
     public ResponseEntity<ApiResponse<Interviewer>> getInterviewerByEmail(@PathVariable String email) {
-        Interviewer interviewer = interviewerService.getInterviewerByEmail(email);
+        Interviewer interviewer = shardRouter.onHomeShard(email, () -> interviewerService.getInterviewerByEmail(email));
         
         ApiResponse<Interviewer> response = ApiResponse.<Interviewer>builder()
             .success(true)
@@ -61,5 +113,26 @@ public class InterviewerController {
         
         return ResponseEntity.ok(response);
     }
+    
+    @GetMapping("/{id}/calendar.ics")
+    public ResponseEntity<StreamingResponseBody> getCalendarFeed(
+            @PathVariable Long id,
+            @RequestParam(required = false) String syncToken,
+            WebRequest webRequest) {
+        CalendarFeedService.FeedVersion feedVersion = shardRouter.onShardOf(id,
+            () -> calendarFeedService.currentVersion(id, syncToken));
+        
+        // Sets ETag / Last-Modified and answers 304 when the client copy is current
+        if (webRequest.checkNotModified(feedVersion.etag(syncToken), feedVersion.lastModified().toEpochMilli())) {
+            return null;
+        }
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType("text/calendar;charset=UTF-8"))
+            .header("X-Sync-Token", feedVersion.syncToken())
+            .body(out -> shardRouter.onShardOf(id, () -> {
+                calendarFeedService.writeCalendar(feedVersion, out);
+                return null;
+            }));
+    }
 }
-
@@ -0,0 +1,82 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.request.PanelBookingRequest;
+import com.example.demo.dto.response.ApiResponse;
+import com.example.demo.dto.response.CancellationResponse;
+import com.example.demo.dto.response.PanelBookingResponse;
+import com.example.demo.ratelimit.RateLimitService;
+import com.example.demo.service.PanelService;
+import com.example.demo.service.ShardedBookingService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/panels")
+@RequiredArgsConstructor
+public class PanelController {
+    
+    private final PanelService panelService;
+    private final ShardedBookingService shardedBookingService;
+    private final RateLimitService rateLimitService;
+    
+    @GetMapping("/availability")
+    public ResponseEntity<ApiResponse<List<LocalDateTime>>> getCommonSlots(
+            @RequestParam List<Long> interviewerIds,
+            @RequestParam(required = false) Integer durationMinutes,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Integer limit) {
+        
+        List<LocalDateTime> starts = panelService.findCommonSlots(interviewerIds, durationMinutes, from, to, limit);
+        
+        ApiResponse<List<LocalDateTime>> response = ApiResponse.<List<LocalDateTime>>builder()
+            .success(true)
+            .message("Common panel slots retrieved successfully")
+            .data(starts)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping
+    public ResponseEntity<ApiResponse<PanelBookingResponse>> bookPanel(
+            @Valid @RequestBody PanelBookingRequest request) {
+        rateLimitService.checkCandidate(request.getCandidateEmail());
+        PanelBookingResponse panel = shardedBookingService.bookPanel(request);
+        
+        ApiResponse<PanelBookingResponse> response = ApiResponse.<PanelBookingResponse>builder()
+            .success(true)
+            .message("Panel booked successfully")
+            .data(panel)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    @DeleteMapping("/{panelId}")
+    public ResponseEntity<ApiResponse<CancellationResponse>> cancelPanel(
+            @PathVariable String panelId,
+            @RequestParam String candidateEmail,
+            @RequestParam(defaultValue = "true") boolean releaseSlots) {
+        rateLimitService.checkCandidate(candidateEmail);
+        CancellationResponse cancellation = shardedBookingService.cancelPanel(panelId, candidateEmail, releaseSlots);
+        
+        ApiResponse<CancellationResponse> response = ApiResponse.<CancellationResponse>builder()
+            .success(true)
+            .message("Panel cancelled successfully")
+            .data(cancellation)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.demo.controller;
+
+import com.example.demo.domain.repository.ReactiveTimeSlotRepository;
+import com.example.demo.dto.response.TimeSlotResponse;
+import com.example.demo.sharding.ShardRouter;
+import com.example.demo.util.CursorEncoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+/**
+ * Streaming, non-blocking variant of {@code GET /time-slots/available}, selected by
+ * {@code Accept: application/x-ndjson} or {@code text/event-stream}. The request thread is
+ * released as soon as the R2DBC query is subscribed; each element carries the cursor to
+ * resume after it.
+ */
+@RestController
+@RequestMapping("/api/v1/time-slots")
+@RequiredArgsConstructor
+@ConditionalOnProperty("spring.r2dbc.url")
+public class ReactiveTimeSlotController {
+    
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 10_000;
+    
+    private final ReactiveTimeSlotRepository reactiveTimeSlotRepository;
+    private final ShardRouter shardRouter;
+    
+    @GetMapping(value = "/available", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<TimeSlotResponse> streamAvailableSlots(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        shardRouter.rejectWhenSharded("The streaming slot feed"); // R2DBC reads one database
+        int effectiveLimit = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        CursorEncoder.Cursor decodedCursor = cursor == null || cursor.isEmpty() ? null : CursorEncoder.decode(cursor);
+        
+        return reactiveTimeSlotRepository.streamAvailableSlots(decodedCursor, effectiveLimit);
+    }
+}
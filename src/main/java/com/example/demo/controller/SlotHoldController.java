@@ -0,0 +1,48 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.request.HoldSlotRequest;
+import com.example.demo.dto.response.ApiResponse;
+import com.example.demo.dto.response.HoldResponse;
+import com.example.demo.service.SlotHoldService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/holds")
+@RequiredArgsConstructor
+public class SlotHoldController {
+    
+    private final SlotHoldService slotHoldService;
+    
+    @PostMapping
+    public ResponseEntity<ApiResponse<HoldResponse>> holdSlot(@Valid @RequestBody HoldSlotRequest request) {
+        HoldResponse hold = slotHoldService.holdSlot(request);
+        
+        ApiResponse<HoldResponse> response = ApiResponse.<HoldResponse>builder()
+            .success(true)
+            .message("Slot held successfully")
+            .data(hold)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    @DeleteMapping("/{holdToken}")
+    public ResponseEntity<ApiResponse<Void>> releaseHold(@PathVariable String holdToken) {
+        slotHoldService.releaseHold(holdToken);
+        
+        ApiResponse<Void> response = ApiResponse.<Void>builder()
+            .success(true)
+            .message("Hold released successfully")
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,13 +1,13 @@
 package com.example.demo.controller;
 
-import com.example.demo.dto.response.ApiResponse;
-import com.example.demo.dto.response.PagedTimeSlotResponse;
+import com.example.demo.service.AvailableSlotPageCache;
+import com.example.demo.service.CompactSlotFeedService;
 import com.example.demo.service.TimeSlotService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.time.LocalDateTime;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/time-slots")
@@ -15,22 +15,47 @@ import java.time.LocalDateTime;
 public class TimeSlotController {
     
     private final TimeSlotService timeSlotService;
+    private final AvailableSlotPageCache pageCache;
+    private final CompactSlotFeedService compactSlotFeedService;
     
+    // Bodies are pre-encoded ApiResponse JSON; chronological pages come from the page cache
     @GetMapping("/available")
-    public ResponseEntity<ApiResponse<PagedTimeSlotResponse>> getAvailableSlots(
+    public ResponseEntity<byte[]> getAvailableSlots(
             @RequestParam(required = false) String cursor,
-            @RequestParam(required = false) Integer pageSize) {
+            @RequestParam(required = false) Integer pageSize,
+            @RequestParam(defaultValue = "CHRONOLOGICAL") TimeSlotService.SlotRanking ranking) {
         
-        PagedTimeSlotResponse response = timeSlotService.getAvailableSlots(cursor, pageSize);
+        byte[] body = ranking == TimeSlotService.SlotRanking.CHRONOLOGICAL
+            ? pageCache.availablePage(cursor, pageSize)
+            : pageCache.encode(timeSlotService.getAvailableSlots(cursor, pageSize, ranking));
         
-        ApiResponse<PagedTimeSlotResponse> apiResponse = ApiResponse.<PagedTimeSlotResponse>builder()
-            .success(true)
-            .message("Available time slots retrieved successfully")
-            .data(response)
-            .timestamp(LocalDateTime.now())
-            .build();
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+    
+    @GetMapping(value = "/available", produces = CompactSlotFeedService.COLUMNAR_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAvailableSlotsColumnar(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer pageSize) {
+        return compact(cursor, pageSize, CompactSlotFeedService.Format.COLUMNAR_JSON,
+            MediaType.parseMediaType(CompactSlotFeedService.COLUMNAR_JSON_VALUE));
+    }
+    
+    @GetMapping(value = "/available", produces = MediaType.APPLICATION_CBOR_VALUE)
+    public ResponseEntity<StreamingResponseBody> getAvailableSlotsCbor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer pageSize) {
+        return compact(cursor, pageSize, CompactSlotFeedService.Format.CBOR, MediaType.APPLICATION_CBOR);
+    }
+    
+    // The page is read on the request thread so cursor and query errors still map to error responses
+    private ResponseEntity<StreamingResponseBody> compact(String cursor, Integer pageSize,
+                                                          CompactSlotFeedService.Format format, MediaType mediaType) {
+        CompactSlotFeedService.SlotColumns page = compactSlotFeedService.loadAvailable(cursor, pageSize);
         
-        return ResponseEntity.ok(apiResponse);
+        return ResponseEntity.ok()
+            .contentType(mediaType)
+            .body(out -> compactSlotFeedService.write(page, format, out));
     }
 }
-
@@ -0,0 +1,63 @@
+package com.example.demo.controller;
+
+import com.example.demo.dto.request.JoinWaitlistRequest;
+import com.example.demo.dto.response.ApiResponse;
+import com.example.demo.dto.response.WaitlistEntryResponse;
+import com.example.demo.service.WaitlistService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+    
+    private final WaitlistService waitlistService;
+    
+    @PostMapping
+    public ResponseEntity<ApiResponse<WaitlistEntryResponse>> join(@Valid @RequestBody JoinWaitlistRequest request) {
+        WaitlistEntryResponse entry = waitlistService.join(request);
+        
+        ApiResponse<WaitlistEntryResponse> response = ApiResponse.<WaitlistEntryResponse>builder()
+            .success(true)
+            .message("Added to waitlist successfully")
+            .data(entry)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    @GetMapping("/{entryId}")
+    public ResponseEntity<ApiResponse<WaitlistEntryResponse>> getEntry(@PathVariable Long entryId) {
+        WaitlistEntryResponse entry = waitlistService.getEntry(entryId);
+        
+        ApiResponse<WaitlistEntryResponse> response = ApiResponse.<WaitlistEntryResponse>builder()
+            .success(true)
+            .message("Waitlist entry retrieved successfully")
+            .data(entry)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @DeleteMapping("/{entryId}")
+    public ResponseEntity<ApiResponse<WaitlistEntryResponse>> leave(@PathVariable Long entryId) {
+        WaitlistEntryResponse entry = waitlistService.leave(entryId);
+        
+        ApiResponse<WaitlistEntryResponse> response = ApiResponse.<WaitlistEntryResponse>builder()
+            .success(true)
+            .message("Removed from waitlist successfully")
+            .data(entry)
+            .timestamp(LocalDateTime.now())
+            .build();
+        
+        return ResponseEntity.ok(response);
+    }
+}
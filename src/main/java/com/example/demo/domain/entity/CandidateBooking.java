@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "candidate_bookings")
+@Table(name = "candidate_bookings", indexes = {
+    @Index(name = "idx_booking_panel", columnList = "panel_id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -30,6 +32,9 @@ public class CandidateBooking {
     @Column(nullable = false)
     private String candidateEmail;
     
+    @Column(name = "panel_id", length = 36)
+    private String panelId; // Shared by the bookings of one panel interview, null otherwise
+    
     @Column(name = "booking_date_time", nullable = false, updatable = false)
     private LocalDateTime bookingDateTime;
     
@@ -0,0 +1,32 @@
+package com.example.demo.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * How far a booking engine journal has been projected into the tables. Updated in the same
+ * transaction as the projected rows, so every journal record is applied exactly once.
+ */
+@Entity
+@Table(name = "journal_checkpoints")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalCheckpoint {
+    
+    @Id
+    @Column(name = "journal_name", length = 32)
+    private String journalName;
+    
+    @Column(nullable = false)
+    private long position;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,45 @@
+package com.example.demo.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A booking engine event the projector could not apply because the tables no longer matched
+ * it, e.g. the slot was booked by a path outside the engine. Recorded in the projection's
+ * transaction, so the checkpoint still moves past it; the row has to be reconciled by hand.
+ */
+@Entity
+@Table(name = "journal_dead_letters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JournalDeadLetter {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "journal_name", nullable = false, length = 32)
+    private String journalName;
+    
+    @Column(name = "event_type", nullable = false, length = 32)
+    private String eventType;
+    
+    @Column(name = "booking_id", nullable = false)
+    private Long bookingId;
+    
+    @Column(name = "time_slot_id", nullable = false)
+    private Long timeSlotId;
+    
+    @Column(nullable = false)
+    private String reason;
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
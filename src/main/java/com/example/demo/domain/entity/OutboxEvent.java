@@ -0,0 +1,53 @@
+package com.example.demo.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_events", indexes = {
+    @Index(name = "idx_outbox_pending", columnList = "delivered_at,id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+    
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+    
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+    
+    @Column(nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+    
+    // Set once the event has failed outbox.max-attempts times; the relay no longer picks it up
+    @Column(name = "dead_lettered_at")
+    private LocalDateTime deadLetteredAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "slot_holds", indexes = {
+    @Index(name = "idx_hold_expires", columnList = "expires_at"),
+    @Index(name = "idx_hold_candidate", columnList = "candidate_email", unique = true)
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SlotHold {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "time_slot_id", nullable = false, unique = true)
+    private TimeSlot timeSlot;
+    
+    @Column(name = "candidate_email", nullable = false)
+    private String candidateEmail;
+    
+    @Column(name = "hold_token", nullable = false, unique = true, length = 36)
+    private String holdToken;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
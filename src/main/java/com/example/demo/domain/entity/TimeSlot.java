@@ -31,6 +31,9 @@ public class TimeSlot {
     @Column(name = "slot_date_time", nullable = false)
     private LocalDateTime slotDateTime;
     
+    @Column(name = "duration_minutes")
+    private Integer durationMinutes; // Null for slots generated before durations were recorded
+    
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     @Builder.Default
@@ -44,6 +47,7 @@ public class TimeSlot {
     
     public enum TimeSlotStatus {
         AVAILABLE,
+        HELD,
         BOOKED,
         CANCELLED
     }
@@ -0,0 +1,63 @@
+package com.example.demo.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "waitlist_entries", indexes = {
+    @Index(name = "idx_waitlist_status", columnList = "status,created_at"),
+    @Index(name = "idx_waitlist_candidate", columnList = "candidate_email")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistEntry {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "candidate_name", nullable = false)
+    private String candidateName;
+    
+    @Column(name = "candidate_email", nullable = false)
+    private String candidateEmail;
+    
+    @Column(name = "interviewer_id")
+    private Long interviewerId; // null = any interviewer
+    
+    @Column(name = "window_start", nullable = false)
+    private LocalDateTime windowStart;
+    
+    @Column(name = "window_end", nullable = false)
+    private LocalDateTime windowEnd;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private WaitlistStatus status = WaitlistStatus.WAITING;
+    
+    @Column(name = "booking_id")
+    private Long bookingId;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+    
+    public enum WaitlistStatus {
+        WAITING,
+        ASSIGNING, // Claimed by the waitlist worker while it books the released slot
+        ASSIGNED,
+        CANCELLED
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.demo.domain.repository;
 
 import com.example.demo.domain.entity.CandidateBooking;
+import com.example.demo.domain.entity.TimeSlot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,5 +17,78 @@ import java.util.Optional;
 public interface CandidateBookingRepository extends JpaRepository<CandidateBooking, Long> {
     Optional<CandidateBooking> findByTimeSlotId(Long timeSlotId);
     List<CandidateBooking> findByCandidateEmail(String candidateEmail);
+    boolean existsByCandidateEmailAndTimeSlotStatus(String candidateEmail, TimeSlot.TimeSlotStatus status);
+    
+    @Query("SELECT DISTINCT b.candidateEmail FROM CandidateBooking b " +
+           "WHERE b.candidateEmail IN :emails AND b.timeSlot.status = :status")
+    List<String> findCandidateEmailsWithSlotStatus(
+        @Param("emails") Collection<String> emails,
+        @Param("status") TimeSlot.TimeSlotStatus status
+    );
+    
+    @Query("SELECT b.id AS bookingId, b.candidateEmail AS candidateEmail, ts.id AS timeSlotId, " +
+           "ts.interviewer.id AS interviewerId, ts.slotDateTime AS slotDateTime, b.panelId AS panelId " +
+           "FROM CandidateBooking b JOIN b.timeSlot ts WHERE b.id = :bookingId")
+    Optional<BookingSlotRef> findBookingSlotRef(@Param("bookingId") Long bookingId);
+    
+    @Query("SELECT b.id AS bookingId, b.candidateEmail AS candidateEmail, ts.id AS timeSlotId, " +
+           "ts.interviewer.id AS interviewerId, ts.slotDateTime AS slotDateTime, b.panelId AS panelId " +
+           "FROM CandidateBooking b JOIN b.timeSlot ts " +
+           "WHERE ts.interviewer.id = :interviewerId AND ts.status = 'BOOKED' " +
+           "AND ts.slotDateTime >= :from AND ts.slotDateTime < :to")
+    List<BookingSlotRef> findActiveBookingsForInterviewer(
+        @Param("interviewerId") Long interviewerId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+    
+    @Query("SELECT b.id AS bookingId, b.candidateEmail AS candidateEmail, ts.id AS timeSlotId, " +
+           "ts.interviewer.id AS interviewerId, ts.slotDateTime AS slotDateTime, b.panelId AS panelId " +
+           "FROM CandidateBooking b JOIN b.timeSlot ts WHERE b.panelId IN :panelIds")
+    List<BookingSlotRef> findBookingSlotRefsByPanelIds(@Param("panelIds") Collection<String> panelIds);
+    
+    @Query("SELECT b.id AS bookingId, b.candidateEmail AS candidateEmail, b.panelId AS panelId, " +
+           "ts.id AS timeSlotId, ts.slotDateTime AS slotDateTime, ts.durationMinutes AS durationMinutes " +
+           "FROM CandidateBooking b JOIN b.timeSlot ts " +
+           "WHERE ts.interviewer.id = :interviewerId AND ts.status = 'BOOKED' AND ts.slotDateTime > :from " +
+           "ORDER BY ts.slotDateTime ASC, ts.id ASC")
+    List<UpcomingBooking> findUpcomingBookings(
+        @Param("interviewerId") Long interviewerId,
+        @Param("from") LocalDateTime from
+    );
+    
+    // Moves the booking only if it still sits on the expected slot
+    @Modifying
+    @Query("UPDATE CandidateBooking b SET b.timeSlot = :newSlot, b.candidateName = :candidateName, " +
+           "b.updatedAt = :updatedAt WHERE b.id = :bookingId AND b.timeSlot.id = :oldSlotId")
+    int moveToSlot(
+        @Param("bookingId") Long bookingId,
+        @Param("oldSlotId") Long oldSlotId,
+        @Param("newSlot") TimeSlot newSlot,
+        @Param("candidateName") String candidateName,
+        @Param("updatedAt") LocalDateTime updatedAt
+    );
+    
+    @Modifying
+    @Query("DELETE FROM CandidateBooking b WHERE b.id IN :bookingIds")
+    int deleteByIds(@Param("bookingIds") Collection<Long> bookingIds);
+    
+    interface BookingSlotRef {
+        Long getBookingId();
+        String getCandidateEmail();
+        Long getTimeSlotId();
+        Long getInterviewerId();
+        LocalDateTime getSlotDateTime();
+        String getPanelId();
+    }
+    
+    interface UpcomingBooking {
+        Long getBookingId();
+        String getCandidateEmail();
+        String getPanelId();
+        Long getTimeSlotId();
+        LocalDateTime getSlotDateTime();
+        Integer getDurationMinutes();
+    }
 }
 
@@ -2,12 +2,31 @@ package com.example.demo.domain.repository;
 
 import com.example.demo.domain.entity.Interviewer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface InterviewerRepository extends JpaRepository<Interviewer, Long> {
     Optional<Interviewer> findByEmail(String email);
+    
+    // Serializes the bookings of each interviewer: a second booker waits here, then counts the
+    // week with the first one's booking in it. Ascending id order, so batches cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM Interviewer i WHERE i.id IN :ids ORDER BY i.id ASC")
+    List<Interviewer> lockAllById(@Param("ids") Collection<Long> ids);
+    
+    // As lockAllById, but a lock timeout of -2 renders SKIP LOCKED: empty while another booker holds the row
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT i FROM Interviewer i WHERE i.id = :id")
+    Optional<Interviewer> tryLockById(@Param("id") Long id);
 }
-
@@ -0,0 +1,9 @@
+package com.example.demo.domain.repository;
+
+import com.example.demo.domain.entity.JournalCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JournalCheckpointRepository extends JpaRepository<JournalCheckpoint, String> {
+}
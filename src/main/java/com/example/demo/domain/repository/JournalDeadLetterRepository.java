@@ -0,0 +1,9 @@
+package com.example.demo.domain.repository;
+
+import com.example.demo.domain.entity.JournalDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JournalDeadLetterRepository extends JpaRepository<JournalDeadLetter, Long> {
+}
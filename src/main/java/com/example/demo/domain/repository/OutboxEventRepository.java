@@ -0,0 +1,46 @@
+package com.example.demo.domain.repository;
+
+import com.example.demo.domain.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    // Oldest undelivered events first. Ids follow insert order, not commit order: a transaction
+    // holding a lower id can commit after a higher id was relayed, so sinks must not assume order
+    @Query("SELECT e FROM OutboxEvent e WHERE e.deliveredAt IS NULL AND e.deadLetteredAt IS NULL ORDER BY e.id ASC")
+    List<OutboxEvent> findPending(Pageable pageable);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.deliveredAt = :now, e.attempts = e.attempts + 1 WHERE e.id IN :ids")
+    int markDelivered(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1 WHERE e.id IN :ids")
+    int incrementAttempts(@Param("ids") Collection<Long> ids);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.deadLetteredAt = :now WHERE e.id IN :ids AND e.attempts >= :maxAttempts")
+    int deadLetterExhausted(@Param("ids") Collection<Long> ids, @Param("maxAttempts") int maxAttempts,
+                            @Param("now") LocalDateTime now);
+    
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.deliveredAt < :cutoff")
+    int deleteDeliveredBefore(@Param("cutoff") LocalDateTime cutoff);
+    
+    long countByDeliveredAtIsNull();
+}
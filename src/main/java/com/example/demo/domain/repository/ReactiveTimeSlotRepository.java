@@ -0,0 +1,68 @@
+package com.example.demo.domain.repository;
+
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.dto.response.TimeSlotResponse;
+import com.example.demo.util.CursorEncoder;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+
+/**
+ * Non-blocking counterpart of the available-slot queries in {@link TimeSlotRepository}.
+ * Uses the same {@code (slot_date_time, id)} keyset ordering so cursors are interchangeable
+ * between both read paths.
+ */
+@Repository
+@ConditionalOnProperty("spring.r2dbc.url")
+public class ReactiveTimeSlotRepository {
+    
+    private static final String FIRST_PAGE_SQL =
+        "SELECT id, interviewer_id, slot_date_time, status FROM time_slots " +
+        "WHERE status = :status " +
+        "ORDER BY slot_date_time ASC, id ASC LIMIT :limit";
+    
+    private static final String AFTER_CURSOR_SQL =
+        "SELECT id, interviewer_id, slot_date_time, status FROM time_slots " +
+        "WHERE status = :status " +
+        "AND (slot_date_time > :cursorDateTime OR (slot_date_time = :cursorDateTime AND id > :cursorId)) " +
+        "ORDER BY slot_date_time ASC, id ASC LIMIT :limit";
+    
+    private final DatabaseClient databaseClient;
+    
+    public ReactiveTimeSlotRepository(ConnectionFactory connectionFactory) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+    
+    public Flux<TimeSlotResponse> streamAvailableSlots(CursorEncoder.Cursor cursor, int limit) {
+        DatabaseClient.GenericExecuteSpec spec;
+        if (cursor == null) {
+            spec = databaseClient.sql(FIRST_PAGE_SQL);
+        } else {
+            spec = databaseClient.sql(AFTER_CURSOR_SQL)
+                .bind("cursorDateTime", cursor.getDateTime())
+                .bind("cursorId", cursor.getId());
+        }
+        return spec
+            .bind("status", TimeSlot.TimeSlotStatus.AVAILABLE.name())
+            .bind("limit", limit)
+            .map(ReactiveTimeSlotRepository::mapRow)
+            .all();
+    }
+    
+    private static TimeSlotResponse mapRow(Readable row) {
+        Long id = row.get("id", Long.class);
+        LocalDateTime slotDateTime = row.get("slot_date_time", LocalDateTime.class);
+        return TimeSlotResponse.builder()
+            .id(id)
+            .interviewerId(row.get("interviewer_id", Long.class))
+            .slotDateTime(slotDateTime)
+            .status(TimeSlot.TimeSlotStatus.valueOf(row.get("status", String.class)))
+            .cursor(CursorEncoder.encode(slotDateTime, id))
+            .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.domain.repository;
+
+import com.example.demo.domain.entity.SlotHold;
+import com.example.demo.domain.entity.TimeSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SlotHoldRepository extends JpaRepository<SlotHold, Long> {
+    
+    Optional<SlotHold> findByHoldToken(String holdToken);
+    
+    Optional<SlotHold> findByTimeSlotId(Long timeSlotId);
+    
+    boolean existsByCandidateEmail(String candidateEmail);
+    
+    // Used to re-arm expiry timers after a restart
+    @Query("SELECT h.id AS id, h.expiresAt AS expiresAt FROM SlotHold h")
+    List<HoldExpiry> findAllExpiries();
+    
+    @Query("SELECT h.id AS id, h.expiresAt AS expiresAt FROM SlotHold h WHERE h.id IN :holdIds")
+    List<HoldExpiry> findExpiries(@Param("holdIds") Collection<Long> holdIds);
+    
+    @Query("SELECT ts FROM SlotHold h JOIN h.timeSlot ts " +
+           "WHERE h.id IN :holdIds AND h.expiresAt <= :now AND ts.status = 'HELD'")
+    List<TimeSlot> findSlotsOfExpiredHolds(@Param("holdIds") Collection<Long> holdIds, @Param("now") LocalDateTime now);
+    
+    // Release the slots of holds that have really expired (and were not converted in the meantime)
+    @Modifying
+    @Query("UPDATE TimeSlot ts SET ts.status = 'AVAILABLE', ts.version = ts.version + 1 " +
+           "WHERE ts.status = 'HELD' AND ts.id IN " +
+           "(SELECT h.timeSlot.id FROM SlotHold h WHERE h.id IN :holdIds AND h.expiresAt <= :now)")
+    int releaseSlotsOfExpiredHolds(@Param("holdIds") Collection<Long> holdIds, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("DELETE FROM SlotHold h WHERE h.id IN :holdIds AND h.expiresAt <= :now")
+    int deleteExpiredHolds(@Param("holdIds") Collection<Long> holdIds, @Param("now") LocalDateTime now);
+    
+    interface HoldExpiry {
+        Long getId();
+        LocalDateTime getExpiresAt();
+    }
+}
@@ -6,12 +6,16 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,6 +45,54 @@ public interface TimeSlotRepository extends JpaRepository<TimeSlot, Long> {
     @Lock(LockModeType.OPTIMISTIC)
     Optional<TimeSlot> findById(Long id);
     
+    // The earliest free slots in a window, read without locks: auto-booking locks the interviewer
+    // of a candidate slot before the slot itself
+    @Query("SELECT ts.id AS id, ts.interviewer.id AS interviewerId, ts.slotDateTime AS slotDateTime, " +
+           "ts.status AS status FROM TimeSlot ts WHERE ts.status = 'AVAILABLE' " +
+           "AND ts.slotDateTime >= :start AND ts.slotDateTime < :end " +
+           "ORDER BY ts.slotDateTime ASC, ts.id ASC")
+    List<SlotRef> findAvailableSlotRefs(
+        @Param("start") LocalDateTime start,
+        @Param("end") LocalDateTime end,
+        Pageable pageable
+    );
+    
+    // Lock a slot if it is still free; a lock timeout of -2 renders SKIP LOCKED, so concurrent
+    // claimers move on to the next slot instead of queueing behind each other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT ts FROM TimeSlot ts WHERE ts.id = :id AND ts.status = 'AVAILABLE'")
+    Optional<TimeSlot> tryLockAvailableSlot(@Param("id") Long id);
+    
+    @Query("SELECT ts FROM TimeSlot ts JOIN FETCH ts.interviewer WHERE ts.status = 'AVAILABLE' " +
+           "AND ts.slotDateTime >= :start AND ts.slotDateTime < :end " +
+           "ORDER BY ts.slotDateTime ASC, ts.id ASC")
+    List<TimeSlot> findAvailableSlotsBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    // Locks in ascending id order so concurrent batches cannot deadlock on each other; no join,
+    // since FOR UPDATE over a join also locks the interviewer rows in scan order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ts FROM TimeSlot ts WHERE ts.id IN :ids ORDER BY ts.id ASC")
+    List<TimeSlot> lockSlotsById(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT ts.interviewer.id AS interviewerId, ts.slotDateTime AS slotDateTime, " +
+           "ts.durationMinutes AS durationMinutes FROM TimeSlot ts " +
+           "WHERE ts.interviewer.id IN :interviewerIds AND ts.status = 'AVAILABLE' " +
+           "AND ts.slotDateTime >= :from AND ts.slotDateTime < :to")
+    List<SlotStart> findAvailableSlotStarts(
+        @Param("interviewerIds") Collection<Long> interviewerIds,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ts FROM TimeSlot ts JOIN FETCH ts.interviewer " +
+           "WHERE ts.interviewer.id IN :interviewerIds AND ts.slotDateTime = :slotDateTime ORDER BY ts.id ASC")
+    List<TimeSlot> lockSlotsAt(
+        @Param("interviewerIds") Collection<Long> interviewerIds,
+        @Param("slotDateTime") LocalDateTime slotDateTime
+    );
+    
     // Find slots by interviewer and date range
     List<TimeSlot> findByInterviewerIdAndSlotDateTimeBetween(
         Long interviewerId, 
@@ -57,5 +109,80 @@ public interface TimeSlotRepository extends JpaRepository<TimeSlot, Long> {
         @Param("weekStart") LocalDateTime weekStart,
         @Param("weekEnd") LocalDateTime weekEnd
     );
+    
+    @Query("SELECT ts.interviewer.id AS interviewerId, COUNT(ts) AS booked FROM TimeSlot ts " +
+           "WHERE ts.interviewer.id IN :interviewerIds AND ts.status = 'BOOKED' " +
+           "AND ts.slotDateTime >= :weekStart AND ts.slotDateTime < :weekEnd " +
+           "GROUP BY ts.interviewer.id")
+    List<InterviewerLoad> countBookedSlotsForWeekByInterviewer(
+        @Param("interviewerIds") Collection<Long> interviewerIds,
+        @Param("weekStart") LocalDateTime weekStart,
+        @Param("weekEnd") LocalDateTime weekEnd
+    );
+    
+    @Query("SELECT ts.interviewer.id AS interviewerId, ts.slotDateTime AS slotDateTime FROM TimeSlot ts " +
+           "WHERE ts.interviewer.id IN :interviewerIds AND ts.status = 'BOOKED' " +
+           "AND ts.slotDateTime >= :from AND ts.slotDateTime < :to")
+    List<BookedSlotTime> findBookedSlotTimes(
+        @Param("interviewerIds") Collection<Long> interviewerIds,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to
+    );
+    
+    @Query("SELECT ts.id AS id, ts.interviewer.id AS interviewerId, ts.slotDateTime AS slotDateTime, " +
+           "ts.status AS status FROM TimeSlot ts WHERE ts.id = :id")
+    Optional<SlotRef> findSlotRefById(@Param("id") Long id);
+    
+    @Query("SELECT DISTINCT ts.interviewer.id FROM TimeSlot ts WHERE ts.id IN :ids")
+    List<Long> findInterviewerIdsBySlotIds(@Param("ids") Collection<Long> ids);
+    
+    // Guarded transitions; the version bump fails concurrent optimistic writers
+    @Modifying
+    @Query("UPDATE TimeSlot ts SET ts.status = 'BOOKED', ts.version = ts.version + 1 " +
+           "WHERE ts.id = :id AND ts.status = 'AVAILABLE'")
+    int claimAvailableSlot(@Param("id") Long id);
+    
+    @Modifying
+    @Query("UPDATE TimeSlot ts SET ts.status = 'AVAILABLE', ts.version = ts.version + 1 " +
+           "WHERE ts.id = :id AND ts.status = 'BOOKED'")
+    int releaseBookedSlot(@Param("id") Long id);
+    
+    // Set-based cancellation; the version bump fails concurrent optimistic writers
+    @Modifying
+    @Query("UPDATE TimeSlot ts SET ts.status = 'CANCELLED', ts.version = ts.version + 1 " +
+           "WHERE ts.id IN :ids AND ts.status = 'BOOKED'")
+    int cancelBookedSlots(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT ts FROM TimeSlot ts JOIN FETCH ts.interviewer " +
+           "WHERE ts.id IN :ids AND ts.status = 'CANCELLED' AND ts.slotDateTime > :now")
+    List<TimeSlot> findRecyclableSlots(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    // Return cancelled future slots to the available feed
+    @Modifying
+    @Query("UPDATE TimeSlot ts SET ts.status = 'AVAILABLE', ts.version = ts.version + 1 " +
+           "WHERE ts.id IN :ids AND ts.status = 'CANCELLED' AND ts.slotDateTime > :now")
+    int recycleCancelledSlots(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    
+    interface SlotRef {
+        Long getId();
+        Long getInterviewerId();
+        LocalDateTime getSlotDateTime();
+        TimeSlotStatus getStatus();
+    }
+    
+    interface InterviewerLoad {
+        Long getInterviewerId();
+        Long getBooked();
+    }
+    
+    interface SlotStart {
+        Long getInterviewerId();
+        LocalDateTime getSlotDateTime();
+        Integer getDurationMinutes();
+    }
+    
+    interface BookedSlotTime {
+        Long getInterviewerId();
+        LocalDateTime getSlotDateTime();
+    }
 }
-
@@ -0,0 +1,36 @@
+package com.example.demo.domain.repository;
+
+import com.example.demo.domain.entity.WaitlistEntry;
+import com.example.demo.domain.entity.WaitlistEntry.WaitlistStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+    
+    // Entries stay WAITING once their window has passed, so only unexpired ones count
+    boolean existsByCandidateEmailAndStatusAndWindowEndAfter(String candidateEmail, WaitlistStatus status,
+                                                             LocalDateTime now);
+    
+    List<WaitlistEntry> findByStatusAndWindowEndAfterOrderByCreatedAtAscIdAsc(WaitlistStatus status, LocalDateTime now);
+    
+    // Guarded transition; 0 means another writer moved the entry first
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WaitlistEntry e SET e.status = :status, e.bookingId = :bookingId " +
+           "WHERE e.id = :id AND e.status = :expected")
+    int updateStatus(@Param("id") Long id, @Param("expected") WaitlistStatus expected,
+                     @Param("status") WaitlistStatus status, @Param("bookingId") Long bookingId);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE WaitlistEntry e SET e.status = 'WAITING' WHERE e.status = 'ASSIGNING'")
+    int resetAssigning();
+}
@@ -0,0 +1,25 @@
+package com.example.demo.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class AutoBookRequest {
+    
+    @NotBlank(message = "Candidate name is required")
+    private String candidateName;
+    
+    @NotBlank(message = "Candidate email is required")
+    @Email(message = "Email should be valid")
+    private String candidateEmail;
+    
+    @NotEmpty(message = "At least one preferred window is required")
+    @Size(max = 20, message = "At most 20 preferred windows are allowed")
+    private List<@Valid TimeWindowRequest> windows;
+}
@@ -17,5 +17,7 @@ public class BookSlotRequest {
     @NotBlank(message = "Candidate email is required")
     @Email(message = "Email should be valid")
     private String candidateEmail;
+    
+    private String holdToken; // Optional; required when the slot is held by this candidate
 }
 
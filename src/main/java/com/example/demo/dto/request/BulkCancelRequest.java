@@ -0,0 +1,21 @@
+package com.example.demo.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class BulkCancelRequest {
+    
+    @NotNull(message = "Interviewer ID is required")
+    private Long interviewerId;
+    
+    @NotNull(message = "Range start is required")
+    private LocalDateTime from;
+    
+    @NotNull(message = "Range end is required")
+    private LocalDateTime to;
+    
+    private boolean releaseSlots = true; // false keeps the slots withdrawn, e.g. interviewer is unavailable
+}
@@ -0,0 +1,16 @@
+package com.example.demo.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CohortScheduleRequest {
+    
+    @NotEmpty(message = "At least one candidate is required")
+    @Size(max = 10000, message = "At most 10000 candidates can be scheduled at once")
+    private List<@Valid CohortCandidateRequest> candidates;
+}
@@ -0,0 +1,23 @@
+package com.example.demo.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class FreeBusyRequest {
+    
+    @NotEmpty(message = "At least one interviewer is required")
+    @Size(max = 500, message = "At most 500 interviewers can be queried at once")
+    private List<@NotNull Long> interviewerIds;
+    
+    @NotNull(message = "Range start is required")
+    private LocalDateTime from;
+    
+    @NotNull(message = "Range end is required")
+    private LocalDateTime to;
+}
@@ -0,0 +1,27 @@
+package com.example.demo.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class JoinWaitlistRequest {
+    
+    @NotBlank(message = "Candidate name is required")
+    private String candidateName;
+    
+    @NotBlank(message = "Candidate email is required")
+    @Email(message = "Email should be valid")
+    private String candidateEmail;
+    
+    private Long interviewerId; // Optional; any interviewer when omitted
+    
+    @NotNull(message = "Window start is required")
+    private LocalDateTime windowStart;
+    
+    @NotNull(message = "Window end is required")
+    private LocalDateTime windowEnd;
+}
@@ -0,0 +1,34 @@
+package com.example.demo.dto.request;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class PanelBookingRequest {
+    
+    @NotNull(message = "Panel interviewers are required")
+    @Size(min = 2, max = 5, message = "A panel needs between 2 and 5 interviewers")
+    private List<@NotNull Long> interviewerIds;
+    
+    @NotNull(message = "Slot date and time is required")
+    @Future(message = "Slot must be in the future")
+    private LocalDateTime slotDateTime;
+    
+    @Min(value = 15, message = "Duration must be at least 15 minutes")
+    private Integer durationMinutes; // Defaults to 60
+    
+    @NotBlank(message = "Candidate name is required")
+    private String candidateName;
+    
+    @NotBlank(message = "Candidate email is required")
+    @Email(message = "Email should be valid")
+    private String candidateEmail;
+}
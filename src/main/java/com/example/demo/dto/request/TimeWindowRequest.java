@@ -0,0 +1,16 @@
+package com.example.demo.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class TimeWindowRequest {
+    
+    @NotNull(message = "Window start is required")
+    private LocalDateTime start;
+    
+    @NotNull(message = "Window end is required")
+    private LocalDateTime end;
+}
@@ -0,0 +1,14 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CancellationResponse {
+    private int cancelledBookings;
+    private List<Long> bookingIds;
+    private boolean slotsReleased;
+}
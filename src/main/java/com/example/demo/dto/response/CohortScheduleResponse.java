@@ -0,0 +1,37 @@
+package com.example.demo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class CohortScheduleResponse {
+    private boolean committed;
+    private int requestedCandidates;
+    private int assignedCandidates;
+    private long totalPreferenceCost;
+    private List<Assignment> assignments;
+    private List<String> unassignedCandidates;      // No feasible slot within capacity
+    private List<String> alreadyBookedCandidates;   // Skipped, candidate has an active booking
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> conflictedCandidates;      // Slot taken between planning and commit
+    
+    @Data
+    @Builder
+    public static class Assignment {
+        private String candidateName;
+        private String candidateEmail;
+        private Long timeSlotId;
+        private Long interviewerId;
+        private LocalDateTime slotDateTime;
+        private int preferenceRank;
+        
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Long bookingId;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class HoldResponse {
+    private String holdToken;
+    private Long timeSlotId;
+    private String candidateEmail;
+    private LocalDateTime slotDateTime;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,16 @@
+package com.example.demo.dto.response;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class PanelBookingResponse {
+    private String panelId;
+    private LocalDateTime slotDateTime;
+    private int durationMinutes;
+    private List<BookingResponse> bookings; // One per panel interviewer
+}
@@ -0,0 +1,33 @@
+package com.example.demo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class RehomeResponse {
+    private boolean committed;
+    private Long interviewerId;
+    private int orphanedBookings;                   // Upcoming bookings outside the current availability
+    private List<Move> moves;
+    private List<Long> unplacedBookingIds;          // No compatible free slot within capacity, or panel bookings
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<Long> conflictedBookingIds;        // Target taken or booking changed between planning and commit
+    
+    @Data
+    @Builder
+    public static class Move {
+        private Long bookingId;
+        private String candidateEmail;
+        private Long fromTimeSlotId;
+        private LocalDateTime fromSlotDateTime;
+        private Long toTimeSlotId;
+        private Long toInterviewerId;
+        private LocalDateTime toSlotDateTime;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.demo.dto.response;
 
 import com.example.demo.domain.entity.TimeSlot;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
@@ -13,5 +14,10 @@ public class TimeSlotResponse {
     private Long interviewerId;
     private LocalDateTime slotDateTime;
     private TimeSlot.TimeSlotStatus status;
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String cursor; // Resume position, only set on streamed responses
+    
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer remainingWeeklyCapacity; // Only set by capacity-aware ranking
 }
-
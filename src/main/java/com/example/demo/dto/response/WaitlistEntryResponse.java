@@ -0,0 +1,21 @@
+package com.example.demo.dto.response;
+
+import com.example.demo.domain.entity.WaitlistEntry;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class WaitlistEntryResponse {
+    private Long id;
+    private String candidateName;
+    private String candidateEmail;
+    private Long interviewerId;
+    private LocalDateTime windowStart;
+    private LocalDateTime windowEnd;
+    private WaitlistEntry.WaitlistStatus status;
+    private Long bookingId;
+    private LocalDateTime createdAt;
+}
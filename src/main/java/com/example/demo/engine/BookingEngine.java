@@ -0,0 +1,530 @@
+package com.example.demo.engine;
+
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.dto.request.UpdateBookingRequest;
+import com.example.demo.dto.response.BookingResponse;
+import com.example.demo.dto.response.CancellationResponse;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.exception.RateLimitExceededException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.util.MpscRingBuffer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Event-sourced booking engine for high-volume events. Slot, booking and weekly-capacity state
+ * lives in memory and is owned by one writer thread; request threads enqueue commands into a
+ * lock-free ring buffer and wait for the outcome. The writer validates each command against the
+ * state, appends the resulting events to the {@link BookingJournal} and applies them, then
+ * commits the whole batch with a single force before answering the callers (group commit).
+ * The JPA tables are brought up to date asynchronously by {@link EngineProjector}.
+ * <p>
+ * On start the latest snapshot is loaded and the journal replayed on top of it; with no snapshot
+ * the state is bootstrapped from the database for the slot generation horizon, along with every
+ * candidate that has an active booking. Rows outside the horizon are loaded on first use and
+ * recorded in the journal. Engine booking ids are even and the
+ * database's odd, so bookings made elsewhere can never collide with projected ones.
+ * <p>
+ * A caller that is not answered within the command timeout cancels its command. If the writer
+ * has not started it yet it never will, and the caller gets a {@link RateLimitExceededException}
+ * (429) that is safe to retry; if it has started, the caller waits for its durable outcome.
+ */
+@Slf4j
+public class BookingEngine implements AutoCloseable {
+    
+    private static final long IDLE_PARK_NANOS = Duration.ofMillis(1).toNanos();
+    private static final int PENDING = 0;
+    private static final int STARTED = 1;
+    private static final int CANCELLED = 2;
+    
+    private final Path directory;
+    private final BookingJournal journal;
+    private final EngineStateLoader loader;
+    private final MpscRingBuffer<Command<?>> commands;
+    private final int batchSize;
+    private final long snapshotInterval;
+    private final Duration horizon;
+    private final long commandTimeoutNanos;
+    private final Thread writer;
+    private volatile boolean running;
+    private volatile long projectedPosition;
+    private final EngineState state = new EngineState();
+    private long eventsSinceSnapshot;
+    
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong commits = new AtomicLong();
+    
+    public BookingEngine(Path directory, int segmentSize, boolean fsync, EngineStateLoader loader, int queueCapacity,
+                         int batchSize, long snapshotInterval, Duration horizon, Duration commandTimeout) {
+        this.directory = directory;
+        this.journal = new BookingJournal(directory, segmentSize, fsync);
+        this.loader = loader;
+        this.commands = new MpscRingBuffer<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.snapshotInterval = snapshotInterval;
+        this.horizon = horizon;
+        this.commandTimeoutNanos = commandTimeout.toNanos();
+        this.writer = new Thread(this::run, "booking-engine");
+        this.writer.setDaemon(true);
+    }
+    
+    public synchronized void start() throws IOException {
+        if (running) {
+            return;
+        }
+        Files.createDirectories(directory);
+        Optional<Path> snapshot = latestSnapshot();
+        long snapshotPosition;
+        if (snapshot.isPresent()) {
+            snapshotPosition = state.readSnapshot(snapshot.get());
+        } else if (journalExists()) {
+            throw new IllegalStateException("Journal in " + directory + " has no snapshot to replay it on");
+        } else {
+            snapshotPosition = bootstrap();
+        }
+        journal.recover(snapshotPosition, state::apply);
+        if (!state.candidatesComplete) {
+            completeCandidates();
+        }
+        state.nextBookingId = Math.max(state.nextBookingId, loader.reserveBookingIds());
+        running = true;
+        writer.start();
+        log.info("Booking engine started with {} slots and {} bookings (journal {})",
+            state.slots.size(), state.bookings.size(), journalName());
+    }
+    
+    /**
+     * Stops accepting commands, finishes the queued ones and takes a final snapshot.
+     */
+    @Override
+    public synchronized void close() {
+        if (running) {
+            running = false;
+            LockSupport.unpark(writer);
+            try {
+                writer.join(Duration.ofSeconds(10).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    public BookingResponse bookSlot(BookSlotRequest request) {
+        return submit(() -> {
+            if (activeCandidate(request.getCandidateEmail())) {
+                throw new BusinessException("Candidate already has an active booking");
+            }
+            EngineState.Slot slot = slot(request.getTimeSlotId());
+            if (slot == null) {
+                throw new ResourceNotFoundException("Time slot not found with id: " + request.getTimeSlotId());
+            }
+            if (slot.status == TimeSlot.TimeSlotStatus.HELD) {
+                checkHold(request);
+            } else if (slot.status != TimeSlot.TimeSlotStatus.AVAILABLE) {
+                throw new BusinessException("Time slot is not available");
+            }
+            EngineState.Week week = week(slot);
+            if (week.booked >= week.maxPerWeek) {
+                throw new BusinessException(String.format(
+                    "Interviewer has reached maximum interviews per week limit (%d)", week.maxPerWeek));
+            }
+            long bookingId = state.nextBookingId;
+            emit(new EngineEvent.Booked(bookingId, request.getTimeSlotId(), slot.interviewerId, slot.startMinute,
+                request.getCandidateName(), request.getCandidateEmail(), EngineEvent.toMillis(LocalDateTime.now())));
+            return toResponse(state.bookings.get(bookingId));
+        });
+    }
+    
+    // The weekly limit is checked in the new slot's week, as the batch paths of BookingService do
+    public BookingResponse updateBooking(UpdateBookingRequest request) {
+        return submit(() -> {
+            EngineState.Booking booking = activeBooking(request.getBookingId(), request.getCandidateEmail());
+            if (booking.panel()) {
+                throw new BusinessException("Panel bookings cannot be moved individually");
+            }
+            if (booking.slotId() == request.getNewTimeSlotId()) {
+                throw new BusinessException("Booking is already on this time slot");
+            }
+            EngineState.Slot to = slot(request.getNewTimeSlotId());
+            if (to == null) {
+                throw new ResourceNotFoundException("Time slot not found with id: " + request.getNewTimeSlotId());
+            }
+            if (to.status != TimeSlot.TimeSlotStatus.AVAILABLE) {
+                throw new BusinessException("New time slot is not available");
+            }
+            EngineState.Slot from = state.slots.get(booking.slotId());
+            EngineState.Week fromWeek = week(from);
+            EngineState.Week toWeek = week(to);
+            if (toWeek != fromWeek && toWeek.booked >= toWeek.maxPerWeek) {
+                throw new BusinessException(String.format(
+                    "Interviewer has reached maximum interviews per week limit (%d)", toWeek.maxPerWeek));
+            }
+            emit(new EngineEvent.Rescheduled(booking.id(), booking.candidateEmail(), request.getCandidateName(),
+                booking.slotId(), from.interviewerId, from.startMinute,
+                request.getNewTimeSlotId(), to.interviewerId, to.startMinute, EngineEvent.toMillis(LocalDateTime.now())));
+            return toResponse(state.bookings.get(booking.id()));
+        });
+    }
+    
+    // A released slot goes straight back to AVAILABLE if it is still in the future
+    public CancellationResponse cancelBooking(Long bookingId, String candidateEmail, boolean releaseSlot) {
+        return submit(() -> {
+            EngineState.Booking booking = activeBooking(bookingId, candidateEmail);
+            if (booking.panel()) {
+                throw new BusinessException("Panel bookings must be cancelled through the panel endpoint");
+            }
+            EngineState.Slot slot = state.slots.get(booking.slotId());
+            week(slot);
+            LocalDateTime now = LocalDateTime.now();
+            emit(new EngineEvent.Cancelled(booking.id(), booking.candidateEmail(), booking.slotId(), slot.interviewerId,
+                slot.startMinute, releaseSlot && slot.startMinute > EngineEvent.toMinute(now), EngineEvent.toMillis(now)));
+            return CancellationResponse.builder()
+                .cancelledBookings(1)
+                .bookingIds(List.of(booking.id()))
+                .slotsReleased(releaseSlot)
+                .build();
+        });
+    }
+    
+    /**
+     * @return the booking if the engine knows it, active or cancelled; otherwise the database is authoritative
+     */
+    public Optional<BookingResponse> findBooking(Long bookingId) {
+        EngineState.Booking booking = state.bookings.get(bookingId);
+        if (booking != null && !booking.active()) {
+            throw new ResourceNotFoundException("Booking not found with id: " + bookingId);
+        }
+        return Optional.ofNullable(booking).map(BookingEngine::toResponse);
+    }
+    
+    /**
+     * Records a new weekly limit; fire-and-forget, since it only has to be ordered before later bookings.
+     */
+    public void updateWeeklyLimit(Long interviewerId, int maxPerWeek) {
+        Command<Object> command = new Command<>(() -> {
+            emit(new EngineEvent.LimitChanged(interviewerId, maxPerWeek));
+            return null;
+        });
+        if (!running || !commands.offer(command)) {
+            log.warn("Could not record weekly limit {} for interviewer {}", maxPerWeek, interviewerId);
+        }
+        LockSupport.unpark(writer);
+    }
+    
+    public BookingJournal.ReadBatch readCommitted(long fromPosition, int maxRecords) throws IOException {
+        return journal.read(fromPosition, maxRecords);
+    }
+    
+    public void projectedUpTo(long position) {
+        projectedPosition = position;
+    }
+    
+    public String journalName() {
+        return Long.toHexString(state.journalId);
+    }
+    
+    private <T> T submit(Supplier<T> action) {
+        if (!running) {
+            throw new IllegalStateException("Booking engine is not running");
+        }
+        Command<T> command = new Command<>(action);
+        if (!commands.offer(command)) {
+            rejected.incrementAndGet();
+            throw new RateLimitExceededException("Booking engine is at capacity, please retry", 1);
+        }
+        LockSupport.unpark(writer);
+        try {
+            return command.result.get(commandTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        } catch (TimeoutException e) {
+            if (command.cancel()) {
+                // The writer will skip it, so nothing was booked and the request can be retried
+                rejected.incrementAndGet();
+                throw new RateLimitExceededException("Booking engine did not answer in time, please retry", 1);
+            }
+            // Already running: its outcome may be durable, so the caller has to hear it
+            try {
+                return command.result.join();
+            } catch (CompletionException completion) {
+                throw failure(completion.getCause());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            command.cancel();
+            throw new IllegalStateException("Interrupted while waiting for the booking engine", e);
+        }
+    }
+    
+    private static RuntimeException failure(Throwable cause) {
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new IllegalStateException("Booking engine command failed", cause);
+    }
+    
+    private void run() {
+        List<Command<?>> batch = new ArrayList<>(batchSize);
+        while (true) {
+            boolean stopping = !running;
+            commands.drain(batch::add, batchSize);
+            if (batch.isEmpty()) {
+                if (stopping) {
+                    shutdown();
+                    return;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            for (Command<?> command : batch) {
+                if (command.start()) {
+                    command.execute();
+                }
+            }
+            try {
+                journal.commit();
+            } catch (RuntimeException e) {
+                // The state already holds events that may not be durable; refuse all further work
+                log.error("Journal commit failed; stopping the booking engine", e);
+                running = false;
+                IllegalStateException failure = new IllegalStateException("Booking engine journal failed", e);
+                do {
+                    batch.forEach(command -> command.result.completeExceptionally(failure));
+                    batch.clear();
+                } while (commands.drain(batch::add, batchSize) > 0);
+                return;
+            }
+            commits.incrementAndGet();
+            batch.forEach(Command::complete);
+            batch.clear();
+            if (eventsSinceSnapshot >= snapshotInterval) {
+                snapshot();
+            }
+        }
+    }
+    
+    private void shutdown() {
+        journal.close();
+        if (eventsSinceSnapshot > 0) {
+            snapshot();
+        }
+        log.info("Booking engine stopped at journal position {}", journal.durablePosition());
+    }
+    
+    private void emit(EngineEvent event) {
+        journal.append(event);
+        state.apply(event);
+        eventsSinceSnapshot++;
+    }
+    
+    private EngineState.Slot slot(long slotId) {
+        EngineState.Slot slot = state.slots.get(slotId);
+        // Holds live in the database, so a held slot is re-read in case the hold has lapsed
+        if (slot == null || slot.status == TimeSlot.TimeSlotStatus.HELD) {
+            loader.loadSlot(slotId).forEach(this::emit);
+            slot = state.slots.get(slotId);
+        }
+        return slot;
+    }
+    
+    // As SlotHoldService.consumeHold; the projector deletes the hold together with the booking
+    private void checkHold(BookSlotRequest request) {
+        EngineStateLoader.Hold hold = loader.loadHold(request.getTimeSlotId())
+            .orElseThrow(() -> new BusinessException("Time slot is not available"));
+        if (request.getHoldToken() == null || !hold.holdToken().equals(request.getHoldToken())
+            || !hold.candidateEmail().equals(request.getCandidateEmail())) {
+            throw new BusinessException("Time slot is held by another candidate");
+        }
+        if (hold.expiresAt().isBefore(LocalDateTime.now())) {
+            throw new BusinessException("Hold has expired");
+        }
+    }
+    
+    private EngineState.Week week(EngineState.Slot slot) {
+        EngineState.Week week = state.week(slot);
+        if (week == null) {
+            emit(loader.loadWeek(slot.interviewerId, slot.weekStartMinute));
+            week = state.week(slot);
+        }
+        return week;
+    }
+    
+    // Never asks the database: the candidates are all loaded at bootstrap and kept current by the events
+    private boolean activeCandidate(String candidateEmail) {
+        return state.activeCandidates.getOrDefault(candidateEmail, false);
+    }
+    
+    private EngineState.Booking activeBooking(Long bookingId, String candidateEmail) {
+        EngineState.Booking booking = state.bookings.get(bookingId);
+        if (booking == null) {
+            loader.loadBooking(bookingId).forEach(this::emit);
+            booking = state.bookings.get(bookingId);
+        }
+        if (booking == null || !booking.active()) {
+            throw new ResourceNotFoundException("Booking not found with id: " + bookingId);
+        }
+        if (!booking.candidateEmail().equals(candidateEmail)) {
+            throw new BusinessException("Candidate email does not match booking");
+        }
+        return booking;
+    }
+    
+    private long bootstrap() {
+        state.journalId = ThreadLocalRandom.current().nextLong();
+        LocalDateTime now = LocalDateTime.now();
+        loader.loadHorizon(now, now.plus(horizon), state::apply);
+        loader.loadActiveCandidates(email -> state.apply(new EngineEvent.CandidateLoaded(email, true)));
+        writeSnapshot(0);
+        log.info("Booking engine bootstrapped {} slots and {} active candidates from the database",
+            state.slots.size(), state.activeCandidates.size());
+        return 0;
+    }
+    
+    // A candidate missing from an older snapshot never reached the engine, so the database is
+    // authoritative for it even while projection lags
+    private void completeCandidates() {
+        loader.loadActiveCandidates(email -> state.activeCandidates.putIfAbsent(email, true));
+        state.candidatesComplete = true;
+        writeSnapshot(journal.durablePosition());
+    }
+    
+    private void snapshot() {
+        long position = journal.durablePosition();
+        writeSnapshot(position);
+        try {
+            journal.deleteSegmentsBefore(Math.min(position, projectedPosition));
+        } catch (IOException e) {
+            log.warn("Failed to delete projected journal segments", e);
+        }
+    }
+    
+    private void writeSnapshot(long position) {
+        try {
+            state.writeSnapshot(snapshotFile(position), position);
+            for (Path old : snapshots()) {
+                if (!old.equals(snapshotFile(position))) {
+                    Files.delete(old);
+                }
+            }
+            eventsSinceSnapshot = 0;
+        } catch (IOException e) {
+            // The journal still holds everything; recovery just replays more of it
+            log.error("Failed to write booking engine snapshot at position {}", position, e);
+        }
+    }
+    
+    private Optional<Path> latestSnapshot() throws IOException {
+        return snapshots().stream().max(Comparator.comparing(path -> path.getFileName().toString()));
+    }
+    
+    private List<Path> snapshots() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("snapshot-\\d+\\.bin")).toList();
+        }
+    }
+    
+    private boolean journalExists() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.anyMatch(file -> file.getFileName().toString().startsWith("journal-"));
+        }
+    }
+    
+    private Path snapshotFile(long position) {
+        return directory.resolve(String.format("snapshot-%020d.bin", position));
+    }
+    
+    private static BookingResponse toResponse(EngineState.Booking booking) {
+        return BookingResponse.builder()
+            .bookingId(booking.id())
+            .timeSlotId(booking.slotId())
+            .candidateName(booking.candidateName())
+            .candidateEmail(booking.candidateEmail())
+            .bookingDateTime(EngineEvent.fromMillis(booking.bookedAtMillis()))
+            .updatedAt(EngineEvent.fromMillis(booking.updatedAtMillis()))
+            .slotDateTime(EngineEvent.fromMinute(booking.startMinute()))
+            .build();
+    }
+    
+    public long getAccepted() {
+        return accepted.get();
+    }
+    
+    public long getRejected() {
+        return rejected.get();
+    }
+    
+    public long getCommits() {
+        return commits.get();
+    }
+    
+    public int getQueueDepth() {
+        return commands.size();
+    }
+    
+    public long getProjectionLag() {
+        return journal.durablePosition() - projectedPosition;
+    }
+    
+    private final class Command<T> {
+        
+        private final Supplier<T> action;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        // PENDING until the writer starts it or the caller gives up on it, whichever comes first
+        private final AtomicInteger stage = new AtomicInteger(PENDING);
+        private T value;
+        private RuntimeException failure;
+        
+        private Command(Supplier<T> action) {
+            this.action = action;
+        }
+        
+        private boolean start() {
+            return stage.compareAndSet(PENDING, STARTED);
+        }
+        
+        private boolean cancel() {
+            return stage.compareAndSet(PENDING, CANCELLED);
+        }
+        
+        private void execute() {
+            try {
+                value = action.get();
+                accepted.incrementAndGet();
+            } catch (RuntimeException e) {
+                failure = e;
+                rejected.incrementAndGet();
+            }
+        }
+        
+        // Callers only hear back once the batch is durable
+        private void complete() {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+            } else {
+                result.complete(value);
+            }
+        }
+    }
+}
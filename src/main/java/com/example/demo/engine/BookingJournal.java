@@ -0,0 +1,265 @@
+package com.example.demo.engine;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal of {@link EngineEvent}s in fixed-size, memory-mapped segment files.
+ * Positions are global byte offsets: segment {@code k} covers {@code [k * segmentSize,
+ * (k + 1) * segmentSize)}. Each record is {@code [length][crc32c][payload]}; a zero length marks
+ * the end of the written data and {@code -1} the unused tail of a full segment. Appends only
+ * write to the mapping; {@link #commit} forces everything appended since the previous commit
+ * with one call (group commit) and then publishes the durable position that readers stop at.
+ * One thread appends and commits; {@link #read} may run concurrently on another thread.
+ */
+@Slf4j
+public class BookingJournal implements AutoCloseable {
+    
+    static final int HEADER_BYTES = 8;
+    private static final int END_OF_SEGMENT = -1;
+    private static final int MAX_RECORD_BYTES = 64 * 1024;
+    
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean fsync;
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_RECORD_BYTES);
+    private final CRC32C crc = new CRC32C();
+    
+    // Writer state
+    private MappedByteBuffer writeSegment;
+    private long writeSegmentIndex = -1;
+    private int forcedUpTo;
+    private volatile long durablePosition;
+    
+    // Reader state
+    private MappedByteBuffer readSegment;
+    private long readSegmentIndex = -1;
+    private final CRC32C readCrc = new CRC32C();
+    
+    public BookingJournal(Path directory, int segmentSize, boolean fsync) {
+        if (segmentSize < MAX_RECORD_BYTES + HEADER_BYTES) {
+            throw new IllegalArgumentException("segmentSize must be at least " + (MAX_RECORD_BYTES + HEADER_BYTES));
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.fsync = fsync;
+    }
+    
+    /**
+     * Hands every intact record from {@code fromPosition} on to {@code replay} and opens the
+     * journal for appending after the last one. A torn or corrupt record ends the scan; it and
+     * anything after it are discarded.
+     *
+     * @return the position the next record will be written at
+     */
+    public long recover(long fromPosition, Consumer<EngineEvent> replay) throws IOException {
+        Files.createDirectories(directory);
+        long position = fromPosition;
+        int replayed = 0;
+        while (true) {
+            long index = position / segmentSize;
+            Path file = segmentFile(index);
+            if (!Files.exists(file)) {
+                break;
+            }
+            MappedByteBuffer segment = map(file, FileChannel.MapMode.READ_ONLY);
+            int offset = (int) (position % segmentSize);
+            int length = segmentSize - offset < HEADER_BYTES ? END_OF_SEGMENT : segment.getInt(offset);
+            if (length == END_OF_SEGMENT) {
+                position = (index + 1) * segmentSize;
+                continue;
+            }
+            EngineEvent event = length > 0 ? decodeAt(segment, offset, length, crc) : null;
+            if (event == null) {
+                break;
+            }
+            replay.accept(event);
+            replayed++;
+            position += HEADER_BYTES + length;
+        }
+        
+        deleteSegmentsAfter(position / segmentSize);
+        openForWrite(position / segmentSize);
+        int offset = (int) (position % segmentSize);
+        // Zero what a torn write may have left (at most one record), so the tail reads as unwritten
+        int tornEnd = (int) Math.min(segmentSize, (long) offset + HEADER_BYTES + MAX_RECORD_BYTES);
+        writeSegment.position(offset);
+        writeSegment.put(new byte[tornEnd - offset]);
+        writeSegment.position(offset);
+        writeSegment.force();
+        forcedUpTo = offset;
+        durablePosition = position;
+        log.info("Journal recovered {} records from position {} to {}", replayed, fromPosition, position);
+        return position;
+    }
+    
+    public void append(EngineEvent event) {
+        scratch.clear();
+        try {
+            EngineEvent.encode(event, scratch);
+        } catch (BufferOverflowException e) {
+            throw new IllegalArgumentException("Journal records are limited to " + MAX_RECORD_BYTES + " bytes");
+        }
+        scratch.flip();
+        int length = scratch.remaining();
+        if (writeSegment.remaining() < HEADER_BYTES + length) {
+            roll();
+        }
+        crc.reset();
+        crc.update(scratch.duplicate());
+        writeSegment.putInt(length).putInt((int) crc.getValue()).put(scratch);
+    }
+    
+    /**
+     * Makes everything appended so far durable (when fsync is on) and visible to readers.
+     *
+     * @return the new durable position
+     */
+    public long commit() {
+        int position = writeSegment.position();
+        if (fsync && position > forcedUpTo) {
+            writeSegment.force(forcedUpTo, position - forcedUpTo);
+        }
+        forcedUpTo = position;
+        durablePosition = writeSegmentIndex * segmentSize + position;
+        return durablePosition;
+    }
+    
+    public long durablePosition() {
+        return durablePosition;
+    }
+    
+    /**
+     * Reads up to {@code maxRecords} committed records starting at {@code fromPosition}.
+     */
+    public synchronized ReadBatch read(long fromPosition, int maxRecords) throws IOException {
+        long limit = durablePosition;
+        long position = fromPosition;
+        List<EngineEvent> events = new ArrayList<>();
+        while (position < limit && events.size() < maxRecords) {
+            long index = position / segmentSize;
+            if (index != readSegmentIndex) {
+                readSegment = map(segmentFile(index), FileChannel.MapMode.READ_ONLY);
+                readSegmentIndex = index;
+            }
+            int offset = (int) (position % segmentSize);
+            int length = segmentSize - offset < HEADER_BYTES ? END_OF_SEGMENT : readSegment.getInt(offset);
+            if (length == END_OF_SEGMENT) {
+                position = (index + 1) * segmentSize;
+                continue;
+            }
+            EngineEvent event = length > 0 ? decodeAt(readSegment, offset, length, readCrc) : null;
+            if (event == null) {
+                throw new IOException("Corrupt journal record at committed position " + position);
+            }
+            events.add(event);
+            position += HEADER_BYTES + length;
+        }
+        return new ReadBatch(events, position);
+    }
+    
+    /**
+     * Deletes segments that end at or before {@code position}; the segment being written is kept.
+     */
+    public void deleteSegmentsBefore(long position) throws IOException {
+        long keepFrom = Math.min(position / segmentSize, writeSegmentIndex);
+        for (Path file : segmentFiles()) {
+            if (segmentIndex(file) < keepFrom) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+    
+    @Override
+    public void close() {
+        if (writeSegment != null) {
+            commit();
+        }
+    }
+    
+    public record ReadBatch(List<EngineEvent> events, long nextPosition) {
+    }
+    
+    private void roll() {
+        if (writeSegment.remaining() >= 4) {
+            writeSegment.putInt(END_OF_SEGMENT);
+        }
+        if (fsync) {
+            writeSegment.force();
+        }
+        try {
+            openForWrite(writeSegmentIndex + 1);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not open journal segment " + (writeSegmentIndex + 1), e);
+        }
+        forcedUpTo = 0;
+    }
+    
+    private void openForWrite(long index) throws IOException {
+        writeSegment = map(segmentFile(index), FileChannel.MapMode.READ_WRITE);
+        writeSegmentIndex = index;
+    }
+    
+    private MappedByteBuffer map(Path file, FileChannel.MapMode mode) throws IOException {
+        StandardOpenOption[] options = mode == FileChannel.MapMode.READ_ONLY
+            ? new StandardOpenOption[] {StandardOpenOption.READ}
+            : new StandardOpenOption[] {StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE};
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            if (channel.size() != 0 && channel.size() != segmentSize) {
+                throw new IOException(file + " has " + channel.size() + " bytes but the segment size is " + segmentSize);
+            }
+            // A mapping stays valid after its channel is closed
+            return channel.map(mode, 0, segmentSize);
+        }
+    }
+    
+    private static EngineEvent decodeAt(ByteBuffer segment, int offset, int length, CRC32C checksum) {
+        if (length > MAX_RECORD_BYTES || offset + HEADER_BYTES + length > segment.capacity()) {
+            return null;
+        }
+        ByteBuffer payload = segment.duplicate().position(offset + HEADER_BYTES).limit(offset + HEADER_BYTES + length);
+        checksum.reset();
+        checksum.update(payload.duplicate());
+        if ((int) checksum.getValue() != segment.getInt(offset + 4)) {
+            return null;
+        }
+        return EngineEvent.decode(payload);
+    }
+    
+    private void deleteSegmentsAfter(long index) throws IOException {
+        for (Path file : segmentFiles()) {
+            if (segmentIndex(file) > index) {
+                log.warn("Deleting journal segment {} beyond the recovered tail", file);
+                Files.delete(file);
+            }
+        }
+    }
+    
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().matches("journal-\\d+\\.log")).toList();
+        }
+    }
+    
+    private Path segmentFile(long index) {
+        return directory.resolve(String.format("journal-%010d.log", index));
+    }
+    
+    private static long segmentIndex(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring("journal-".length(), name.length() - ".log".length()));
+    }
+}
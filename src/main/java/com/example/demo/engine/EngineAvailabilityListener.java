@@ -0,0 +1,23 @@
+package com.example.demo.engine;
+
+import com.example.demo.event.AvailabilityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Passes committed weekly-limit changes to the booking engine, which keeps its own copy.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.engine.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class EngineAvailabilityListener {
+    
+    private final BookingEngine bookingEngine;
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        bookingEngine.updateWeeklyLimit(event.getInterviewerId(), event.getMaxInterviewsPerWeek());
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.demo.engine;
+
+import com.example.demo.domain.entity.TimeSlot;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Facts recorded in the booking journal. {@code *Loaded} events capture database rows the
+ * engine read the first time it needed them, so a replay never consults the database; the
+ * other events are the outcome of accepted commands and are what gets projected. Times are
+ * wall-clock values without a zone: minutes or milliseconds since 1970-01-01T00:00.
+ */
+public sealed interface EngineEvent {
+    
+    byte SLOT_LOADED = 1;
+    byte BOOKING_LOADED = 2;
+    byte WEEK_LOADED = 3;
+    byte CANDIDATE_LOADED = 4;
+    byte LIMIT_CHANGED = 5;
+    byte BOOKED = 10;
+    byte RESCHEDULED = 11;
+    byte CANCELLED = 12;
+    
+    record SlotLoaded(long slotId, long interviewerId, long startMinute, long weekStartMinute,
+                      TimeSlot.TimeSlotStatus status) implements EngineEvent {
+    }
+    
+    record BookingLoaded(long bookingId, long slotId, String candidateName, String candidateEmail,
+                         long bookedAtMillis, long updatedAtMillis, boolean panel) implements EngineEvent {
+    }
+    
+    record WeekLoaded(long interviewerId, long weekStartMinute, int booked, int maxPerWeek) implements EngineEvent {
+    }
+    
+    record CandidateLoaded(String candidateEmail, boolean active) implements EngineEvent {
+    }
+    
+    record LimitChanged(long interviewerId, int maxPerWeek) implements EngineEvent {
+    }
+    
+    record Booked(long bookingId, long slotId, long interviewerId, long startMinute,
+                  String candidateName, String candidateEmail, long atMillis) implements EngineEvent {
+    }
+    
+    record Rescheduled(long bookingId, String candidateEmail, String candidateName,
+                       long fromSlotId, long fromInterviewerId, long fromStartMinute,
+                       long toSlotId, long toInterviewerId, long toStartMinute, long atMillis) implements EngineEvent {
+    }
+    
+    record Cancelled(long bookingId, String candidateEmail, long slotId, long interviewerId, long startMinute,
+                     boolean released, long atMillis) implements EngineEvent {
+    }
+    
+    static void encode(EngineEvent event, ByteBuffer out) {
+        if (event instanceof Booked e) {
+            out.put(BOOKED).putLong(e.bookingId()).putLong(e.slotId()).putLong(e.interviewerId()).putLong(e.startMinute());
+            putString(out, e.candidateName());
+            putString(out, e.candidateEmail());
+            out.putLong(e.atMillis());
+        } else if (event instanceof Rescheduled e) {
+            out.put(RESCHEDULED).putLong(e.bookingId());
+            putString(out, e.candidateEmail());
+            putString(out, e.candidateName());
+            out.putLong(e.fromSlotId()).putLong(e.fromInterviewerId()).putLong(e.fromStartMinute())
+                .putLong(e.toSlotId()).putLong(e.toInterviewerId()).putLong(e.toStartMinute()).putLong(e.atMillis());
+        } else if (event instanceof Cancelled e) {
+            out.put(CANCELLED).putLong(e.bookingId());
+            putString(out, e.candidateEmail());
+            out.putLong(e.slotId()).putLong(e.interviewerId()).putLong(e.startMinute())
+                .put((byte) (e.released() ? 1 : 0)).putLong(e.atMillis());
+        } else if (event instanceof SlotLoaded e) {
+            out.put(SLOT_LOADED).putLong(e.slotId()).putLong(e.interviewerId()).putLong(e.startMinute())
+                .putLong(e.weekStartMinute());
+            putString(out, e.status().name());
+        } else if (event instanceof BookingLoaded e) {
+            out.put(BOOKING_LOADED).putLong(e.bookingId()).putLong(e.slotId());
+            putString(out, e.candidateName());
+            putString(out, e.candidateEmail());
+            out.putLong(e.bookedAtMillis()).putLong(e.updatedAtMillis()).put((byte) (e.panel() ? 1 : 0));
+        } else if (event instanceof WeekLoaded e) {
+            out.put(WEEK_LOADED).putLong(e.interviewerId()).putLong(e.weekStartMinute()).putInt(e.booked())
+                .putInt(e.maxPerWeek());
+        } else if (event instanceof CandidateLoaded e) {
+            out.put(CANDIDATE_LOADED);
+            putString(out, e.candidateEmail());
+            out.put((byte) (e.active() ? 1 : 0));
+        } else if (event instanceof LimitChanged e) {
+            out.put(LIMIT_CHANGED).putLong(e.interviewerId()).putInt(e.maxPerWeek());
+        }
+    }
+    
+    static EngineEvent decode(ByteBuffer in) {
+        byte type = in.get();
+        return switch (type) {
+            case BOOKED -> new Booked(in.getLong(), in.getLong(), in.getLong(), in.getLong(),
+                getString(in), getString(in), in.getLong());
+            case RESCHEDULED -> new Rescheduled(in.getLong(), getString(in), getString(in),
+                in.getLong(), in.getLong(), in.getLong(), in.getLong(), in.getLong(), in.getLong(), in.getLong());
+            case CANCELLED -> new Cancelled(in.getLong(), getString(in), in.getLong(), in.getLong(), in.getLong(),
+                in.get() == 1, in.getLong());
+            case SLOT_LOADED -> new SlotLoaded(in.getLong(), in.getLong(), in.getLong(), in.getLong(),
+                TimeSlot.TimeSlotStatus.valueOf(getString(in)));
+            case BOOKING_LOADED -> new BookingLoaded(in.getLong(), in.getLong(), getString(in), getString(in),
+                in.getLong(), in.getLong(), in.get() == 1);
+            case WEEK_LOADED -> new WeekLoaded(in.getLong(), in.getLong(), in.getInt(), in.getInt());
+            case CANDIDATE_LOADED -> new CandidateLoaded(getString(in), in.get() == 1);
+            case LIMIT_CHANGED -> new LimitChanged(in.getLong(), in.getInt());
+            default -> throw new IllegalStateException("Unknown journal record type " + type);
+        };
+    }
+    
+    static long toMinute(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+    
+    static LocalDateTime fromMinute(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+    
+    static long toMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+    
+    static LocalDateTime fromMillis(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000), Math.floorMod(millis, 1000) * 1_000_000,
+            ZoneOffset.UTC);
+    }
+    
+    private static void putString(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Journal strings are limited to " + Short.MAX_VALUE + " bytes");
+        }
+        out.putShort((short) bytes.length).put(bytes);
+    }
+    
+    private static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getShort()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
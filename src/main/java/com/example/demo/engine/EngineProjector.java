@@ -0,0 +1,238 @@
+package com.example.demo.engine;
+
+import com.example.demo.domain.entity.JournalCheckpoint;
+import com.example.demo.domain.entity.JournalDeadLetter;
+import com.example.demo.domain.repository.JournalCheckpointRepository;
+import com.example.demo.domain.repository.JournalDeadLetterRepository;
+import com.example.demo.event.BookingChangedEvent;
+import com.example.demo.event.SlotReleasedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Copies committed booking engine events into the JPA tables. Each batch of journal records is
+ * written with JDBC batches in one transaction together with the journal checkpoint, so a record
+ * is applied exactly once even across crashes. Every write is guarded by the row state the engine
+ * decided on; an event whose rows no longer match (or that was already applied) changes nothing
+ * and is dead-lettered to {@code journal_dead_letters} instead of failing the batch, so the
+ * checkpoint keeps moving. {@link BookingChangedEvent}s and {@link SlotReleasedEvent}s are
+ * published inside that transaction for the applied events, so the outbox, caches, audit trail
+ * and waitlist see engine bookings like any other.
+ */
+@Component
+@ConditionalOnProperty(name = "booking.engine.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class EngineProjector {
+    
+    private static final String SQL_SLOT_STATUS =
+        "UPDATE time_slots SET status = ?, version = version + 1 WHERE id = ?";
+    private static final String SQL_INSERT_BOOKING =
+        "INSERT INTO candidate_bookings (id, time_slot_id, candidate_name, candidate_email, booking_date_time, updated_at) " +
+        "SELECT ?, ts.id, ?, ?, ?, ? FROM time_slots ts WHERE ts.id = ? AND ts.status IN ('AVAILABLE', 'HELD') " +
+        "AND NOT EXISTS (SELECT 1 FROM candidate_bookings b WHERE b.time_slot_id = ts.id)";
+    private static final String SQL_MOVE_BOOKING =
+        "UPDATE candidate_bookings SET time_slot_id = ?, candidate_name = ?, updated_at = ? WHERE id = ? AND time_slot_id = ? " +
+        "AND EXISTS (SELECT 1 FROM time_slots ts WHERE ts.id = ? AND ts.status = 'AVAILABLE')";
+    private static final String SQL_DELETE_BOOKING = "DELETE FROM candidate_bookings WHERE id = ? AND time_slot_id = ?";
+    private static final String SQL_DELETE_HOLD = "DELETE FROM slot_holds WHERE time_slot_id = ?";
+    
+    private final BookingEngine bookingEngine;
+    private final JdbcTemplate jdbcTemplate;
+    private final JournalCheckpointRepository checkpointRepository;
+    private final JournalDeadLetterRepository deadLetterRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${booking.engine.projection-batch-size:2000}")
+    private int batchSize;
+    
+    @Scheduled(fixedDelayString = "${booking.engine.projection-interval-ms:200}")
+    public synchronized void project() {
+        String journalName = bookingEngine.journalName();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        try {
+            long position = checkpointRepository.findById(journalName).map(JournalCheckpoint::getPosition).orElse(0L);
+            bookingEngine.projectedUpTo(position);
+            while (true) {
+                BookingJournal.ReadBatch batch = bookingEngine.readCommitted(position, batchSize);
+                if (batch.events().isEmpty()) {
+                    return;
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    applyAll(journalName, batch.events());
+                    checkpointRepository.save(JournalCheckpoint.builder()
+                        .journalName(journalName)
+                        .position(batch.nextPosition())
+                        .updatedAt(LocalDateTime.now())
+                        .build());
+                });
+                position = batch.nextPosition();
+                bookingEngine.projectedUpTo(position);
+                log.debug("Projected {} journal records up to position {}", batch.events().size(), position);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Booking engine projection failed, will retry: {}", e.getMessage());
+        }
+    }
+    
+    // Consecutive events of one kind are written as JDBC batches; the order of events is kept. Slot
+    // statuses are written after a run's bookings, so a run ends before an event touching one of its slots.
+    private void applyAll(String journalName, List<EngineEvent> events) {
+        List<EngineEvent> run = new ArrayList<>();
+        Set<Long> runSlots = new HashSet<>();
+        for (EngineEvent event : events) {
+            List<Long> slots = slotsOf(event);
+            if (slots.isEmpty()) {
+                continue;
+            }
+            if (!run.isEmpty() && (run.get(0).getClass() != event.getClass() || slots.stream().anyMatch(runSlots::contains))) {
+                applyRun(journalName, run);
+                run.clear();
+                runSlots.clear();
+            }
+            run.add(event);
+            runSlots.addAll(slots);
+        }
+        if (!run.isEmpty()) {
+            applyRun(journalName, run);
+        }
+    }
+    
+    private void applyRun(String journalName, List<EngineEvent> run) {
+        String bookingSql;
+        if (run.get(0) instanceof EngineEvent.Booked) {
+            bookingSql = SQL_INSERT_BOOKING;
+        } else if (run.get(0) instanceof EngineEvent.Rescheduled) {
+            bookingSql = SQL_MOVE_BOOKING;
+        } else {
+            bookingSql = SQL_DELETE_BOOKING;
+        }
+        int[] updated = jdbcTemplate.batchUpdate(bookingSql, run.stream().map(EngineProjector::bookingRow).toList());
+        
+        List<Object[]> slotStatuses = new ArrayList<>(run.size() * 2);
+        List<Object[]> consumedHolds = new ArrayList<>();
+        for (int i = 0; i < run.size(); i++) {
+            EngineEvent event = run.get(i);
+            // Drivers may answer SUCCESS_NO_INFO for batched statements; only an explicit 0 means the guard failed
+            if (updated[i] == 0) {
+                deadLetter(journalName, event);
+            } else if (event instanceof EngineEvent.Booked e) {
+                slotStatuses.add(new Object[] {"BOOKED", e.slotId()});
+                consumedHolds.add(new Object[] {e.slotId()});
+                eventPublisher.publishEvent(BookingChangedEvent.builder()
+                    .type(BookingChangedEvent.ChangeType.BOOKED)
+                    .bookingId(e.bookingId())
+                    .candidateEmail(e.candidateEmail())
+                    .timeSlotId(e.slotId())
+                    .interviewerId(e.interviewerId())
+                    .slotDateTime(EngineEvent.fromMinute(e.startMinute()))
+                    .build());
+            } else if (event instanceof EngineEvent.Rescheduled e) {
+                slotStatuses.add(new Object[] {"AVAILABLE", e.fromSlotId()});
+                slotStatuses.add(new Object[] {"BOOKED", e.toSlotId()});
+                eventPublisher.publishEvent(BookingChangedEvent.builder()
+                    .type(BookingChangedEvent.ChangeType.RESCHEDULED)
+                    .bookingId(e.bookingId())
+                    .candidateEmail(e.candidateEmail())
+                    .timeSlotId(e.toSlotId())
+                    .interviewerId(e.toInterviewerId())
+                    .slotDateTime(EngineEvent.fromMinute(e.toStartMinute()))
+                    .previousTimeSlotId(e.fromSlotId())
+                    .previousInterviewerId(e.fromInterviewerId())
+                    .previousSlotDateTime(EngineEvent.fromMinute(e.fromStartMinute()))
+                    .build());
+                publishReleased(e.fromSlotId(), e.fromInterviewerId(), e.fromStartMinute());
+            } else if (event instanceof EngineEvent.Cancelled e) {
+                slotStatuses.add(new Object[] {e.released() ? "AVAILABLE" : "CANCELLED", e.slotId()});
+                eventPublisher.publishEvent(BookingChangedEvent.builder()
+                    .type(BookingChangedEvent.ChangeType.CANCELLED)
+                    .bookingId(e.bookingId())
+                    .candidateEmail(e.candidateEmail())
+                    .timeSlotId(e.slotId())
+                    .interviewerId(e.interviewerId())
+                    .slotDateTime(EngineEvent.fromMinute(e.startMinute()))
+                    .build());
+                if (e.released()) {
+                    publishReleased(e.slotId(), e.interviewerId(), e.startMinute());
+                }
+            }
+        }
+        if (!consumedHolds.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_DELETE_HOLD, consumedHolds);
+        }
+        if (!slotStatuses.isEmpty()) {
+            jdbcTemplate.batchUpdate(SQL_SLOT_STATUS, slotStatuses);
+        }
+    }
+    
+    private static Object[] bookingRow(EngineEvent event) {
+        if (event instanceof EngineEvent.Booked e) {
+            Timestamp at = timestamp(e.atMillis());
+            return new Object[] {e.bookingId(), e.candidateName(), e.candidateEmail(), at, at, e.slotId()};
+        } else if (event instanceof EngineEvent.Rescheduled e) {
+            return new Object[] {e.toSlotId(), e.candidateName(), timestamp(e.atMillis()), e.bookingId(), e.fromSlotId(),
+                e.toSlotId()};
+        }
+        EngineEvent.Cancelled e = (EngineEvent.Cancelled) event;
+        return new Object[] {e.bookingId(), e.slotId()};
+    }
+    
+    private static List<Long> slotsOf(EngineEvent event) {
+        if (event instanceof EngineEvent.Booked e) {
+            return List.of(e.slotId());
+        } else if (event instanceof EngineEvent.Rescheduled e) {
+            return List.of(e.fromSlotId(), e.toSlotId());
+        } else if (event instanceof EngineEvent.Cancelled e) {
+            return List.of(e.slotId());
+        }
+        return List.of();
+    }
+    
+    private void deadLetter(String journalName, EngineEvent event) {
+        JournalDeadLetter.JournalDeadLetterBuilder letter = JournalDeadLetter.builder()
+            .journalName(journalName)
+            .createdAt(LocalDateTime.now());
+        if (event instanceof EngineEvent.Booked e) {
+            letter.eventType("BOOKED").bookingId(e.bookingId()).timeSlotId(e.slotId())
+                .reason("Slot is no longer free in the tables");
+        } else if (event instanceof EngineEvent.Rescheduled e) {
+            letter.eventType("RESCHEDULED").bookingId(e.bookingId()).timeSlotId(e.toSlotId())
+                .reason("Booking left its slot or the target slot was taken outside the engine");
+        } else if (event instanceof EngineEvent.Cancelled e) {
+            letter.eventType("CANCELLED").bookingId(e.bookingId()).timeSlotId(e.slotId())
+                .reason("Booking is no longer on its slot in the tables");
+        }
+        JournalDeadLetter saved = deadLetterRepository.save(letter.build());
+        log.error("Dead-lettered booking engine {} of booking {} on slot {}: {}",
+            saved.getEventType(), saved.getBookingId(), saved.getTimeSlotId(), saved.getReason());
+    }
+    
+    private void publishReleased(long slotId, long interviewerId, long startMinute) {
+        eventPublisher.publishEvent(SlotReleasedEvent.builder()
+            .timeSlotId(slotId)
+            .interviewerId(interviewerId)
+            .slotDateTime(EngineEvent.fromMinute(startMinute))
+            .build());
+    }
+    
+    private static Timestamp timestamp(long millis) {
+        return Timestamp.valueOf(EngineEvent.fromMillis(millis));
+    }
+}
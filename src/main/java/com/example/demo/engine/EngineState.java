@@ -0,0 +1,242 @@
+package com.example.demo.engine;
+
+import com.example.demo.domain.entity.TimeSlot;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Slot, booking, weekly-capacity and candidate state owned by the engine's writer thread. It
+ * only changes through {@link #apply}, so replaying the journal on top of a snapshot rebuilds
+ * it exactly. Bookings are immutable values in a concurrent map and may be read from any thread.
+ * Every candidate with an active booking has an entry in {@link #activeCandidates}.
+ */
+class EngineState {
+    
+    private static final int SNAPSHOT_MAGIC = 0x424B4E47; // "BKNG"
+    private static final int SNAPSHOT_VERSION = 2;
+    private static final long MINUTES_PER_WEEK = 7 * 24 * 60;
+    
+    final Map<Long, Slot> slots = new HashMap<>();
+    final Map<Long, Booking> bookings = new ConcurrentHashMap<>();
+    final Map<Long, Week> weeks = new HashMap<>();
+    final Map<String, Boolean> activeCandidates = new HashMap<>();
+    long journalId;
+    long nextBookingId;
+    // Version 1 snapshots only held the candidates the engine had looked up one by one
+    boolean candidatesComplete = true;
+    
+    static final class Slot {
+        final long interviewerId;
+        final long startMinute;
+        final long weekStartMinute;
+        TimeSlot.TimeSlotStatus status;
+        
+        Slot(long interviewerId, long startMinute, long weekStartMinute, TimeSlot.TimeSlotStatus status) {
+            this.interviewerId = interviewerId;
+            this.startMinute = startMinute;
+            this.weekStartMinute = weekStartMinute;
+            this.status = status;
+        }
+    }
+    
+    static final class Week {
+        int booked;
+        int maxPerWeek;
+        
+        Week(int booked, int maxPerWeek) {
+            this.booked = booked;
+            this.maxPerWeek = maxPerWeek;
+        }
+    }
+    
+    record Booking(long id, long slotId, long startMinute, String candidateName, String candidateEmail,
+                   long bookedAtMillis, long updatedAtMillis, boolean panel, boolean active) {
+    }
+    
+    // Week starts are whole weeks apart, so the week number identifies the week for any locale
+    static long weekKey(long interviewerId, long weekStartMinute) {
+        return interviewerId << 20 | Math.floorDiv(weekStartMinute, MINUTES_PER_WEEK);
+    }
+    
+    Week week(Slot slot) {
+        return weeks.get(weekKey(slot.interviewerId, slot.weekStartMinute));
+    }
+    
+    void apply(EngineEvent event) {
+        if (event instanceof EngineEvent.Booked e) {
+            Slot slot = slots.get(e.slotId());
+            slot.status = TimeSlot.TimeSlotStatus.BOOKED;
+            bookings.put(e.bookingId(), new Booking(e.bookingId(), e.slotId(), slot.startMinute, e.candidateName(),
+                e.candidateEmail(), e.atMillis(), e.atMillis(), false, true));
+            adjustWeek(slot, 1);
+            activeCandidates.put(e.candidateEmail(), true);
+            nextBookingId = Math.max(nextBookingId, e.bookingId() + 2);
+        } else if (event instanceof EngineEvent.Rescheduled e) {
+            Slot from = slots.get(e.fromSlotId());
+            Slot to = slots.get(e.toSlotId());
+            from.status = TimeSlot.TimeSlotStatus.AVAILABLE;
+            to.status = TimeSlot.TimeSlotStatus.BOOKED;
+            Booking booking = bookings.get(e.bookingId());
+            bookings.put(e.bookingId(), new Booking(booking.id(), e.toSlotId(), to.startMinute, e.candidateName(),
+                booking.candidateEmail(), booking.bookedAtMillis(), e.atMillis(), booking.panel(), true));
+            if (weekKey(from.interviewerId, from.weekStartMinute) != weekKey(to.interviewerId, to.weekStartMinute)) {
+                adjustWeek(from, -1);
+                adjustWeek(to, 1);
+            }
+        } else if (event instanceof EngineEvent.Cancelled e) {
+            Slot slot = slots.get(e.slotId());
+            slot.status = e.released() ? TimeSlot.TimeSlotStatus.AVAILABLE : TimeSlot.TimeSlotStatus.CANCELLED;
+            Booking booking = bookings.get(e.bookingId());
+            bookings.put(e.bookingId(), new Booking(booking.id(), booking.slotId(), booking.startMinute(),
+                booking.candidateName(), booking.candidateEmail(), booking.bookedAtMillis(), e.atMillis(),
+                booking.panel(), false));
+            adjustWeek(slot, -1);
+            activeCandidates.put(e.candidateEmail(), false);
+        } else if (event instanceof EngineEvent.SlotLoaded e) {
+            slots.put(e.slotId(), new Slot(e.interviewerId(), e.startMinute(), e.weekStartMinute(), e.status()));
+        } else if (event instanceof EngineEvent.BookingLoaded e) {
+            Slot slot = slots.get(e.slotId());
+            bookings.put(e.bookingId(), new Booking(e.bookingId(), e.slotId(), slot.startMinute, e.candidateName(),
+                e.candidateEmail(), e.bookedAtMillis(), e.updatedAtMillis(), e.panel(),
+                slot.status == TimeSlot.TimeSlotStatus.BOOKED));
+        } else if (event instanceof EngineEvent.WeekLoaded e) {
+            weeks.put(weekKey(e.interviewerId(), e.weekStartMinute()), new Week(e.booked(), e.maxPerWeek()));
+        } else if (event instanceof EngineEvent.CandidateLoaded e) {
+            activeCandidates.put(e.candidateEmail(), e.active());
+        } else if (event instanceof EngineEvent.LimitChanged e) {
+            weeks.forEach((key, week) -> {
+                if (key >>> 20 == e.interviewerId()) {
+                    week.maxPerWeek = e.maxPerWeek();
+                }
+            });
+        }
+    }
+    
+    private void adjustWeek(Slot slot, int delta) {
+        Week week = week(slot);
+        if (week != null) {
+            week.booked += delta;
+        }
+    }
+    
+    /**
+     * Writes the state as of journal {@code position} to a temporary file, forces it and
+     * renames it into place, so a crash leaves either the previous or the new snapshot.
+     */
+    void writeSnapshot(Path file, long position) throws IOException {
+        Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        CRC32C checksum = new CRC32C();
+        try (OutputStream raw = Files.newOutputStream(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             DataOutputStream out = new DataOutputStream(new CheckedOutputStream(new BufferedOutputStream(raw, 1 << 16), checksum))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(journalId);
+            out.writeLong(position);
+            out.writeLong(nextBookingId);
+            out.writeInt(slots.size());
+            for (Map.Entry<Long, Slot> entry : slots.entrySet()) {
+                Slot slot = entry.getValue();
+                out.writeLong(entry.getKey());
+                out.writeLong(slot.interviewerId);
+                out.writeLong(slot.startMinute);
+                out.writeLong(slot.weekStartMinute);
+                out.writeByte(slot.status.ordinal());
+            }
+            out.writeInt(bookings.size());
+            for (Booking booking : bookings.values()) {
+                out.writeLong(booking.id());
+                out.writeLong(booking.slotId());
+                out.writeLong(booking.startMinute());
+                out.writeUTF(booking.candidateName());
+                out.writeUTF(booking.candidateEmail());
+                out.writeLong(booking.bookedAtMillis());
+                out.writeLong(booking.updatedAtMillis());
+                out.writeBoolean(booking.panel());
+                out.writeBoolean(booking.active());
+            }
+            out.writeInt(weeks.size());
+            for (Map.Entry<Long, Week> entry : weeks.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(entry.getValue().booked);
+                out.writeInt(entry.getValue().maxPerWeek);
+            }
+            out.writeInt(activeCandidates.size());
+            for (Map.Entry<String, Boolean> entry : activeCandidates.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeBoolean(entry.getValue());
+            }
+            out.flush();
+            raw.write(longBytes(checksum.getValue()));
+            raw.flush();
+        }
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+    
+    /**
+     * @return the journal position the snapshot was taken at
+     */
+    long readSnapshot(Path file) throws IOException {
+        CRC32C checksum = new CRC32C();
+        try (InputStream raw = new BufferedInputStream(Files.newInputStream(file), 1 << 16);
+             DataInputStream in = new DataInputStream(new CheckedInputStream(raw, checksum))) {
+            int version = in.readInt() == SNAPSHOT_MAGIC ? in.readInt() : -1;
+            if (version != 1 && version != SNAPSHOT_VERSION) {
+                throw new IOException(file + " is not a booking engine snapshot");
+            }
+            candidatesComplete = version == SNAPSHOT_VERSION;
+            journalId = in.readLong();
+            long position = in.readLong();
+            nextBookingId = in.readLong();
+            TimeSlot.TimeSlotStatus[] statuses = TimeSlot.TimeSlotStatus.values();
+            for (int i = in.readInt(); i > 0; i--) {
+                slots.put(in.readLong(), new Slot(in.readLong(), in.readLong(), in.readLong(), statuses[in.readByte()]));
+            }
+            for (int i = in.readInt(); i > 0; i--) {
+                Booking booking = new Booking(in.readLong(), in.readLong(), in.readLong(), in.readUTF(), in.readUTF(),
+                    in.readLong(), in.readLong(), in.readBoolean(), in.readBoolean());
+                bookings.put(booking.id(), booking);
+            }
+            for (int i = in.readInt(); i > 0; i--) {
+                weeks.put(in.readLong(), new Week(in.readInt(), in.readInt()));
+            }
+            for (int i = in.readInt(); i > 0; i--) {
+                activeCandidates.put(in.readUTF(), in.readBoolean());
+            }
+            long expected = checksum.getValue();
+            if (new DataInputStream(raw).readLong() != expected) {
+                throw new IOException(file + " failed its checksum");
+            }
+            return position;
+        }
+    }
+    
+    private static byte[] longBytes(long value) {
+        byte[] bytes = new byte[8];
+        for (int i = 7; i >= 0; i--) {
+            bytes[i] = (byte) value;
+            value >>>= 8;
+        }
+        return bytes;
+    }
+}
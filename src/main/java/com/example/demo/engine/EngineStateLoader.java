@@ -0,0 +1,53 @@
+package com.example.demo.engine;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Reads the rows the engine has not seen yet. Everything it returns is recorded in the journal
+ * before it is used, so the loader is only consulted for rows the engine has never changed.
+ */
+public interface EngineStateLoader {
+    
+    /**
+     * Emits a {@link EngineEvent.SlotLoaded} (and {@link EngineEvent.BookingLoaded} for booked
+     * slots) for every live slot starting in {@code [from, to)}.
+     */
+    void loadHorizon(LocalDateTime from, LocalDateTime to, Consumer<EngineEvent> sink);
+    
+    /**
+     * @return the slot and its booking, or an empty list if the slot does not exist
+     */
+    List<EngineEvent> loadSlot(long slotId);
+    
+    /**
+     * @return the booking's slot and the booking, or an empty list if the booking does not exist
+     */
+    List<EngineEvent> loadBooking(long bookingId);
+    
+    EngineEvent.WeekLoaded loadWeek(long interviewerId, long weekStartMinute);
+    
+    /**
+     * Emits the email of every candidate with an active booking. The engine loads them all at
+     * bootstrap, so a candidate it has no entry for has no active booking.
+     */
+    void loadActiveCandidates(Consumer<String> sink);
+    
+    /**
+     * Holds live only in the database and are checked when a held slot is booked; the outcome
+     * is what gets journaled, so a replay does not need them.
+     */
+    Optional<Hold> loadHold(long slotId);
+    
+    /**
+     * Arranges for the database to hand out only odd booking ids from now on.
+     *
+     * @return the smallest even id above every existing booking id
+     */
+    long reserveBookingIds();
+    
+    record Hold(String holdToken, String candidateEmail, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.demo.engine;
+
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.service.InterviewerCapacityTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Loads engine state with plain JDBC reads against the regular tables.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class JdbcEngineStateLoader implements EngineStateLoader {
+    
+    private static final long H2_ENGINE_ID_RANGE = 1L << 32;
+    
+    private static final String SQL_SLOT_WITH_BOOKING =
+        "SELECT ts.id, ts.interviewer_id, ts.slot_date_time, ts.status, b.id, b.candidate_name, b.candidate_email, " +
+        "b.booking_date_time, b.updated_at, b.panel_id FROM time_slots ts " +
+        "LEFT JOIN candidate_bookings b ON b.time_slot_id = ts.id ";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void loadHorizon(LocalDateTime from, LocalDateTime to, Consumer<EngineEvent> sink) {
+        jdbcTemplate.query(SQL_SLOT_WITH_BOOKING +
+                "WHERE ts.slot_date_time >= ? AND ts.slot_date_time < ? AND ts.status <> 'CANCELLED'",
+            rs -> {
+                toEvents(rs).forEach(sink);
+            },
+            Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+    
+    @Override
+    public List<EngineEvent> loadSlot(long slotId) {
+        return jdbcTemplate.query(SQL_SLOT_WITH_BOOKING + "WHERE ts.id = ?", rs -> rs.next() ? toEvents(rs) : List.of(),
+            slotId);
+    }
+    
+    @Override
+    public List<EngineEvent> loadBooking(long bookingId) {
+        return jdbcTemplate.query(SQL_SLOT_WITH_BOOKING + "WHERE b.id = ?", rs -> rs.next() ? toEvents(rs) : List.of(),
+            bookingId);
+    }
+    
+    @Override
+    public EngineEvent.WeekLoaded loadWeek(long interviewerId, long weekStartMinute) {
+        LocalDateTime weekStart = EngineEvent.fromMinute(weekStartMinute);
+        return jdbcTemplate.queryForObject(
+            "SELECT i.max_interviews_per_week, (SELECT COUNT(*) FROM time_slots ts WHERE ts.interviewer_id = i.id " +
+            "AND ts.status = 'BOOKED' AND ts.slot_date_time >= ? AND ts.slot_date_time < ?) FROM interviewers i WHERE i.id = ?",
+            (rs, row) -> new EngineEvent.WeekLoaded(interviewerId, weekStartMinute, rs.getInt(2), rs.getInt(1)),
+            Timestamp.valueOf(weekStart), Timestamp.valueOf(weekStart.plusWeeks(1)), interviewerId);
+    }
+    
+    @Override
+    public void loadActiveCandidates(Consumer<String> sink) {
+        jdbcTemplate.query("SELECT DISTINCT b.candidate_email FROM candidate_bookings b " +
+                "JOIN time_slots ts ON ts.id = b.time_slot_id WHERE ts.status = 'BOOKED'",
+            rs -> {
+                sink.accept(rs.getString(1));
+            });
+    }
+    
+    @Override
+    public Optional<Hold> loadHold(long slotId) {
+        return jdbcTemplate.query("SELECT hold_token, candidate_email, expires_at FROM slot_holds WHERE time_slot_id = ?",
+            (rs, row) -> new Hold(rs.getString(1), rs.getString(2), rs.getTimestamp(3).toLocalDateTime()), slotId)
+            .stream()
+            .findFirst();
+    }
+    
+    // MySQL pools get auto_increment_increment = 2 from DataSourceConfig; H2 identities are altered here.
+    // H2's MySQL mode moves an identity past any id inserted explicitly, dropping the offset, so its odd
+    // ids start far above the range the engine will hand out before the next restart
+    @Override
+    public long reserveBookingIds() {
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM candidate_bookings", Long.class);
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName());
+        if ("H2".equals(product)) {
+            jdbcTemplate.execute(String.format(
+                "ALTER TABLE candidate_bookings ALTER COLUMN id RESTART WITH %d SET INCREMENT BY 2",
+                (maxId + H2_ENGINE_ID_RANGE + 1) | 1));
+        }
+        return (maxId + 2) & ~1L;
+    }
+    
+    private static List<EngineEvent> toEvents(ResultSet rs) throws SQLException {
+        LocalDateTime start = rs.getTimestamp(3).toLocalDateTime();
+        List<EngineEvent> events = new ArrayList<>(2);
+        events.add(new EngineEvent.SlotLoaded(rs.getLong(1), rs.getLong(2), EngineEvent.toMinute(start),
+            EngineEvent.toMinute(InterviewerCapacityTracker.weekStartOf(start)),
+            TimeSlot.TimeSlotStatus.valueOf(rs.getString(4))));
+        long bookingId = rs.getLong(5);
+        if (!rs.wasNull()) {
+            Timestamp updatedAt = rs.getTimestamp(9);
+            long bookedAt = EngineEvent.toMillis(rs.getTimestamp(8).toLocalDateTime());
+            events.add(new EngineEvent.BookingLoaded(bookingId, rs.getLong(1), rs.getString(6), rs.getString(7),
+                bookedAt, updatedAt == null ? bookedAt : EngineEvent.toMillis(updatedAt.toLocalDateTime()),
+                rs.getString(10) != null));
+        }
+        return events;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.demo.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Published by {@code InterviewerService} when an interviewer's availability is created or replaced.
+ */
+@Value
+@Builder
+public class AvailabilityChangedEvent {
+    Long interviewerId;
+    String interviewerEmail;
+    int availabilityWindows;
+    int maxInterviewsPerWeek;
+}
@@ -0,0 +1,35 @@
+package com.example.demo.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by {@code BookingService} whenever a booking is created, moved or cancelled.
+ * RESCHEDULED carries the slot the booking left in the {@code previous*} fields; CANCELLED
+ * describes the slot the booking held, which is no longer BOOKED by then. A bulk
+ * cancellation publishes one CANCELLED event per booking, alongside a single
+ * {@link SlotsCancelledEvent} for the whole batch. Listeners that must only observe
+ * committed state use {@code @TransactionalEventListener}.
+ */
+@Value
+@Builder
+public class BookingChangedEvent {
+    
+    public enum ChangeType {
+        BOOKED,
+        RESCHEDULED,
+        CANCELLED
+    }
+    
+    ChangeType type;
+    Long bookingId;
+    String candidateEmail;
+    Long timeSlotId;
+    Long interviewerId;
+    LocalDateTime slotDateTime;
+    Long previousTimeSlotId;                // Only set for RESCHEDULED
+    Long previousInterviewerId;             // Only set for RESCHEDULED
+    LocalDateTime previousSlotDateTime;     // Only set for RESCHEDULED
+}
@@ -0,0 +1,17 @@
+package com.example.demo.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when a slot leaves AVAILABLE for a temporary hold.
+ */
+@Value
+@Builder
+public class SlotHeldEvent {
+    Long timeSlotId;
+    Long interviewerId;
+    LocalDateTime slotDateTime;
+}
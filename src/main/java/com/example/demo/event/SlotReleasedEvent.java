@@ -0,0 +1,18 @@
+package com.example.demo.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published whenever a slot goes back to AVAILABLE (reschedule, released or expired hold,
+ * recycled cancellation).
+ */
+@Value
+@Builder
+public class SlotReleasedEvent {
+    Long timeSlotId;
+    Long interviewerId;
+    LocalDateTime slotDateTime;
+}
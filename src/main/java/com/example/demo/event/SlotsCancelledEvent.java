@@ -0,0 +1,18 @@
+package com.example.demo.event;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * Published by {@code BookingService} after the slots of cancelled bookings were moved to
+ * CANCELLED. When {@code recycle} is set, the slots are returned to the available feed once
+ * the cancellation has committed.
+ */
+@Value
+@Builder
+public class SlotsCancelledEvent {
+    List<Long> timeSlotIds;
+    boolean recycle;
+}
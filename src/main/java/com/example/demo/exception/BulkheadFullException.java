@@ -0,0 +1,15 @@
+package com.example.demo.exception;
+
+public class BulkheadFullException extends RuntimeException {
+    
+    private final long retryAfterSeconds;
+    
+    public BulkheadFullException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.demo.exception;
+
+public class RateLimitExceededException extends RuntimeException {
+    
+    private final long retryAfterSeconds;
+    
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+    
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.outbox;
+
+import com.example.demo.domain.entity.OutboxEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends events as NDJSON to a local file, forcing each batch to disk before it is
+ * acknowledged.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "file", matchIfMissing = true)
+@RequiredArgsConstructor
+public class FileOutboxSink implements OutboxSink {
+    
+    private final ObjectMapper objectMapper;
+    
+    @Value("${outbox.file.path:outbox/events.ndjson}")
+    private Path path;
+    
+    @Override
+    public String name() {
+        return "file";
+    }
+    
+    @Override
+    public synchronized void deliver(List<OutboxEvent> events) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (OutboxEvent event : events) {
+            ObjectNode line = objectMapper.createObjectNode();
+            line.put("id", event.getId());
+            line.put("type", event.getEventType());
+            line.put("aggregateId", event.getAggregateId());
+            line.put("createdAt", event.getCreatedAt().toString());
+            line.set("payload", objectMapper.readTree(event.getPayload()));
+            lines.append(objectMapper.writeValueAsString(line)).append('\n');
+        }
+        
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+}
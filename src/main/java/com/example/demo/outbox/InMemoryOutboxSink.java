@@ -0,0 +1,37 @@
+package com.example.demo.outbox;
+
+import com.example.demo.domain.entity.OutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Collects delivered events in memory; used by tests and local runs.
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.sink", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+    
+    private final List<OutboxEvent> delivered = new CopyOnWriteArrayList<>();
+    
+    @Override
+    public String name() {
+        return "memory";
+    }
+    
+    @Override
+    public void deliver(List<OutboxEvent> events) {
+        delivered.addAll(events);
+    }
+    
+    public List<OutboxEvent> getDelivered() {
+        return new ArrayList<>(delivered);
+    }
+    
+    public void clear() {
+        delivered.clear();
+    }
+}
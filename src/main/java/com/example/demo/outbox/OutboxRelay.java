@@ -0,0 +1,117 @@
+package com.example.demo.outbox;
+
+import com.example.demo.domain.entity.OutboxEvent;
+import com.example.demo.domain.repository.OutboxEventRepository;
+import com.example.demo.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Background relay that polls the outbox in batches and hands each batch to every sink.
+ * A batch is marked delivered only after all sinks accepted it. When a batch fails, its events
+ * are retried one by one, so a single bad event cannot hold back the rest; events that still
+ * fail are retried on the next poll (at-least-once) until they reach {@code outbox.max-attempts}
+ * and are dead-lettered. Delivered rows are pruned after the retention period. Each shard keeps
+ * its own outbox, written in the same transaction as its bookings; all are polled.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+    
+    private final OutboxEventRepository outboxEventRepository;
+    private final List<OutboxSink> sinks;
+    private final ShardRouter shardRouter;
+    
+    @Value("${outbox.batch-size:200}")
+    private int batchSize;
+    
+    @Value("${outbox.retention-minutes:60}")
+    private long retentionMinutes;
+    
+    @Value("${outbox.max-attempts:10}")
+    private int maxAttempts;
+    
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:500}")
+    public void relay() {
+        shardRouter.forEachShard(this::relayShard);
+    }
+    
+    @Scheduled(fixedDelayString = "${outbox.prune-interval-ms:60000}")
+    public void prune() {
+        shardRouter.forEachShard(this::pruneShard);
+    }
+    
+    private void relayShard() {
+        List<OutboxEvent> batch;
+        do {
+            batch = outboxEventRepository.findPending(PageRequest.of(0, batchSize));
+            if (batch.isEmpty() || !dispatch(batch)) {
+                return;
+            }
+        } while (batch.size() == batchSize);
+    }
+    
+    private void pruneShard() {
+        int pruned = outboxEventRepository.deleteDeliveredBefore(LocalDateTime.now().minusMinutes(retentionMinutes));
+        if (pruned > 0) {
+            log.info("Pruned {} delivered outbox events", pruned);
+        }
+    }
+    
+    private boolean dispatch(List<OutboxEvent> batch) {
+        if (deliver(batch)) {
+            outboxEventRepository.markDelivered(batch.stream().map(OutboxEvent::getId).toList(), LocalDateTime.now());
+            return true;
+        }
+        if (batch.size() == 1) {
+            fail(batch);
+            return false;
+        }
+        List<Long> delivered = new ArrayList<>();
+        List<OutboxEvent> failed = new ArrayList<>();
+        for (OutboxEvent event : batch) {
+            if (deliver(List.of(event))) {
+                delivered.add(event.getId());
+            } else {
+                failed.add(event);
+            }
+        }
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.markDelivered(delivered, LocalDateTime.now());
+        }
+        if (!failed.isEmpty()) {
+            fail(failed);
+        }
+        return false;
+    }
+    
+    private boolean deliver(List<OutboxEvent> events) {
+        for (OutboxSink sink : sinks) {
+            try {
+                sink.deliver(events);
+            } catch (Exception e) {
+                log.warn("Outbox sink {} failed for {} events, will retry: {}", sink.name(), events.size(), e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private void fail(List<OutboxEvent> events) {
+        List<Long> ids = events.stream().map(OutboxEvent::getId).toList();
+        outboxEventRepository.incrementAttempts(ids);
+        int deadLettered = outboxEventRepository.deadLetterExhausted(ids, maxAttempts, LocalDateTime.now());
+        if (deadLettered > 0) {
+            log.error("Dead-lettered {} outbox events after {} failed attempts", deadLettered, maxAttempts);
+        }
+    }
+}
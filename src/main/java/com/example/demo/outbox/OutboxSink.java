@@ -0,0 +1,18 @@
+package com.example.demo.outbox;
+
+import com.example.demo.domain.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Destination for outbox events (ATS, email, ...). Delivery is at-least-once: a batch is
+ * redelivered until every sink has accepted it, so sinks must tolerate duplicates, e.g. by
+ * deduplicating on {@link OutboxEvent#getId()}. Events arrive roughly in insert order, with no
+ * guarantee that they follow commit order.
+ */
+public interface OutboxSink {
+    
+    String name();
+    
+    void deliver(List<OutboxEvent> events) throws Exception;
+}
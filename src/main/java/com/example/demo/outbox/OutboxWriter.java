@@ -0,0 +1,31 @@
+package com.example.demo.outbox;
+
+import com.example.demo.domain.entity.OutboxEvent;
+import com.example.demo.domain.repository.OutboxEventRepository;
+import com.example.demo.event.BookingChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records booking changes in the outbox table. The listener runs synchronously inside the
+ * publishing transaction, so the outbox row commits or rolls back together with the booking.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+    
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    
+    @EventListener
+    public void onBookingChanged(BookingChangedEvent event) throws JsonProcessingException {
+        outboxEventRepository.save(OutboxEvent.builder()
+            .eventType("BOOKING_" + event.getType().name())
+            .aggregateId(event.getBookingId())
+            .payload(objectMapper.writeValueAsString(event))
+            .build());
+    }
+}
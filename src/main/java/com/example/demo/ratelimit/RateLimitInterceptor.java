@@ -0,0 +1,34 @@
+package com.example.demo.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies the per-IP limit before the request reaches a controller. Rejections surface as
+ * {@code RateLimitExceededException} and are rendered by {@code GlobalExceptionHandler}.
+ */
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+    
+    private final RateLimitService rateLimitService;
+    private final boolean trustForwardedFor;
+    
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        rateLimitService.checkClient(clientIp(request));
+        return true;
+    }
+    
+    private String clientIp(HttpServletRequest request) {
+        if (trustForwardedFor) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                int comma = forwardedFor.indexOf(',');
+                return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.demo.ratelimit;
+
+import com.example.demo.exception.RateLimitExceededException;
+import com.example.demo.util.KeyedRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket limits per client IP (all booking and browsing requests) and per candidate
+ * email (booking mutations). Checks run before any transaction is opened.
+ */
+@Service
+@Slf4j
+public class RateLimitService {
+    
+    private final boolean enabled;
+    private final KeyedRateLimiter clientLimiter;
+    private final KeyedRateLimiter candidateLimiter;
+    
+    public RateLimitService(@Value("${ratelimit.enabled:true}") boolean enabled,
+                            @Value("${ratelimit.ip.permits-per-second:20}") double ipPermitsPerSecond,
+                            @Value("${ratelimit.ip.burst:40}") int ipBurst,
+                            @Value("${ratelimit.candidate.permits-per-minute:10}") double candidatePermitsPerMinute,
+                            @Value("${ratelimit.candidate.burst:5}") int candidateBurst,
+                            @Value("${ratelimit.max-keys:100000}") int maxKeys) {
+        this.enabled = enabled;
+        this.clientLimiter = new KeyedRateLimiter(ipPermitsPerSecond, ipBurst, maxKeys);
+        this.candidateLimiter = new KeyedRateLimiter(candidatePermitsPerMinute / 60, candidateBurst, maxKeys);
+    }
+    
+    public void checkClient(String clientIp) {
+        check(clientLimiter, clientIp, "Too many requests from this client");
+    }
+    
+    public void checkCandidate(String candidateEmail) {
+        if (candidateEmail != null) {
+            check(candidateLimiter, candidateEmail.toLowerCase(Locale.ROOT), "Too many booking requests for this candidate");
+        }
+    }
+    
+    private void check(KeyedRateLimiter limiter, String key, String message) {
+        if (!enabled) {
+            return;
+        }
+        long waitNanos = limiter.tryAcquire(key);
+        if (waitNanos > 0) {
+            log.debug("Rate limit hit for {}", key);
+            throw new RateLimitExceededException(message, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.request.AvailabilitySlotRequest;
+import com.example.demo.exception.BusinessException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Normalizes weekly availability windows in O(n log n): windows are sorted by (day, start) and
+ * swept once. Overlapping or touching windows with the same slot duration are merged;
+ * overlapping windows with different durations would produce colliding slots and are rejected.
+ */
+final class AvailabilityNormalizer {
+    
+    private AvailabilityNormalizer() {
+    }
+    
+    static List<AvailabilitySlotRequest> normalize(List<AvailabilitySlotRequest> windows) {
+        windows.forEach(AvailabilityNormalizer::validate);
+        
+        List<AvailabilitySlotRequest> sorted = new ArrayList<>(windows);
+        sorted.sort(Comparator.comparing(AvailabilitySlotRequest::getDayOfWeek)
+            .thenComparing(AvailabilitySlotRequest::getStartTime));
+        
+        List<AvailabilitySlotRequest> normalized = new ArrayList<>();
+        AvailabilitySlotRequest current = null;
+        for (AvailabilitySlotRequest window : sorted) {
+            boolean sameDay = current != null && current.getDayOfWeek() == window.getDayOfWeek();
+            if (sameDay && window.getStartTime().isBefore(current.getEndTime())
+                && !window.getSlotDurationMinutes().equals(current.getSlotDurationMinutes())) {
+                throw new BusinessException(String.format(
+                    "Overlapping availability windows on %s: %s-%s (%d min) and %s-%s (%d min)",
+                    window.getDayOfWeek(), current.getStartTime(), current.getEndTime(), current.getSlotDurationMinutes(),
+                    window.getStartTime(), window.getEndTime(), window.getSlotDurationMinutes()));
+            }
+            if (sameDay && !window.getStartTime().isAfter(current.getEndTime())
+                && window.getSlotDurationMinutes().equals(current.getSlotDurationMinutes())) {
+                if (window.getEndTime().isAfter(current.getEndTime())) {
+                    current.setEndTime(window.getEndTime());
+                }
+            } else {
+                current = copy(window);
+                normalized.add(current);
+            }
+        }
+        return normalized;
+    }
+    
+    private static void validate(AvailabilitySlotRequest window) {
+        if (!window.getStartTime().isBefore(window.getEndTime())) {
+            throw new BusinessException(String.format("Availability window on %s must start before it ends (%s-%s)",
+                window.getDayOfWeek(), window.getStartTime(), window.getEndTime()));
+        }
+        long windowMinutes = Duration.between(window.getStartTime(), window.getEndTime()).toMinutes();
+        if (window.getSlotDurationMinutes() <= 0 || window.getSlotDurationMinutes() > windowMinutes) {
+            throw new BusinessException(String.format(
+                "Slot duration of %d minutes does not fit the availability window on %s (%s-%s)",
+                window.getSlotDurationMinutes(), window.getDayOfWeek(), window.getStartTime(), window.getEndTime()));
+        }
+    }
+    
+    private static AvailabilitySlotRequest copy(AvailabilitySlotRequest window) {
+        AvailabilitySlotRequest copy = new AvailabilitySlotRequest();
+        copy.setDayOfWeek(window.getDayOfWeek());
+        copy.setStartTime(window.getStartTime());
+        copy.setEndTime(window.getEndTime());
+        copy.setSlotDurationMinutes(window.getSlotDurationMinutes());
+        return copy;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.response.ApiResponse;
+import com.example.demo.dto.response.PagedTimeSlotResponse;
+import com.example.demo.event.AvailabilityChangedEvent;
+import com.example.demo.event.BookingChangedEvent;
+import com.example.demo.event.SlotHeldEvent;
+import com.example.demo.event.SlotReleasedEvent;
+import com.example.demo.event.SlotsCancelledEvent;
+import com.example.demo.util.SingleFlight;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Encoded response bodies of the chronological available-slot feed, keyed by cursor and page
+ * size, so repeated reads of an unchanged feed skip the query, the DTOs and Jackson. Every
+ * committed slot change bumps a generation and drops all pages; a page loaded while the
+ * generation moved is served but not stored. Misses for the same page are coalesced per
+ * generation, so a reader that saw an invalidation never shares a query started before it.
+ * The body keeps the timestamp of when it was built.
+ */
+@Component
+@RequiredArgsConstructor
+public class AvailableSlotPageCache {
+    
+    private final TimeSlotService timeSlotService;
+    private final ObjectMapper objectMapper;
+    
+    @Value("${slots.page-cache.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${slots.page-cache.max-entries:1024}")
+    private int maxEntries;
+    
+    private final AtomicLong generation = new AtomicLong();
+    private final ConcurrentHashMap<PageKey, CachedPage> pages = new ConcurrentHashMap<>();
+    private final SingleFlight<FillKey, byte[]> inFlightFills = new SingleFlight<>();
+    
+    public byte[] availablePage(String cursor, Integer pageSize) {
+        int size = TimeSlotService.normalizePageSize(pageSize);
+        if (!enabled) {
+            return encode(timeSlotService.getAvailableSlots(cursor, size, TimeSlotService.SlotRanking.CHRONOLOGICAL));
+        }
+        
+        PageKey key = new PageKey(cursor == null ? "" : cursor, size);
+        long current = generation.get();
+        CachedPage cached = pages.get(key);
+        if (cached != null && cached.generation() == current) {
+            return cached.body();
+        }
+        
+        return inFlightFills.execute(new FillKey(key, current), () -> {
+            byte[] body = encode(timeSlotService.queryAvailableSlots(cursor, size, TimeSlotService.SlotRanking.CHRONOLOGICAL));
+            if (generation.get() == current) {
+                if (pages.size() >= maxEntries) {
+                    pages.clear(); // Arbitrary cursors must not grow the map without bound
+                }
+                pages.put(key, new CachedPage(current, body));
+            }
+            return body;
+        });
+    }
+    
+    public byte[] encode(PagedTimeSlotResponse page) {
+        ApiResponse<PagedTimeSlotResponse> response = ApiResponse.<PagedTimeSlotResponse>builder()
+            .success(true)
+            .message("Available time slots retrieved successfully")
+            .data(page)
+            .timestamp(LocalDateTime.now())
+            .build();
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode available slots page", e);
+        }
+    }
+    
+    public int size() {
+        return pages.size();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        invalidate();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotReleased(SlotReleasedEvent event) {
+        invalidate();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotHeld(SlotHeldEvent event) {
+        invalidate();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotsCancelled(SlotsCancelledEvent event) {
+        invalidate();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        invalidate();
+    }
+    
+    private void invalidate() {
+        generation.incrementAndGet();
+        pages.clear();
+    }
+    
+    private record PageKey(String cursor, int pageSize) {
+    }
+    
+    private record FillKey(PageKey page, long generation) {
+    }
+    
+    private record CachedPage(long generation, byte[] body) {
+    }
+}
@@ -0,0 +1,247 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.AvailabilitySlot;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.AvailabilitySlotRepository;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.response.RehomeResponse;
+import com.example.demo.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Re-homes the upcoming bookings of an interviewer that no longer lie inside their availability
+ * windows, e.g. after a window was removed. Every orphaned booking is planned onto the nearest
+ * free slot of the same duration, preferring the same interviewer and falling back to others,
+ * within weekly capacity. The plan is then committed as one batch per target interviewer.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingRehomeService {
+    
+    private static final int SEARCH_WEEKS_AFTER = 2; // Free slots considered past the last orphan
+    
+    private final InterviewerRepository interviewerRepository;
+    private final AvailabilitySlotRepository availabilitySlotRepository;
+    private final TimeSlotRepository timeSlotRepository;
+    private final CandidateBookingRepository bookingRepository;
+    private final ShardedBookingService shardedBookingService;
+    
+    @Transactional(readOnly = true)
+    public RehomeResponse preview(Long interviewerId) {
+        return plan(interviewerId);
+    }
+    
+    /**
+     * Re-plans against current data and moves each target interviewer's share in its own
+     * transaction. Moves whose target was taken in between are reported as conflicts.
+     */
+    public RehomeResponse rehome(Long interviewerId) {
+        RehomeResponse plan = plan(interviewerId);
+        
+        Map<Long, List<RehomeResponse.Move>> byInterviewer = plan.getMoves().stream()
+            .collect(Collectors.groupingBy(RehomeResponse.Move::getToInterviewerId,
+                LinkedHashMap::new, Collectors.toList()));
+        
+        List<RehomeResponse.Move> moved = new ArrayList<>();
+        List<Long> conflicted = new ArrayList<>();
+        for (Map.Entry<Long, List<RehomeResponse.Move>> group : byInterviewer.entrySet()) {
+            Set<Long> movedIds = new HashSet<>();
+            try {
+                movedIds.addAll(shardedBookingService.moveBookingBatch(group.getValue().stream()
+                    .map(move -> new BookingService.SlotMove(
+                        move.getBookingId(), move.getFromTimeSlotId(), move.getToTimeSlotId()))
+                    .toList()));
+            } catch (DataAccessException e) {
+                log.warn("Re-home batch onto interviewer {} failed: {}", group.getKey(), e.getMessage());
+            }
+            
+            for (RehomeResponse.Move move : group.getValue()) {
+                if (movedIds.contains(move.getBookingId())) {
+                    moved.add(move);
+                } else {
+                    conflicted.add(move.getBookingId());
+                }
+            }
+        }
+        
+        log.info("Re-homed {} bookings of interviewer {}, {} conflicts", moved.size(), interviewerId, conflicted.size());
+        plan.setCommitted(true);
+        plan.setMoves(moved);
+        plan.setConflictedBookingIds(conflicted);
+        return plan;
+    }
+    
+    private RehomeResponse plan(Long interviewerId) {
+        if (!interviewerRepository.existsById(interviewerId)) {
+            throw new ResourceNotFoundException("Interviewer not found with id: " + interviewerId);
+        }
+        List<AvailabilitySlot> windows = availabilitySlotRepository.findByInterviewerId(interviewerId);
+        
+        LocalDateTime now = LocalDateTime.now();
+        List<CandidateBookingRepository.UpcomingBooking> orphans = bookingRepository.findUpcomingBookings(interviewerId, now)
+            .stream()
+            .filter(booking -> !fits(windows, booking.getSlotDateTime(),
+                PanelAvailabilityIndex.durationOf(booking.getDurationMinutes())))
+            .toList();
+        
+        List<RehomeResponse.Move> moves = new ArrayList<>();
+        List<Long> unplaced = new ArrayList<>();
+        RehomeResponse response = RehomeResponse.builder()
+            .interviewerId(interviewerId)
+            .orphanedBookings(orphans.size())
+            .moves(moves)
+            .unplacedBookingIds(unplaced)
+            .build();
+        if (orphans.isEmpty()) {
+            return response;
+        }
+        
+        // Free slots by duration and start time; the interviewer's own only where they still fit
+        LocalDateTime horizonEnd = orphans.get(orphans.size() - 1).getSlotDateTime().plusWeeks(SEARCH_WEEKS_AFTER);
+        List<TimeSlot> free = timeSlotRepository.findAvailableSlotsBetween(now, horizonEnd);
+        Map<Integer, TreeMap<LocalDateTime, List<TimeSlot>>> own = new HashMap<>();
+        Map<Integer, TreeMap<LocalDateTime, List<TimeSlot>>> others = new HashMap<>();
+        for (TimeSlot slot : free) {
+            int duration = PanelAvailabilityIndex.durationOf(slot.getDurationMinutes());
+            boolean same = slot.getInterviewer().getId().equals(interviewerId);
+            if (same && !fits(windows, slot.getSlotDateTime(), duration)) {
+                continue;
+            }
+            (same ? own : others).computeIfAbsent(duration, key -> new TreeMap<>())
+                .computeIfAbsent(slot.getSlotDateTime(), key -> new ArrayList<>())
+                .add(slot);
+        }
+        Map<String, Long> bookedByWeek = bookedByWeek(free, interviewerId, now, horizonEnd);
+        
+        for (CandidateBookingRepository.UpcomingBooking orphan : orphans) {
+            if (orphan.getPanelId() != null) {
+                unplaced.add(orphan.getBookingId()); // Panels move as a whole or not at all
+                continue;
+            }
+            int duration = PanelAvailabilityIndex.durationOf(orphan.getDurationMinutes());
+            String vacatedKey = weekKey(interviewerId, orphan.getSlotDateTime());
+            Predicate<TimeSlot> withinCapacity = slot -> {
+                String key = weekKey(slot.getInterviewer().getId(), slot.getSlotDateTime());
+                return key.equals(vacatedKey)
+                    || bookedByWeek.getOrDefault(key, 0L) < slot.getInterviewer().getMaxInterviewsPerWeek();
+            };
+            
+            TimeSlot target = takeNearest(own.get(duration), orphan.getSlotDateTime(), withinCapacity);
+            if (target == null) {
+                target = takeNearest(others.get(duration), orphan.getSlotDateTime(), withinCapacity);
+            }
+            if (target == null) {
+                unplaced.add(orphan.getBookingId());
+                continue;
+            }
+            
+            String targetKey = weekKey(target.getInterviewer().getId(), target.getSlotDateTime());
+            if (!targetKey.equals(vacatedKey)) {
+                bookedByWeek.merge(targetKey, 1L, Long::sum);
+                bookedByWeek.merge(vacatedKey, -1L, Long::sum);
+            }
+            moves.add(RehomeResponse.Move.builder()
+                .bookingId(orphan.getBookingId())
+                .candidateEmail(orphan.getCandidateEmail())
+                .fromTimeSlotId(orphan.getTimeSlotId())
+                .fromSlotDateTime(orphan.getSlotDateTime())
+                .toTimeSlotId(target.getId())
+                .toInterviewerId(target.getInterviewer().getId())
+                .toSlotDateTime(target.getSlotDateTime())
+                .build());
+        }
+        log.info("Planned {} of {} orphaned bookings of interviewer {}", moves.size(), orphans.size(), interviewerId);
+        return response;
+    }
+    
+    // Walks outwards from the orphan's start, always taking the closer side first
+    private TimeSlot takeNearest(TreeMap<LocalDateTime, List<TimeSlot>> index, LocalDateTime at,
+                                 Predicate<TimeSlot> usable) {
+        if (index == null) {
+            return null;
+        }
+        Iterator<Map.Entry<LocalDateTime, List<TimeSlot>>> before = index.headMap(at, true).descendingMap().entrySet().iterator();
+        Iterator<Map.Entry<LocalDateTime, List<TimeSlot>>> after = index.tailMap(at, false).entrySet().iterator();
+        Map.Entry<LocalDateTime, List<TimeSlot>> lower = before.hasNext() ? before.next() : null;
+        Map.Entry<LocalDateTime, List<TimeSlot>> upper = after.hasNext() ? after.next() : null;
+        while (lower != null || upper != null) {
+            boolean takeLower = upper == null || (lower != null
+                && distance(lower.getKey(), at) <= distance(upper.getKey(), at));
+            Map.Entry<LocalDateTime, List<TimeSlot>> entry = takeLower ? lower : upper;
+            for (Iterator<TimeSlot> slots = entry.getValue().iterator(); slots.hasNext(); ) {
+                TimeSlot slot = slots.next();
+                if (usable.test(slot)) {
+                    slots.remove();
+                    if (entry.getValue().isEmpty()) {
+                        index.remove(entry.getKey());
+                    }
+                    return slot;
+                }
+            }
+            if (takeLower) {
+                lower = before.hasNext() ? before.next() : null;
+            } else {
+                upper = after.hasNext() ? after.next() : null;
+            }
+        }
+        return null;
+    }
+    
+    private long distance(LocalDateTime a, LocalDateTime b) {
+        return Math.abs(Duration.between(a, b).toMinutes());
+    }
+    
+    // A slot fits when it lies entirely inside one window on its weekday
+    static boolean fits(List<AvailabilitySlot> windows, LocalDateTime start, int durationMinutes) {
+        int startMinute = minuteOfDay(start.toLocalTime());
+        int endMinute = startMinute + durationMinutes;
+        for (AvailabilitySlot window : windows) {
+            if (window.getDayOfWeek() == start.getDayOfWeek()
+                    && startMinute >= minuteOfDay(window.getStartTime())
+                    && endMinute <= minuteOfDay(window.getEndTime())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static int minuteOfDay(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+    
+    private Map<String, Long> bookedByWeek(List<TimeSlot> free, Long interviewerId, LocalDateTime from, LocalDateTime to) {
+        Set<Long> interviewerIds = free.stream().map(slot -> slot.getInterviewer().getId()).collect(Collectors.toSet());
+        interviewerIds.add(interviewerId);
+        Map<String, Long> booked = new HashMap<>();
+        timeSlotRepository.findBookedSlotTimes(interviewerIds,
+                InterviewerCapacityTracker.weekStartOf(from), InterviewerCapacityTracker.weekStartOf(to).plusWeeks(1))
+            .forEach(row -> booked.merge(weekKey(row.getInterviewerId(), row.getSlotDateTime()), 1L, Long::sum));
+        return booked;
+    }
+    
+    private String weekKey(Long interviewerId, LocalDateTime slotDateTime) {
+        return interviewerId + "@" + InterviewerCapacityTracker.weekStartOf(slotDateTime);
+    }
+}
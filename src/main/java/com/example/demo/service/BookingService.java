@@ -6,32 +6,60 @@ import com.example.demo.domain.entity.TimeSlot;
 import com.example.demo.domain.repository.CandidateBookingRepository;
 import com.example.demo.domain.repository.InterviewerRepository;
 import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.AutoBookRequest;
 import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.dto.request.BulkCancelRequest;
+import com.example.demo.dto.request.PanelBookingRequest;
+import com.example.demo.dto.request.TimeWindowRequest;
 import com.example.demo.dto.request.UpdateBookingRequest;
 import com.example.demo.dto.response.BookingResponse;
+import com.example.demo.dto.response.CancellationResponse;
+import com.example.demo.dto.response.PanelBookingResponse;
+import com.example.demo.event.BookingChangedEvent;
+import com.example.demo.event.SlotReleasedEvent;
+import com.example.demo.event.SlotsCancelledEvent;
 import com.example.demo.exception.BusinessException;
 import com.example.demo.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.temporal.WeekFields;
-import java.util.Locale;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BookingService {
     
+    private static final int AUTO_BOOK_CLAIM_BATCH = 20;
+    
     private final TimeSlotRepository timeSlotRepository;
     private final CandidateBookingRepository bookingRepository;
     private final InterviewerRepository interviewerRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SlotHoldService slotHoldService;
     
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    // READ_COMMITTED, so the weekly count sees bookings committed while this one waited for the interviewer
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public BookingResponse bookSlot(BookSlotRequest request) {
         log.info("Booking slot {} for candidate: {}", request.getTimeSlotId(), request.getCandidateEmail());
         
@@ -44,49 +72,350 @@ public class BookingService {
         // Get time slot with optimistic lock
         TimeSlot timeSlot = timeSlotRepository.findById(request.getTimeSlotId())
             .orElseThrow(() -> new ResourceNotFoundException("Time slot not found with id: " + request.getTimeSlotId()));
+        lockInterviewers(List.of(timeSlot.getInterviewer().getId()));
         
-        // Validate slot is available
-        if (timeSlot.getStatus() != TimeSlot.TimeSlotStatus.AVAILABLE) {
+        // Validate slot is available, or held by this candidate
+        if (timeSlot.getStatus() == TimeSlot.TimeSlotStatus.HELD) {
+            slotHoldService.consumeHold(timeSlot, request.getHoldToken(), request.getCandidateEmail());
+        } else if (timeSlot.getStatus() != TimeSlot.TimeSlotStatus.AVAILABLE) {
             throw new BusinessException("Time slot is not available");
         }
         
-        // Check max interviews per week constraint
-        validateMaxInterviewsPerWeek(timeSlot.getInterviewer());
+        // Check max interviews per week constraint, in the week of the slot
+        validateMaxInterviewsPerWeek(timeSlot);
+        
+        return createBooking(timeSlot, request.getCandidateName(), request.getCandidateEmail());
+    }
+    
+    /**
+     * Books the earliest free slot inside the candidate's preferred windows, across all
+     * interviewers with weekly capacity left. Candidate slots are read without locks; the
+     * interviewer and then the slot are locked with SKIP LOCKED, so concurrent auto-bookers never
+     * wait on each other and a contended interviewer or slot just moves the search on. Runs at
+     * READ_COMMITTED so those locks take no gap locks.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public BookingResponse autoBook(AutoBookRequest request) {
+        log.info("Auto-booking earliest slot for candidate: {}", request.getCandidateEmail());
         
+        if (bookingRepository.existsByCandidateEmailAndTimeSlotStatus(
+                request.getCandidateEmail(), TimeSlot.TimeSlotStatus.BOOKED)) {
+            throw new BusinessException("Candidate already has an active booking");
+        }
+        
+        // Capacity is judged in each candidate slot's own week, as the batch paths do
+        Map<Long, Interviewer> locked = new HashMap<>();
+        Map<String, Boolean> capacityByWeek = new HashMap<>();
+        for (TimeWindowRequest window : mergeWindows(request.getWindows())) {
+            for (int page = 0; ; page++) {
+                List<TimeSlotRepository.SlotRef> found = timeSlotRepository.findAvailableSlotRefs(
+                    window.getStart(), window.getEnd(), PageRequest.of(page, AUTO_BOOK_CLAIM_BATCH));
+                for (TimeSlotRepository.SlotRef slot : found) {
+                    // A contended interviewer is not remembered, so its later slots try the lock again
+                    Interviewer interviewer = locked.computeIfAbsent(slot.getInterviewerId(),
+                        id -> interviewerRepository.tryLockById(id).orElse(null));
+                    if (interviewer == null) {
+                        continue;
+                    }
+                    LocalDateTime weekStart = InterviewerCapacityTracker.weekStartOf(slot.getSlotDateTime());
+                    if (!capacityByWeek.computeIfAbsent(interviewer.getId() + "@" + weekStart,
+                            key -> hasWeeklyCapacity(interviewer, weekStart))) {
+                        continue;
+                    }
+                    Optional<TimeSlot> claimed = timeSlotRepository.tryLockAvailableSlot(slot.getId());
+                    if (claimed.isPresent()) {
+                        return createBooking(claimed.get(), request.getCandidateName(), request.getCandidateEmail());
+                    }
+                }
+                if (found.size() < AUTO_BOOK_CLAIM_BATCH) {
+                    break;
+                }
+            }
+        }
+        throw new BusinessException("No available slot matches the requested windows");
+    }
+    
+    // Sorted, non-overlapping windows clipped to the future, so the first match is the earliest
+    private List<TimeWindowRequest> mergeWindows(List<TimeWindowRequest> windows) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TimeWindowRequest> sorted = windows.stream()
+            .filter(window -> window.getStart().isBefore(window.getEnd()) && window.getEnd().isAfter(now))
+            .sorted(Comparator.comparing(TimeWindowRequest::getStart))
+            .toList();
+        
+        List<TimeWindowRequest> merged = new ArrayList<>();
+        for (TimeWindowRequest window : sorted) {
+            TimeWindowRequest last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && !window.getStart().isAfter(last.getEnd())) {
+                if (window.getEnd().isAfter(last.getEnd())) {
+                    last.setEnd(window.getEnd());
+                }
+            } else {
+                TimeWindowRequest copy = new TimeWindowRequest();
+                copy.setStart(window.getStart().isBefore(now) ? now : window.getStart());
+                copy.setEnd(window.getEnd());
+                merged.add(copy);
+            }
+        }
+        return merged;
+    }
+    
+    private BookingResponse createBooking(TimeSlot timeSlot, String candidateName, String candidateEmail) {
         try {
             // Create booking
             CandidateBooking booking = CandidateBooking.builder()
                 .timeSlot(timeSlot)
-                .candidateName(request.getCandidateName())
-                .candidateEmail(request.getCandidateEmail())
+                .candidateName(candidateName)
+                .candidateEmail(candidateEmail)
                 .build();
             
-            // Update time slot status (this will trigger optimistic lock check)
+            // Claim the slot before inserting the booking: a losing booker then fails the version
+            // check instead of hitting the unique time_slot_id index or deadlocking with a reschedule
             timeSlot.setStatus(TimeSlot.TimeSlotStatus.BOOKED);
+            timeSlotRepository.saveAndFlush(timeSlot);
             
             CandidateBooking savedBooking = bookingRepository.save(booking);
-            timeSlotRepository.save(timeSlot);
             
             log.info("Slot booked successfully. Booking ID: {}", savedBooking.getId());
             
-            return BookingResponse.builder()
-                .bookingId(savedBooking.getId())
-                .timeSlotId(savedBooking.getTimeSlot().getId())
-                .candidateName(savedBooking.getCandidateName())
-                .candidateEmail(savedBooking.getCandidateEmail())
-                .bookingDateTime(savedBooking.getBookingDateTime())
-                .updatedAt(savedBooking.getUpdatedAt())
-                .slotDateTime(savedBooking.getTimeSlot().getSlotDateTime())
-                .build();
-        } catch (ObjectOptimisticLockingFailureException e) {
-            log.warn("Optimistic lock failure while booking slot: {}", request.getTimeSlotId());
+            return publishBooked(savedBooking);
+        } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException e) {
+            // The unique time_slot_id index is the last line of defence against a double booking
+            log.warn("Optimistic lock failure while booking slot: {}", timeSlot.getId());
             throw new com.example.demo.exception.ConcurrentModificationException(
                 "Slot was modified by another transaction. Please try again."
             );
         }
     }
     
-    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    /**
+     * Books pre-assigned slots in one transaction, locking their interviewers and then the slots
+     * in id order. Claims whose slot
+     * is no longer available, whose interviewer week is full or whose candidate already has a
+     * booking are skipped; the result holds only the bookings that were made.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public List<BookingResponse> bookSlotBatch(List<SlotClaim> claims) {
+        if (claims.isEmpty()) {
+            return List.of();
+        }
+        
+        Map<Long, SlotClaim> claimsBySlot = new HashMap<>();
+        claims.forEach(claim -> claimsBySlot.putIfAbsent(claim.getTimeSlotId(), claim));
+        Set<String> bookedCandidates = new HashSet<>(bookingRepository.findCandidateEmailsWithSlotStatus(
+            claims.stream().map(SlotClaim::getCandidateEmail).toList(), TimeSlot.TimeSlotStatus.BOOKED));
+        
+        Map<String, Long> weeklyBooked = new HashMap<>();
+        List<CandidateBooking> bookings = new ArrayList<>();
+        List<TimeSlot> bookedSlots = new ArrayList<>();
+        lockInterviewers(timeSlotRepository.findInterviewerIdsBySlotIds(claimsBySlot.keySet()));
+        for (TimeSlot timeSlot : timeSlotRepository.lockSlotsById(claimsBySlot.keySet())) {
+            SlotClaim claim = claimsBySlot.get(timeSlot.getId());
+            if (timeSlot.getStatus() != TimeSlot.TimeSlotStatus.AVAILABLE
+                    || !bookedCandidates.add(claim.getCandidateEmail())) {
+                continue;
+            }
+            
+            Interviewer interviewer = timeSlot.getInterviewer();
+            LocalDateTime weekStart = InterviewerCapacityTracker.weekStartOf(timeSlot.getSlotDateTime());
+            String weekKey = interviewer.getId() + "@" + weekStart;
+            long booked = weeklyBooked.computeIfAbsent(weekKey, key ->
+                timeSlotRepository.countBookedSlotsForWeek(interviewer.getId(), weekStart, weekStart.plusWeeks(1)));
+            if (booked >= interviewer.getMaxInterviewsPerWeek()) {
+                bookedCandidates.remove(claim.getCandidateEmail());
+                continue;
+            }
+            weeklyBooked.put(weekKey, booked + 1);
+            
+            timeSlot.setStatus(TimeSlot.TimeSlotStatus.BOOKED);
+            bookedSlots.add(timeSlot);
+            bookings.add(CandidateBooking.builder()
+                .timeSlot(timeSlot)
+                .candidateName(claim.getCandidateName())
+                .candidateEmail(claim.getCandidateEmail())
+                .build());
+        }
+        
+        List<CandidateBooking> saved = bookingRepository.saveAll(bookings);
+        timeSlotRepository.saveAll(bookedSlots);
+        log.info("Batch booked {} of {} claimed slots", saved.size(), claims.size());
+        return saved.stream().map(this::publishBooked).toList();
+    }
+    
+    /**
+     * Moves bookings to planned slots in one transaction, locking the target interviewers and
+     * then every slot involved in id order. Each move claims its target with a guarded update and retires the vacated slot as
+     * CANCELLED, since it no longer lies inside the interviewer's availability. Moves whose
+     * target was taken, whose interviewer week is full or whose booking changed are skipped;
+     * the result holds the ids of the bookings that were moved.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public List<Long> moveBookingBatch(List<SlotMove> moves) {
+        if (moves.isEmpty()) {
+            return List.of();
+        }
+        
+        Set<Long> slotIds = new HashSet<>();
+        moves.forEach(move -> {
+            slotIds.add(move.getFromSlotId());
+            slotIds.add(move.getToSlotId());
+        });
+        lockInterviewers(timeSlotRepository.findInterviewerIdsBySlotIds(
+            moves.stream().map(SlotMove::getToSlotId).toList()));
+        Map<Long, TimeSlot> locked = new HashMap<>();
+        timeSlotRepository.lockSlotsById(slotIds).forEach(slot -> locked.put(slot.getId(), slot));
+        Map<Long, CandidateBooking> bookings = new HashMap<>();
+        bookingRepository.findAllById(moves.stream().map(SlotMove::getBookingId).toList())
+            .forEach(booking -> bookings.put(booking.getId(), booking));
+        
+        LocalDateTime now = LocalDateTime.now();
+        Map<String, Long> weeklyBooked = new HashMap<>();
+        List<Long> moved = new ArrayList<>();
+        for (SlotMove move : moves) {
+            TimeSlot from = locked.get(move.getFromSlotId());
+            TimeSlot to = locked.get(move.getToSlotId());
+            CandidateBooking booking = bookings.get(move.getBookingId());
+            if (from == null || to == null || booking == null || to.getStatus() != TimeSlot.TimeSlotStatus.AVAILABLE) {
+                continue;
+            }
+            
+            // A move inside the same interviewer week leaves that week's count unchanged
+            Interviewer interviewer = to.getInterviewer();
+            LocalDateTime weekStart = InterviewerCapacityTracker.weekStartOf(to.getSlotDateTime());
+            String weekKey = interviewer.getId() + "@" + weekStart;
+            String vacatedKey = from.getInterviewer().getId() + "@" + InterviewerCapacityTracker.weekStartOf(from.getSlotDateTime());
+            boolean sameWeek = weekKey.equals(vacatedKey);
+            long booked = weeklyBooked.computeIfAbsent(weekKey, key ->
+                timeSlotRepository.countBookedSlotsForWeek(interviewer.getId(), weekStart, weekStart.plusWeeks(1)));
+            if (!sameWeek && booked >= interviewer.getMaxInterviewsPerWeek()) {
+                continue;
+            }
+            
+            if (timeSlotRepository.claimAvailableSlot(to.getId()) != 1) {
+                continue;
+            }
+            if (bookingRepository.moveToSlot(booking.getId(), from.getId(), to, booking.getCandidateName(), now) != 1) {
+                timeSlotRepository.releaseBookedSlot(to.getId());
+                continue;
+            }
+            timeSlotRepository.cancelBookedSlots(List.of(from.getId()));
+            if (!sameWeek) {
+                weeklyBooked.put(weekKey, booked + 1);
+                weeklyBooked.computeIfPresent(vacatedKey, (key, count) -> count - 1);
+            }
+            moved.add(booking.getId());
+            
+            eventPublisher.publishEvent(BookingChangedEvent.builder()
+                .type(BookingChangedEvent.ChangeType.RESCHEDULED)
+                .bookingId(booking.getId())
+                .candidateEmail(booking.getCandidateEmail())
+                .timeSlotId(to.getId())
+                .interviewerId(interviewer.getId())
+                .slotDateTime(to.getSlotDateTime())
+                .previousTimeSlotId(from.getId())
+                .previousInterviewerId(from.getInterviewer().getId())
+                .previousSlotDateTime(from.getSlotDateTime())
+                .build());
+        }
+        
+        log.info("Batch moved {} of {} planned bookings", moved.size(), moves.size());
+        return moved;
+    }
+    
+    private BookingResponse publishBooked(CandidateBooking booking) {
+        TimeSlot timeSlot = booking.getTimeSlot();
+        eventPublisher.publishEvent(BookingChangedEvent.builder()
+            .type(BookingChangedEvent.ChangeType.BOOKED)
+            .bookingId(booking.getId())
+            .candidateEmail(booking.getCandidateEmail())
+            .timeSlotId(timeSlot.getId())
+            .interviewerId(timeSlot.getInterviewer().getId())
+            .slotDateTime(timeSlot.getSlotDateTime())
+            .build());
+        
+        return BookingResponse.builder()
+            .bookingId(booking.getId())
+            .timeSlotId(timeSlot.getId())
+            .candidateName(booking.getCandidateName())
+            .candidateEmail(booking.getCandidateEmail())
+            .bookingDateTime(booking.getBookingDateTime())
+            .updatedAt(booking.getUpdatedAt())
+            .slotDateTime(timeSlot.getSlotDateTime())
+            .build();
+    }
+    
+    /**
+     * Books one slot per panel interviewer at the same start time, all or nothing. The
+     * interviewers and then their slots are locked in id order and the bookings share a panel id.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public PanelBookingResponse bookPanel(PanelBookingRequest request) {
+        log.info("Booking panel of interviewers {} at {} for candidate: {}",
+            request.getInterviewerIds(), request.getSlotDateTime(), request.getCandidateEmail());
+        
+        List<Long> interviewerIds = request.getInterviewerIds().stream().distinct().toList();
+        if (interviewerIds.size() != request.getInterviewerIds().size()) {
+            throw new BusinessException("Panel interviewers must be distinct");
+        }
+        if (bookingRepository.existsByCandidateEmailAndTimeSlotStatus(
+                request.getCandidateEmail(), TimeSlot.TimeSlotStatus.BOOKED)) {
+            throw new BusinessException("Candidate already has an active booking");
+        }
+        
+        int duration = PanelAvailabilityIndex.durationOf(request.getDurationMinutes());
+        Map<Long, TimeSlot> slotByInterviewer = new LinkedHashMap<>();
+        lockInterviewers(interviewerIds);
+        for (TimeSlot timeSlot : timeSlotRepository.lockSlotsAt(interviewerIds, request.getSlotDateTime())) {
+            if (timeSlot.getStatus() == TimeSlot.TimeSlotStatus.AVAILABLE
+                    && PanelAvailabilityIndex.durationOf(timeSlot.getDurationMinutes()) == duration) {
+                slotByInterviewer.putIfAbsent(timeSlot.getInterviewer().getId(), timeSlot);
+            }
+        }
+        if (slotByInterviewer.size() != interviewerIds.size()) {
+            throw new BusinessException("Not every panel interviewer has an available slot at the requested time");
+        }
+        
+        String panelId = UUID.randomUUID().toString();
+        List<CandidateBooking> bookings = new ArrayList<>();
+        for (TimeSlot timeSlot : slotByInterviewer.values()) {
+            Interviewer interviewer = timeSlot.getInterviewer();
+            LocalDateTime weekStart = InterviewerCapacityTracker.weekStartOf(timeSlot.getSlotDateTime());
+            if (timeSlotRepository.countBookedSlotsForWeek(interviewer.getId(), weekStart, weekStart.plusWeeks(1))
+                    >= interviewer.getMaxInterviewsPerWeek()) {
+                throw new BusinessException(String.format(
+                    "Interviewer %d has reached maximum interviews per week limit (%d)",
+                    interviewer.getId(), interviewer.getMaxInterviewsPerWeek()));
+            }
+            timeSlot.setStatus(TimeSlot.TimeSlotStatus.BOOKED);
+            bookings.add(CandidateBooking.builder()
+                .timeSlot(timeSlot)
+                .candidateName(request.getCandidateName())
+                .candidateEmail(request.getCandidateEmail())
+                .panelId(panelId)
+                .build());
+        }
+        
+        List<CandidateBooking> saved = bookingRepository.saveAll(bookings);
+        timeSlotRepository.saveAll(slotByInterviewer.values());
+        log.info("Panel booked successfully. Panel ID: {}", panelId);
+        
+        return PanelBookingResponse.builder()
+            .panelId(panelId)
+            .slotDateTime(request.getSlotDateTime())
+            .durationMinutes(duration)
+            .bookings(saved.stream().map(this::publishBooked).toList())
+            .build();
+    }
+    
+    /**
+     * Moves a booking to another slot. Everything that needs no lock is validated first; then
+     * the new interviewer is locked if the move enters another interviewer week, and both slot
+     * rows are locked in ascending id order (so opposing moves cannot deadlock), the
+     * new slot is claimed with a guarded update, the booking is moved only if it still sits on
+     * the old slot, and the old slot is released. Runs at READ_COMMITTED so the guards see the
+     * latest committed rows rather than a snapshot taken before the locks were granted.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public BookingResponse updateBooking(UpdateBookingRequest request) {
         log.info("Updating booking {} to new slot {}", request.getBookingId(), request.getNewTimeSlotId());
         
@@ -98,60 +427,224 @@ public class BookingService {
         if (!existingBooking.getCandidateEmail().equals(request.getCandidateEmail())) {
             throw new BusinessException("Candidate email does not match booking");
         }
+        if (existingBooking.getPanelId() != null) {
+            throw new BusinessException("Panel bookings cannot be moved individually");
+        }
         
-        // Get old time slot and release it
-        TimeSlot oldTimeSlot = existingBooking.getTimeSlot();
-        oldTimeSlot.setStatus(TimeSlot.TimeSlotStatus.AVAILABLE);
-        timeSlotRepository.save(oldTimeSlot);
+        Long oldSlotId = existingBooking.getTimeSlot().getId();
+        Long newSlotId = request.getNewTimeSlotId();
+        if (oldSlotId.equals(newSlotId)) {
+            throw new BusinessException("Booking is already on this time slot");
+        }
+        
+        // Fail fast without taking locks
+        TimeSlotRepository.SlotRef newSlot = timeSlotRepository.findSlotRefById(newSlotId)
+            .orElseThrow(() -> new ResourceNotFoundException("Time slot not found with id: " + newSlotId));
+        if (newSlot.getStatus() != TimeSlot.TimeSlotStatus.AVAILABLE) {
+            throw new BusinessException("New time slot is not available");
+        }
         
-        // Get new time slot
-        TimeSlot newTimeSlot = timeSlotRepository.findById(request.getNewTimeSlotId())
-            .orElseThrow(() -> new ResourceNotFoundException("Time slot not found with id: " + request.getNewTimeSlotId()));
+        // A move inside one interviewer week leaves that week's count unchanged and needs no guard
+        TimeSlot bookedSlot = existingBooking.getTimeSlot();
+        if (!newSlot.getInterviewerId().equals(bookedSlot.getInterviewer().getId())
+                || !InterviewerCapacityTracker.weekStartOf(newSlot.getSlotDateTime())
+                    .equals(InterviewerCapacityTracker.weekStartOf(bookedSlot.getSlotDateTime()))) {
+            lockInterviewers(List.of(newSlot.getInterviewerId()));
+        }
         
-        // Validate new slot is available
-        if (newTimeSlot.getStatus() != TimeSlot.TimeSlotStatus.AVAILABLE) {
+        Map<Long, TimeSlot> locked = new HashMap<>();
+        timeSlotRepository.lockSlotsById(List.of(oldSlotId, newSlotId)).forEach(slot -> locked.put(slot.getId(), slot));
+        TimeSlot oldTimeSlot = locked.get(oldSlotId);
+        TimeSlot newTimeSlot = locked.get(newSlotId);
+        if (newTimeSlot == null) {
+            throw new ResourceNotFoundException("Time slot not found with id: " + newSlotId);
+        }
+        if (oldTimeSlot == null) {
+            throw new com.example.demo.exception.ConcurrentModificationException(
+                "Booking was modified by another transaction. Please try again.");
+        }
+        
+        // Check max interviews per week constraint; the slot being vacated no longer counts
+        validateRescheduleCapacity(newTimeSlot, oldTimeSlot);
+        
+        if (timeSlotRepository.claimAvailableSlot(newSlotId) != 1) {
             throw new BusinessException("New time slot is not available");
         }
+        LocalDateTime now = LocalDateTime.now();
+        if (bookingRepository.moveToSlot(existingBooking.getId(), oldSlotId, newTimeSlot, request.getCandidateName(), now) != 1
+                || timeSlotRepository.releaseBookedSlot(oldSlotId) != 1) {
+            throw new com.example.demo.exception.ConcurrentModificationException(
+                "Booking was modified by another transaction. Please try again.");
+        }
         
-        // Check max interviews per week constraint
-        validateMaxInterviewsPerWeek(newTimeSlot.getInterviewer());
+        log.info("Booking updated successfully. Booking ID: {}", existingBooking.getId());
         
-        try {
-            // Update booking
-            existingBooking.setTimeSlot(newTimeSlot);
-            existingBooking.setCandidateName(request.getCandidateName());
-            
-            newTimeSlot.setStatus(TimeSlot.TimeSlotStatus.BOOKED);
-            
-            CandidateBooking updatedBooking = bookingRepository.save(existingBooking);
-            timeSlotRepository.save(newTimeSlot);
-            
-            log.info("Booking updated successfully. Booking ID: {}", updatedBooking.getId());
+        eventPublisher.publishEvent(BookingChangedEvent.builder()
+            .type(BookingChangedEvent.ChangeType.RESCHEDULED)
+            .bookingId(existingBooking.getId())
+            .candidateEmail(existingBooking.getCandidateEmail())
+            .timeSlotId(newSlotId)
+            .interviewerId(newTimeSlot.getInterviewer().getId())
+            .slotDateTime(newTimeSlot.getSlotDateTime())
+            .previousTimeSlotId(oldSlotId)
+            .previousInterviewerId(oldTimeSlot.getInterviewer().getId())
+            .previousSlotDateTime(oldTimeSlot.getSlotDateTime())
+            .build());
+        eventPublisher.publishEvent(SlotReleasedEvent.builder()
+            .timeSlotId(oldSlotId)
+            .interviewerId(oldTimeSlot.getInterviewer().getId())
+            .slotDateTime(oldTimeSlot.getSlotDateTime())
+            .build());
+        
+        return BookingResponse.builder()
+            .bookingId(existingBooking.getId())
+            .timeSlotId(newSlotId)
+            .candidateName(request.getCandidateName())
+            .candidateEmail(existingBooking.getCandidateEmail())
+            .bookingDateTime(existingBooking.getBookingDateTime())
+            .updatedAt(now)
+            .slotDateTime(newTimeSlot.getSlotDateTime())
+            .build();
+    }
+    
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public CancellationResponse cancelBooking(Long bookingId, String candidateEmail, boolean releaseSlot) {
+        log.info("Cancelling booking {}", bookingId);
+        
+        CandidateBookingRepository.BookingSlotRef booking = bookingRepository.findBookingSlotRef(bookingId)
+            .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
+        
+        if (!booking.getCandidateEmail().equals(candidateEmail)) {
+            throw new BusinessException("Candidate email does not match booking");
+        }
+        
+        return cancel(List.of(booking), releaseSlot);
+    }
+    
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public CancellationResponse cancelBookings(BulkCancelRequest request) {
+        log.info("Cancelling bookings of interviewer {} between {} and {}",
+            request.getInterviewerId(), request.getFrom(), request.getTo());
+        
+        if (!request.getFrom().isBefore(request.getTo())) {
+            throw new BusinessException("Range start must be before range end");
+        }
+        if (!interviewerRepository.existsById(request.getInterviewerId())) {
+            throw new ResourceNotFoundException("Interviewer not found with id: " + request.getInterviewerId());
+        }
+        
+        List<CandidateBookingRepository.BookingSlotRef> bookings = bookingRepository.findActiveBookingsForInterviewer(
+            request.getInterviewerId(), request.getFrom(), request.getTo());
+        
+        return cancel(bookings, request.isReleaseSlots());
+    }
+    
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public CancellationResponse cancelPanel(String panelId, String candidateEmail, boolean releaseSlots) {
+        log.info("Cancelling panel {}", panelId);
+        
+        List<CandidateBookingRepository.BookingSlotRef> bookings = bookingRepository.findBookingSlotRefsByPanelIds(List.of(panelId));
+        if (bookings.isEmpty()) {
+            throw new ResourceNotFoundException("Panel not found with id: " + panelId);
+        }
+        if (!bookings.get(0).getCandidateEmail().equals(candidateEmail)) {
+            throw new BusinessException("Candidate email does not match booking");
+        }
+        
+        return cancel(bookings, releaseSlots);
+    }
+    
+    private CancellationResponse cancel(List<CandidateBookingRepository.BookingSlotRef> bookings, boolean releaseSlots) {
+        bookings = withPanelMembers(bookings);
+        List<Long> bookingIds = bookings.stream().map(CandidateBookingRepository.BookingSlotRef::getBookingId).toList();
+        List<Long> slotIds = bookings.stream().map(CandidateBookingRepository.BookingSlotRef::getTimeSlotId).toList();
+        
+        if (!bookings.isEmpty()) {
+            // Weekly capacity counts BOOKED slots, so moving them to CANCELLED frees the capacity
+            int cancelledSlots = timeSlotRepository.cancelBookedSlots(slotIds);
+            if (cancelledSlots != slotIds.size()) {
+                throw new com.example.demo.exception.ConcurrentModificationException(
+                    "Bookings were modified by another transaction. Please try again."
+                );
+            }
+            bookingRepository.deleteByIds(bookingIds);
             
-            return BookingResponse.builder()
-                .bookingId(updatedBooking.getId())
-                .timeSlotId(updatedBooking.getTimeSlot().getId())
-                .candidateName(updatedBooking.getCandidateName())
-                .candidateEmail(updatedBooking.getCandidateEmail())
-                .bookingDateTime(updatedBooking.getBookingDateTime())
-                .updatedAt(updatedBooking.getUpdatedAt())
-                .slotDateTime(updatedBooking.getTimeSlot().getSlotDateTime())
-                .build();
-        } catch (ObjectOptimisticLockingFailureException e) {
-            log.warn("Optimistic lock failure while updating booking: {}", request.getBookingId());
-            throw new com.example.demo.exception.ConcurrentModificationException(
-                "Slot was modified by another transaction. Please try again."
+            bookings.forEach(booking -> eventPublisher.publishEvent(BookingChangedEvent.builder()
+                .type(BookingChangedEvent.ChangeType.CANCELLED)
+                .bookingId(booking.getBookingId())
+                .candidateEmail(booking.getCandidateEmail())
+                .timeSlotId(booking.getTimeSlotId())
+                .interviewerId(booking.getInterviewerId())
+                .slotDateTime(booking.getSlotDateTime())
+                .build()));
+            eventPublisher.publishEvent(SlotsCancelledEvent.builder()
+                .timeSlotIds(slotIds)
+                .recycle(releaseSlots)
+                .build());
+        }
+        
+        log.info("Cancelled {} bookings", bookingIds.size());
+        
+        return CancellationResponse.builder()
+            .cancelledBookings(bookingIds.size())
+            .bookingIds(bookingIds)
+            .slotsReleased(releaseSlots)
+            .build();
+    }
+    
+    // A panel interview is cancelled as a whole, whichever member booking was targeted
+    private List<CandidateBookingRepository.BookingSlotRef> withPanelMembers(List<CandidateBookingRepository.BookingSlotRef> bookings) {
+        List<String> panelIds = bookings.stream()
+            .map(CandidateBookingRepository.BookingSlotRef::getPanelId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        if (panelIds.isEmpty()) {
+            return bookings;
+        }
+        Map<Long, CandidateBookingRepository.BookingSlotRef> byId = new LinkedHashMap<>();
+        bookings.forEach(booking -> byId.put(booking.getBookingId(), booking));
+        bookingRepository.findBookingSlotRefsByPanelIds(panelIds)
+            .forEach(booking -> byId.putIfAbsent(booking.getBookingId(), booking));
+        return new ArrayList<>(byId.values());
+    }
+    
+    private void validateMaxInterviewsPerWeek(TimeSlot timeSlot) {
+        Interviewer interviewer = timeSlot.getInterviewer();
+        if (!hasWeeklyCapacity(interviewer, InterviewerCapacityTracker.weekStartOf(timeSlot.getSlotDateTime()))) {
+            throw new BusinessException(
+                String.format("Interviewer has reached maximum interviews per week limit (%d)", 
+                    interviewer.getMaxInterviewsPerWeek())
             );
         }
     }
     
-    private void validateMaxInterviewsPerWeek(Interviewer interviewer) {
-        LocalDateTime now = LocalDateTime.now();
-        WeekFields weekFields = WeekFields.of(Locale.getDefault());
-        
-        // Get the start of the current week (Monday)
-        LocalDateTime weekStart = now.with(weekFields.dayOfWeek(), 1)
-            .withHour(0).withMinute(0).withSecond(0).withNano(0);
+    private void validateRescheduleCapacity(TimeSlot newSlot, TimeSlot vacatedSlot) {
+        Interviewer interviewer = newSlot.getInterviewer();
+        LocalDateTime weekStart = InterviewerCapacityTracker.weekStartOf(newSlot.getSlotDateTime());
+        long booked = timeSlotRepository.countBookedSlotsForWeek(interviewer.getId(), weekStart, weekStart.plusWeeks(1));
+        if (vacatedSlot.getInterviewer().getId().equals(interviewer.getId())
+                && !vacatedSlot.getSlotDateTime().isBefore(weekStart)
+                && vacatedSlot.getSlotDateTime().isBefore(weekStart.plusWeeks(1))) {
+            booked--;
+        }
+        if (booked >= interviewer.getMaxInterviewsPerWeek()) {
+            throw new BusinessException(
+                String.format("Interviewer has reached maximum interviews per week limit (%d)", 
+                    interviewer.getMaxInterviewsPerWeek())
+            );
+        }
+    }
+    
+    // Every booking path locks the interviewer rows before any slot row, so two bookings of one
+    // interviewer take turns counting its week instead of both finding it under the limit
+    private void lockInterviewers(Collection<Long> interviewerIds) {
+        if (!interviewerIds.isEmpty()) {
+            interviewerRepository.lockAllById(interviewerIds);
+        }
+    }
+    
+    private boolean hasWeeklyCapacity(Interviewer interviewer, LocalDateTime weekStart) {
         LocalDateTime weekEnd = weekStart.plusWeeks(1);
         
         Long bookedCount = timeSlotRepository.countBookedSlotsForWeek(
@@ -160,14 +653,24 @@ public class BookingService {
             weekEnd
         );
         
-        if (bookedCount >= interviewer.getMaxInterviewsPerWeek()) {
-            throw new BusinessException(
-                String.format("Interviewer has reached maximum interviews per week limit (%d)", 
-                    interviewer.getMaxInterviewsPerWeek())
-            );
-        }
+        return bookedCount < interviewer.getMaxInterviewsPerWeek();
+    }
+    
+    @Value
+    public static class SlotClaim {
+        Long timeSlotId;
+        String candidateName;
+        String candidateEmail;
     }
     
+    @Value
+    public static class SlotMove {
+        Long bookingId;
+        Long fromSlotId;
+        Long toSlotId;
+    }
+    
+    @Transactional(readOnly = true)
     public BookingResponse getBookingById(Long bookingId) {
         CandidateBooking booking = bookingRepository.findById(bookingId)
             .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + bookingId));
@@ -182,5 +685,9 @@ public class BookingService {
             .slotDateTime(booking.getTimeSlot().getSlotDateTime())
             .build();
     }
-}
-
+    
+    @Transactional(readOnly = true)
+    public boolean hasActiveBooking(String candidateEmail) {
+        return bookingRepository.existsByCandidateEmailAndTimeSlotStatus(candidateEmail, TimeSlot.TimeSlotStatus.BOOKED);
+    }
+}
\ No newline at end of file
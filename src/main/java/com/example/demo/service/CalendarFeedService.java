@@ -0,0 +1,270 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.event.BookingChangedEvent;
+import com.example.demo.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves per-interviewer iCalendar feeds. Validators (ETag / Last-Modified) and a short
+ * change log are kept in memory per interviewer and advanced by committed booking changes,
+ * so conditional polls and sync-token deltas are answered without a full feed query.
+ * <p>
+ * Versions only mean something to the instance that issued them, so ETags and sync tokens
+ * carry a random epoch chosen at start-up. Those from another epoch (an earlier run, or
+ * another node) never match and are answered with the full feed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CalendarFeedService {
+    
+    private static final DateTimeFormatter ICAL_LOCAL = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final DateTimeFormatter ICAL_UTC = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+        .withZone(ZoneOffset.UTC);
+    private static final int CHANGE_LOG_SIZE = 256;
+    
+    private static final String SLOT_COLUMNS =
+        "SELECT ts.id, ts.slot_date_time, ts.status, ts.version, cb.candidate_name, cb.candidate_email, " +
+        "ts.duration_minutes " +
+        "FROM time_slots ts LEFT JOIN candidate_bookings cb ON cb.time_slot_id = ts.id ";
+    
+    private static final String FULL_FEED_SQL = SLOT_COLUMNS +
+        "WHERE ts.interviewer_id = :interviewerId AND ts.status = 'BOOKED' AND ts.slot_date_time >= :since " +
+        "ORDER BY ts.slot_date_time, ts.id";
+    
+    private static final String DELTA_FEED_SQL = SLOT_COLUMNS +
+        "WHERE ts.interviewer_id = :interviewerId AND ts.id IN (:slotIds) " +
+        "ORDER BY ts.slot_date_time, ts.id";
+    
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final InterviewerRepository interviewerRepository;
+    
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, FeedState> feeds = new ConcurrentHashMap<>();
+    
+    @Value("${calendar.event-duration-minutes:60}")
+    private int eventDurationMinutes;
+    
+    @Value("${calendar.history-days:30}")
+    private int historyDays;
+    
+    /**
+     * Snapshot of an interviewer's feed validators, taken before streaming so the response
+     * headers describe (at least) the data that follows.
+     */
+    public record FeedVersion(String epoch, long interviewerId, long version, Instant lastModified,
+                              Set<Long> changedSlotIds) {
+        
+        public String syncToken() {
+            return epoch + "." + version;
+        }
+        
+        public String etag(String syncToken) {
+            return "\"" + epoch + "-" + interviewerId + "-" + version
+                + (syncToken == null ? "" : "-" + syncToken) + "\"";
+        }
+        
+        public boolean isDelta() {
+            return changedSlotIds != null;
+        }
+    }
+    
+    /**
+     * Resolves the current feed version. When {@code syncToken} was issued by this instance and
+     * is still covered by the change log, the returned version carries the slot ids changed since
+     * that token.
+     */
+    public FeedVersion currentVersion(Long interviewerId, String syncToken) {
+        FeedState state = feeds.computeIfAbsent(interviewerId, this::newFeedState);
+        return state.snapshot(epoch, sequenceOf(syncToken));
+    }
+    
+    public void writeCalendar(FeedVersion feedVersion, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+        try {
+            line(writer, "BEGIN:VCALENDAR");
+            line(writer, "VERSION:2.0");
+            line(writer, "PRODID:-//Interview Scheduler//Interviewer Calendar//EN");
+            line(writer, "CALSCALE:GREGORIAN");
+            line(writer, "X-WR-CALNAME:Interviews");
+            line(writer, "X-SYNC-TOKEN:" + feedVersion.syncToken());
+            
+            String dtStamp = ICAL_UTC.format(feedVersion.lastModified());
+            MapSqlParameterSource params = new MapSqlParameterSource("interviewerId", feedVersion.interviewerId());
+            String sql;
+            if (feedVersion.isDelta()) {
+                if (feedVersion.changedSlotIds().isEmpty()) {
+                    line(writer, "END:VCALENDAR");
+                    writer.flush();
+                    return;
+                }
+                sql = DELTA_FEED_SQL;
+                params.addValue("slotIds", feedVersion.changedSlotIds());
+            } else {
+                sql = FULL_FEED_SQL;
+                params.addValue("since", Timestamp.valueOf(LocalDateTime.now().minusDays(historyDays)));
+            }
+            
+            jdbcTemplate.query(sql, params, rs -> {
+                try {
+                    writeEvent(writer, rs, dtStamp);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            
+            line(writer, "END:VCALENDAR");
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        touch(event.getInterviewerId(), event.getTimeSlotId());
+        if (event.getPreviousTimeSlotId() != null) {
+            touch(event.getPreviousInterviewerId(), event.getPreviousTimeSlotId());
+        }
+    }
+    
+    private void touch(Long interviewerId, Long timeSlotId) {
+        if (interviewerId == null) {
+            return;
+        }
+        FeedState state = feeds.get(interviewerId);
+        if (state != null) {
+            state.recordChange(sequence.incrementAndGet(), timeSlotId);
+        }
+        // Interviewers without state have no cached validators to invalidate
+    }
+    
+    private FeedState newFeedState(Long interviewerId) {
+        if (!interviewerRepository.existsById(interviewerId)) {
+            throw new ResourceNotFoundException("Interviewer not found with id: " + interviewerId);
+        }
+        return new FeedState(interviewerId, sequence.incrementAndGet());
+    }
+    
+    private Long sequenceOf(String syncToken) {
+        if (syncToken == null || !syncToken.startsWith(epoch + ".")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(syncToken.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    private void writeEvent(Writer writer, ResultSet rs, String dtStamp) throws SQLException, IOException {
+        long slotId = rs.getLong(1);
+        LocalDateTime start = rs.getTimestamp(2).toLocalDateTime();
+        boolean booked = TimeSlot.TimeSlotStatus.BOOKED.name().equals(rs.getString(3))
+            && rs.getString(5) != null;
+        
+        line(writer, "BEGIN:VEVENT");
+        line(writer, "UID:timeslot-" + slotId + "@interview-scheduler");
+        line(writer, "DTSTAMP:" + dtStamp);
+        line(writer, "DTSTART:" + start.format(ICAL_LOCAL));
+        int duration = rs.getInt(7);
+        if (rs.wasNull()) {
+            duration = eventDurationMinutes;
+        }
+        line(writer, "DTEND:" + start.plusMinutes(duration).format(ICAL_LOCAL));
+        line(writer, "SEQUENCE:" + rs.getLong(4));
+        if (booked) {
+            line(writer, "STATUS:CONFIRMED");
+            line(writer, "SUMMARY:" + escape("Interview with " + rs.getString(5)));
+            line(writer, "DESCRIPTION:" + escape("Candidate: " + rs.getString(5) + " <" + rs.getString(6) + ">"));
+        } else {
+            line(writer, "STATUS:CANCELLED");
+            line(writer, "SUMMARY:Cancelled interview");
+        }
+        line(writer, "END:VEVENT");
+    }
+    
+    private static void line(Writer writer, String content) throws IOException {
+        writer.write(content);
+        writer.write("\r\n");
+    }
+    
+    private static String escape(String text) {
+        return text.replace("\\", "\\\\")
+            .replace(";", "\\;")
+            .replace(",", "\\,")
+            .replace("\r", "")
+            .replace("\n", "\\n");
+    }
+    
+    private static class FeedState {
+        
+        private final long interviewerId;
+        private final Deque<long[]> changeLog = new ArrayDeque<>(); // {sequence, timeSlotId}
+        private long version;
+        private long logFloor; // Oldest sync token the change log can still answer
+        private Instant lastModified;
+        
+        FeedState(long interviewerId, long version) {
+            this.interviewerId = interviewerId;
+            this.version = version;
+            this.logFloor = version;
+            this.lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        }
+        
+        synchronized void recordChange(long sequence, Long timeSlotId) {
+            version = sequence;
+            lastModified = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+            changeLog.addLast(new long[] {sequence, timeSlotId});
+            while (changeLog.size() > CHANGE_LOG_SIZE) {
+                logFloor = changeLog.removeFirst()[0];
+            }
+        }
+        
+        synchronized FeedVersion snapshot(String epoch, Long syncToken) {
+            if (syncToken == null || syncToken < logFloor || syncToken > version) {
+                return new FeedVersion(epoch, interviewerId, version, lastModified, null);
+            }
+            Set<Long> changed = new LinkedHashSet<>();
+            for (long[] change : changeLog) {
+                if (change[0] > syncToken) {
+                    changed.add(change[1]);
+                }
+            }
+            return new FeedVersion(epoch, interviewerId, version, lastModified, changed);
+        }
+    }
+}
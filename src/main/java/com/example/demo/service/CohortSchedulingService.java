@@ -0,0 +1,297 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.CohortCandidateRequest;
+import com.example.demo.dto.request.CohortScheduleRequest;
+import com.example.demo.dto.request.TimeWindowRequest;
+import com.example.demo.dto.response.BookingResponse;
+import com.example.demo.dto.response.CohortScheduleResponse;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.sharding.ShardRouter;
+import com.example.demo.util.MinCostFlow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Places a whole cohort of candidates at once. Candidates, available slots and
+ * (interviewer, week) capacities form a flow network: source -> candidate (1) -> slot (1, cost =
+ * rank of the preferred window) -> interviewer week (remaining weekly capacity) -> sink. A
+ * min-cost max-flow gives the largest possible fill and, among those, the best preference match.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CohortSchedulingService {
+    
+    private static final int EMAIL_LOOKUP_CHUNK = 1000;
+    
+    private final TimeSlotRepository timeSlotRepository;
+    private final CandidateBookingRepository bookingRepository;
+    private final ShardedBookingService shardedBookingService;
+    private final ShardRouter shardRouter;
+    
+    @Value("${cohort.max-edges:2000000}")
+    private int maxEdges;
+    
+    @Transactional(readOnly = true)
+    public CohortScheduleResponse preview(CohortScheduleRequest request) {
+        shardRouter.rejectWhenSharded("Cohort scheduling");
+        return plan(request);
+    }
+    
+    /**
+     * Re-plans against current data and books each interviewer's share in its own transaction.
+     * Assignments whose slot was taken in between are reported as conflicts, not retried.
+     */
+    public CohortScheduleResponse schedule(CohortScheduleRequest request) {
+        shardRouter.rejectWhenSharded("Cohort scheduling");
+        CohortScheduleResponse plan = plan(request);
+        
+        Map<Long, List<CohortScheduleResponse.Assignment>> byInterviewer = plan.getAssignments().stream()
+            .collect(Collectors.groupingBy(CohortScheduleResponse.Assignment::getInterviewerId,
+                LinkedHashMap::new, Collectors.toList()));
+        
+        List<CohortScheduleResponse.Assignment> booked = new ArrayList<>();
+        List<String> conflicted = new ArrayList<>();
+        for (Map.Entry<Long, List<CohortScheduleResponse.Assignment>> group : byInterviewer.entrySet()) {
+            Map<Long, Long> bookingIdBySlot = new HashMap<>();
+            try {
+                List<BookingService.SlotClaim> claims = group.getValue().stream()
+                    .map(assignment -> new BookingService.SlotClaim(
+                        assignment.getTimeSlotId(), assignment.getCandidateName(), assignment.getCandidateEmail()))
+                    .toList();
+                for (BookingResponse booking : shardedBookingService.bookSlotBatch(claims)) {
+                    bookingIdBySlot.put(booking.getTimeSlotId(), booking.getBookingId());
+                }
+            } catch (DataAccessException e) {
+                log.warn("Cohort batch for interviewer {} failed: {}", group.getKey(), e.getMessage());
+            }
+            
+            for (CohortScheduleResponse.Assignment assignment : group.getValue()) {
+                Long bookingId = bookingIdBySlot.get(assignment.getTimeSlotId());
+                if (bookingId != null) {
+                    assignment.setBookingId(bookingId);
+                    booked.add(assignment);
+                } else {
+                    conflicted.add(assignment.getCandidateEmail());
+                }
+            }
+        }
+        
+        log.info("Cohort committed: {} booked, {} conflicts", booked.size(), conflicted.size());
+        plan.setCommitted(true);
+        plan.setAssignments(booked);
+        plan.setAssignedCandidates(booked.size());
+        plan.setTotalPreferenceCost(booked.stream().mapToLong(CohortScheduleResponse.Assignment::getPreferenceRank).sum());
+        plan.setConflictedCandidates(conflicted);
+        return plan;
+    }
+    
+    private CohortScheduleResponse plan(CohortScheduleRequest request) {
+        List<CohortCandidateRequest> requested = request.getCandidates();
+        Set<String> emails = new HashSet<>();
+        for (CohortCandidateRequest candidate : requested) {
+            if (!emails.add(candidate.getCandidateEmail())) {
+                throw new BusinessException("Duplicate candidate in cohort: " + candidate.getCandidateEmail());
+            }
+        }
+        
+        Set<String> alreadyBooked = activeCandidates(emails);
+        List<CohortCandidateRequest> candidates = requested.stream()
+            .filter(candidate -> !alreadyBooked.contains(candidate.getCandidateEmail()))
+            .toList();
+        
+        LocalDateTime now = LocalDateTime.now();
+        List<List<TimeWindowRequest>> windows = candidates.stream()
+            .map(candidate -> clip(candidate.getWindows(), now))
+            .toList();
+        LocalDateTime horizonStart = null;
+        LocalDateTime horizonEnd = null;
+        for (List<TimeWindowRequest> candidateWindows : windows) {
+            for (TimeWindowRequest window : candidateWindows) {
+                horizonStart = horizonStart == null || window.getStart().isBefore(horizonStart) ? window.getStart() : horizonStart;
+                horizonEnd = horizonEnd == null || window.getEnd().isAfter(horizonEnd) ? window.getEnd() : horizonEnd;
+            }
+        }
+        List<TimeSlot> slots = horizonStart == null
+            ? List.of()
+            : timeSlotRepository.findAvailableSlotsBetween(horizonStart, horizonEnd);
+        
+        // One capacity node per interviewer and week, sized by what is still free that week
+        int candidateBase = 1;
+        int slotBase = candidateBase + candidates.size();
+        int weekBase = slotBase + slots.size();
+        Map<String, Integer> weekNodes = new LinkedHashMap<>();
+        List<Integer> weekCapacities = new ArrayList<>();
+        int[] slotWeekNode = new int[slots.size()];
+        Map<String, Long> bookedByWeek = bookedByWeek(slots);
+        for (int j = 0; j < slots.size(); j++) {
+            TimeSlot slot = slots.get(j);
+            String key = weekKey(slot.getInterviewer().getId(), slot.getSlotDateTime());
+            Integer node = weekNodes.get(key);
+            if (node == null) {
+                node = weekBase + weekNodes.size();
+                weekNodes.put(key, node);
+                long free = slot.getInterviewer().getMaxInterviewsPerWeek() - bookedByWeek.getOrDefault(key, 0L);
+                weekCapacities.add((int) Math.max(0, free));
+            }
+            slotWeekNode[j] = node;
+        }
+        int sink = weekBase + weekNodes.size();
+        
+        MinCostFlow network = new MinCostFlow(sink + 1, candidates.size() * 4 + slots.size() + weekNodes.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            network.addEdge(0, candidateBase + i, 1, 0);
+        }
+        for (int j = 0; j < slots.size(); j++) {
+            network.addEdge(slotBase + j, slotWeekNode[j], 1, 0);
+        }
+        for (int k = 0; k < weekCapacities.size(); k++) {
+            network.addEdge(weekBase + k, sink, weekCapacities.get(k), 0);
+        }
+        
+        LocalDateTime[] slotTimes = slots.stream().map(TimeSlot::getSlotDateTime).toArray(LocalDateTime[]::new);
+        int[] seenBy = new int[slots.size()];
+        int[] firstEdge = new int[candidates.size()];
+        int[] edgeCount = new int[candidates.size()];
+        int pairs = 0;
+        for (int i = 0; i < candidates.size(); i++) {
+            firstEdge[i] = -1;
+            List<TimeWindowRequest> candidateWindows = windows.get(i);
+            for (int rank = 0; rank < candidateWindows.size(); rank++) {
+                TimeWindowRequest window = candidateWindows.get(rank);
+                int from = lowerBound(slotTimes, window.getStart());
+                int to = lowerBound(slotTimes, window.getEnd());
+                // Added latest-first: adjacency lists are LIFO, so ties resolve to the earliest slot
+                for (int j = to - 1; j >= from; j--) {
+                    if (seenBy[j] == i + 1) {
+                        continue;
+                    }
+                    seenBy[j] = i + 1;
+                    if (++pairs > maxEdges) {
+                        throw new BusinessException(String.format(
+                            "Cohort is too large: more than %d candidate-slot pairs", maxEdges));
+                    }
+                    int edge = network.addEdge(candidateBase + i, slotBase + j, 1, rank);
+                    if (firstEdge[i] < 0) {
+                        firstEdge[i] = edge;
+                    }
+                    edgeCount[i]++;
+                }
+            }
+        }
+        
+        long started = System.nanoTime();
+        long[] result = network.solve(0, sink);
+        log.info("Cohort of {} candidates over {} slots and {} pairs solved in {} ms: {} assigned, cost {}",
+            candidates.size(), slots.size(), pairs, (System.nanoTime() - started) / 1_000_000, result[0], result[1]);
+        
+        List<CohortScheduleResponse.Assignment> assignments = new ArrayList<>();
+        List<String> unassigned = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            CohortCandidateRequest candidate = candidates.get(i);
+            CohortScheduleResponse.Assignment assignment = null;
+            for (int n = 0; n < edgeCount[i] && assignment == null; n++) {
+                int edge = firstEdge[i] + 2 * n;
+                if (network.flow(edge) > 0) {
+                    TimeSlot slot = slots.get(network.target(edge) - slotBase);
+                    assignment = CohortScheduleResponse.Assignment.builder()
+                        .candidateName(candidate.getCandidateName())
+                        .candidateEmail(candidate.getCandidateEmail())
+                        .timeSlotId(slot.getId())
+                        .interviewerId(slot.getInterviewer().getId())
+                        .slotDateTime(slot.getSlotDateTime())
+                        .preferenceRank(network.cost(edge))
+                        .build();
+                }
+            }
+            if (assignment != null) {
+                assignments.add(assignment);
+            } else {
+                unassigned.add(candidate.getCandidateEmail());
+            }
+        }
+        
+        return CohortScheduleResponse.builder()
+            .committed(false)
+            .requestedCandidates(requested.size())
+            .assignedCandidates(assignments.size())
+            .totalPreferenceCost(result[1])
+            .assignments(assignments)
+            .unassignedCandidates(unassigned)
+            .alreadyBookedCandidates(new ArrayList<>(alreadyBooked))
+            .build();
+    }
+    
+    private Set<String> activeCandidates(Set<String> emails) {
+        List<String> all = new ArrayList<>(emails);
+        Set<String> active = new HashSet<>();
+        for (int from = 0; from < all.size(); from += EMAIL_LOOKUP_CHUNK) {
+            active.addAll(bookingRepository.findCandidateEmailsWithSlotStatus(
+                all.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK, all.size())), TimeSlot.TimeSlotStatus.BOOKED));
+        }
+        return active;
+    }
+    
+    // Keeps rank order; drops empty and past windows and clips the rest to now
+    private List<TimeWindowRequest> clip(List<TimeWindowRequest> windows, LocalDateTime now) {
+        List<TimeWindowRequest> clipped = new ArrayList<>();
+        for (TimeWindowRequest window : windows) {
+            if (window.getStart().isBefore(window.getEnd()) && window.getEnd().isAfter(now)) {
+                TimeWindowRequest copy = new TimeWindowRequest();
+                copy.setStart(window.getStart().isBefore(now) ? now : window.getStart());
+                copy.setEnd(window.getEnd());
+                clipped.add(copy);
+            }
+        }
+        return clipped;
+    }
+    
+    private Map<String, Long> bookedByWeek(List<TimeSlot> slots) {
+        if (slots.isEmpty()) {
+            return Map.of();
+        }
+        Set<Long> interviewerIds = slots.stream().map(slot -> slot.getInterviewer().getId()).collect(Collectors.toSet());
+        LocalDateTime from = InterviewerCapacityTracker.weekStartOf(slots.get(0).getSlotDateTime());
+        LocalDateTime to = InterviewerCapacityTracker.weekStartOf(slots.get(slots.size() - 1).getSlotDateTime()).plusWeeks(1);
+        
+        Map<String, Long> booked = new HashMap<>();
+        timeSlotRepository.findBookedSlotTimes(interviewerIds, from, to)
+            .forEach(row -> booked.merge(weekKey(row.getInterviewerId(), row.getSlotDateTime()), 1L, Long::sum));
+        return booked;
+    }
+    
+    private String weekKey(Long interviewerId, LocalDateTime slotDateTime) {
+        return interviewerId + "@" + InterviewerCapacityTracker.weekStartOf(slotDateTime);
+    }
+    
+    private int lowerBound(LocalDateTime[] times, LocalDateTime value) {
+        int low = 0;
+        int high = times.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (times[mid].isBefore(value)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.demo.service;
+
+import com.example.demo.sharding.ShardRouter;
+import com.example.demo.util.CborWriter;
+import com.example.demo.util.CursorEncoder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Chronological available-slot pages in a columnar layout for high-volume consumers: parallel
+ * arrays of slot ids, interviewer ids and start-minute deltas instead of one object per slot.
+ * Rows are read straight into primitive columns and written by Jackson's generator or
+ * {@link CborWriter}, without entities or DTOs. Minutes are wall-clock minutes since
+ * 1970-01-01T00:00 (no zone applied); {@code baseEpochMinute} is the first slot's minute and each
+ * delta is relative to the previous slot. Cursors are interchangeable with the JSON feed. When
+ * sharded, each shard's page is read in parallel and the pages are merged by (start, id).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CompactSlotFeedService {
+    
+    // No +json suffix: clients sending application/*+json (RestTemplate's default) must keep the ApiResponse body
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.slots.columnar";
+    
+    private static final String SQL_SELECT =
+        "SELECT ts.id, ts.interviewer_id, ts.slot_date_time FROM time_slots ts WHERE ts.status = 'AVAILABLE' ";
+    private static final String SQL_AFTER_CURSOR =
+        "AND (ts.slot_date_time > ? OR (ts.slot_date_time = ? AND ts.id > ?)) ";
+    private static final String SQL_ORDER = "ORDER BY ts.slot_date_time ASC, ts.id ASC LIMIT ?";
+    
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int BUFFER_SIZE = 16 * 1024;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ShardRouter shardRouter;
+    
+    @Value("${slots.compact.max-page-size:5000}")
+    private int maxPageSize;
+    
+    public enum Format {
+        COLUMNAR_JSON,
+        CBOR
+    }
+    
+    /** One page held as primitive columns; {@code nextCursor} is null on the last page. */
+    public record SlotColumns(int size, long[] ids, long[] interviewerIds, long[] epochMinutes, String nextCursor) {
+    }
+    
+    public SlotColumns loadAvailable(String cursor, Integer pageSize) {
+        CursorEncoder.Cursor after = cursor == null || cursor.isEmpty() ? null : CursorEncoder.decode(cursor);
+        int size = pageSize == null || pageSize <= 0 ? DEFAULT_PAGE_SIZE : Math.min(pageSize, maxPageSize);
+        
+        List<ColumnCollector> shards = shardRouter.scatter(shard -> {
+            ColumnCollector columns = new ColumnCollector(size);
+            jdbcTemplate.query(pageQuery(after, size + 1), columns::add); // One extra row tells whether a next page exists
+            return columns;
+        });
+        return (shards.size() == 1 ? shards.get(0) : ColumnCollector.merge(shards, size)).toPage();
+    }
+    
+    public void write(SlotColumns page, Format format, OutputStream out) {
+        try {
+            if (format == Format.CBOR) {
+                writeCbor(page, out);
+            } else {
+                writeColumnarJson(page, out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.debug("Wrote {} available slots as {}", page.size(), format);
+    }
+    
+    private void writeColumnarJson(SlotColumns page, OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(new BufferedOutputStream(out, BUFFER_SIZE))) {
+            json.writeStartObject();
+            json.writeNumberField("count", page.size());
+            json.writeNumberField("baseEpochMinute", baseMinute(page));
+            json.writeFieldName("ids");
+            json.writeArray(page.ids(), 0, page.size());
+            json.writeFieldName("interviewerIds");
+            json.writeArray(page.interviewerIds(), 0, page.size());
+            json.writeArrayFieldStart("minuteDeltas");
+            for (int i = 0; i < page.size(); i++) {
+                json.writeNumber(delta(page, i));
+            }
+            json.writeEndArray();
+            json.writeStringField("nextCursor", page.nextCursor());
+            json.writeBooleanField("hasNextPage", page.nextCursor() != null);
+            json.writeEndObject();
+        }
+    }
+    
+    private void writeCbor(SlotColumns page, OutputStream out) throws IOException {
+        try (CborWriter cbor = new CborWriter(new BufferedOutputStream(out, BUFFER_SIZE))) {
+            cbor.startMap(7);
+            cbor.writeString("count").writeLong(page.size());
+            cbor.writeString("baseEpochMinute").writeLong(baseMinute(page));
+            cbor.writeString("ids").startArray(page.size());
+            for (int i = 0; i < page.size(); i++) {
+                cbor.writeLong(page.ids()[i]);
+            }
+            cbor.writeString("interviewerIds").startArray(page.size());
+            for (int i = 0; i < page.size(); i++) {
+                cbor.writeLong(page.interviewerIds()[i]);
+            }
+            cbor.writeString("minuteDeltas").startArray(page.size());
+            for (int i = 0; i < page.size(); i++) {
+                cbor.writeLong(delta(page, i));
+            }
+            cbor.writeString("nextCursor").writeString(page.nextCursor());
+            cbor.writeString("hasNextPage").writeBoolean(page.nextCursor() != null);
+        }
+    }
+    
+    private static long baseMinute(SlotColumns page) {
+        return page.size() == 0 ? 0 : page.epochMinutes()[0];
+    }
+    
+    private static long delta(SlotColumns page, int index) {
+        return index == 0 ? 0 : page.epochMinutes()[index] - page.epochMinutes()[index - 1];
+    }
+    
+    private static PreparedStatementCreator pageQuery(CursorEncoder.Cursor after, int limit) {
+        String sql = SQL_SELECT + (after == null ? "" : SQL_AFTER_CURSOR) + SQL_ORDER;
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            int index = 1;
+            if (after != null) {
+                Timestamp cursorTime = Timestamp.valueOf(after.getDateTime());
+                statement.setTimestamp(index++, cursorTime);
+                statement.setTimestamp(index++, cursorTime);
+                statement.setLong(index++, after.getId());
+            }
+            statement.setInt(index, limit);
+            statement.setFetchSize(Math.min(limit, 1000));
+            return statement;
+        };
+    }
+    
+    private static final class ColumnCollector {
+        
+        private final int pageSize;
+        private long[] ids;
+        private long[] interviewerIds;
+        private LocalDateTime[] starts;
+        private int size;
+        private boolean hasMore;
+        
+        ColumnCollector(int pageSize) {
+            this.pageSize = pageSize;
+            int capacity = Math.min(pageSize, 1024); // Grown on demand so large limits on short feeds stay cheap
+            this.ids = new long[capacity];
+            this.interviewerIds = new long[capacity];
+            this.starts = new LocalDateTime[capacity];
+        }
+        
+        void add(ResultSet rs) throws SQLException {
+            append(rs.getLong(1), rs.getLong(2), rs.getTimestamp(3).toLocalDateTime());
+        }
+        
+        void append(long id, long interviewerId, LocalDateTime start) {
+            if (size == pageSize) {
+                hasMore = true;
+                return;
+            }
+            if (size == ids.length) {
+                int capacity = Math.min(pageSize, size * 2);
+                ids = Arrays.copyOf(ids, capacity);
+                interviewerIds = Arrays.copyOf(interviewerIds, capacity);
+                starts = Arrays.copyOf(starts, capacity);
+            }
+            ids[size] = id;
+            interviewerIds[size] = interviewerId;
+            starts[size] = start;
+            size++;
+        }
+        
+        // Each shard holds its own first pageSize rows, so merging their heads yields the global page
+        static ColumnCollector merge(List<ColumnCollector> shards, int pageSize) {
+            ColumnCollector merged = new ColumnCollector(pageSize);
+            int[] next = new int[shards.size()];
+            while (true) {
+                int best = -1;
+                for (int shard = 0; shard < shards.size(); shard++) {
+                    ColumnCollector candidate = shards.get(shard);
+                    if (next[shard] < candidate.size
+                        && (best < 0 || candidate.before(next[shard], shards.get(best), next[best]))) {
+                        best = shard;
+                    }
+                }
+                if (best < 0) {
+                    break;
+                }
+                ColumnCollector source = shards.get(best);
+                int row = next[best]++;
+                merged.append(source.ids[row], source.interviewerIds[row], source.starts[row]);
+                if (merged.hasMore) {
+                    break;
+                }
+            }
+            merged.hasMore |= shards.stream().anyMatch(shard -> shard.hasMore);
+            return merged;
+        }
+        
+        private boolean before(int row, ColumnCollector other, int otherRow) {
+            int byStart = starts[row].compareTo(other.starts[otherRow]);
+            return byStart < 0 || (byStart == 0 && ids[row] < other.ids[otherRow]);
+        }
+        
+        SlotColumns toPage() {
+            long[] epochMinutes = new long[size];
+            for (int i = 0; i < size; i++) {
+                epochMinutes[i] = Math.floorDiv(starts[i].toEpochSecond(ZoneOffset.UTC), 60);
+            }
+            String nextCursor = hasMore ? CursorEncoder.encode(starts[size - 1], ids[size - 1]) : null;
+            return new SlotColumns(size, ids, interviewerIds, epochMinutes, nextCursor);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.demo.service;
+
+import com.example.demo.sharding.ShardRouter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Streams bookings and time slots straight from a forward-only JDBC cursor to the
+ * response body, so exports run in constant heap regardless of the row count.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService {
+    
+    private static final String BOOKINGS_SQL =
+        "SELECT cb.id, cb.time_slot_id, ts.interviewer_id, ts.slot_date_time, cb.candidate_name, " +
+        "cb.candidate_email, cb.booking_date_time, cb.updated_at " +
+        "FROM candidate_bookings cb JOIN time_slots ts ON ts.id = cb.time_slot_id " +
+        "WHERE ts.slot_date_time >= ? AND ts.slot_date_time < ? " +
+        "ORDER BY ts.slot_date_time, cb.id";
+    
+    private static final String TIME_SLOTS_SQL =
+        "SELECT ts.id, ts.interviewer_id, ts.slot_date_time, ts.status, ts.version " +
+        "FROM time_slots ts " +
+        "WHERE ts.slot_date_time >= ? AND ts.slot_date_time < ? " +
+        "ORDER BY ts.slot_date_time, ts.id";
+    
+    private static final String[] BOOKING_COLUMNS = {
+        "bookingId", "timeSlotId", "interviewerId", "slotDateTime",
+        "candidateName", "candidateEmail", "bookingDateTime", "updatedAt"
+    };
+    
+    private static final String[] TIME_SLOT_COLUMNS = {
+        "id", "interviewerId", "slotDateTime", "status", "version"
+    };
+    
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ShardRouter shardRouter;
+    
+    @Value("${export.fetch-size:1000}")
+    private int fetchSize;
+    
+    public enum ExportFormat {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+        
+        private final String contentType;
+        private final String extension;
+        
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+        
+        public String getContentType() {
+            return contentType;
+        }
+        
+        public String getExtension() {
+            return extension;
+        }
+        
+        public static ExportFormat from(String value) {
+            for (ExportFormat format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+    
+    public long exportBookings(LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream out) {
+        return export(BOOKINGS_SQL, BOOKING_COLUMNS, from, to, format, out);
+    }
+    
+    public long exportTimeSlots(LocalDateTime from, LocalDateTime to, ExportFormat format, OutputStream out) {
+        return export(TIME_SLOTS_SQL, TIME_SLOT_COLUMNS, from, to, format, out);
+    }
+    
+    public void validateRange(LocalDateTime from, LocalDateTime to) {
+        shardRouter.rejectWhenSharded("Exports");
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Export range start must be before its end");
+        }
+    }
+    
+    private long export(String sql, String[] columns, LocalDateTime from, LocalDateTime to,
+                        ExportFormat format, OutputStream out) {
+        validateRange(from, to);
+        log.info("Exporting {} rows between {} and {}", format, from, to);
+        
+        try (RowWriter writer = format == ExportFormat.CSV
+                ? new CsvRowWriter(out, columns)
+                : new NdjsonRowWriter(objectMapper.getFactory().createGenerator(new BufferedOutputStream(out, BUFFER_SIZE)), columns)) {
+            long[] rows = {0};
+            jdbcTemplate.query(forwardOnly(sql, from, to), rs -> {
+                try {
+                    writer.write(rs);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+            log.info("Exported {} rows", rows[0]);
+            return rows[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private PreparedStatementCreator forwardOnly(String sql, LocalDateTime from, LocalDateTime to) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setTimestamp(1, Timestamp.valueOf(from));
+            statement.setTimestamp(2, Timestamp.valueOf(to));
+            return statement;
+        };
+    }
+    
+    private static String columnValue(ResultSet rs, int index) throws SQLException {
+        Object value = rs.getObject(index);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().format(FORMATTER);
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.format(FORMATTER);
+        }
+        return value.toString();
+    }
+    
+    private interface RowWriter extends AutoCloseable {
+        void write(ResultSet rs) throws SQLException, IOException;
+        
+        @Override
+        void close() throws IOException;
+    }
+    
+    private static class CsvRowWriter implements RowWriter {
+        
+        private final OutputStream out;
+        private final int columnCount;
+        private final StringBuilder line = new StringBuilder(256);
+        
+        CsvRowWriter(OutputStream out, String[] columns) throws IOException {
+            this.out = new BufferedOutputStream(out, BUFFER_SIZE);
+            this.columnCount = columns.length;
+            this.out.write((String.join(",", columns) + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+        
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            line.setLength(0);
+            for (int i = 1; i <= columnCount; i++) {
+                if (i > 1) {
+                    line.append(',');
+                }
+                appendEscaped(columnValue(rs, i));
+            }
+            line.append('\n');
+            out.write(line.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        
+        private void appendEscaped(String value) {
+            if (value == null) {
+                return;
+            }
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                line.append(value);
+                return;
+            }
+            line.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    line.append('"');
+                }
+                line.append(c);
+            }
+            line.append('"');
+        }
+        
+        @Override
+        public void close() throws IOException {
+            out.flush();
+        }
+    }
+    
+    private static class NdjsonRowWriter implements RowWriter {
+        
+        private final JsonGenerator generator;
+        private final String[] columns;
+        
+        NdjsonRowWriter(JsonGenerator generator, String[] columns) {
+            this.generator = generator;
+            this.columns = columns;
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+        
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < columns.length; i++) {
+                Object value = rs.getObject(i + 1);
+                if (value instanceof Number number) {
+                    generator.writeNumberField(columns[i], number.longValue());
+                } else {
+                    generator.writeStringField(columns[i], columnValue(rs, i + 1));
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.demo.service;
+
+import com.example.demo.exception.BusinessException;
+import com.example.demo.sharding.ShardRouter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Free/busy grid for many interviewers from one range scan over {@code idx_interviewer_date}.
+ * Rows arrive ordered by (interviewer, start) and are folded into runs as they stream: each run
+ * is {@code [startOffsetMinutes, lengthMinutes, "F"|"B"]} relative to {@code from}, adjacent
+ * slots in the same state are merged, and time without a slot is omitted. Cancelled
+ * (withdrawn) slots are not reported.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FreeBusyService {
+    
+    private static final String SQL_PREFIX =
+        "SELECT ts.interviewer_id, ts.slot_date_time, ts.duration_minutes, ts.status " +
+        "FROM time_slots ts WHERE ts.interviewer_id IN (";
+    private static final String SQL_SUFFIX =
+        ") AND ts.slot_date_time >= ? AND ts.slot_date_time < ? AND ts.status <> 'CANCELLED' " +
+        "ORDER BY ts.interviewer_id, ts.slot_date_time";
+    
+    private static final int MAX_RANGE_DAYS = 31;
+    private static final int BUFFER_SIZE = 16 * 1024;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ShardRouter shardRouter;
+    
+    @Value("${export.fetch-size:1000}")
+    private int fetchSize;
+    
+    public void validateRange(LocalDateTime from, LocalDateTime to) {
+        shardRouter.rejectWhenSharded("Free/busy");
+        if (!from.isBefore(to)) {
+            throw new BusinessException("Range start must be before range end");
+        }
+        if (Duration.between(from, to).toDays() > MAX_RANGE_DAYS) {
+            throw new BusinessException(String.format("Free/busy range cannot exceed %d days", MAX_RANGE_DAYS));
+        }
+    }
+    
+    public void writeFreeBusy(List<Long> interviewerIds, LocalDateTime from, LocalDateTime to, OutputStream out) {
+        validateRange(from, to);
+        List<Long> ids = interviewerIds.stream().distinct().sorted().toList();
+        long rangeMinutes = Duration.between(from, to).toMinutes();
+        
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(new BufferedOutputStream(out, BUFFER_SIZE))) {
+            json.writeStartObject();
+            json.writeStringField("from", from.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            json.writeStringField("to", to.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            json.writeArrayFieldStart("interviewers");
+            
+            RunEncoder encoder = new RunEncoder(json, ids, rangeMinutes);
+            jdbcTemplate.query(rangeScan(ids, from, to), rs -> {
+                long start = Duration.between(from, rs.getTimestamp(2).toLocalDateTime()).toMinutes();
+                int duration = PanelAvailabilityIndex.durationOf((Integer) rs.getObject(3));
+                boolean busy = !"AVAILABLE".equals(rs.getString(4));
+                try {
+                    encoder.add(rs.getLong(1), start, duration, busy);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            encoder.finish();
+            
+            json.writeEndArray();
+            json.writeEndObject();
+            log.debug("Free/busy for {} interviewers, {} slots, {} runs", ids.size(), encoder.slots, encoder.runs);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private PreparedStatementCreator rangeScan(List<Long> ids, LocalDateTime from, LocalDateTime to) {
+        String sql = SQL_PREFIX + String.join(",", Collections.nCopies(ids.size(), "?")) + SQL_SUFFIX;
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            int index = 1;
+            for (Long id : ids) {
+                statement.setLong(index++, id);
+            }
+            statement.setTimestamp(index++, Timestamp.valueOf(from));
+            statement.setTimestamp(index, Timestamp.valueOf(to));
+            return statement;
+        };
+    }
+    
+    // Emits every requested interviewer in id order, including those without any slot
+    private static final class RunEncoder {
+        
+        private final JsonGenerator json;
+        private final List<Long> ids;
+        private final long rangeMinutes;
+        private int nextId;
+        private boolean open;
+        private long runStart = -1;
+        private long runEnd;
+        private boolean runBusy;
+        private long slots;
+        private long runs;
+        
+        private RunEncoder(JsonGenerator json, List<Long> ids, long rangeMinutes) {
+            this.json = json;
+            this.ids = ids;
+            this.rangeMinutes = rangeMinutes;
+        }
+        
+        private void add(long interviewerId, long start, int duration, boolean busy) throws IOException {
+            if (!open || ids.get(nextId - 1) != interviewerId) {
+                advanceTo(interviewerId);
+            }
+            slots++;
+            long end = Math.min(start + duration, rangeMinutes);
+            if (runStart >= 0 && runBusy == busy && start <= runEnd) {
+                runEnd = Math.max(runEnd, end);
+                return;
+            }
+            flushRun();
+            runStart = start;
+            runEnd = end;
+            runBusy = busy;
+        }
+        
+        private void finish() throws IOException {
+            advanceTo(Long.MAX_VALUE);
+        }
+        
+        private void advanceTo(long interviewerId) throws IOException {
+            close();
+            while (nextId < ids.size() && ids.get(nextId) <= interviewerId) {
+                long id = ids.get(nextId++);
+                json.writeStartObject();
+                json.writeNumberField("interviewerId", id);
+                json.writeArrayFieldStart("runs");
+                if (id == interviewerId) {
+                    open = true;
+                    return;
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+        }
+        
+        private void close() throws IOException {
+            if (!open) {
+                return;
+            }
+            flushRun();
+            json.writeEndArray();
+            json.writeEndObject();
+            open = false;
+        }
+        
+        private void flushRun() throws IOException {
+            if (runStart < 0) {
+                return;
+            }
+            json.writeStartArray();
+            json.writeNumber(runStart);
+            json.writeNumber(runEnd - runStart);
+            json.writeString(runBusy ? "B" : "F");
+            json.writeEndArray();
+            runs++;
+            runStart = -1;
+        }
+    }
+}
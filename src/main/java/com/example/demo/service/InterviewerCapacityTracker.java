@@ -0,0 +1,153 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.event.AvailabilityChangedEvent;
+import com.example.demo.event.BookingChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.temporal.WeekFields;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory view of each interviewer's remaining capacity per week, with the same semantics as
+ * the booking-time check (BOOKED slots in the week of the slot being booked). Counters are
+ * loaded in one grouped query per week for a batch of unknown interviewers, adjusted by
+ * committed booking changes and reloaded after {@code ranking.capacity-refresh-seconds} to bound
+ * drift. It is only used for ranking; booking still enforces the limit against the database.
+ */
+@Component
+@RequiredArgsConstructor
+public class InterviewerCapacityTracker {
+    
+    private final TimeSlotRepository timeSlotRepository;
+    private final InterviewerRepository interviewerRepository;
+    
+    @Value("${ranking.capacity-refresh-seconds:60}")
+    private long refreshSeconds;
+    
+    private final Map<InterviewerWeek, WeeklyLoad> loads = new ConcurrentHashMap<>();
+    
+    public static LocalDateTime currentWeekStart() {
+        return weekStartOf(LocalDateTime.now());
+    }
+    
+    public static LocalDateTime weekStartOf(LocalDateTime dateTime) {
+        WeekFields weekFields = WeekFields.of(Locale.getDefault());
+        return dateTime.with(weekFields.dayOfWeek(), 1)
+            .withHour(0).withMinute(0).withSecond(0).withNano(0);
+    }
+    
+    public Map<InterviewerWeek, Integer> remainingCapacity(Collection<InterviewerWeek> weeks) {
+        long now = System.nanoTime();
+        
+        Map<InterviewerWeek, Integer> remaining = new HashMap<>();
+        Map<LocalDateTime, Set<Long>> missing = new HashMap<>();
+        for (InterviewerWeek week : weeks) {
+            WeeklyLoad load = loads.get(week);
+            if (load != null && load.isFresh(now)) {
+                remaining.put(week, load.remaining());
+            } else {
+                missing.computeIfAbsent(week.weekStart(), start -> new LinkedHashSet<>()).add(week.interviewerId());
+            }
+        }
+        
+        if (!missing.isEmpty()) {
+            // Past weeks can no longer be booked
+            LocalDateTime currentWeekStart = currentWeekStart();
+            loads.keySet().removeIf(week -> week.weekStart().isBefore(currentWeekStart));
+            
+            Map<Long, Interviewer> interviewers = new HashMap<>();
+            interviewerRepository.findAllById(missing.values().stream().flatMap(Set::stream).collect(Collectors.toSet()))
+                .forEach(interviewer -> interviewers.put(interviewer.getId(), interviewer));
+            long expiresAt = now + TimeUnit.SECONDS.toNanos(refreshSeconds);
+            missing.forEach((weekStart, interviewerIds) -> {
+                Map<Long, Long> booked = new HashMap<>();
+                timeSlotRepository.countBookedSlotsForWeekByInterviewer(interviewerIds, weekStart, weekStart.plusWeeks(1))
+                    .forEach(row -> booked.put(row.getInterviewerId(), row.getBooked()));
+                for (Long interviewerId : interviewerIds) {
+                    Interviewer interviewer = interviewers.get(interviewerId);
+                    if (interviewer == null) {
+                        continue;
+                    }
+                    InterviewerWeek week = new InterviewerWeek(interviewerId, weekStart);
+                    WeeklyLoad load = new WeeklyLoad(expiresAt, interviewer.getMaxInterviewsPerWeek(),
+                        booked.getOrDefault(interviewerId, 0L).intValue());
+                    loads.put(week, load);
+                    remaining.put(week, load.remaining());
+                }
+            });
+        }
+        return remaining;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        switch (event.getType()) {
+            case BOOKED -> adjust(event.getInterviewerId(), event.getSlotDateTime(), 1);
+            case CANCELLED -> adjust(event.getInterviewerId(), event.getSlotDateTime(), -1);
+            case RESCHEDULED -> {
+                adjust(event.getPreviousInterviewerId(), event.getPreviousSlotDateTime(), -1);
+                adjust(event.getInterviewerId(), event.getSlotDateTime(), 1);
+            }
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        // The weekly limit may have changed
+        loads.keySet().removeIf(week -> week.interviewerId().equals(event.getInterviewerId()));
+    }
+    
+    private void adjust(Long interviewerId, LocalDateTime slotDateTime, int delta) {
+        if (interviewerId == null || slotDateTime == null) {
+            return;
+        }
+        WeeklyLoad load = loads.get(InterviewerWeek.of(interviewerId, slotDateTime));
+        if (load != null) {
+            load.booked.addAndGet(delta);
+        }
+    }
+    
+    public record InterviewerWeek(Long interviewerId, LocalDateTime weekStart) {
+        
+        public static InterviewerWeek of(Long interviewerId, LocalDateTime slotDateTime) {
+            return new InterviewerWeek(interviewerId, weekStartOf(slotDateTime));
+        }
+    }
+    
+    private static final class WeeklyLoad {
+        
+        private final long expiresAtNanos;
+        private final int maxPerWeek;
+        private final AtomicInteger booked;
+        
+        private WeeklyLoad(long expiresAtNanos, int maxPerWeek, int booked) {
+            this.expiresAtNanos = expiresAtNanos;
+            this.maxPerWeek = maxPerWeek;
+            this.booked = new AtomicInteger(booked);
+        }
+        
+        private boolean isFresh(long nowNanos) {
+            return nowNanos - expiresAtNanos < 0;
+        }
+        
+        private int remaining() {
+            return Math.max(0, maxPerWeek - booked.get());
+        }
+    }
+}
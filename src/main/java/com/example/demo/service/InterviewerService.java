@@ -6,10 +6,12 @@ import com.example.demo.domain.repository.AvailabilitySlotRepository;
 import com.example.demo.domain.repository.InterviewerRepository;
 import com.example.demo.dto.request.AvailabilitySlotRequest;
 import com.example.demo.dto.request.InterviewerAvailabilityRequest;
+import com.example.demo.event.AvailabilityChangedEvent;
 import com.example.demo.exception.BusinessException;
 import com.example.demo.exception.ResourceNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +27,7 @@ public class InterviewerService {
     private final InterviewerRepository interviewerRepository;
     private final AvailabilitySlotRepository availabilitySlotRepository;
     private final TimeSlotGenerationService timeSlotGenerationService;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public Interviewer createOrUpdateInterviewerAvailability(InterviewerAvailabilityRequest request) {
@@ -44,8 +47,8 @@ public class InterviewerService {
         // Clear existing availability slots
         interviewer.getAvailabilitySlots().clear();
         
-        // Add new availability slots
-        List<AvailabilitySlot> availabilitySlots = request.getAvailabilitySlots().stream()
+        // Add new availability slots, with overlapping windows merged or rejected
+        List<AvailabilitySlot> availabilitySlots = AvailabilityNormalizer.normalize(request.getAvailabilitySlots()).stream()
             .map(slotRequest -> AvailabilitySlot.builder()
                 .interviewer(interviewer)
                 .dayOfWeek(slotRequest.getDayOfWeek())
@@ -62,6 +65,13 @@ public class InterviewerService {
         // Generate time slots for next 2 weeks
         timeSlotGenerationService.generateTimeSlotsForNextWeeks(savedInterviewer);
         
+        eventPublisher.publishEvent(AvailabilityChangedEvent.builder()
+            .interviewerId(savedInterviewer.getId())
+            .interviewerEmail(savedInterviewer.getEmail())
+            .availabilityWindows(availabilitySlots.size())
+            .maxInterviewsPerWeek(savedInterviewer.getMaxInterviewsPerWeek())
+            .build());
+        
         log.info("Interviewer availability created/updated successfully. ID: {}", savedInterviewer.getId());
         return savedInterviewer;
     }
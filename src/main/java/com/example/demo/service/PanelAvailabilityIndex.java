@@ -0,0 +1,164 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.event.AvailabilityChangedEvent;
+import com.example.demo.event.BookingChangedEvent;
+import com.example.demo.event.SlotReleasedEvent;
+import com.example.demo.util.SlotBitmap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-interviewer free-slot bitmaps over the generation horizon, one bit per
+ * {@code panel.bitmap-granularity-minutes} quantum from today's midnight, kept separately for
+ * each slot duration. A bit is set when the interviewer has an AVAILABLE slot starting at that
+ * quantum, so common panel times are the AND of k bitmaps. Entries are evicted by committed
+ * changes and re-read after {@code panel.bitmap-refresh-seconds}; booking re-checks the rows.
+ */
+@Component
+@RequiredArgsConstructor
+public class PanelAvailabilityIndex {
+    
+    static final int LEGACY_SLOT_DURATION_MINUTES = 60;
+    private static final int HORIZON_DAYS = 15; // Two generated weeks plus today
+    
+    private final TimeSlotRepository timeSlotRepository;
+    
+    @Value("${panel.bitmap-granularity-minutes:15}")
+    private int granularityMinutes;
+    
+    @Value("${panel.bitmap-refresh-seconds:30}")
+    private long refreshSeconds;
+    
+    private final Map<Long, FreeSlots> cache = new ConcurrentHashMap<>();
+    
+    static int durationOf(Integer durationMinutes) {
+        return durationMinutes != null ? durationMinutes : LEGACY_SLOT_DURATION_MINUTES;
+    }
+    
+    /**
+     * Start times in [from, to) at which every interviewer has an available slot of the given
+     * duration, earliest first.
+     */
+    public List<LocalDateTime> commonStarts(Collection<Long> interviewerIds, int durationMinutes,
+                                            LocalDateTime from, LocalDateTime to, int limit) {
+        LocalDateTime base = LocalDate.now().atStartOfDay();
+        Map<Long, FreeSlots> entries = entries(interviewerIds, base);
+        
+        SlotBitmap common = null;
+        for (Long interviewerId : interviewerIds) {
+            SlotBitmap free = entries.get(interviewerId).byDuration.get(durationMinutes);
+            if (free == null) {
+                return List.of();
+            }
+            common = common == null ? free.copy() : common.and(free);
+        }
+        if (common == null) {
+            return List.of();
+        }
+        
+        List<LocalDateTime> starts = new ArrayList<>();
+        int bit = common.nextSetBit(ceilQuantum(base, from));
+        int end = ceilQuantum(base, to);
+        while (bit >= 0 && bit < end && starts.size() < limit) {
+            starts.add(base.plusMinutes((long) bit * granularityMinutes));
+            bit = common.nextSetBit(bit + 1);
+        }
+        return starts;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingChanged(BookingChangedEvent event) {
+        evict(event.getInterviewerId());
+        evict(event.getPreviousInterviewerId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotReleased(SlotReleasedEvent event) {
+        evict(event.getInterviewerId());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        evict(event.getInterviewerId());
+    }
+    
+    private void evict(Long interviewerId) {
+        if (interviewerId != null) {
+            cache.remove(interviewerId);
+        }
+    }
+    
+    // Loads every stale or missing interviewer with one query
+    private Map<Long, FreeSlots> entries(Collection<Long> interviewerIds, LocalDateTime base) {
+        long now = System.nanoTime();
+        Map<Long, FreeSlots> entries = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long interviewerId : interviewerIds) {
+            FreeSlots cached = cache.get(interviewerId);
+            if (cached != null && cached.base.equals(base) && now - cached.expiresAtNanos < 0) {
+                entries.put(interviewerId, cached);
+            } else {
+                missing.add(interviewerId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return entries;
+        }
+        
+        int bits = (int) (Duration.ofDays(HORIZON_DAYS).toMinutes() / granularityMinutes);
+        long expiresAt = now + TimeUnit.SECONDS.toNanos(refreshSeconds);
+        Map<Long, FreeSlots> loaded = new HashMap<>();
+        missing.forEach(interviewerId -> loaded.put(interviewerId, new FreeSlots(base, expiresAt)));
+        for (TimeSlotRepository.SlotStart slot : timeSlotRepository.findAvailableSlotStarts(
+                missing, base, base.plusDays(HORIZON_DAYS))) {
+            long minutes = Duration.between(base, slot.getSlotDateTime()).toMinutes();
+            if (minutes % granularityMinutes != 0 || !base.plusMinutes(minutes).equals(slot.getSlotDateTime())) {
+                continue; // Off-grid starts cannot line up with a quantum
+            }
+            loaded.get(slot.getInterviewerId()).byDuration
+                .computeIfAbsent(durationOf(slot.getDurationMinutes()), duration -> new SlotBitmap(bits))
+                .set((int) (minutes / granularityMinutes));
+        }
+        cache.putAll(loaded);
+        entries.putAll(loaded);
+        return entries;
+    }
+    
+    private int ceilQuantum(LocalDateTime base, LocalDateTime at) {
+        if (!at.isAfter(base)) {
+            return 0;
+        }
+        LocalDateTime horizonEnd = base.plusDays(HORIZON_DAYS);
+        long elapsed = Duration.between(base, at.isAfter(horizonEnd) ? horizonEnd : at).toNanos();
+        long quantum = TimeUnit.MINUTES.toNanos(granularityMinutes);
+        return (int) ((elapsed + quantum - 1) / quantum);
+    }
+    
+    private static final class FreeSlots {
+        
+        private final LocalDateTime base;
+        private final long expiresAtNanos;
+        private final Map<Integer, SlotBitmap> byDuration = new HashMap<>();
+        
+        private FreeSlots(LocalDateTime base, long expiresAtNanos) {
+            this.base = base;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
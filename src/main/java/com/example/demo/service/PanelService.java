@@ -0,0 +1,46 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PanelService {
+    
+    private static final int MAX_PANEL_SIZE = 5;
+    private static final int MAX_RESULTS = 200;
+    
+    private final InterviewerRepository interviewerRepository;
+    private final PanelAvailabilityIndex panelAvailabilityIndex;
+    private final ShardRouter shardRouter;
+    
+    public List<LocalDateTime> findCommonSlots(List<Long> interviewerIds, Integer durationMinutes,
+                                               LocalDateTime from, LocalDateTime to, Integer limit) {
+        shardRouter.rejectWhenSharded("Panel availability");
+        List<Long> distinctIds = interviewerIds.stream().distinct().toList();
+        if (distinctIds.size() < 2 || distinctIds.size() > MAX_PANEL_SIZE) {
+            throw new BusinessException(String.format("A panel needs between 2 and %d distinct interviewers", MAX_PANEL_SIZE));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = from == null || from.isBefore(now) ? now : from;
+        if (to != null && !start.isBefore(to)) {
+            throw new BusinessException("Range start must be before range end");
+        }
+        if (interviewerRepository.findAllById(distinctIds).size() != distinctIds.size()) {
+            throw new ResourceNotFoundException("Interviewer not found among: " + distinctIds);
+        }
+        
+        int maxResults = limit == null || limit <= 0 ? 20 : Math.min(limit, MAX_RESULTS);
+        return panelAvailabilityIndex.commonStarts(distinctIds, PanelAvailabilityIndex.durationOf(durationMinutes),
+            start, to == null ? start.plusWeeks(3) : to, maxResults);
+    }
+}
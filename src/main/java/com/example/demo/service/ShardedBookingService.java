@@ -0,0 +1,146 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.request.AutoBookRequest;
+import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.dto.request.BulkCancelRequest;
+import com.example.demo.dto.request.PanelBookingRequest;
+import com.example.demo.dto.request.UpdateBookingRequest;
+import com.example.demo.dto.response.BookingResponse;
+import com.example.demo.dto.response.CancellationResponse;
+import com.example.demo.dto.response.PanelBookingResponse;
+import com.example.demo.engine.BookingEngine;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.sharding.ShardRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Entry point for single-interviewer booking operations: each call runs on the shard that owns
+ * the slot, booking or interviewer, in that shard's own transaction. The rules that span
+ * interviewers are checked across shards first; they are not atomic with the booking itself.
+ * With one shard every method is a plain delegation to {@link BookingService}. With
+ * {@code booking.engine.enabled} booking, rescheduling and cancelling go to the
+ * {@link BookingEngine} instead, and the operations it does not own are refused.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ShardedBookingService {
+    
+    private final BookingService bookingService;
+    private final ShardRouter shardRouter;
+    private final ObjectProvider<BookingEngine> bookingEngine;
+    
+    public BookingResponse bookSlot(BookSlotRequest request) {
+        BookingEngine engine = bookingEngine.getIfAvailable();
+        if (engine != null) {
+            return engine.bookSlot(request);
+        }
+        int shard = shardRouter.shardOf(request.getTimeSlotId());
+        ensureNoActiveBookingElsewhere(request.getCandidateEmail(), shard);
+        return shardRouter.onShard(shard, () -> bookingService.bookSlot(request));
+    }
+    
+    // Shards are tried in order, so the slot is the earliest match on the first shard with one
+    public BookingResponse autoBook(AutoBookRequest request) {
+        rejectWhenEngineEnabled("Auto-booking");
+        if (!shardRouter.isSharded()) {
+            return bookingService.autoBook(request);
+        }
+        ensureNoActiveBookingElsewhere(request.getCandidateEmail(), -1);
+        BusinessException lastFailure = null;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            try {
+                return shardRouter.onShard(shard, () -> bookingService.autoBook(request));
+            } catch (BusinessException e) {
+                lastFailure = e;
+            }
+        }
+        throw lastFailure;
+    }
+    
+    public BookingResponse updateBooking(UpdateBookingRequest request) {
+        BookingEngine engine = bookingEngine.getIfAvailable();
+        if (engine != null) {
+            return engine.updateBooking(request);
+        }
+        int shard = shardRouter.shardOf(request.getBookingId());
+        if (shard != shardRouter.shardOf(request.getNewTimeSlotId())) {
+            throw new BusinessException("The new slot belongs to an interviewer on another shard; cancel and book it instead");
+        }
+        return shardRouter.onShard(shard, () -> bookingService.updateBooking(request));
+    }
+    
+    public BookingResponse getBookingById(Long bookingId) {
+        BookingEngine engine = bookingEngine.getIfAvailable();
+        if (engine != null) {
+            return engine.findBooking(bookingId).orElseGet(() -> bookingService.getBookingById(bookingId));
+        }
+        return shardRouter.onShardOf(bookingId, () -> bookingService.getBookingById(bookingId));
+    }
+    
+    public CancellationResponse cancelBooking(Long bookingId, String candidateEmail, boolean releaseSlot) {
+        BookingEngine engine = bookingEngine.getIfAvailable();
+        if (engine != null) {
+            return engine.cancelBooking(bookingId, candidateEmail, releaseSlot);
+        }
+        return shardRouter.onShardOf(bookingId, () -> bookingService.cancelBooking(bookingId, candidateEmail, releaseSlot));
+    }
+    
+    public CancellationResponse cancelBookings(BulkCancelRequest request) {
+        rejectWhenEngineEnabled("Bulk cancellation");
+        return shardRouter.onShardOf(request.getInterviewerId(), () -> bookingService.cancelBookings(request));
+    }
+    
+    // Panel members may live on different shards, and one transaction cannot span them
+    public PanelBookingResponse bookPanel(PanelBookingRequest request) {
+        rejectWhenEngineEnabled("Panel booking");
+        shardRouter.rejectWhenSharded("Panel booking");
+        return bookingService.bookPanel(request);
+    }
+    
+    public CancellationResponse cancelPanel(String panelId, String candidateEmail, boolean releaseSlots) {
+        rejectWhenEngineEnabled("Panel cancellation");
+        shardRouter.rejectWhenSharded("Panel cancellation");
+        return bookingService.cancelPanel(panelId, candidateEmail, releaseSlots);
+    }
+    
+    // The batch paths of cohorts and re-homing run on the shard their caller routed to
+    public List<BookingResponse> bookSlotBatch(List<BookingService.SlotClaim> claims) {
+        rejectWhenEngineEnabled("Cohort scheduling");
+        return bookingService.bookSlotBatch(claims);
+    }
+    
+    public List<Long> moveBookingBatch(List<BookingService.SlotMove> moves) {
+        rejectWhenEngineEnabled("Re-homing");
+        return bookingService.moveBookingBatch(moves);
+    }
+    
+    public boolean hasActiveBooking(String candidateEmail) {
+        return shardRouter.scatter(shard -> bookingService.hasActiveBooking(candidateEmail)).contains(true);
+    }
+    
+    // The engine's slots would be changed behind its back
+    private void rejectWhenEngineEnabled(String operation) {
+        if (bookingEngine.getIfAvailable() != null) {
+            throw new BusinessException(operation + " is not available while the booking engine is enabled");
+        }
+    }
+    
+    // The target shard repeats this check inside its booking transaction
+    private void ensureNoActiveBookingElsewhere(String candidateEmail, int targetShard) {
+        if (!shardRouter.isSharded()) {
+            return;
+        }
+        boolean active = shardRouter.scatter(shard -> shard != targetShard && bookingService.hasActiveBooking(candidateEmail))
+            .contains(true);
+        if (active) {
+            log.info("Candidate {} already has a booking on another shard", candidateEmail);
+            throw new BusinessException("Candidate already has an active booking");
+        }
+    }
+}
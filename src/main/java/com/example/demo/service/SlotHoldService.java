@@ -0,0 +1,204 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.SlotHold;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.SlotHoldRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.HoldSlotRequest;
+import com.example.demo.dto.response.HoldResponse;
+import com.example.demo.engine.BookingEngine;
+import com.example.demo.event.SlotHeldEvent;
+import com.example.demo.event.SlotReleasedEvent;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.sharding.ShardRouter;
+import com.example.demo.util.HashedTimingWheel;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Short-lived slot reservations. A held slot leaves the available feed until the candidate
+ * books it with the hold token or the hold expires. Holds are persisted in {@code slot_holds};
+ * expiry is driven by an in-memory timing wheel that releases expired holds in batches and is
+ * re-armed from the table on startup. While the booking engine is enabled no new holds are
+ * placed; existing ones can still be booked through it, released or left to expire.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlotHoldService {
+    
+    private final SlotHoldRepository slotHoldRepository;
+    private final TimeSlotRepository timeSlotRepository;
+    private final CandidateBookingRepository bookingRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ShardRouter shardRouter;
+    private final ObjectProvider<BookingEngine> bookingEngine;
+    
+    @Value("${holds.duration-minutes:5}")
+    private int holdDurationMinutes;
+    
+    @Value("${holds.wheel.tick-millis:1000}")
+    private long tickMillis;
+    
+    @Value("${holds.wheel.size:512}")
+    private int wheelSize;
+    
+    private HashedTimingWheel<Long> expiryWheel;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        expiryWheel = new HashedTimingWheel<>("slot-hold-expiry", Duration.ofMillis(tickMillis), wheelSize,
+            Duration.ofSeconds(5), this::expireHolds);
+        
+        LocalDateTime now = LocalDateTime.now();
+        List<SlotHoldRepository.HoldExpiry> holds = slotHoldRepository.findAllExpiries();
+        holds.forEach(hold -> expiryWheel.schedule(hold.getId(), Duration.between(now, hold.getExpiresAt())));
+        expiryWheel.start();
+        log.info("Slot hold expiry wheel started, {} persisted holds re-armed", holds.size());
+    }
+    
+    @PreDestroy
+    public void stop() {
+        if (expiryWheel != null) {
+            expiryWheel.stop();
+        }
+    }
+    
+    @Transactional
+    public HoldResponse holdSlot(HoldSlotRequest request) {
+        log.info("Placing hold on slot {} for candidate: {}", request.getTimeSlotId(), request.getCandidateEmail());
+        shardRouter.rejectWhenSharded("Slot holds");
+        // The engine may already have loaded the slot as available; releasing a hold needs no such check
+        if (bookingEngine.getIfAvailable() != null) {
+            throw new BusinessException("Slot holds are not available while the booking engine is enabled");
+        }
+        
+        if (bookingRepository.findByCandidateEmail(request.getCandidateEmail()).stream()
+            .anyMatch(booking -> booking.getTimeSlot().getStatus() == TimeSlot.TimeSlotStatus.BOOKED)) {
+            throw new BusinessException("Candidate already has an active booking");
+        }
+        if (slotHoldRepository.existsByCandidateEmail(request.getCandidateEmail())) {
+            throw new BusinessException("Candidate already holds a slot");
+        }
+        
+        TimeSlot timeSlot = timeSlotRepository.findById(request.getTimeSlotId())
+            .orElseThrow(() -> new ResourceNotFoundException("Time slot not found with id: " + request.getTimeSlotId()));
+        if (timeSlot.getStatus() != TimeSlot.TimeSlotStatus.AVAILABLE) {
+            throw new BusinessException("Time slot is not available");
+        }
+        
+        // Version check on the slot makes concurrent holds on the same slot fail with 409
+        timeSlot.setStatus(TimeSlot.TimeSlotStatus.HELD);
+        timeSlotRepository.save(timeSlot);
+        
+        SlotHold hold;
+        try {
+            hold = slotHoldRepository.saveAndFlush(SlotHold.builder()
+                .timeSlot(timeSlot)
+                .candidateEmail(request.getCandidateEmail())
+                .holdToken(UUID.randomUUID().toString())
+                .expiresAt(LocalDateTime.now().plusMinutes(holdDurationMinutes))
+                .build());
+        } catch (DataIntegrityViolationException e) {
+            // The unique candidate_email index catches a concurrent hold the exists check missed
+            throw new BusinessException("Candidate already holds a slot");
+        }
+        
+        // A rolled-back hold simply finds nothing to release when its timer fires
+        expiryWheel.schedule(hold.getId(), Duration.ofMinutes(holdDurationMinutes));
+        eventPublisher.publishEvent(SlotHeldEvent.builder()
+            .timeSlotId(timeSlot.getId())
+            .interviewerId(timeSlot.getInterviewer().getId())
+            .slotDateTime(timeSlot.getSlotDateTime())
+            .build());
+        
+        return HoldResponse.builder()
+            .holdToken(hold.getHoldToken())
+            .timeSlotId(timeSlot.getId())
+            .candidateEmail(hold.getCandidateEmail())
+            .slotDateTime(timeSlot.getSlotDateTime())
+            .expiresAt(hold.getExpiresAt())
+            .build();
+    }
+    
+    @Transactional
+    public void releaseHold(String holdToken) {
+        shardRouter.rejectWhenSharded("Slot holds");
+        SlotHold hold = slotHoldRepository.findByHoldToken(holdToken)
+            .orElseThrow(() -> new ResourceNotFoundException("Hold not found: " + holdToken));
+        
+        TimeSlot timeSlot = hold.getTimeSlot();
+        timeSlot.setStatus(TimeSlot.TimeSlotStatus.AVAILABLE);
+        timeSlotRepository.save(timeSlot);
+        slotHoldRepository.delete(hold);
+        publishReleased(timeSlot);
+        log.info("Hold {} released for slot {}", hold.getId(), timeSlot.getId());
+    }
+    
+    /**
+     * Converts the hold on {@code timeSlot} into a booking. Must run inside the booking
+     * transaction; the caller flips the slot from HELD to BOOKED.
+     */
+    public void consumeHold(TimeSlot timeSlot, String holdToken, String candidateEmail) {
+        SlotHold hold = slotHoldRepository.findByTimeSlotId(timeSlot.getId())
+            .orElseThrow(() -> new BusinessException("Time slot is not available"));
+        
+        if (holdToken == null || !hold.getHoldToken().equals(holdToken)
+            || !hold.getCandidateEmail().equals(candidateEmail)) {
+            throw new BusinessException("Time slot is held by another candidate");
+        }
+        if (hold.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new BusinessException("Hold has expired");
+        }
+        slotHoldRepository.delete(hold);
+    }
+    
+    private void expireHolds(List<Long> holdIds) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        LocalDateTime now = LocalDateTime.now();
+        List<SlotHoldRepository.HoldExpiry> notYetExpired = transactionTemplate.execute(status -> {
+            List<TimeSlot> releasedSlots = slotHoldRepository.findSlotsOfExpiredHolds(holdIds, now);
+            slotHoldRepository.releaseSlotsOfExpiredHolds(holdIds, now);
+            slotHoldRepository.deleteExpiredHolds(holdIds, now);
+            releasedSlots.forEach(this::publishReleased);
+            return slotHoldRepository.findExpiries(holdIds);
+        });
+        
+        // Holds still present are not expired by the stored timestamp yet (e.g. DATETIME rounded
+        // up to the second), so arm them again rather than leaving their slots HELD
+        notYetExpired.forEach(hold -> expiryWheel.schedule(hold.getId(),
+            maxDuration(Duration.between(now, hold.getExpiresAt()), Duration.ofMillis(tickMillis))));
+        log.info("Expired {} holds, re-armed {} not yet due", holdIds.size() - notYetExpired.size(), notYetExpired.size());
+    }
+    
+    private static Duration maxDuration(Duration a, Duration b) {
+        return a.compareTo(b) >= 0 ? a : b;
+    }
+    
+    private void publishReleased(TimeSlot timeSlot) {
+        eventPublisher.publishEvent(SlotReleasedEvent.builder()
+            .timeSlotId(timeSlot.getId())
+            .interviewerId(timeSlot.getInterviewer().getId())
+            .slotDateTime(timeSlot.getSlotDateTime())
+            .build());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.event.SlotReleasedEvent;
+import com.example.demo.event.SlotsCancelledEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Returns the slots of cancelled bookings to the available feed once the cancellation has
+ * committed. Slots are recycled in fixed-size batches, each one set-based update in its own
+ * transaction, so a bulk cancellation never holds row locks on the whole range at once. Past
+ * slots stay CANCELLED.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SlotRecyclingService {
+    
+    private final TimeSlotRepository timeSlotRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Value("${cancellation.recycle-batch-size:500}")
+    private int batchSize;
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotsCancelled(SlotsCancelledEvent event) {
+        if (!event.isRecycle()) {
+            return;
+        }
+        
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        
+        List<Long> slotIds = event.getTimeSlotIds();
+        int recycled = 0;
+        for (int from = 0; from < slotIds.size(); from += batchSize) {
+            List<Long> batch = slotIds.subList(from, Math.min(from + batchSize, slotIds.size()));
+            Integer count = transactionTemplate.execute(status -> recycle(batch));
+            recycled += count != null ? count : 0;
+        }
+        log.info("Recycled {} of {} cancelled slots", recycled, slotIds.size());
+    }
+    
+    private int recycle(List<Long> slotIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<TimeSlot> slots = timeSlotRepository.findRecyclableSlots(slotIds, now);
+        if (slots.isEmpty()) {
+            return 0;
+        }
+        int updated = timeSlotRepository.recycleCancelledSlots(slotIds, now);
+        slots.forEach(slot -> eventPublisher.publishEvent(SlotReleasedEvent.builder()
+            .timeSlotId(slot.getId())
+            .interviewerId(slot.getInterviewer().getId())
+            .slotDateTime(slot.getSlotDateTime())
+            .build()));
+        return updated;
+    }
+}
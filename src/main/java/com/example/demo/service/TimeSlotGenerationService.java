@@ -5,6 +5,7 @@ import com.example.demo.domain.entity.Interviewer;
 import com.example.demo.domain.entity.TimeSlot;
 import com.example.demo.domain.repository.AvailabilitySlotRepository;
 import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.util.IntervalSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,7 +15,9 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,6 +29,7 @@ public class TimeSlotGenerationService {
     private final AvailabilitySlotRepository availabilitySlotRepository;
     private final TimeSlotRepository timeSlotRepository;
     private static final int WEEKS_TO_GENERATE = 2;
+    private static final int LEGACY_SLOT_DURATION_MINUTES = 60;
     
     @Transactional
     public void generateTimeSlotsForNextWeeks(Interviewer interviewer) {
@@ -69,11 +73,22 @@ public class TimeSlotGenerationService {
             endDate.atStartOfDay()
         );
         
-        // Filter out slots that already exist
-        List<TimeSlot> newSlots = timeSlotsToCreate.stream()
-            .filter(newSlot -> existingSlots.stream()
-                .noneMatch(existing -> existing.getSlotDateTime().equals(newSlot.getSlotDateTime())))
-            .collect(Collectors.toList());
+        // Filter out slots that collide with an existing slot of any duration
+        IntervalSet.Builder occupied = IntervalSet.builder();
+        existingSlots.forEach(existing -> occupied.add(startMinute(existing), endMinute(existing)));
+        IntervalSet occupiedIntervals = occupied.build();
+        
+        // Sweep in start order so candidates from legacy overlapping rules cannot collide either
+        timeSlotsToCreate.sort(Comparator.comparing(TimeSlot::getSlotDateTime));
+        List<TimeSlot> newSlots = new ArrayList<>();
+        long acceptedEnd = Long.MIN_VALUE;
+        for (TimeSlot candidate : timeSlotsToCreate) {
+            long start = startMinute(candidate);
+            if (start >= acceptedEnd && !occupiedIntervals.overlaps(start, endMinute(candidate))) {
+                newSlots.add(candidate);
+                acceptedEnd = endMinute(candidate);
+            }
+        }
         
         if (!newSlots.isEmpty()) {
             timeSlotRepository.saveAll(newSlots);
@@ -101,6 +116,7 @@ public class TimeSlotGenerationService {
                 TimeSlot timeSlot = TimeSlot.builder()
                     .interviewer(interviewer)
                     .slotDateTime(slotDateTime)
+                    .durationMinutes(duration)
                     .status(TimeSlot.TimeSlotStatus.AVAILABLE)
                     .build();
                 slots.add(timeSlot);
@@ -111,5 +127,14 @@ public class TimeSlotGenerationService {
         
         return slots;
     }
+    
+    private static long startMinute(TimeSlot slot) {
+        return slot.getSlotDateTime().toEpochSecond(ZoneOffset.UTC) / 60;
+    }
+    
+    private static long endMinute(TimeSlot slot) {
+        int duration = slot.getDurationMinutes() != null ? slot.getDurationMinutes() : LEGACY_SLOT_DURATION_MINUTES;
+        return startMinute(slot) + duration;
+    }
 }
 
@@ -4,18 +4,31 @@ import com.example.demo.domain.entity.TimeSlot;
 import com.example.demo.domain.repository.TimeSlotRepository;
 import com.example.demo.dto.response.PagedTimeSlotResponse;
 import com.example.demo.dto.response.TimeSlotResponse;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.service.InterviewerCapacityTracker.InterviewerWeek;
+import com.example.demo.sharding.ShardRouter;
 import com.example.demo.util.CursorEncoder;
+import com.example.demo.util.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,15 +37,100 @@ import java.util.stream.Collectors;
 public class TimeSlotService {
     
     private final TimeSlotRepository timeSlotRepository;
+    private final InterviewerCapacityTracker capacityTracker;
+    private final PlatformTransactionManager transactionManager;
+    private final ShardRouter shardRouter;
+    private final SingleFlight<PageKey, PagedTimeSlotResponse> inFlightPages = new SingleFlight<>();
     private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_RANKED_SCAN_ROUNDS = 5;
+    
+    public enum SlotRanking {
+        CHRONOLOGICAL,  // (slotDateTime, id) order, every available slot
+        HIDE_FULL,      // Chronological, without slots of interviewers at their weekly limit
+        BALANCED        // As HIDE_FULL, each page reordered to spread load across interviewers
+    }
     
-    @Transactional(readOnly = true)
     public PagedTimeSlotResponse getAvailableSlots(String cursor, Integer pageSize) {
+        return getAvailableSlots(cursor, pageSize, SlotRanking.CHRONOLOGICAL);
+    }
+    
+    /**
+     * Concurrent identical requests (same cursor, page size and ranking) share one in-flight
+     * query and its response. Only the caller that starts the query opens a read-only
+     * transaction; the entry is dropped as soon as the query completes, so nothing is cached.
+     * When sharded, every shard is queried in parallel and the pages are merged.
+     */
+    public PagedTimeSlotResponse getAvailableSlots(String cursor, Integer pageSize, SlotRanking ranking) {
+        PageKey key = pageKey(cursor, pageSize, ranking);
+        return inFlightPages.execute(key, () -> query(key));
+    }
+    
+    /**
+     * Runs the query without joining one already in flight, for callers that coalesce on a key
+     * of their own: the page cache must not share a result whose query started before a change.
+     */
+    public PagedTimeSlotResponse queryAvailableSlots(String cursor, Integer pageSize, SlotRanking ranking) {
+        return query(pageKey(cursor, pageSize, ranking));
+    }
+    
+    private PageKey pageKey(String cursor, Integer pageSize, SlotRanking ranking) {
+        PageKey key = new PageKey(cursor == null ? "" : cursor, normalizePageSize(pageSize),
+            ranking == null ? SlotRanking.CHRONOLOGICAL : ranking);
+        if (shardRouter.isSharded() && key.ranking() != SlotRanking.CHRONOLOGICAL) {
+            throw new BusinessException("Ranked slot feeds are not available when sharding is enabled");
+        }
+        return key;
+    }
+    
+    private PagedTimeSlotResponse query(PageKey key) {
+        return shardRouter.isSharded()
+            ? mergeShardPages(shardRouter.scatter(shard -> loadReadOnly(key)), key.pageSize())
+            : loadReadOnly(key);
+    }
+    
+    private PagedTimeSlotResponse loadReadOnly(PageKey key) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> loadAvailableSlots(key));
+    }
+    
+    /**
+     * Each shard page holds that shard's first pageSize slots after the cursor, so the first
+     * pageSize slots of their union in (slotDateTime, id) order are the global page. Ids are
+     * unique across shards, so the cursor stays a total order.
+     */
+    static PagedTimeSlotResponse mergeShardPages(List<PagedTimeSlotResponse> shardPages, int pageSize) {
+        List<TimeSlotResponse> merged = new ArrayList<>();
+        boolean moreOnShards = false;
+        for (PagedTimeSlotResponse page : shardPages) {
+            merged.addAll(page.getTimeSlots());
+            moreOnShards |= Boolean.TRUE.equals(page.getHasNextPage());
+        }
+        merged.sort(Comparator.comparing(TimeSlotResponse::getSlotDateTime).thenComparing(TimeSlotResponse::getId));
+        
+        boolean hasNextPage = moreOnShards || merged.size() > pageSize;
+        List<TimeSlotResponse> timeSlots = merged.size() > pageSize ? new ArrayList<>(merged.subList(0, pageSize)) : merged;
+        TimeSlotResponse last = timeSlots.isEmpty() ? null : timeSlots.get(timeSlots.size() - 1);
+        return PagedTimeSlotResponse.builder()
+            .timeSlots(timeSlots)
+            .nextCursor(hasNextPage && last != null ? CursorEncoder.encode(last.getSlotDateTime(), last.getId()) : null)
+            .hasNextPage(hasNextPage)
+            .pageSize(pageSize)
+            .build();
+    }
+    
+    static int normalizePageSize(Integer pageSize) {
         if (pageSize == null || pageSize <= 0) {
-            pageSize = DEFAULT_PAGE_SIZE;
+            return DEFAULT_PAGE_SIZE;
         }
-        if (pageSize > 100) {
-            pageSize = 100; // Limit max page size
+        return Math.min(pageSize, 100); // Limit max page size
+    }
+    
+    private PagedTimeSlotResponse loadAvailableSlots(PageKey key) {
+        String cursor = key.cursor();
+        int pageSize = key.pageSize();
+        if (key.ranking() != SlotRanking.CHRONOLOGICAL) {
+            return getRankedSlots(cursor, pageSize, key.ranking());
         }
         
         Pageable pageable = PageRequest.of(0, pageSize);
@@ -76,6 +174,111 @@ public class TimeSlotService {
             .build();
     }
     
+    /**
+     * Scans the chronological feed (a bounded number of keyset pages) and keeps only slots of
+     * interviewers with weekly capacity left. The next cursor points at the last scanned slot,
+     * so pages stay disjoint and complete; BALANCED only reorders slots within the page.
+     */
+    private PagedTimeSlotResponse getRankedSlots(String cursor, int pageSize, SlotRanking ranking) {
+        LocalDateTime cursorDateTime = null;
+        Long cursorId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            CursorEncoder.Cursor decodedCursor = CursorEncoder.decode(cursor);
+            cursorDateTime = decodedCursor.getDateTime();
+            cursorId = decodedCursor.getId();
+        }
+        
+        List<TimeSlot> kept = new ArrayList<>();
+        Map<InterviewerWeek, Integer> remaining = new HashMap<>();
+        TimeSlot lastScanned = null;
+        boolean hasMore = true;
+        for (int round = 0; round < MAX_RANKED_SCAN_ROUNDS && hasMore && kept.size() < pageSize; round++) {
+            Pageable pageable = PageRequest.of(0, pageSize);
+            Page<TimeSlot> page = cursorDateTime == null
+                ? timeSlotRepository.findAvailableSlots(TimeSlot.TimeSlotStatus.AVAILABLE, pageable)
+                : timeSlotRepository.findAvailableSlotsAfterCursor(
+                    TimeSlot.TimeSlotStatus.AVAILABLE, cursorDateTime, cursorId, pageable);
+            
+            remaining.putAll(capacityTracker.remainingCapacity(page.getContent().stream()
+                .map(TimeSlotService::weekOf)
+                .collect(Collectors.toSet())));
+            
+            int scanned = 0;
+            for (TimeSlot slot : page.getContent()) {
+                if (kept.size() == pageSize) {
+                    break;
+                }
+                lastScanned = slot;
+                scanned++;
+                if (remaining.getOrDefault(weekOf(slot), 0) > 0) {
+                    kept.add(slot);
+                }
+            }
+            hasMore = page.hasNext() || scanned < page.getNumberOfElements();
+            if (lastScanned != null) {
+                cursorDateTime = lastScanned.getSlotDateTime();
+                cursorId = lastScanned.getId();
+            }
+        }
+        
+        if (ranking == SlotRanking.BALANCED) {
+            kept = balance(kept, remaining);
+        }
+        
+        List<TimeSlotResponse> timeSlotResponses = kept.stream()
+            .map(slot -> {
+                TimeSlotResponse response = mapToResponse(slot);
+                response.setRemainingWeeklyCapacity(remaining.get(weekOf(slot)));
+                return response;
+            })
+            .collect(Collectors.toList());
+        
+        return PagedTimeSlotResponse.builder()
+            .timeSlots(timeSlotResponses)
+            .nextCursor(hasMore && lastScanned != null
+                ? CursorEncoder.encode(lastScanned.getSlotDateTime(), lastScanned.getId())
+                : null)
+            .hasNextPage(hasMore)
+            .pageSize(pageSize)
+            .build();
+    }
+    
+    // Greedy interleave: repeatedly take the earliest slot of the interviewer with the most
+    // capacity left in that slot's week after the slots already placed on this page
+    private List<TimeSlot> balance(List<TimeSlot> slots, Map<InterviewerWeek, Integer> remaining) {
+        Map<Long, Deque<TimeSlot>> byInterviewer = new LinkedHashMap<>();
+        slots.forEach(slot -> byInterviewer.computeIfAbsent(slot.getInterviewer().getId(), id -> new ArrayDeque<>()).add(slot));
+        
+        Map<InterviewerWeek, Integer> placed = new HashMap<>();
+        PriorityQueue<Deque<TimeSlot>> queue = new PriorityQueue<>(Comparator
+            .<Deque<TimeSlot>>comparingInt(deque -> {
+                InterviewerWeek week = weekOf(deque.peekFirst());
+                return -(remaining.getOrDefault(week, 0) - placed.getOrDefault(week, 0));
+            })
+            .thenComparing(deque -> deque.peekFirst().getSlotDateTime())
+            .thenComparing(deque -> deque.peekFirst().getId()));
+        queue.addAll(byInterviewer.values());
+        
+        List<TimeSlot> balanced = new ArrayList<>(slots.size());
+        while (!queue.isEmpty()) {
+            Deque<TimeSlot> next = queue.poll();
+            TimeSlot slot = next.pollFirst();
+            balanced.add(slot);
+            placed.merge(weekOf(slot), 1, Integer::sum);
+            if (!next.isEmpty()) {
+                queue.add(next);
+            }
+        }
+        return balanced;
+    }
+    
+    private static InterviewerWeek weekOf(TimeSlot slot) {
+        return InterviewerWeek.of(slot.getInterviewer().getId(), slot.getSlotDateTime());
+    }
+    
+    private record PageKey(String cursor, int pageSize, SlotRanking ranking) {
+    }
+    
     private TimeSlotResponse mapToResponse(TimeSlot timeSlot) {
         return TimeSlotResponse.builder()
             .id(timeSlot.getId())
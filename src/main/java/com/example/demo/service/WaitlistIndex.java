@@ -0,0 +1,120 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory FIFO queues of waitlist tickets, bucketed by (interviewer, day) so a released slot
+ * only inspects the queues of its own day. Tickets for "any interviewer" live under a shared
+ * key. Removal is lazy: cancelled and expired tickets are dropped when a queue is next scanned.
+ */
+public class WaitlistIndex {
+    
+    private static final long ANY_INTERVIEWER = -1L;
+    
+    public record Ticket(Long entryId, String candidateName, String candidateEmail, Long interviewerId,
+                         LocalDateTime windowStart, LocalDateTime windowEnd, long sequence) {
+        
+        boolean covers(LocalDateTime slotDateTime) {
+            return !slotDateTime.isBefore(windowStart) && slotDateTime.isBefore(windowEnd);
+        }
+    }
+    
+    private record QueueKey(long interviewerId, LocalDate day) {
+    }
+    
+    private final Map<QueueKey, Deque<Ticket>> queues = new ConcurrentHashMap<>();
+    private final Map<Long, Ticket> active = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    
+    public Ticket add(Long entryId, String candidateName, String candidateEmail, Long interviewerId,
+                      LocalDateTime windowStart, LocalDateTime windowEnd) {
+        Ticket ticket = new Ticket(entryId, candidateName, candidateEmail, interviewerId,
+            windowStart, windowEnd, sequence.incrementAndGet());
+        enqueue(ticket);
+        return ticket;
+    }
+    
+    /**
+     * Puts a previously matched ticket back with its original position in line.
+     */
+    public void restore(Ticket ticket) {
+        enqueue(ticket);
+    }
+    
+    public boolean remove(Long entryId) {
+        return active.remove(entryId) != null;
+    }
+    
+    /**
+     * Claims the longest-waiting ticket whose window covers the slot. The ticket is removed
+     * from the index; callers {@link #restore} it if the assignment fails.
+     */
+    public Optional<Ticket> claim(Long interviewerId, LocalDateTime slotDateTime) {
+        LocalDate day = slotDateTime.toLocalDate();
+        while (true) {
+            Ticket specific = oldestMatch(new QueueKey(interviewerId, day), slotDateTime);
+            Ticket any = oldestMatch(new QueueKey(ANY_INTERVIEWER, day), slotDateTime);
+            Ticket best = specific == null ? any
+                : any == null ? specific
+                : specific.sequence() < any.sequence() ? specific : any;
+            if (best == null) {
+                return Optional.empty();
+            }
+            if (active.remove(best.entryId(), best)) {
+                return Optional.of(best);
+            }
+            // Lost a race with remove(); look again
+        }
+    }
+    
+    /**
+     * Drops the queues of past days and every ticket whose window has ended.
+     */
+    public void purgeExpired(LocalDateTime now) {
+        LocalDate today = now.toLocalDate();
+        queues.keySet().removeIf(key -> key.day().isBefore(today));
+        active.values().removeIf(ticket -> !ticket.windowEnd().isAfter(now));
+    }
+    
+    public int size() {
+        return active.size();
+    }
+    
+    private void enqueue(Ticket ticket) {
+        active.put(ticket.entryId(), ticket);
+        long interviewerKey = ticket.interviewerId() == null ? ANY_INTERVIEWER : ticket.interviewerId();
+        LocalDate lastDay = ticket.windowEnd().minusNanos(1).toLocalDate();
+        for (LocalDate day = ticket.windowStart().toLocalDate(); !day.isAfter(lastDay); day = day.plusDays(1)) {
+            Deque<Ticket> queue = queues.computeIfAbsent(new QueueKey(interviewerKey, day),
+                key -> new ConcurrentLinkedDeque<>());
+            if (!queue.contains(ticket)) { // A restored ticket may not have been purged yet
+                queue.addLast(ticket);
+            }
+        }
+    }
+    
+    private Ticket oldestMatch(QueueKey key, LocalDateTime slotDateTime) {
+        Deque<Ticket> queue = queues.get(key);
+        if (queue == null) {
+            return null;
+        }
+        Ticket oldest = null;
+        for (Ticket ticket : queue) {
+            if (active.get(ticket.entryId()) != ticket) {
+                queue.remove(ticket);
+                continue;
+            }
+            if (ticket.covers(slotDateTime) && (oldest == null || ticket.sequence() < oldest.sequence())) {
+                oldest = ticket;
+            }
+        }
+        return oldest;
+    }
+}
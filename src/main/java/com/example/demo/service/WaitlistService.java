@@ -0,0 +1,189 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.WaitlistEntry;
+import com.example.demo.domain.repository.WaitlistEntryRepository;
+import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.dto.request.JoinWaitlistRequest;
+import com.example.demo.dto.response.BookingResponse;
+import com.example.demo.dto.response.WaitlistEntryResponse;
+import com.example.demo.event.SlotReleasedEvent;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Candidates register interest in a time window (optionally for one interviewer). When a slot
+ * is released, the waitlist worker books it for the longest-waiting matching candidate after
+ * the release has committed, so released slots no longer go to whoever polls fastest.
+ * Entries live on the default shard; the booking is routed to the shard that owns the slot.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistService {
+    
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final ShardedBookingService shardedBookingService;
+    
+    private final WaitlistIndex index = new WaitlistIndex();
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadWaitingEntries() {
+        // An assignment cut short by a restart goes back in line; a booking it made is caught on the next claim
+        waitlistEntryRepository.resetAssigning();
+        List<WaitlistEntry> entries = waitlistEntryRepository
+            .findByStatusAndWindowEndAfterOrderByCreatedAtAscIdAsc(WaitlistEntry.WaitlistStatus.WAITING, LocalDateTime.now());
+        entries.forEach(this::register);
+        log.info("Loaded {} waiting waitlist entries", entries.size());
+    }
+    
+    @Transactional
+    public WaitlistEntryResponse join(JoinWaitlistRequest request) {
+        log.info("Adding candidate {} to waitlist", request.getCandidateEmail());
+        
+        if (!request.getWindowStart().isBefore(request.getWindowEnd())) {
+            throw new BusinessException("Window start must be before window end");
+        }
+        if (!request.getWindowEnd().isAfter(LocalDateTime.now())) {
+            throw new BusinessException("Window has already passed");
+        }
+        if (hasActiveBooking(request.getCandidateEmail())) {
+            throw new BusinessException("Candidate already has an active booking");
+        }
+        if (waitlistEntryRepository.existsByCandidateEmailAndStatusAndWindowEndAfter(
+                request.getCandidateEmail(), WaitlistEntry.WaitlistStatus.WAITING, LocalDateTime.now())) {
+            throw new BusinessException("Candidate is already on the waitlist");
+        }
+        
+        WaitlistEntry entry = waitlistEntryRepository.save(WaitlistEntry.builder()
+            .candidateName(request.getCandidateName())
+            .candidateEmail(request.getCandidateEmail())
+            .interviewerId(request.getInterviewerId())
+            .windowStart(request.getWindowStart())
+            .windowEnd(request.getWindowEnd())
+            .build());
+        
+        afterCommit(() -> register(entry));
+        return mapToResponse(entry);
+    }
+    
+    @Transactional
+    public WaitlistEntryResponse leave(Long entryId) {
+        WaitlistEntry entry = findEntry(entryId);
+        // Guarded so a leave never overwrites an assignment the worker has already claimed
+        if (!updateStatus(entryId, WaitlistEntry.WaitlistStatus.WAITING,
+                WaitlistEntry.WaitlistStatus.CANCELLED, null)) {
+            throw new BusinessException("Waitlist entry is no longer waiting");
+        }
+        entry.setStatus(WaitlistEntry.WaitlistStatus.CANCELLED);
+        afterCommit(() -> index.remove(entryId));
+        return mapToResponse(entry);
+    }
+    
+    public WaitlistEntryResponse getEntry(Long entryId) {
+        return mapToResponse(findEntry(entryId));
+    }
+    
+    @Async("waitlistExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSlotReleased(SlotReleasedEvent event) {
+        index.purgeExpired(LocalDateTime.now());
+        
+        while (true) {
+            Optional<WaitlistIndex.Ticket> claimed = index.claim(event.getInterviewerId(), event.getSlotDateTime());
+            if (claimed.isEmpty()) {
+                return;
+            }
+            WaitlistIndex.Ticket ticket = claimed.get();
+            
+            if (hasActiveBooking(ticket.candidateEmail())) {
+                // Booked elsewhere in the meantime; drop the entry and offer the slot to the next in line
+                updateStatus(ticket.entryId(), WaitlistEntry.WaitlistStatus.WAITING,
+                    WaitlistEntry.WaitlistStatus.CANCELLED, null);
+                continue;
+            }
+            if (!updateStatus(ticket.entryId(), WaitlistEntry.WaitlistStatus.WAITING,
+                    WaitlistEntry.WaitlistStatus.ASSIGNING, null)) {
+                // Left the waitlist before its removal reached the index; offer the slot to the next in line
+                continue;
+            }
+            
+            BookSlotRequest bookRequest = new BookSlotRequest();
+            bookRequest.setTimeSlotId(event.getTimeSlotId());
+            bookRequest.setCandidateName(ticket.candidateName());
+            bookRequest.setCandidateEmail(ticket.candidateEmail());
+            try {
+                BookingResponse booking = shardedBookingService.bookSlot(bookRequest);
+                updateStatus(ticket.entryId(), WaitlistEntry.WaitlistStatus.ASSIGNING,
+                    WaitlistEntry.WaitlistStatus.ASSIGNED, booking.getBookingId());
+                log.info("Assigned released slot {} to waitlisted candidate {}", event.getTimeSlotId(), ticket.candidateEmail());
+            } catch (RuntimeException e) {
+                // Slot was taken first or breaks the interviewer's weekly cap; keep the candidate in line
+                updateStatus(ticket.entryId(), WaitlistEntry.WaitlistStatus.ASSIGNING,
+                    WaitlistEntry.WaitlistStatus.WAITING, null);
+                index.restore(ticket);
+                log.info("Could not assign released slot {} from waitlist: {}", event.getTimeSlotId(), e.getMessage());
+            }
+            return;
+        }
+    }
+    
+    private void register(WaitlistEntry entry) {
+        index.add(entry.getId(), entry.getCandidateName(), entry.getCandidateEmail(),
+            entry.getInterviewerId(), entry.getWindowStart(), entry.getWindowEnd());
+    }
+    
+    private boolean updateStatus(Long entryId, WaitlistEntry.WaitlistStatus expected,
+                                 WaitlistEntry.WaitlistStatus status, Long bookingId) {
+        return waitlistEntryRepository.updateStatus(entryId, expected, status, bookingId) == 1;
+    }
+    
+    private boolean hasActiveBooking(String candidateEmail) {
+        return shardedBookingService.hasActiveBooking(candidateEmail);
+    }
+    
+    private WaitlistEntry findEntry(Long entryId) {
+        return waitlistEntryRepository.findById(entryId)
+            .orElseThrow(() -> new ResourceNotFoundException("Waitlist entry not found with id: " + entryId));
+    }
+    
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
+    private WaitlistEntryResponse mapToResponse(WaitlistEntry entry) {
+        return WaitlistEntryResponse.builder()
+            .id(entry.getId())
+            .candidateName(entry.getCandidateName())
+            .candidateEmail(entry.getCandidateEmail())
+            .interviewerId(entry.getInterviewerId())
+            .windowStart(entry.getWindowStart())
+            .windowEnd(entry.getWindowEnd())
+            .status(entry.getStatus())
+            .bookingId(entry.getBookingId())
+            .createdAt(entry.getCreatedAt())
+            .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * Shard the current thread is routed to. Unset means the default shard (0). The shard must be
+ * chosen before a transaction starts: the connection is taken when the transaction begins.
+ */
+public final class ShardContext {
+    
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+    
+    private ShardContext() {
+    }
+    
+    public static Integer current() {
+        return CURRENT.get();
+    }
+    
+    static <T> T callOn(int shard, Supplier<T> work) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.sharding;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Where interviewer-scoped data lives. An interviewer's home shard is derived from their email,
+ * so availability updates find the existing row without a lookup. Identity columns on shard
+ * {@code k} of {@code N} hand out ids {@code k+1, k+1+N, ...}, so any interviewer, slot or
+ * booking id resolves to its shard arithmetically. Changing the shard count needs a reshard.
+ */
+@Component
+public class ShardDirectory {
+    
+    private final List<String> shardUrls;
+    private final int shardCount;
+    
+    @Autowired
+    public ShardDirectory(@Value("${sharding.enabled:false}") boolean enabled,
+                          @Value("${sharding.urls:}") List<String> shardUrls) {
+        this(enabled ? shardUrls : List.of());
+        if (enabled && shardUrls.isEmpty()) {
+            throw new IllegalStateException("sharding.enabled requires sharding.urls");
+        }
+    }
+    
+    public ShardDirectory(List<String> shardUrls) {
+        this.shardUrls = shardUrls.stream().map(String::trim).toList();
+        this.shardCount = Math.max(1, this.shardUrls.size());
+    }
+    
+    public boolean isSharded() {
+        return !shardUrls.isEmpty();
+    }
+    
+    public int shardCount() {
+        return shardCount;
+    }
+    
+    public List<String> shardUrls() {
+        return shardUrls;
+    }
+    
+    public int shardOf(Long id) {
+        return (int) Math.floorMod(id - 1, (long) shardCount);
+    }
+    
+    public int homeShardOf(String interviewerEmail) {
+        return Math.floorMod(interviewerEmail.toLowerCase(Locale.ROOT).hashCode(), shardCount);
+    }
+    
+    // First id at or after minId that shard hands out
+    public long nextIdOnShard(int shard, long minId) {
+        long first = shard + 1;
+        return minId <= first ? first : first + ((minId - first + shardCount - 1) / shardCount) * shardCount;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.sharding;
+
+import com.example.demo.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs work against one shard, or against every shard at once. Routed work runs on the calling
+ * thread and must open its own transactions; scatter work runs one task per shard in parallel.
+ * With a single shard both run inline.
+ */
+@Component
+public class ShardRouter {
+    
+    private final ShardDirectory directory;
+    private final ExecutorService scatterPool;
+    
+    public ShardRouter(ShardDirectory directory) {
+        this.directory = directory;
+        AtomicInteger threads = new AtomicInteger();
+        this.scatterPool = directory.isSharded()
+            ? Executors.newFixedThreadPool(directory.shardCount() * 2, task -> {
+                Thread thread = new Thread(task, "shard-scatter-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            })
+            : null;
+    }
+    
+    public boolean isSharded() {
+        return directory.isSharded();
+    }
+    
+    /** For features that keep their data on shard 0 only and would silently miss the others. */
+    public void rejectWhenSharded(String feature) {
+        if (isSharded()) {
+            throw new BusinessException(feature + " is not available when sharding is enabled");
+        }
+    }
+    
+    public int shardCount() {
+        return directory.shardCount();
+    }
+    
+    public int shardOf(Long id) {
+        return directory.shardOf(id);
+    }
+    
+    public <T> T onShard(int shard, Supplier<T> work) {
+        return ShardContext.callOn(shard, work);
+    }
+    
+    public <T> T onShardOf(Long id, Supplier<T> work) {
+        return onShard(directory.shardOf(id), work);
+    }
+    
+    public <T> T onHomeShard(String interviewerEmail, Supplier<T> work) {
+        return onShard(directory.homeShardOf(interviewerEmail), work);
+    }
+    
+    /** Results are indexed by shard. The first failure is rethrown once every task has finished. */
+    public <T> List<T> scatter(IntFunction<T> work) {
+        if (scatterPool == null) {
+            return List.of(onShard(0, () -> work.apply(0)));
+        }
+        List<CompletableFuture<T>> tasks = new ArrayList<>(shardCount());
+        for (int shard = 0; shard < shardCount(); shard++) {
+            int target = shard;
+            tasks.add(CompletableFuture.supplyAsync(() -> onShard(target, () -> work.apply(target)), scatterPool));
+        }
+        try {
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        return tasks.stream().map(CompletableFuture::join).toList();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (scatterPool != null) {
+            scatterPool.shutdownNow();
+        }
+    }
+    
+    public void forEachShard(Runnable work) {
+        for (int shard = 0; shard < shardCount(); shard++) {
+            onShard(shard, () -> {
+                work.run();
+                return null;
+            });
+        }
+    }
+}
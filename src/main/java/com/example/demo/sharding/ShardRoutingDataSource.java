@@ -0,0 +1,38 @@
+package com.example.demo.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands out connections from the pool of the shard in {@link ShardContext}, or shard 0 when
+ * none is set (schema bootstrap, unrouted features).
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    
+    private final List<HikariDataSource> shards;
+    
+    public ShardRoutingDataSource(List<HikariDataSource> shards) {
+        this.shards = List.copyOf(shards);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            targets.put(shard, shards.get(shard));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.get(0));
+        setLenientFallback(false);
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+    
+    @Override
+    public void close() {
+        shards.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.demo.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hibernate only manages the schema of the connection it is given at startup, which the routing
+ * data source resolves to shard 0. This captures the mapping metadata as an integrator and, once
+ * the context is up, brings every other shard's schema up to date the same way. It then
+ * interleaves the identity columns of the sharded tables (see {@link ShardDirectory}) on H2;
+ * MySQL pools get the equivalent {@code auto_increment_increment/offset} session settings.
+ */
+@Slf4j
+public class ShardSchemaInitializer implements Integrator, SmartInitializingSingleton {
+    
+    static final List<String> SHARDED_TABLES =
+        List.of("interviewers", "availability_slots", "time_slots", "candidate_bookings");
+    
+    private final ShardDirectory directory;
+    private final DataSource dataSource;
+    private volatile Metadata metadata;
+    private volatile SessionFactoryImplementor sessionFactory;
+    
+    public ShardSchemaInitializer(ShardDirectory directory, DataSource dataSource) {
+        this.directory = directory;
+        this.dataSource = dataSource;
+    }
+    
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+        this.sessionFactory = sessionFactory;
+    }
+    
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        this.metadata = null;
+        this.sessionFactory = null;
+    }
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (metadata == null) {
+            throw new IllegalStateException("Hibernate metadata was not captured; shard schemas cannot be created");
+        }
+        Map<String, Object> settings = Map.of(
+            AvailableSettings.JAKARTA_HBM2DDL_DATABASE_ACTION, "update",
+            AvailableSettings.HBM2DDL_HALT_ON_ERROR, true);
+        for (int shard = 0; shard < directory.shardCount(); shard++) {
+            int target = shard;
+            ShardContext.callOn(target, () -> {
+                if (target > 0) {
+                    SchemaManagementToolCoordinator.process(metadata, sessionFactory.getServiceRegistry(), settings, action -> { });
+                }
+                interleaveIdentities(target);
+                return null;
+            });
+        }
+        log.info("Schema ready on {} shards", directory.shardCount());
+    }
+    
+    private void interleaveIdentities(int shard) {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            if (!"H2".equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+            for (String table : SHARDED_TABLES) {
+                long maxId;
+                try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                    rs.next();
+                    maxId = rs.getLong(1);
+                }
+                statement.execute(String.format("ALTER TABLE %s ALTER COLUMN id RESTART WITH %d SET INCREMENT BY %d",
+                    table, directory.nextIdOnShard(shard, maxId + 1), directory.shardCount()));
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not interleave identities on shard " + shard, e);
+        }
+    }
+}
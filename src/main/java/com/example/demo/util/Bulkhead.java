@@ -0,0 +1,92 @@
+package com.example.demo.util;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caps the number of concurrent callers. When every permit is taken, up to {@code maxQueued}
+ * further callers wait at most {@code maxWait} for one, in arrival order; anyone beyond that is
+ * refused at once, so an overloaded partition sheds load instead of piling up threads.
+ */
+public class Bulkhead {
+    
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long maxWaitNanos;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    
+    public Bulkhead(int maxConcurrent, int maxQueued, Duration maxWait) {
+        if (maxConcurrent < 1 || maxQueued < 0 || maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxConcurrent must be positive, maxQueued and maxWait not negative");
+        }
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+    
+    /**
+     * @return whether a permit was taken; if so the caller must {@link #release()} it
+     */
+    public boolean tryAcquire() {
+        try {
+            // A timed acquire honours fairness; the untimed one would overtake queued callers
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                admitted.increment();
+                return true;
+            }
+            if (queued.incrementAndGet() > maxQueued) {
+                queued.decrementAndGet();
+            } else {
+                try {
+                    if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                        admitted.increment();
+                        delayed.increment();
+                        return true;
+                    }
+                } finally {
+                    queued.decrementAndGet();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        return false;
+    }
+    
+    public void release() {
+        permits.release();
+    }
+    
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+    
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+    
+    public int getQueued() {
+        return queued.get();
+    }
+    
+    public long getAdmitted() {
+        return admitted.sum();
+    }
+    
+    public long getDelayed() {
+        return delayed.sum();
+    }
+    
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
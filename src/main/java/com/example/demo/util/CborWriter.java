@@ -0,0 +1,106 @@
+package com.example.demo.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal streaming CBOR (RFC 8949) encoder for the types the slot feeds need: integers,
+ * UTF-8 strings, booleans, null and definite-length arrays and maps. Integers use the
+ * shortest head, so small ids and minute deltas take one to three bytes. Not thread-safe.
+ */
+public class CborWriter implements AutoCloseable {
+    
+    private static final int MAJOR_UNSIGNED = 0;
+    private static final int MAJOR_NEGATIVE = 1;
+    private static final int MAJOR_TEXT = 3;
+    private static final int MAJOR_ARRAY = 4;
+    private static final int MAJOR_MAP = 5;
+    
+    private static final int FALSE = 0xF4;
+    private static final int TRUE = 0xF5;
+    private static final int NULL = 0xF6;
+    
+    private final OutputStream out;
+    private final byte[] head = new byte[9];
+    
+    public CborWriter(OutputStream out) {
+        this.out = out;
+    }
+    
+    public CborWriter startArray(int size) throws IOException {
+        writeHead(MAJOR_ARRAY, size);
+        return this;
+    }
+    
+    public CborWriter startMap(int entries) throws IOException {
+        writeHead(MAJOR_MAP, entries);
+        return this;
+    }
+    
+    public CborWriter writeLong(long value) throws IOException {
+        if (value >= 0) {
+            writeHead(MAJOR_UNSIGNED, value);
+        } else {
+            writeHead(MAJOR_NEGATIVE, -1 - value);
+        }
+        return this;
+    }
+    
+    public CborWriter writeString(String value) throws IOException {
+        if (value == null) {
+            return writeNull();
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeHead(MAJOR_TEXT, bytes.length);
+        out.write(bytes);
+        return this;
+    }
+    
+    public CborWriter writeBoolean(boolean value) throws IOException {
+        out.write(value ? TRUE : FALSE);
+        return this;
+    }
+    
+    public CborWriter writeNull() throws IOException {
+        out.write(NULL);
+        return this;
+    }
+    
+    public void flush() throws IOException {
+        out.flush();
+    }
+    
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+    
+    // The argument is treated as unsigned, so -1 - Long.MIN_VALUE still encodes correctly
+    private void writeHead(int major, long argument) throws IOException {
+        int type = major << 5;
+        if (Long.compareUnsigned(argument, 24) < 0) {
+            out.write(type | (int) argument);
+            return;
+        }
+        int length;
+        if (Long.compareUnsigned(argument, 0xFFL) <= 0) {
+            head[0] = (byte) (type | 24);
+            length = 1;
+        } else if (Long.compareUnsigned(argument, 0xFFFFL) <= 0) {
+            head[0] = (byte) (type | 25);
+            length = 2;
+        } else if (Long.compareUnsigned(argument, 0xFFFFFFFFL) <= 0) {
+            head[0] = (byte) (type | 26);
+            length = 4;
+        } else {
+            head[0] = (byte) (type | 27);
+            length = 8;
+        }
+        for (int i = length; i >= 1; i--) {
+            head[i] = (byte) argument;
+            argument >>>= 8;
+        }
+        out.write(head, 0, length + 1);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.demo.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel: O(1) scheduling, with all timers that expire on the same tick handed to
+ * the expiry handler as one batch. Scheduling threads only touch a lock-free pending queue;
+ * the buckets are owned by the single worker thread.
+ */
+@Slf4j
+public class HashedTimingWheel<T> {
+    
+    private final long tickNanos;
+    private final int mask;
+    private final List<List<Timeout<T>>> wheel;
+    private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Consumer<List<T>> expiryHandler;
+    private final Duration retryDelay;
+    private final Thread worker;
+    private volatile boolean running;
+    private long startNanos;
+    private long tick;
+    
+    public HashedTimingWheel(String name, Duration tickDuration, int ticksPerWheel,
+                             Duration retryDelay, Consumer<List<T>> expiryHandler) {
+        if (Integer.bitCount(ticksPerWheel) != 1) {
+            throw new IllegalArgumentException("ticksPerWheel must be a power of two");
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = ticksPerWheel - 1;
+        this.wheel = new ArrayList<>(ticksPerWheel);
+        for (int i = 0; i < ticksPerWheel; i++) {
+            wheel.add(new ArrayList<>());
+        }
+        this.retryDelay = retryDelay;
+        this.expiryHandler = expiryHandler;
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+    }
+    
+    public synchronized void start() {
+        if (!running) {
+            startNanos = System.nanoTime();
+            running = true;
+            worker.start();
+        }
+    }
+    
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+    
+    public void schedule(T item, Duration delay) {
+        pending.add(new Timeout<>(item, System.nanoTime() + Math.max(delay.toNanos(), 0)));
+        size.incrementAndGet();
+    }
+    
+    public int size() {
+        return size.get();
+    }
+    
+    private void run() {
+        while (running) {
+            long deadline = startNanos + (tick + 1) * tickNanos;
+            long sleepNanos = deadline - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                }
+            }
+            transferPending();
+            expireBucket(wheel.get((int) (tick & mask)), System.nanoTime());
+            tick++;
+        }
+    }
+    
+    private void transferPending() {
+        Timeout<T> timeout;
+        while ((timeout = pending.poll()) != null) {
+            long expiryTick = Math.max((timeout.deadlineNanos - startNanos) / tickNanos, tick);
+            timeout.remainingRounds = (expiryTick - tick) / wheel.size();
+            wheel.get((int) (expiryTick & mask)).add(timeout);
+        }
+    }
+    
+    private void expireBucket(List<Timeout<T>> bucket, long now) {
+        List<T> expired = null;
+        Iterator<Timeout<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else if (timeout.deadlineNanos <= now) {
+                iterator.remove();
+                size.decrementAndGet();
+                if (expired == null) {
+                    expired = new ArrayList<>();
+                }
+                expired.add(timeout.item);
+            } else {
+                // Never fire early: a timer that is not yet due moves on to the next tick
+                iterator.remove();
+                pending.add(timeout);
+            }
+        }
+        
+        if (expired != null) {
+            try {
+                expiryHandler.accept(expired);
+            } catch (RuntimeException e) {
+                log.warn("Expiry handler failed for {} timers, retrying in {}", expired.size(), retryDelay, e);
+                expired.forEach(item -> schedule(item, retryDelay));
+            }
+        }
+    }
+    
+    private static class Timeout<T> {
+        private final T item;
+        private final long deadlineNanos;
+        private long remainingRounds;
+        
+        Timeout(T item, long deadlineNanos) {
+            this.item = item;
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.util;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of half-open {@code [start, end)} intervals, stored as sorted, merged,
+ * disjoint arrays. Building is O(n log n); {@link #overlaps} is a binary search, O(log n).
+ */
+public final class IntervalSet {
+    
+    private final long[] starts;
+    private final long[] ends;
+    
+    private IntervalSet(long[] starts, long[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+    
+    public static Builder builder() {
+        return new Builder();
+    }
+    
+    /**
+     * @return {@code true} if {@code [start, end)} intersects any interval in the set
+     */
+    public boolean overlaps(long start, long end) {
+        // Last interval starting before the query ends is the only candidate, as intervals are disjoint
+        int index = Arrays.binarySearch(starts, end);
+        int candidate = index >= 0 ? index - 1 : -index - 2;
+        return candidate >= 0 && ends[candidate] > start;
+    }
+    
+    public int size() {
+        return starts.length;
+    }
+    
+    public static final class Builder {
+        
+        private long[][] intervals = new long[16][];
+        private int count;
+        
+        public Builder add(long start, long end) {
+            if (end <= start) {
+                throw new IllegalArgumentException("Interval end must be after its start");
+            }
+            if (count == intervals.length) {
+                intervals = Arrays.copyOf(intervals, count * 2);
+            }
+            intervals[count++] = new long[] {start, end};
+            return this;
+        }
+        
+        public IntervalSet build() {
+            long[][] sorted = Arrays.copyOf(intervals, count);
+            Arrays.sort(sorted, (a, b) -> Long.compare(a[0], b[0]));
+            
+            long[] starts = new long[count];
+            long[] ends = new long[count];
+            int merged = 0;
+            for (long[] interval : sorted) {
+                if (merged > 0 && interval[0] <= ends[merged - 1]) {
+                    ends[merged - 1] = Math.max(ends[merged - 1], interval[1]);
+                } else {
+                    starts[merged] = interval[0];
+                    ends[merged] = interval[1];
+                    merged++;
+                }
+            }
+            return new IntervalSet(Arrays.copyOf(starts, merged), Arrays.copyOf(ends, merged));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.util;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * One {@link TokenBucket} per key in a bounded concurrent map. When the map reaches
+ * {@code maxKeys}, one thread sweeps out full buckets (which lose nothing by being recreated);
+ * if the map is still too large, arbitrary buckets are evicted, which only ever errs towards
+ * letting a request through.
+ */
+public class KeyedRateLimiter {
+    
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final long emissionIntervalNanos;
+    private final int burst;
+    private final int maxKeys;
+    private final LongSupplier clock;
+    
+    public KeyedRateLimiter(double permitsPerSecond, int burst, int maxKeys) {
+        this(permitsPerSecond, burst, maxKeys, System::nanoTime);
+    }
+    
+    public KeyedRateLimiter(double permitsPerSecond, int burst, int maxKeys, LongSupplier clock) {
+        if (permitsPerSecond <= 0 || burst < 1 || maxKeys < 1) {
+            throw new IllegalArgumentException("permitsPerSecond, burst and maxKeys must be positive");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burst = burst;
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+    
+    /**
+     * @return 0 if the request is allowed, otherwise the nanos until {@code key} may retry
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            if (buckets.size() >= maxKeys) {
+                evict(now);
+            }
+            bucket = buckets.computeIfAbsent(key, k -> new TokenBucket(emissionIntervalNanos, burst, now));
+        }
+        return bucket.tryAcquire(now);
+    }
+    
+    public int size() {
+        return buckets.size();
+    }
+    
+    private void evict(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+            int target = maxKeys - maxKeys / 4;
+            Iterator<TokenBucket> iterator = buckets.values().iterator();
+            while (buckets.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.demo.util;
+
+import java.util.Arrays;
+
+/**
+ * Min-cost max-flow over a graph with non-negative integer edge costs, stored as primitive
+ * forward-star arrays. Solved primal-dual: Dijkstra with potentials finds the current shortest
+ * path cost, then a Dinic blocking flow saturates every zero-reduced-cost path at once. With
+ * small costs (preference ranks) the number of phases is bounded by the number of distinct path
+ * costs, not by the flow value, which keeps large unit-capacity matchings fast.
+ */
+public final class MinCostFlow {
+    
+    private static final long INF = Long.MAX_VALUE / 4;
+    
+    private final int nodeCount;
+    private final int[] head;
+    private int[] next;
+    private int[] to;
+    private int[] capacity;
+    private int[] cost;
+    private int edgeCount;
+    
+    public MinCostFlow(int nodeCount, int expectedEdges) {
+        if (nodeCount < 2) {
+            throw new IllegalArgumentException("At least a source and a sink are required");
+        }
+        this.nodeCount = nodeCount;
+        this.head = new int[nodeCount];
+        Arrays.fill(head, -1);
+        int initial = Math.max(16, expectedEdges * 2);
+        this.next = new int[initial];
+        this.to = new int[initial];
+        this.capacity = new int[initial];
+        this.cost = new int[initial];
+    }
+    
+    /**
+     * Adds a directed edge and its residual twin; returns the edge id for {@link #flow(int)}.
+     */
+    public int addEdge(int from, int target, int edgeCapacity, int edgeCost) {
+        if (edgeCapacity < 0 || edgeCost < 0) {
+            throw new IllegalArgumentException("Capacity and cost must be non-negative");
+        }
+        if (edgeCount + 2 > to.length) {
+            int grown = to.length * 2;
+            next = Arrays.copyOf(next, grown);
+            to = Arrays.copyOf(to, grown);
+            capacity = Arrays.copyOf(capacity, grown);
+            cost = Arrays.copyOf(cost, grown);
+        }
+        int edge = edgeCount;
+        link(from, target, edgeCapacity, edgeCost);
+        link(target, from, 0, -edgeCost);
+        return edge;
+    }
+    
+    public int edgeCount() {
+        return edgeCount / 2;
+    }
+    
+    public int target(int edge) {
+        return to[edge];
+    }
+    
+    public int cost(int edge) {
+        return cost[edge];
+    }
+    
+    public int flow(int edge) {
+        return capacity[edge ^ 1];
+    }
+    
+    /**
+     * Pushes as much flow as possible from source to sink at minimum total cost.
+     *
+     * @return {flow, cost}
+     */
+    public long[] solve(int source, int sink) {
+        long[] potential = new long[nodeCount];
+        long[] dist = new long[nodeCount];
+        int[] level = new int[nodeCount];
+        int[] cursor = new int[nodeCount];
+        int[] path = new int[nodeCount];
+        int[] queue = new int[nodeCount];
+        long totalFlow = 0;
+        long totalCost = 0;
+        
+        while (true) {
+            shortestPaths(source, potential, dist);
+            if (dist[sink] >= INF) {
+                break;
+            }
+            for (int v = 0; v < nodeCount; v++) {
+                if (dist[v] < INF) {
+                    potential[v] += dist[v];
+                }
+            }
+            long pathCost = potential[sink] - potential[source];
+            while (levels(source, sink, potential, level, queue)) {
+                System.arraycopy(head, 0, cursor, 0, nodeCount);
+                long pushed = blockingFlow(source, sink, potential, level, cursor, path);
+                totalFlow += pushed;
+                totalCost += pushed * pathCost;
+            }
+        }
+        return new long[] {totalFlow, totalCost};
+    }
+    
+    private void link(int from, int target, int edgeCapacity, int edgeCost) {
+        to[edgeCount] = target;
+        capacity[edgeCount] = edgeCapacity;
+        cost[edgeCount] = edgeCost;
+        next[edgeCount] = head[from];
+        head[from] = edgeCount++;
+    }
+    
+    private boolean reducedZero(int from, int edge, long[] potential) {
+        return cost[edge] + potential[from] - potential[to[edge]] == 0;
+    }
+    
+    // Dijkstra on reduced costs, which stay non-negative on residual edges between phases
+    private void shortestPaths(int source, long[] potential, long[] dist) {
+        Arrays.fill(dist, INF);
+        dist[source] = 0;
+        LongHeap heap = new LongHeap(nodeCount);
+        heap.push(0, source);
+        while (!heap.isEmpty()) {
+            long top = heap.pop();
+            int u = (int) top;
+            long d = top >>> 32;
+            if (d > dist[u]) {
+                continue;
+            }
+            for (int e = head[u]; e != -1; e = next[e]) {
+                if (capacity[e] == 0) {
+                    continue;
+                }
+                int v = to[e];
+                long candidate = d + cost[e] + potential[u] - potential[v];
+                if (candidate < dist[v]) {
+                    dist[v] = candidate;
+                    heap.push(candidate, v);
+                }
+            }
+        }
+    }
+    
+    // BFS levels over the admissible graph (residual edges with zero reduced cost)
+    private boolean levels(int source, int sink, long[] potential, int[] level, int[] queue) {
+        Arrays.fill(level, -1);
+        level[source] = 0;
+        int headIndex = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        while (headIndex < tail) {
+            int u = queue[headIndex++];
+            for (int e = head[u]; e != -1; e = next[e]) {
+                int v = to[e];
+                if (capacity[e] > 0 && level[v] < 0 && reducedZero(u, e, potential)) {
+                    level[v] = level[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return level[sink] >= 0;
+    }
+    
+    // Iterative DFS with per-node edge cursors, so deep residual paths cannot overflow the stack
+    private long blockingFlow(int source, int sink, long[] potential, int[] level, int[] cursor, int[] path) {
+        long pushed = 0;
+        int depth = 0;
+        int u = source;
+        while (true) {
+            if (u == sink) {
+                int bottleneck = Integer.MAX_VALUE;
+                for (int i = 0; i < depth; i++) {
+                    bottleneck = Math.min(bottleneck, capacity[path[i]]);
+                }
+                for (int i = 0; i < depth; i++) {
+                    capacity[path[i]] -= bottleneck;
+                    capacity[path[i] ^ 1] += bottleneck;
+                }
+                pushed += bottleneck;
+                depth = 0;
+                u = source;
+                continue;
+            }
+            
+            int e = cursor[u];
+            while (e != -1 && !(capacity[e] > 0 && level[to[e]] == level[u] + 1 && reducedZero(u, e, potential))) {
+                e = next[e];
+            }
+            cursor[u] = e;
+            
+            if (e != -1) {
+                path[depth++] = e;
+                u = to[e];
+            } else if (u == source) {
+                return pushed;
+            } else {
+                level[u] = -1; // dead end for the rest of this phase
+                int back = path[--depth];
+                u = to[back ^ 1];
+                cursor[u] = next[cursor[u]];
+            }
+        }
+    }
+    
+    // Binary min-heap of (distance << 32 | node); distances on reduced costs fit in 31 bits
+    private static final class LongHeap {
+        
+        private long[] items;
+        private int size;
+        
+        private LongHeap(int initialCapacity) {
+            items = new long[Math.max(16, initialCapacity)];
+        }
+        
+        private boolean isEmpty() {
+            return size == 0;
+        }
+        
+        private void push(long distance, int node) {
+            if (distance >= (1L << 31)) {
+                throw new ArithmeticException("Path cost exceeds supported range");
+            }
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            long item = distance << 32 | node;
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (items[parent] <= item) {
+                    break;
+                }
+                items[i] = items[parent];
+                i = parent;
+            }
+            items[i] = item;
+        }
+        
+        private long pop() {
+            long top = items[0];
+            long last = items[--size];
+            int i = 0;
+            int half = size >>> 1;
+            while (i < half) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && items[child + 1] < items[child]) {
+                    child++;
+                }
+                if (last <= items[child]) {
+                    break;
+                }
+                items[i] = items[child];
+                i = child;
+            }
+            items[i] = last;
+            return top;
+        }
+    }
+}
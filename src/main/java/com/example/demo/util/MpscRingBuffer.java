@@ -0,0 +1,88 @@
+package com.example.demo.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free multi-producer / single-consumer ring buffer. Producers claim a slot with
+ * one CAS on the producer index and publish it through a per-slot sequence number, so
+ * {@link #offer} never blocks and never allocates. Only one thread may call {@link #drain}.
+ */
+public class MpscRingBuffer<T> {
+    
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private volatile long consumerIndex;
+    
+    public MpscRingBuffer(int capacity) {
+        // A full slot's sequence (position + 1) must differ from the next lap's position
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two of at least 2");
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+    
+    /**
+     * @return {@code false} if the buffer is full
+     */
+    public boolean offer(T element) {
+        while (true) {
+            long position = producerIndex.get();
+            int index = (int) (position & mask);
+            long available = sequences.get(index) - position;
+            if (available == 0) {
+                if (producerIndex.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (available < 0) {
+                // Slot still holds an element from the previous lap
+                return false;
+            }
+            // Another producer claimed this position; retry with the new index
+        }
+    }
+    
+    /**
+     * Hands up to {@code maxElements} published elements to {@code consumer} in FIFO order.
+     */
+    public int drain(Consumer<T> consumer, int maxElements) {
+        long position = consumerIndex;
+        int drained = 0;
+        while (drained < maxElements) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break;
+            }
+            T element = elements.get(index);
+            elements.lazySet(index, null);
+            sequences.set(index, position + capacity);
+            position++;
+            drained++;
+            consumer.accept(element);
+        }
+        consumerIndex = position;
+        return drained;
+    }
+    
+    public int size() {
+        long size = producerIndex.get() - consumerIndex;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+    
+    public int capacity() {
+        return capacity;
+    }
+}
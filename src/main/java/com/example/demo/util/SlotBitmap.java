@@ -0,0 +1,103 @@
+package com.example.demo.util;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size bitmap over {@code long[]} words, one bit per time quantum of a horizon. Built for
+ * intersecting calendars: {@link #and} is one word-wise AND per 64 quanta, and
+ * {@link #nextSetBit} skips empty words with {@code numberOfTrailingZeros}.
+ */
+public final class SlotBitmap {
+    
+    private final long[] words;
+    private final int size;
+    
+    public SlotBitmap(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must not be negative");
+        }
+        this.size = size;
+        this.words = new long[(size + 63) >>> 6];
+    }
+    
+    private SlotBitmap(long[] words, int size) {
+        this.words = words;
+        this.size = size;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public void set(int bit) {
+        checkIndex(bit);
+        words[bit >>> 6] |= 1L << bit;
+    }
+    
+    public void clear(int bit) {
+        checkIndex(bit);
+        words[bit >>> 6] &= ~(1L << bit);
+    }
+    
+    public boolean get(int bit) {
+        checkIndex(bit);
+        return (words[bit >>> 6] & (1L << bit)) != 0;
+    }
+    
+    public SlotBitmap copy() {
+        return new SlotBitmap(words.clone(), size);
+    }
+    
+    /**
+     * Intersects this bitmap in place with {@code other}; bits beyond the shorter size are cleared.
+     */
+    public SlotBitmap and(SlotBitmap other) {
+        int common = Math.min(words.length, other.words.length);
+        for (int i = 0; i < common; i++) {
+            words[i] &= other.words[i];
+        }
+        Arrays.fill(words, common, words.length, 0L);
+        if (other.size < size && other.size > 0 && (other.size & 63) != 0) {
+            words[common - 1] &= -1L >>> (64 - (other.size & 63));
+        }
+        return this;
+    }
+    
+    /**
+     * Returns the first set bit at or after {@code from}, or -1 if there is none.
+     */
+    public int nextSetBit(int from) {
+        if (from < 0) {
+            from = 0;
+        }
+        if (from >= size) {
+            return -1;
+        }
+        int index = from >>> 6;
+        long word = words[index] & (-1L << from);
+        while (true) {
+            if (word != 0) {
+                int bit = (index << 6) + Long.numberOfTrailingZeros(word);
+                return bit < size ? bit : -1;
+            }
+            if (++index == words.length) {
+                return -1;
+            }
+            word = words[index];
+        }
+    }
+    
+    public int cardinality() {
+        int count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+    
+    private void checkIndex(int bit) {
+        if (bit < 0 || bit >= size) {
+            throw new IndexOutOfBoundsException("Bit " + bit + " outside bitmap of size " + size);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket kept as a single "theoretical arrival time" (the GCRA formulation), so the
+ * whole bucket state is one {@code long} updated with CAS: no locks and no separate refill
+ * step. A bucket allows {@code burst} requests at once and refills at one token per
+ * {@code emissionIntervalNanos}.
+ */
+public class TokenBucket {
+    
+    private final long emissionIntervalNanos;
+    private final long capacityNanos;
+    private final AtomicLong theoreticalArrival;
+    
+    public TokenBucket(long emissionIntervalNanos, int burst, long nowNanos) {
+        this.emissionIntervalNanos = emissionIntervalNanos;
+        this.capacityNanos = emissionIntervalNanos * burst;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+    
+    /**
+     * @return 0 if a token was taken, otherwise the nanos until the next token is available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long allowedAt = next - capacityNanos;
+            if (allowedAt > nowNanos) {
+                return allowedAt - nowNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+    
+    /**
+     * A full bucket carries no state worth keeping and can be evicted.
+     */
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
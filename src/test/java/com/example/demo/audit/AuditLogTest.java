@@ -0,0 +1,71 @@
+package com.example.demo.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLogTest {
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testRecordsAreAppendedAsNdjson() throws Exception {
+        Path file = tempDir.resolve("audit.ndjson");
+        AuditLog auditLog = new AuditLog(file, 64, 16, true, AuditLog.OverflowPolicy.DROP, Duration.ZERO);
+        auditLog.start();
+        
+        auditLog.record(record(AuditRecord.Action.BOOKING_CREATED, 1L));
+        auditLog.record(record(AuditRecord.Action.BOOKING_CANCELLED, 1L));
+        auditLog.close();
+        
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains("\"action\":\"BOOKING_CREATED\""));
+        assertTrue(lines.get(1).contains("\"bookingId\":1"));
+        assertEquals(2, auditLog.getWritten());
+        assertEquals(0, auditLog.getDropped());
+    }
+    
+    @Test
+    void testDropPolicy_CountsRejectedRecords() {
+        // Writer not started, so the buffer fills up
+        AuditLog auditLog = new AuditLog(tempDir.resolve("audit.ndjson"), 2, 16, false,
+            AuditLog.OverflowPolicy.DROP, Duration.ZERO);
+        
+        assertTrue(auditLog.record(record(AuditRecord.Action.BOOKING_CREATED, 1L)));
+        assertTrue(auditLog.record(record(AuditRecord.Action.BOOKING_CREATED, 2L)));
+        assertFalse(auditLog.record(record(AuditRecord.Action.BOOKING_CREATED, 3L)));
+        
+        assertEquals(2, auditLog.getPublished());
+        assertEquals(1, auditLog.getDropped());
+        assertEquals(2, auditLog.getDepth());
+    }
+    
+    @Test
+    void testBlockPolicy_GivesUpAfterTimeout() {
+        AuditLog auditLog = new AuditLog(tempDir.resolve("audit.ndjson"), 2, 16, false,
+            AuditLog.OverflowPolicy.BLOCK, Duration.ofMillis(5));
+        
+        assertTrue(auditLog.record(record(AuditRecord.Action.BOOKING_CREATED, 1L)));
+        assertTrue(auditLog.record(record(AuditRecord.Action.BOOKING_CREATED, 3L)));
+        assertFalse(auditLog.record(record(AuditRecord.Action.BOOKING_CREATED, 2L)));
+        assertEquals(1, auditLog.getDropped());
+    }
+    
+    private static AuditRecord record(AuditRecord.Action action, Long bookingId) {
+        return AuditRecord.builder()
+            .timestamp(Instant.now())
+            .action(action)
+            .bookingId(bookingId)
+            .candidateEmail("priya@example.com")
+            .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.demo.bulkhead;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.util.Bulkhead;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+    "bulkhead.partition-pools=true",
+    "bulkhead.read.max-concurrent=1",
+    "bulkhead.read.max-queued=0",
+    "spring.datasource.url=jdbc:h2:mem:bulkhead;MODE=MySQL;DB_CLOSE_DELAY=-1"
+})
+@Import(BulkheadIntegrationTest.StreamingProbe.class)
+class BulkheadIntegrationTest {
+    
+    @Autowired
+    private TestRestTemplate restTemplate;
+    
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+    
+    @Autowired
+    private PartitionedDataSource dataSource;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private StreamingProbe streamingProbe;
+    
+    @Test
+    void testReadFloodIsShedWhileBookingsGoThrough() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(Interviewer.builder()
+            .name("Bulkhead Interviewer")
+            .email("bulkhead-interviewer@example.com")
+            .maxInterviewsPerWeek(10)
+            .build());
+        TimeSlot slot = timeSlotRepository.save(TimeSlot.builder()
+            .interviewer(interviewer)
+            .slotDateTime(LocalDateTime.now().plusDays(1).withNano(0))
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .build());
+        Bulkhead reads = bulkheadRegistry.get(TrafficClass.READ);
+        
+        // Act: the only read permit is taken, as if by a slow poller
+        assertTrue(reads.tryAcquire());
+        ResponseEntity<String> shed;
+        ResponseEntity<String> booked;
+        try {
+            shed = restTemplate.getForEntity("/api/v1/time-slots/available", String.class);
+            booked = restTemplate.postForEntity("/api/v1/bookings", book(slot.getId()), String.class);
+        } finally {
+            reads.release();
+        }
+        ResponseEntity<String> browsed = restTemplate.getForEntity("/api/v1/time-slots/available", String.class);
+        
+        // Assert
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, shed.getStatusCode());
+        assertEquals("1", shed.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(HttpStatus.CREATED, booked.getStatusCode());
+        assertEquals(HttpStatus.OK, browsed.getStatusCode());
+        assertEquals(1, reads.getRejected());
+        assertEquals(0, reads.getActive());
+        assertEquals(0, bulkheadRegistry.get(TrafficClass.BOOKING).getActive());
+    }
+    
+    @Test
+    void testRequestsDrawFromTheirOwnPools() {
+        restTemplate.getForEntity("/api/v1/time-slots/available?ranking=HIDE_FULL", String.class);
+        
+        for (TrafficClass trafficClass : TrafficClass.values()) {
+            HikariDataSource pool = (HikariDataSource) dataSource.getResolvedDataSources().get(trafficClass);
+            assertEquals(trafficClass.key(), pool.getPoolName());
+            assertEquals(trafficClass.defaultPoolSize(), pool.getMaximumPoolSize());
+        }
+        HikariDataSource readPool = (HikariDataSource) dataSource.getResolvedDataSources().get(TrafficClass.READ);
+        assertNotNull(readPool.getHikariPoolMXBean(), "the read pool is started by the first read");
+    }
+    
+    @Test
+    void testStreamedBodyKeepsItsPermitAndTrafficClass() throws Exception {
+        // Act
+        ResponseEntity<String> streamed = restTemplate.getForEntity("/api/v1/bulkhead-probe", String.class);
+        
+        // Assert: the body ran on the async executor, still holding the read permit and partition
+        assertEquals(HttpStatus.OK, streamed.getStatusCode());
+        assertEquals(TrafficClass.READ, streamingProbe.trafficClass.get());
+        assertEquals(1, streamingProbe.activeReads.get());
+        Bulkhead reads = bulkheadRegistry.get(TrafficClass.READ);
+        for (int i = 0; i < 50 && reads.getActive() > 0; i++) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, reads.getActive(), "the permit is returned once the async response completes");
+    }
+    
+    @RestController
+    static class StreamingProbe {
+        
+        final AtomicReference<TrafficClass> trafficClass = new AtomicReference<>();
+        final AtomicInteger activeReads = new AtomicInteger(-1);
+        
+        @Autowired
+        private BulkheadRegistry bulkheadRegistry;
+        
+        @GetMapping("/api/v1/bulkhead-probe")
+        StreamingResponseBody stream() {
+            return out -> {
+                trafficClass.set(TrafficClassContext.current());
+                activeReads.set(bulkheadRegistry.get(TrafficClass.READ).getActive());
+                out.write("streamed".getBytes(StandardCharsets.UTF_8));
+            };
+        }
+    }
+    
+    private static BookSlotRequest book(Long slotId) {
+        BookSlotRequest request = new BookSlotRequest();
+        request.setTimeSlotId(slotId);
+        request.setCandidateName("Bulkhead Candidate");
+        request.setCandidateEmail("bulkhead-candidate@example.com");
+        return request;
+    }
+}
@@ -1,24 +1,36 @@
 package com.example.demo.controller;
 
+import com.example.demo.bulkhead.BulkheadRegistry;
 import com.example.demo.dto.request.BookSlotRequest;
 import com.example.demo.dto.response.BookingResponse;
+import com.example.demo.exception.RateLimitExceededException;
+import com.example.demo.ratelimit.RateLimitService;
 import com.example.demo.service.BookingService;
+import com.example.demo.service.ShardedBookingService;
+import com.example.demo.sharding.ShardDirectory;
+import com.example.demo.sharding.ShardRouter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(BookingController.class)
+@Import({ShardedBookingService.class, ShardRouter.class, ShardDirectory.class, BulkheadRegistry.class})
 class BookingControllerTest {
     
     @Autowired
@@ -27,6 +39,9 @@ class BookingControllerTest {
     @MockBean
     private BookingService bookingService;
     
+    @MockBean
+    private RateLimitService rateLimitService;
+    
     @Autowired
     private ObjectMapper objectMapper;
     
@@ -92,5 +107,55 @@ class BookingControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.bookingId").value(1L));
     }
+    
+    @Test
+    void testBookSlot_LockConflictIsRetryable() throws Exception {
+        // Arrange
+        BookSlotRequest request = new BookSlotRequest();
+        request.setTimeSlotId(1L);
+        request.setCandidateName("Priya Patel");
+        request.setCandidateEmail("priya@example.com");
+        
+        when(bookingService.bookSlot(any(BookSlotRequest.class)))
+            .thenThrow(new CannotAcquireLockException("Deadlock detected"));
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+    }
+    
+    @Test
+    void testBookSlot_RateLimited() throws Exception {
+        // Arrange
+        BookSlotRequest request = new BookSlotRequest();
+        request.setTimeSlotId(1L);
+        request.setCandidateName("Priya Patel");
+        request.setCandidateEmail("priya@example.com");
+        
+        doThrow(new RateLimitExceededException("Too many booking requests for this candidate", 7))
+            .when(rateLimitService).checkCandidate("priya@example.com");
+        
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "7"));
+        verify(bookingService, never()).bookSlot(any(BookSlotRequest.class));
+    }
+    
+    @Test
+    void testGetBooking_ClientRateLimitedBeforeController() throws Exception {
+        // Arrange
+        doThrow(new RateLimitExceededException("Too many requests from this client", 1))
+            .when(rateLimitService).checkClient("127.0.0.1");
+        
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/bookings/1"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"));
+        verify(bookingService, never()).getBookingById(any());
+    }
 }
-
@@ -0,0 +1,103 @@
+package com.example.demo.controller;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveTimeSlotControllerTest {
+    
+    @Autowired
+    private TestRestTemplate restTemplate;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @BeforeEach
+    void setUp() {
+        Interviewer interviewer = interviewerRepository.save(Interviewer.builder()
+            .name("Rajesh Kumar")
+            .email("rajesh-reactive@example.com")
+            .maxInterviewsPerWeek(5)
+            .build());
+        
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withNano(0);
+        List<TimeSlot> slots = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            slots.add(TimeSlot.builder()
+                .interviewer(interviewer)
+                .slotDateTime(base.plusHours(i / 2)) // Pairs share a start time to exercise the id tiebreak
+                .status(i == 2 ? TimeSlot.TimeSlotStatus.BOOKED : TimeSlot.TimeSlotStatus.AVAILABLE)
+                .build());
+        }
+        timeSlotRepository.saveAll(slots);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        timeSlotRepository.deleteAll();
+        interviewerRepository.deleteAll();
+    }
+    
+    @Test
+    void testStreamAvailableSlots_ResumesFromCursor() throws Exception {
+        List<JsonNode> firstBatch = stream("/api/v1/time-slots/available?limit=2");
+        assertEquals(2, firstBatch.size());
+        
+        String cursor = firstBatch.get(1).get("cursor").asText();
+        List<JsonNode> rest = stream("/api/v1/time-slots/available?limit=10&cursor=" + cursor);
+        assertEquals(2, rest.size());
+        
+        List<Long> streamedIds = new ArrayList<>();
+        firstBatch.forEach(node -> streamedIds.add(node.get("id").asLong()));
+        rest.forEach(node -> streamedIds.add(node.get("id").asLong()));
+        
+        // Same keyset order as the blocking endpoint
+        JsonNode page = objectMapper.readTree(
+            restTemplate.getForObject("/api/v1/time-slots/available?pageSize=10", String.class));
+        List<Long> pagedIds = new ArrayList<>();
+        page.path("data").path("timeSlots").forEach(node -> pagedIds.add(node.get("id").asLong()));
+        assertEquals(pagedIds, streamedIds);
+    }
+    
+    private List<JsonNode> stream(String url) throws Exception {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+        ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        assertTrue(response.getStatusCode().is2xxSuccessful());
+        
+        List<JsonNode> nodes = new ArrayList<>();
+        for (String line : response.getBody().split("\n")) {
+            if (!line.isBlank()) {
+                nodes.add(objectMapper.readTree(line));
+            }
+        }
+        return nodes;
+    }
+}
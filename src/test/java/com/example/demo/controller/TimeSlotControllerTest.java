@@ -0,0 +1,120 @@
+package com.example.demo.controller;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.service.CompactSlotFeedService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TimeSlotControllerTest {
+    
+    private static final MediaType COLUMNAR_JSON = MediaType.parseMediaType(CompactSlotFeedService.COLUMNAR_JSON_VALUE);
+    
+    @Autowired
+    private TestRestTemplate restTemplate;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private final List<Long> slotIds = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        Interviewer interviewer = interviewerRepository.save(Interviewer.builder()
+            .name("Meera Nair")
+            .email("meera-compact@example.com")
+            .maxInterviewsPerWeek(5)
+            .build());
+        
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withSecond(0).withNano(0);
+        List<TimeSlot> slots = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            slots.add(TimeSlot.builder()
+                .interviewer(interviewer)
+                .slotDateTime(base.plusHours(i))
+                .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+                .build());
+        }
+        timeSlotRepository.saveAll(slots).forEach(slot -> slotIds.add(slot.getId()));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        timeSlotRepository.deleteAll();
+        interviewerRepository.deleteAll();
+    }
+    
+    @Test
+    void testGetAvailableSlots_NegotiatesColumnarAndCbor() throws Exception {
+        ResponseEntity<byte[]> json = get(MediaType.APPLICATION_JSON);
+        ResponseEntity<byte[]> columnar = get(COLUMNAR_JSON);
+        ResponseEntity<byte[]> cbor = get(MediaType.APPLICATION_CBOR);
+        
+        JsonNode columns = objectMapper.readTree(columnar.getBody());
+        List<Long> columnarIds = new ArrayList<>();
+        columns.get("ids").forEach(node -> columnarIds.add(node.asLong()));
+        
+        assertTrue(MediaType.APPLICATION_JSON.isCompatibleWith(json.getHeaders().getContentType()));
+        assertTrue(COLUMNAR_JSON.isCompatibleWith(columnar.getHeaders().getContentType()));
+        assertTrue(MediaType.APPLICATION_CBOR.isCompatibleWith(cbor.getHeaders().getContentType()));
+        assertTrue(objectMapper.readTree(json.getBody()).get("success").asBoolean());
+        assertEquals(slotIds, columnarIds);
+        assertEquals("[0,60,60]", columns.get("minuteDeltas").toString());
+        assertTrue(cbor.getBody().length < columnar.getBody().length);
+    }
+    
+    @Test
+    void testGetAvailableSlots_DefaultsToApiResponseJson() throws Exception {
+        JsonNode body = objectMapper.readTree(
+            restTemplate.getForObject("/api/v1/time-slots/available?pageSize=10", String.class));
+        
+        assertTrue(body.get("success").asBoolean());
+        assertTrue(body.path("data").has("timeSlots"));
+    }
+    
+    @Test
+    void testGetAvailableSlotsCompact_MalformedCursorIsBadRequest() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(COLUMNAR_JSON, MediaType.APPLICATION_JSON));
+        ResponseEntity<String> response = restTemplate.exchange("/api/v1/time-slots/available?cursor=bogus",
+            HttpMethod.GET, new HttpEntity<>(headers), String.class);
+        
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+    
+    private ResponseEntity<byte[]> get(MediaType accept) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setAccept(List.of(accept));
+        ResponseEntity<byte[]> response = restTemplate.exchange("/api/v1/time-slots/available?pageSize=10",
+            HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+        assertTrue(response.getStatusCode().is2xxSuccessful());
+        return response;
+    }
+}
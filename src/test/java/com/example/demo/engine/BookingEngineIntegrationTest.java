@@ -0,0 +1,314 @@
+package com.example.demo.engine;
+
+import com.example.demo.domain.entity.CandidateBooking;
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.JournalDeadLetter;
+import com.example.demo.domain.entity.SlotHold;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.entity.WaitlistEntry;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.JournalCheckpointRepository;
+import com.example.demo.domain.repository.JournalDeadLetterRepository;
+import com.example.demo.domain.repository.OutboxEventRepository;
+import com.example.demo.domain.repository.SlotHoldRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.dto.request.HoldSlotRequest;
+import com.example.demo.dto.request.JoinWaitlistRequest;
+import com.example.demo.dto.request.PanelBookingRequest;
+import com.example.demo.dto.request.UpdateBookingRequest;
+import com.example.demo.dto.response.BookingResponse;
+import com.example.demo.dto.response.WaitlistEntryResponse;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.service.InterviewerCapacityTracker;
+import com.example.demo.service.ShardedBookingService;
+import com.example.demo.service.SlotHoldService;
+import com.example.demo.service.WaitlistService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "booking.engine.enabled=true",
+    "booking.engine.segment-size-mb=1",
+    "booking.engine.projection-interval-ms=3600000",
+    "spring.datasource.url=jdbc:h2:mem:booking-engine;MODE=MySQL;DB_CLOSE_DELAY=-1"
+})
+class BookingEngineIntegrationTest {
+    
+    @DynamicPropertySource
+    static void journalDirectory(DynamicPropertyRegistry registry) throws Exception {
+        Path target = Files.createDirectories(Path.of("target"));
+        String directory = Files.createTempDirectory(target, "booking-engine-").toString();
+        registry.add("booking.engine.journal-dir", () -> directory);
+    }
+    
+    @Autowired
+    private ShardedBookingService bookingService;
+    
+    @Autowired
+    private BookingEngine bookingEngine;
+    
+    @Autowired
+    private EngineProjector projector;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private CandidateBookingRepository bookingRepository;
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Autowired
+    private JournalCheckpointRepository checkpointRepository;
+    
+    @Autowired
+    private JournalDeadLetterRepository deadLetterRepository;
+    
+    @Autowired
+    private SlotHoldRepository slotHoldRepository;
+    
+    @Autowired
+    private SlotHoldService slotHoldService;
+    
+    @Autowired
+    private WaitlistService waitlistService;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Test
+    void testEngineBookingsAreProjectedIntoTables() {
+        // Arrange
+        Interviewer interviewer = interviewerRepository.save(Interviewer.builder()
+            .name("Engine Interviewer")
+            .email("engine-interviewer@example.com")
+            .maxInterviewsPerWeek(10)
+            .build());
+        LocalDateTime start = InterviewerCapacityTracker.currentWeekStart().plusWeeks(1).plusHours(9);
+        TimeSlot first = saveSlot(interviewer, start);
+        TimeSlot second = saveSlot(interviewer, start.plusHours(1));
+        
+        // Act
+        BookingResponse booking = bookingService.bookSlot(book(first.getId(), "engine-candidate@example.com"));
+        BookingResponse moved = bookingService.updateBooking(move(booking.getBookingId(), second.getId(), "engine-candidate@example.com"));
+        projector.project();
+        
+        // Assert
+        assertEquals(0, booking.getBookingId() % 2);
+        CandidateBooking row = bookingRepository.findById(booking.getBookingId()).orElseThrow();
+        assertEquals(second.getId(), row.getTimeSlot().getId());
+        assertEquals("AVAILABLE", slotStatus(first.getId()));
+        assertEquals("BOOKED", slotStatus(second.getId()));
+        assertEquals(second.getId(), moved.getTimeSlotId());
+        assertEquals(2, outboxEventRepository.findAll().stream()
+            .filter(event -> event.getAggregateId().equals(booking.getBookingId()))
+            .count());
+        assertEquals(0, bookingEngine.getProjectionLag());
+        assertTrue(checkpointRepository.findById(bookingEngine.journalName()).isPresent());
+        
+        // Act
+        bookingService.cancelBooking(booking.getBookingId(), "engine-candidate@example.com", true);
+        projector.project();
+        
+        // Assert
+        assertTrue(bookingRepository.findById(booking.getBookingId()).isEmpty());
+        assertEquals("AVAILABLE", slotStatus(second.getId()));
+    }
+    
+    @Test
+    void testDatabaseBookingsGetOddIdsAndAreSeenByTheEngine() {
+        // Arrange: a booking written straight to the tables, as the paths the engine does not own do
+        Interviewer interviewer = interviewerRepository.save(Interviewer.builder()
+            .name("Database Interviewer")
+            .email("database-interviewer@example.com")
+            .maxInterviewsPerWeek(10)
+            .build());
+        LocalDateTime start = InterviewerCapacityTracker.currentWeekStart().plusWeeks(2).plusHours(9);
+        TimeSlot slot = saveSlot(interviewer, start);
+        slot.setStatus(TimeSlot.TimeSlotStatus.BOOKED);
+        timeSlotRepository.save(slot);
+        CandidateBooking existing = bookingRepository.save(CandidateBooking.builder()
+            .timeSlot(slot)
+            .candidateName("Direct")
+            .candidateEmail("direct-candidate@example.com")
+            .build());
+        
+        // Act & Assert
+        assertEquals(1, existing.getId() % 2);
+        assertThrows(BusinessException.class,
+            () -> bookingService.bookSlot(book(slot.getId(), "late-candidate@example.com")));
+        assertEquals(slot.getId(), bookingService.getBookingById(existing.getId()).getTimeSlotId());
+        bookingService.cancelBooking(existing.getId(), "direct-candidate@example.com", true);
+        projector.project();
+        assertTrue(bookingRepository.findById(existing.getId()).isEmpty());
+    }
+    
+    @Test
+    void testProjectorDeadLettersEventsTheTablesNoLongerMatch() {
+        // Arrange: the engine books a slot, then a write behind its back books the same slot
+        Interviewer interviewer = saveInterviewer("conflict-interviewer@example.com");
+        LocalDateTime start = InterviewerCapacityTracker.currentWeekStart().plusWeeks(3).plusHours(9);
+        TimeSlot contested = saveSlot(interviewer, start);
+        TimeSlot other = saveSlot(interviewer, start.plusHours(1));
+        BookingResponse engineBooking = bookingService.bookSlot(book(contested.getId(), "engine-conflict@example.com"));
+        contested.setStatus(TimeSlot.TimeSlotStatus.BOOKED);
+        timeSlotRepository.save(contested);
+        CandidateBooking direct = bookingRepository.save(CandidateBooking.builder()
+            .timeSlot(contested)
+            .candidateName("Direct")
+            .candidateEmail("direct-conflict@example.com")
+            .build());
+        BookingResponse later = bookingService.bookSlot(book(other.getId(), "engine-later@example.com"));
+        
+        // Act
+        projector.project();
+        projector.project();
+        
+        // Assert: the conflicting event is set aside and the rest of the journal is still applied
+        assertEquals(0, bookingEngine.getProjectionLag());
+        List<JournalDeadLetter> deadLetters = deadLetterRepository.findAll().stream()
+            .filter(letter -> letter.getBookingId().equals(engineBooking.getBookingId()))
+            .toList();
+        assertEquals(1, deadLetters.size());
+        assertEquals("BOOKED", deadLetters.get(0).getEventType());
+        assertTrue(bookingRepository.findById(engineBooking.getBookingId()).isEmpty());
+        assertEquals(contested.getId(), bookingRepository.findById(direct.getId()).orElseThrow().getTimeSlot().getId());
+        assertTrue(bookingRepository.findById(later.getBookingId()).isPresent());
+    }
+    
+    @Test
+    void testEngineBookingConsumesTheCandidatesHold() {
+        // Arrange: a hold placed before the engine was enabled
+        Interviewer interviewer = saveInterviewer("hold-interviewer@example.com");
+        TimeSlot slot = saveSlot(interviewer, InterviewerCapacityTracker.currentWeekStart().plusWeeks(4).plusHours(9));
+        slot.setStatus(TimeSlot.TimeSlotStatus.HELD);
+        timeSlotRepository.save(slot);
+        slotHoldRepository.save(SlotHold.builder()
+            .timeSlot(slot)
+            .candidateEmail("holder@example.com")
+            .holdToken("engine-hold-token")
+            .expiresAt(LocalDateTime.now().plusMinutes(5))
+            .build());
+        
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> bookingService.bookSlot(book(slot.getId(), "holder@example.com")));
+        BookSlotRequest request = book(slot.getId(), "holder@example.com");
+        request.setHoldToken("engine-hold-token");
+        BookingResponse booking = bookingService.bookSlot(request);
+        projector.project();
+        
+        assertEquals(slot.getId(), bookingRepository.findById(booking.getBookingId()).orElseThrow().getTimeSlot().getId());
+        assertEquals("BOOKED", slotStatus(slot.getId()));
+        assertTrue(slotHoldRepository.findByTimeSlotId(slot.getId()).isEmpty());
+    }
+    
+    @Test
+    void testPathsThatWriteBehindTheEngineAreRefused() {
+        HoldSlotRequest holdRequest = new HoldSlotRequest();
+        holdRequest.setTimeSlotId(1L);
+        holdRequest.setCandidateEmail("refused@example.com");
+        assertThrows(BusinessException.class, () -> slotHoldService.holdSlot(holdRequest));
+        
+        PanelBookingRequest panelRequest = new PanelBookingRequest();
+        panelRequest.setInterviewerIds(List.of(1L, 2L));
+        panelRequest.setSlotDateTime(LocalDateTime.now().plusDays(1));
+        panelRequest.setCandidateName("Refused");
+        panelRequest.setCandidateEmail("refused@example.com");
+        assertThrows(BusinessException.class, () -> bookingService.bookPanel(panelRequest));
+        assertThrows(BusinessException.class, () -> bookingService.cancelPanel("panel", "refused@example.com", true));
+        assertThrows(BusinessException.class, () -> bookingService.bookSlotBatch(List.of()));
+        assertThrows(BusinessException.class, () -> bookingService.moveBookingBatch(List.of()));
+    }
+    
+    @Test
+    void testSlotsFreedByTheEngineGoToTheWaitlistThroughTheEngine() throws Exception {
+        // Arrange
+        Interviewer interviewer = saveInterviewer("waitlist-engine-interviewer@example.com");
+        LocalDateTime start = InterviewerCapacityTracker.currentWeekStart().plusWeeks(5).plusHours(9);
+        TimeSlot popular = saveSlot(interviewer, start);
+        TimeSlot other = saveSlot(interviewer, start.plusHours(2));
+        BookingResponse booking = bookingService.bookSlot(book(popular.getId(), "engine-moving@example.com"));
+        
+        JoinWaitlistRequest joinRequest = new JoinWaitlistRequest();
+        joinRequest.setCandidateName("Waiting Candidate");
+        joinRequest.setCandidateEmail("engine-waiting@example.com");
+        joinRequest.setWindowStart(start.minusMinutes(30));
+        joinRequest.setWindowEnd(start.plusMinutes(30));
+        WaitlistEntryResponse entry = waitlistService.join(joinRequest);
+        
+        // Act
+        bookingService.updateBooking(move(booking.getBookingId(), other.getId(), "engine-moving@example.com"));
+        projector.project();
+        
+        // Assert
+        WaitlistEntryResponse assigned = null;
+        for (int i = 0; i < 50; i++) {
+            assigned = waitlistService.getEntry(entry.getId());
+            if (assigned.getStatus() == WaitlistEntry.WaitlistStatus.ASSIGNED) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+        assertEquals(WaitlistEntry.WaitlistStatus.ASSIGNED, assigned.getStatus());
+        assertEquals(0, assigned.getBookingId() % 2, "the waitlist booking is made by the engine");
+        assertEquals(popular.getId(), bookingEngine.findBooking(assigned.getBookingId()).orElseThrow().getTimeSlotId());
+    }
+    
+    // Read without the repository's optimistic lock, as the projector writes the rows
+    private String slotStatus(Long slotId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM time_slots WHERE id = ?", String.class, slotId);
+    }
+    
+    private Interviewer saveInterviewer(String email) {
+        return interviewerRepository.save(Interviewer.builder()
+            .name(email)
+            .email(email)
+            .maxInterviewsPerWeek(10)
+            .build());
+    }
+    
+    private TimeSlot saveSlot(Interviewer interviewer, LocalDateTime start) {
+        return timeSlotRepository.save(TimeSlot.builder()
+            .interviewer(interviewer)
+            .slotDateTime(start)
+            .durationMinutes(60)
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .build());
+    }
+    
+    private static BookSlotRequest book(Long slotId, String email) {
+        BookSlotRequest request = new BookSlotRequest();
+        request.setTimeSlotId(slotId);
+        request.setCandidateName("Engine Candidate");
+        request.setCandidateEmail(email);
+        return request;
+    }
+    
+    private static UpdateBookingRequest move(Long bookingId, Long slotId, String email) {
+        UpdateBookingRequest request = new UpdateBookingRequest();
+        request.setBookingId(bookingId);
+        request.setNewTimeSlotId(slotId);
+        request.setCandidateName("Engine Candidate");
+        request.setCandidateEmail(email);
+        return request;
+    }
+}
@@ -0,0 +1,323 @@
+package com.example.demo.engine;
+
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.dto.request.UpdateBookingRequest;
+import com.example.demo.dto.response.BookingResponse;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.exception.RateLimitExceededException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.service.InterviewerCapacityTracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingEngineTest {
+    
+    private static final long INTERVIEWER_ID = 7L;
+    
+    @TempDir
+    Path tempDir;
+    
+    private final FakeLoader loader = new FakeLoader();
+    private final List<BookingEngine> engines = new ArrayList<>();
+    private final LocalDateTime weekStart = InterviewerCapacityTracker.currentWeekStart().plusWeeks(1);
+    
+    @AfterEach
+    void tearDown() {
+        engines.forEach(BookingEngine::close);
+    }
+    
+    @Test
+    void testBookSlot_AppliesBookingRules() throws Exception {
+        // Arrange
+        loader.addSlot(1L, weekStart.plusHours(9));
+        loader.addSlot(2L, weekStart.plusHours(10));
+        BookingEngine engine = start(1_000_000);
+        
+        // Act
+        BookingResponse booking = engine.bookSlot(book(1L, "alice@example.com"));
+        
+        // Assert
+        assertEquals(0, booking.getBookingId() % 2, "engine booking ids are even");
+        assertEquals(weekStart.plusHours(9), booking.getSlotDateTime());
+        assertThrows(BusinessException.class, () -> engine.bookSlot(book(1L, "bob@example.com")));
+        assertThrows(BusinessException.class, () -> engine.bookSlot(book(2L, "alice@example.com")));
+        assertThrows(ResourceNotFoundException.class, () -> engine.bookSlot(book(99L, "bob@example.com")));
+        assertEquals(1, engine.getAccepted());
+        assertEquals(3, engine.getRejected());
+    }
+    
+    @Test
+    void testBookSlot_KnowsEveryActiveCandidateFromBootstrap() throws Exception {
+        // Arrange: alice booked before the engine started; later changes are not seen by the loader
+        loader.addSlot(1L, weekStart.plusHours(9));
+        loader.addSlot(2L, weekStart.plusHours(10));
+        loader.activeCandidates.add("alice@example.com");
+        BookingEngine engine = start(1_000_000);
+        loader.activeCandidates.clear();
+        loader.activeCandidates.add("bob@example.com");
+        
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> engine.bookSlot(book(1L, "alice@example.com")));
+        assertNotNull(engine.bookSlot(book(1L, "bob@example.com")));
+        assertThrows(BusinessException.class, () -> engine.bookSlot(book(2L, "bob@example.com")));
+    }
+    
+    @Test
+    void testBookSlot_CancelsCommandsTheWriterHasNotStartedOnTimeout() throws Exception {
+        // Arrange: the writer stalls loading slot 1, past both callers' timeout
+        loader.addSlot(1L, weekStart.plusHours(9));
+        loader.addSlot(2L, weekStart.plusHours(10));
+        BookingEngine engine = start(1_000_000, Duration.ofMillis(100));
+        loader.slotLoadGate = new CountDownLatch(1);
+        CompletableFuture<BookingResponse> started = CompletableFuture.supplyAsync(
+            () -> engine.bookSlot(book(1L, "alice@example.com")));
+        assertTrue(loader.slotLoadEntered.await(5, TimeUnit.SECONDS));
+        
+        // Act
+        assertThrows(RateLimitExceededException.class, () -> engine.bookSlot(book(2L, "bob@example.com")));
+        loader.slotLoadGate.countDown();
+        
+        // Assert: the started command is still answered, the cancelled one never ran
+        assertEquals(1L, started.get(5, TimeUnit.SECONDS).getTimeSlotId());
+        assertEquals(2L, engine.bookSlot(book(2L, "carol@example.com")).getTimeSlotId());
+        assertEquals(2, engine.getAccepted());
+        assertEquals(1, engine.getRejected());
+    }
+    
+    @Test
+    void testBookSlot_EnforcesWeeklyLimit() throws Exception {
+        // Arrange
+        loader.maxPerWeek = 1;
+        loader.addSlot(1L, weekStart.plusHours(9));
+        loader.addSlot(2L, weekStart.plusHours(10));
+        loader.addSlot(3L, weekStart.plusWeeks(1));
+        BookingEngine engine = start(1_000_000);
+        engine.bookSlot(book(1L, "alice@example.com"));
+        
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+            () -> engine.bookSlot(book(2L, "bob@example.com")));
+        assertTrue(exception.getMessage().contains("maximum interviews per week"));
+        assertNotNull(engine.bookSlot(book(3L, "bob@example.com")));
+        
+        engine.updateWeeklyLimit(INTERVIEWER_ID, 2);
+        assertNotNull(engine.bookSlot(book(2L, "carol@example.com")));
+    }
+    
+    @Test
+    void testBookSlot_ConsumesTheCandidatesHold() throws Exception {
+        // Arrange
+        loader.addHeldSlot(1L, weekStart.plusHours(9), "token-1", "alice@example.com");
+        BookingEngine engine = start(1_000_000);
+        
+        // Act & Assert
+        BookSlotRequest withoutToken = book(1L, "alice@example.com");
+        assertThrows(BusinessException.class, () -> engine.bookSlot(withoutToken));
+        BookSlotRequest otherCandidate = book(1L, "bob@example.com");
+        otherCandidate.setHoldToken("token-1");
+        assertThrows(BusinessException.class, () -> engine.bookSlot(otherCandidate));
+        
+        BookSlotRequest holder = book(1L, "alice@example.com");
+        holder.setHoldToken("token-1");
+        assertEquals(1L, engine.bookSlot(holder).getTimeSlotId());
+        assertThrows(BusinessException.class, () -> engine.bookSlot(otherCandidate));
+    }
+    
+    @Test
+    void testRescheduleAndCancel_FreeTheSlots() throws Exception {
+        // Arrange
+        loader.addSlot(1L, weekStart.plusHours(9));
+        loader.addSlot(2L, weekStart.plusHours(10));
+        BookingEngine engine = start(1_000_000);
+        long bookingId = engine.bookSlot(book(1L, "alice@example.com")).getBookingId();
+        
+        // Act
+        BookingResponse moved = engine.updateBooking(update(bookingId, 2L, "alice@example.com"));
+        assertThrows(BusinessException.class, () -> engine.updateBooking(update(bookingId, 1L, "mallory@example.com")));
+        engine.cancelBooking(bookingId, "alice@example.com", true);
+        
+        // Assert
+        assertEquals(2L, moved.getTimeSlotId());
+        assertThrows(ResourceNotFoundException.class, () -> engine.findBooking(bookingId));
+        assertThrows(ResourceNotFoundException.class, () -> engine.cancelBooking(bookingId, "alice@example.com", true));
+        assertNotNull(engine.bookSlot(book(1L, "bob@example.com")));
+        assertNotNull(engine.bookSlot(book(2L, "alice@example.com")));
+    }
+    
+    @Test
+    void testUnknownBookingsAreLeftToTheDatabase() throws Exception {
+        BookingEngine engine = start(1_000_000);
+        
+        assertTrue(engine.findBooking(41L).isEmpty());
+        assertThrows(ResourceNotFoundException.class, () -> engine.cancelBooking(41L, "alice@example.com", true));
+    }
+    
+    @Test
+    void testRestart_ReplaysJournalWithoutSnapshot() throws Exception {
+        // Arrange
+        loader.addSlot(1L, weekStart.plusHours(9));
+        loader.addSlot(2L, weekStart.plusHours(10));
+        BookingEngine crashed = start(1_000_000);
+        long bookingId = crashed.bookSlot(book(1L, "alice@example.com")).getBookingId();
+        String journalName = crashed.journalName();
+        loader.slots.remove(1L); // The booked slot must come back from the journal
+        
+        // Act: a second engine on the same directory while the first was never closed
+        BookingEngine restarted = start(1_000_000);
+        
+        // Assert
+        assertEquals(journalName, restarted.journalName());
+        assertEquals("alice@example.com", restarted.findBooking(bookingId).orElseThrow().getCandidateEmail());
+        assertThrows(BusinessException.class, () -> restarted.bookSlot(book(1L, "bob@example.com")));
+        assertThrows(BusinessException.class, () -> restarted.bookSlot(book(2L, "alice@example.com")));
+        assertNotEquals(bookingId, restarted.bookSlot(book(2L, "bob@example.com")).getBookingId());
+    }
+    
+    @Test
+    void testRestart_LoadsSnapshotAndReplaysTheRest() throws Exception {
+        // Arrange
+        loader.addSlot(1L, weekStart.plusHours(9));
+        loader.addSlot(2L, weekStart.plusHours(10));
+        loader.addSlot(3L, weekStart.plusHours(11));
+        BookingEngine first = start(1);
+        long alice = first.bookSlot(book(1L, "alice@example.com")).getBookingId();
+        long bob = first.bookSlot(book(2L, "bob@example.com")).getBookingId();
+        first.cancelBooking(alice, "alice@example.com", true);
+        first.close();
+        assertEquals(1, snapshots().size(), "older snapshots are removed");
+        loader.slots.clear();
+        
+        // Act
+        BookingEngine restarted = start(1_000_000);
+        
+        // Assert
+        assertThrows(ResourceNotFoundException.class, () -> restarted.findBooking(alice));
+        assertEquals(2L, restarted.findBooking(bob).orElseThrow().getTimeSlotId());
+        assertNotNull(restarted.bookSlot(book(1L, "alice@example.com")));
+    }
+    
+    private BookingEngine start(long snapshotInterval) throws Exception {
+        return start(snapshotInterval, Duration.ofSeconds(5));
+    }
+    
+    private BookingEngine start(long snapshotInterval, Duration commandTimeout) throws Exception {
+        BookingEngine engine = new BookingEngine(tempDir, 128 * 1024, true, loader, 1024, 64, snapshotInterval,
+            Duration.ofDays(28), commandTimeout);
+        engine.start();
+        engines.add(engine);
+        return engine;
+    }
+    
+    private List<Path> snapshots() throws Exception {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("snapshot-")).toList();
+        }
+    }
+    
+    private static BookSlotRequest book(Long slotId, String email) {
+        BookSlotRequest request = new BookSlotRequest();
+        request.setTimeSlotId(slotId);
+        request.setCandidateName(email.substring(0, email.indexOf('@')));
+        request.setCandidateEmail(email);
+        return request;
+    }
+    
+    private static UpdateBookingRequest update(Long bookingId, Long slotId, String email) {
+        UpdateBookingRequest request = new UpdateBookingRequest();
+        request.setBookingId(bookingId);
+        request.setNewTimeSlotId(slotId);
+        request.setCandidateName(email.substring(0, email.indexOf('@')));
+        request.setCandidateEmail(email);
+        return request;
+    }
+    
+    private static class FakeLoader implements EngineStateLoader {
+        
+        final Map<Long, EngineEvent.SlotLoaded> slots = new HashMap<>();
+        final Map<Long, Hold> holds = new HashMap<>();
+        final Set<String> activeCandidates = new HashSet<>();
+        final CountDownLatch slotLoadEntered = new CountDownLatch(1);
+        volatile CountDownLatch slotLoadGate;
+        int maxPerWeek = 10;
+        
+        void addSlot(long slotId, LocalDateTime start) {
+            addSlot(slotId, start, TimeSlot.TimeSlotStatus.AVAILABLE);
+        }
+        
+        void addHeldSlot(long slotId, LocalDateTime start, String holdToken, String candidateEmail) {
+            addSlot(slotId, start, TimeSlot.TimeSlotStatus.HELD);
+            holds.put(slotId, new Hold(holdToken, candidateEmail, LocalDateTime.now().plusMinutes(5)));
+        }
+        
+        private void addSlot(long slotId, LocalDateTime start, TimeSlot.TimeSlotStatus status) {
+            slots.put(slotId, new EngineEvent.SlotLoaded(slotId, INTERVIEWER_ID, EngineEvent.toMinute(start),
+                EngineEvent.toMinute(InterviewerCapacityTracker.weekStartOf(start)), status));
+        }
+        
+        @Override
+        public void loadHorizon(LocalDateTime from, LocalDateTime to, Consumer<EngineEvent> sink) {
+            // Everything is loaded on first use
+        }
+        
+        @Override
+        public List<EngineEvent> loadSlot(long slotId) {
+            CountDownLatch gate = slotLoadGate;
+            if (gate != null) {
+                slotLoadEntered.countDown();
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            EngineEvent.SlotLoaded slot = slots.get(slotId);
+            return slot == null ? List.of() : List.of(slot);
+        }
+        
+        @Override
+        public List<EngineEvent> loadBooking(long bookingId) {
+            return List.of();
+        }
+        
+        @Override
+        public EngineEvent.WeekLoaded loadWeek(long interviewerId, long weekStartMinute) {
+            return new EngineEvent.WeekLoaded(interviewerId, weekStartMinute, 0, maxPerWeek);
+        }
+        
+        @Override
+        public void loadActiveCandidates(Consumer<String> sink) {
+            activeCandidates.forEach(sink);
+        }
+        
+        @Override
+        public Optional<Hold> loadHold(long slotId) {
+            return Optional.ofNullable(holds.get(slotId));
+        }
+        
+        @Override
+        public long reserveBookingIds() {
+            return 2;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.demo.engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingJournalTest {
+    
+    private static final int SEGMENT_SIZE = 128 * 1024;
+    
+    @TempDir
+    Path tempDir;
+    
+    @Test
+    void testReadersOnlySeeCommittedRecords() throws Exception {
+        BookingJournal journal = new BookingJournal(tempDir, SEGMENT_SIZE, true);
+        journal.recover(0, event -> fail("Empty journal replayed " + event));
+        
+        journal.append(candidate(1));
+        journal.append(candidate(2));
+        assertTrue(journal.read(0, 10).events().isEmpty());
+        
+        long committed = journal.commit();
+        journal.append(candidate(3));
+        
+        BookingJournal.ReadBatch batch = journal.read(0, 10);
+        assertEquals(List.of(candidate(1), candidate(2)), batch.events());
+        assertEquals(committed, batch.nextPosition());
+        assertEquals(List.of(candidate(2)), journal.read(journal.read(0, 1).nextPosition(), 10).events());
+    }
+    
+    @Test
+    void testRecordsRollIntoNewSegments() throws Exception {
+        BookingJournal journal = new BookingJournal(tempDir, SEGMENT_SIZE, false);
+        journal.recover(0, event -> { });
+        
+        // ~50 bytes per record, so this spans several segments
+        for (int i = 0; i < 10_000; i++) {
+            journal.append(candidate(i));
+        }
+        journal.commit();
+        journal.close();
+        
+        assertTrue(Files.exists(tempDir.resolve("journal-0000000002.log")));
+        List<EngineEvent> replayed = new ArrayList<>();
+        long tail = new BookingJournal(tempDir, SEGMENT_SIZE, false).recover(0, replayed::add);
+        assertEquals(10_000, replayed.size());
+        assertEquals(candidate(9_999), replayed.get(9_999));
+        assertEquals(journal.durablePosition(), tail);
+    }
+    
+    @Test
+    void testRecoveryDiscardsTornTail() throws Exception {
+        BookingJournal journal = new BookingJournal(tempDir, SEGMENT_SIZE, true);
+        journal.recover(0, event -> { });
+        journal.append(candidate(1));
+        journal.append(candidate(2));
+        long committed = journal.commit();
+        
+        // A record whose payload never reached the disk: a length and checksum followed by zeroes
+        try (FileChannel channel = FileChannel.open(tempDir.resolve("journal-0000000000.log"), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(8).putInt(40).putInt(12345).flip(), committed);
+        }
+        
+        List<EngineEvent> replayed = new ArrayList<>();
+        BookingJournal recovered = new BookingJournal(tempDir, SEGMENT_SIZE, true);
+        assertEquals(committed, recovered.recover(0, replayed::add));
+        assertEquals(List.of(candidate(1), candidate(2)), replayed);
+        
+        recovered.append(candidate(3));
+        recovered.commit();
+        assertEquals(List.of(candidate(1), candidate(2), candidate(3)), recovered.read(0, 10).events());
+    }
+    
+    @Test
+    void testDeleteSegmentsBeforeKeepsTheActiveSegment() throws Exception {
+        BookingJournal journal = new BookingJournal(tempDir, SEGMENT_SIZE, false);
+        journal.recover(0, event -> { });
+        for (int i = 0; i < 10_000; i++) {
+            journal.append(candidate(i));
+        }
+        long end = journal.commit();
+        
+        journal.deleteSegmentsBefore(2L * SEGMENT_SIZE);
+        
+        assertFalse(Files.exists(tempDir.resolve("journal-0000000000.log")));
+        assertFalse(Files.exists(tempDir.resolve("journal-0000000001.log")));
+        BookingJournal.ReadBatch batch = journal.read(2L * SEGMENT_SIZE, 100_000);
+        assertFalse(batch.events().isEmpty());
+        assertEquals(end, batch.nextPosition());
+    }
+    
+    private static EngineEvent candidate(int i) {
+        return new EngineEvent.CandidateLoaded("candidate-" + i + "@example.com", i % 2 == 0);
+    }
+}
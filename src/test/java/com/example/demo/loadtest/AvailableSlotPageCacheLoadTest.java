@@ -0,0 +1,157 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.service.AvailableSlotPageCache;
+import com.example.demo.service.InterviewerCapacityTracker;
+import com.example.demo.service.TimeSlotService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the per-request cost of the available-slots body with and without the page cache:
+ * "rebuilt" runs the query, the DTOs and Jackson on every call (the path before the cache),
+ * "cached" serves the stored bytes. CPU time and allocated bytes are read per worker thread
+ * from the JVM's thread MX bean. Run with {@code mvn -P load-test test
+ * -Dtest=AvailableSlotPageCacheLoadTest}; tune with {@code -Dloadtest.pageCache.*} and read
+ * {@code target/load-test/page-cache.json}.
+ */
+@SpringBootTest
+@Slf4j
+class AvailableSlotPageCacheLoadTest {
+    
+    @Autowired
+    private AvailableSlotPageCache pageCache;
+    
+    @Autowired
+    private TimeSlotService timeSlotService;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Test
+    void pageCacheCostPerRequest() throws Exception {
+        int threads = Integer.getInteger("loadtest.pageCache.threads", 8);
+        int durationSeconds = Integer.getInteger("loadtest.pageCache.durationSeconds", 10);
+        int warmupSeconds = Integer.getInteger("loadtest.pageCache.warmupSeconds", 3);
+        int pageSize = Integer.getInteger("loadtest.pageCache.pageSize", 20);
+        Path reportPath = Paths.get(System.getProperty("loadtest.pageCache.report", "target/load-test/page-cache.json"));
+        
+        seedSlots(Integer.getInteger("loadtest.pageCache.slots", 500));
+        
+        Supplier<byte[]> rebuilt = () -> pageCache.encode(
+            timeSlotService.getAvailableSlots(null, pageSize, TimeSlotService.SlotRanking.CHRONOLOGICAL));
+        Supplier<byte[]> cached = () -> pageCache.availablePage(null, pageSize);
+        
+        run(rebuilt, threads, warmupSeconds);
+        Map<String, Object> rebuiltStats = run(rebuilt, threads, durationSeconds);
+        run(cached, threads, warmupSeconds);
+        Map<String, Object> cachedStats = run(cached, threads, durationSeconds);
+        
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("threads", threads);
+        report.put("durationSeconds", durationSeconds);
+        report.put("pageSize", pageSize);
+        report.put("rebuilt", rebuiltStats);
+        report.put("cached", cachedStats);
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        objectMapper.copy()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(reportPath.toFile(), report);
+        log.info("Page cache benchmark: rebuilt {} / cached {}", rebuiltStats, cachedStats);
+        
+        assertTrue((long) cachedStats.get("requests") > 0);
+        assertTrue((double) cachedStats.get("allocatedBytesPerRequest") < (double) rebuiltStats.get("allocatedBytesPerRequest"));
+    }
+    
+    private Map<String, Object> run(Supplier<byte[]> request, int threads, int seconds) throws Exception {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long end = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                long threadId = Thread.currentThread().getId();
+                long cpuStart = threadBean.getCurrentThreadCpuTime();
+                long allocatedStart = threadBean.getThreadAllocatedBytes(threadId);
+                long requests = 0;
+                long bytes = 0;
+                while (System.nanoTime() < end) {
+                    bytes += request.get().length;
+                    requests++;
+                }
+                return new long[] {requests, threadBean.getCurrentThreadCpuTime() - cpuStart,
+                    threadBean.getThreadAllocatedBytes(threadId) - allocatedStart, bytes};
+            }));
+        }
+        
+        long requests = 0;
+        long cpuNanos = 0;
+        long allocated = 0;
+        long bodyBytes = 0;
+        for (Future<long[]> future : futures) {
+            long[] totals = future.get();
+            requests += totals[0];
+            cpuNanos += totals[1];
+            allocated += totals[2];
+            bodyBytes += totals[3];
+        }
+        executor.shutdown();
+        
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("requests", requests);
+        stats.put("requestsPerSecond", requests / (double) seconds);
+        stats.put("cpuMicrosPerRequest", requests == 0 ? 0.0 : cpuNanos / 1000.0 / requests);
+        stats.put("allocatedBytesPerRequest", requests == 0 ? 0.0 : allocated / (double) requests);
+        stats.put("bodyBytes", requests == 0 ? 0 : bodyBytes / requests);
+        return stats;
+    }
+    
+    private void seedSlots(int count) {
+        Interviewer interviewer = interviewerRepository.save(Interviewer.builder()
+            .name("Benchmark Interviewer")
+            .email("page-cache-benchmark@example.com")
+            .maxInterviewsPerWeek(40)
+            .build());
+        LocalDateTime start = InterviewerCapacityTracker.currentWeekStart().plusWeeks(1);
+        List<TimeSlot> slots = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            slots.add(TimeSlot.builder()
+                .interviewer(interviewer)
+                .slotDateTime(start.plusMinutes(30L * i))
+                .durationMinutes(30)
+                .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+                .build());
+        }
+        timeSlotRepository.saveAll(slots);
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.demo.loadtest;
+
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.engine.BookingEngine;
+import com.example.demo.engine.EngineEvent;
+import com.example.demo.engine.EngineStateLoader;
+import com.example.demo.engine.JdbcEngineStateLoader;
+import com.example.demo.service.InterviewerCapacityTracker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures raw booking throughput of the in-memory engine: worker threads book distinct,
+ * preloaded slots as fast as the engine answers, so every call is a journaled, committed booking.
+ * Projection is not running. The first run replaces the database with a synthetic loader, which
+ * is the ceiling the engine itself imposes; the second bootstraps through
+ * {@link JdbcEngineStateLoader} from an embedded H2 that already holds active bookings, with a
+ * new candidate on every booking. Run with {@code mvn -P load-test test
+ * -Dtest=BookingEngineLoadTest}; tune with {@code -Dloadtest.engine.*} (set {@code fsync=false}
+ * to see the cost of the disk) and read {@code target/load-test/booking-engine*.json}.
+ */
+@Slf4j
+class BookingEngineLoadTest {
+    
+    private final int threads = Integer.getInteger("loadtest.engine.threads", 64);
+    private final int bookings = Integer.getInteger("loadtest.engine.bookings", 1_000_000);
+    private final int interviewers = Integer.getInteger("loadtest.engine.interviewers", 1_000);
+    private final int activeBookings = Integer.getInteger("loadtest.engine.activeBookings", 100_000);
+    private final int batchSize = Integer.getInteger("loadtest.engine.batchSize", 1024);
+    private final boolean fsync = Boolean.parseBoolean(System.getProperty("loadtest.engine.fsync", "true"));
+    private final LocalDateTime weekStart = InterviewerCapacityTracker.currentWeekStart().plusWeeks(1);
+    
+    @Test
+    void bookingEngineThroughput() throws Exception {
+        run(new SyntheticLoader(bookings, interviewers, weekStart),
+            Paths.get(System.getProperty("loadtest.engine.report", "target/load-test/booking-engine.json")));
+    }
+    
+    @Test
+    void bookingEngineThroughputWithJdbcLoader() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:engine-load;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        seed(jdbcTemplate);
+        try {
+            run(new JdbcEngineStateLoader(jdbcTemplate), Paths.get(System.getProperty("loadtest.engine.jdbcReport",
+                "target/load-test/booking-engine-jdbc.json")));
+        } finally {
+            jdbcTemplate.execute("DROP ALL OBJECTS");
+        }
+    }
+    
+    // The columns and indexes JdbcEngineStateLoader reads; slots 1..bookings are free, the ones after them booked
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE interviewers (id BIGINT PRIMARY KEY, max_interviews_per_week INT NOT NULL)");
+        jdbcTemplate.execute("CREATE TABLE time_slots (id BIGINT PRIMARY KEY, interviewer_id BIGINT NOT NULL, " +
+            "slot_date_time TIMESTAMP NOT NULL, status VARCHAR(16) NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX idx_interviewer_date ON time_slots (interviewer_id, slot_date_time)");
+        jdbcTemplate.execute("CREATE INDEX idx_status_date ON time_slots (status, slot_date_time)");
+        jdbcTemplate.execute("CREATE TABLE candidate_bookings (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+            "time_slot_id BIGINT NOT NULL UNIQUE, candidate_name VARCHAR(255), candidate_email VARCHAR(255), " +
+            "booking_date_time TIMESTAMP, updated_at TIMESTAMP, panel_id VARCHAR(36))");
+        jdbcTemplate.update(String.format("INSERT INTO interviewers SELECT X, %d FROM SYSTEM_RANGE(0, %d)",
+            Integer.MAX_VALUE, interviewers - 1));
+        jdbcTemplate.update(String.format("INSERT INTO time_slots SELECT X, MOD(X, %d), " +
+                "DATEADD('MINUTE', X / %d, CAST(? AS TIMESTAMP)), " +
+                "CASE WHEN X > %d THEN 'BOOKED' ELSE 'AVAILABLE' END FROM SYSTEM_RANGE(1, %d)",
+            interviewers, interviewers, bookings, bookings + activeBookings), Timestamp.valueOf(weekStart));
+        jdbcTemplate.update(String.format("INSERT INTO candidate_bookings (time_slot_id, candidate_name, " +
+                "candidate_email, booking_date_time, updated_at) SELECT X, 'Existing Candidate', " +
+                "CONCAT('existing-', X, '@example.com'), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(%d, %d)",
+            bookings + 1, bookings + activeBookings));
+    }
+    
+    private void run(EngineStateLoader loader, Path reportPath) throws Exception {
+        Path directory = Files.createTempDirectory(Files.createDirectories(Paths.get("target/load-test")), "engine-");
+        BookingEngine engine = new BookingEngine(directory, 256 * 1024 * 1024, fsync,
+            loader, 65_536, batchSize, Long.MAX_VALUE, Duration.ofDays(28), Duration.ofSeconds(30));
+        long bootstrapStart = System.nanoTime();
+        engine.start();
+        double bootstrapSeconds = (System.nanoTime() - bootstrapStart) / 1e9;
+        
+        AtomicInteger nextSlot = new AtomicInteger(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<EndpointStats>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                EndpointStats stats = new EndpointStats();
+                BookSlotRequest request = new BookSlotRequest();
+                request.setCandidateName("Load Candidate");
+                for (int slot = nextSlot.getAndIncrement(); slot <= bookings; slot = nextSlot.getAndIncrement()) {
+                    request.setTimeSlotId((long) slot);
+                    request.setCandidateEmail("candidate-" + slot + "@example.com");
+                    long begin = System.nanoTime();
+                    try {
+                        engine.bookSlot(request);
+                        stats.record(System.nanoTime() - begin, 201);
+                    } catch (RuntimeException e) {
+                        stats.record(System.nanoTime() - begin, 400);
+                    }
+                }
+                return stats;
+            }));
+        }
+        EndpointStats total = new EndpointStats();
+        for (Future<EndpointStats> future : futures) {
+            total.merge(future.get());
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        executor.shutdown();
+        long commits = engine.getCommits();
+        engine.close();
+        
+        Map<String, Object> bookStats = total.summarize(elapsedSeconds);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("loader", loader.getClass().getSimpleName());
+        report.put("bootstrapSeconds", bootstrapSeconds);
+        report.put("threads", threads);
+        report.put("fsync", fsync);
+        report.put("batchSize", batchSize);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("commits", commits);
+        report.put("bookingsPerCommit", commits == 0 ? 0.0 : engine.getAccepted() / (double) commits);
+        report.put("book", bookStats);
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        log.info("Booking engine benchmark: {}", report);
+        
+        assertEquals((long) bookings, bookStats.get("success"));
+    }
+    
+    // Every slot is loaded up front, so the measured path never waits on a database
+    private static class SyntheticLoader implements EngineStateLoader {
+        
+        private final int slots;
+        private final int interviewers;
+        private final LocalDateTime weekStart;
+        
+        SyntheticLoader(int slots, int interviewers, LocalDateTime weekStart) {
+            this.slots = slots;
+            this.interviewers = interviewers;
+            this.weekStart = weekStart;
+        }
+        
+        @Override
+        public void loadHorizon(LocalDateTime from, LocalDateTime to, Consumer<EngineEvent> sink) {
+            long weekStartMinute = EngineEvent.toMinute(weekStart);
+            for (long slotId = 1; slotId <= slots; slotId++) {
+                long interviewerId = slotId % interviewers;
+                sink.accept(new EngineEvent.SlotLoaded(slotId, interviewerId, weekStartMinute + slotId / interviewers,
+                    weekStartMinute, TimeSlot.TimeSlotStatus.AVAILABLE));
+            }
+            for (long interviewerId = 0; interviewerId < interviewers; interviewerId++) {
+                sink.accept(new EngineEvent.WeekLoaded(interviewerId, weekStartMinute, 0, Integer.MAX_VALUE));
+            }
+        }
+        
+        @Override
+        public List<EngineEvent> loadSlot(long slotId) {
+            return List.of();
+        }
+        
+        @Override
+        public List<EngineEvent> loadBooking(long bookingId) {
+            return List.of();
+        }
+        
+        @Override
+        public EngineEvent.WeekLoaded loadWeek(long interviewerId, long weekStartMinute) {
+            return new EngineEvent.WeekLoaded(interviewerId, weekStartMinute, 0, Integer.MAX_VALUE);
+        }
+        
+        @Override
+        public void loadActiveCandidates(Consumer<String> sink) {
+            // No candidate has booked yet
+        }
+        
+        @Override
+        public Optional<Hold> loadHold(long slotId) {
+            return Optional.empty();
+        }
+        
+        @Override
+        public long reserveBookingIds() {
+            return 2;
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.example.demo.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Booking-storm load generator. Excluded from the regular test run; execute with
+ * {@code mvn -P load-test test} and tune it through {@code -Dloadtest.*} properties
+ * (see {@link LoadTestConfig}). Point {@code -Dspring.datasource.*} at a local MySQL
+ * instance to run against a real database instead of embedded H2.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Slf4j
+class BookingStormLoadTest {
+    
+    private static final String BROWSE = "GET /time-slots/available";
+    private static final String BOOK = "POST /bookings";
+    private static final String RESCHEDULE = "PUT /bookings";
+    
+    @LocalServerPort
+    private int port;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Autowired
+    private Environment environment;
+    
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    
+    @Test
+    void bookingStorm() throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        
+        seedInterviewers(config);
+        List<Long> slotIds = collectAvailableSlotIds();
+        assertFalse(slotIds.isEmpty(), "Seeding produced no available slots");
+        log.info("Seeded {} interviewers with {} available slots", config.getInterviewers(), slotIds.size());
+        
+        ZipfSampler popularity = new ZipfSampler(slotIds.size(), config.getPopularitySkew());
+        long warmupEnd = System.nanoTime() + Duration.ofSeconds(config.getWarmupSeconds()).toNanos();
+        long runEnd = warmupEnd + Duration.ofSeconds(config.getDurationSeconds()).toNanos();
+        
+        ExecutorService executor = Executors.newFixedThreadPool(config.getThreads());
+        List<Future<Map<String, EndpointStats>>> futures = new ArrayList<>();
+        for (int i = 0; i < config.getThreads(); i++) {
+            Worker worker = new Worker(i, config, slotIds, popularity, warmupEnd, runEnd);
+            futures.add(executor.submit(worker::run));
+        }
+        
+        Map<String, EndpointStats> merged = new LinkedHashMap<>();
+        merged.put(BROWSE, new EndpointStats());
+        merged.put(BOOK, new EndpointStats());
+        merged.put(RESCHEDULE, new EndpointStats());
+        for (Future<Map<String, EndpointStats>> future : futures) {
+            future.get().forEach((endpoint, stats) -> merged.get(endpoint).merge(stats));
+        }
+        executor.shutdown();
+        
+        Map<String, Object> report = buildReport(config, slotIds.size(), merged);
+        Files.createDirectories(config.getReportPath().toAbsolutePath().getParent());
+        objectMapper.copy()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(config.getReportPath().toFile(), report);
+        log.info("Load test summary written to {}", config.getReportPath().toAbsolutePath());
+        
+        assertTrue(Files.size(config.getReportPath()) > 0);
+    }
+    
+    private void seedInterviewers(LoadTestConfig config) throws IOException, InterruptedException {
+        for (int i = 0; i < config.getInterviewers(); i++) {
+            Map<String, Object> body = new HashMap<>();
+            body.put("name", "Load Interviewer " + i);
+            body.put("email", "load-interviewer-" + i + "@example.com");
+            body.put("maxInterviewsPerWeek", config.getMaxInterviewsPerWeek());
+            
+            List<Map<String, Object>> availability = new ArrayList<>();
+            for (DayOfWeek day : DayOfWeek.values()) {
+                Map<String, Object> window = new HashMap<>();
+                window.put("dayOfWeek", day);
+                window.put("startTime", "09:00:00");
+                window.put("endTime", "17:00:00");
+                window.put("slotDurationMinutes", config.getSlotDurationMinutes());
+                availability.add(window);
+            }
+            body.put("availabilitySlots", availability);
+            
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/interviewers/availability"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build());
+            assertEquals(201, response.statusCode(), "Seeding interviewer failed: " + response.body());
+        }
+    }
+    
+    private List<Long> collectAvailableSlotIds() throws IOException, InterruptedException {
+        List<Long> slotIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            String path = "/time-slots/available?pageSize=100"
+                + (cursor == null ? "" : "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+            JsonNode data = objectMapper.readTree(send(HttpRequest.newBuilder(uri(path)).GET().build()).body())
+                .path("data");
+            data.path("timeSlots").forEach(slot -> slotIds.add(slot.path("id").asLong()));
+            cursor = data.path("hasNextPage").asBoolean() ? data.path("nextCursor").asText() : null;
+        } while (cursor != null);
+        return slotIds;
+    }
+    
+    private Map<String, Object> buildReport(LoadTestConfig config, int slotCount, Map<String, EndpointStats> stats) {
+        Map<String, Object> target = new LinkedHashMap<>();
+        target.put("datasourceUrl", environment.getProperty("spring.datasource.url"));
+        target.put("interviewers", config.getInterviewers());
+        target.put("availableSlotsAtStart", slotCount);
+        
+        Map<String, Object> workload = new LinkedHashMap<>();
+        workload.put("threads", config.getThreads());
+        workload.put("durationSeconds", config.getDurationSeconds());
+        workload.put("warmupSeconds", config.getWarmupSeconds());
+        workload.put("mix", Map.of(
+            "browse", config.getBrowseWeight(),
+            "book", config.getBookWeight(),
+            "reschedule", config.getRescheduleWeight()));
+        workload.put("popularitySkew", config.getPopularitySkew());
+        workload.put("seed", config.getSeed());
+        
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((endpoint, endpointStats) ->
+            endpoints.put(endpoint, endpointStats.summarize(config.getDurationSeconds())));
+        
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("target", target);
+        report.put("workload", workload);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+    
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + "/api/v1" + path);
+    }
+    
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+    
+    private class Worker {
+        
+        private final int workerId;
+        private final LoadTestConfig config;
+        private final List<Long> slotIds;
+        private final ZipfSampler popularity;
+        private final long warmupEnd;
+        private final long runEnd;
+        private final Random random;
+        private final Map<String, EndpointStats> stats = new HashMap<>();
+        private final List<long[]> bookings = new ArrayList<>(); // {bookingId, candidateIndex}
+        private String browseCursor;
+        private int candidateCounter;
+        
+        Worker(int workerId, LoadTestConfig config, List<Long> slotIds, ZipfSampler popularity,
+               long warmupEnd, long runEnd) {
+            this.workerId = workerId;
+            this.config = config;
+            this.slotIds = slotIds;
+            this.popularity = popularity;
+            this.warmupEnd = warmupEnd;
+            this.runEnd = runEnd;
+            this.random = new Random(config.getSeed() + workerId);
+            stats.put(BROWSE, new EndpointStats());
+            stats.put(BOOK, new EndpointStats());
+            stats.put(RESCHEDULE, new EndpointStats());
+        }
+        
+        Map<String, EndpointStats> run() {
+            int totalWeight = config.getBrowseWeight() + config.getBookWeight() + config.getRescheduleWeight();
+            while (System.nanoTime() < runEnd) {
+                int pick = random.nextInt(totalWeight);
+                if (pick < config.getBrowseWeight()) {
+                    browse();
+                } else if (pick < config.getBrowseWeight() + config.getBookWeight() || bookings.isEmpty()) {
+                    book();
+                } else {
+                    reschedule();
+                }
+            }
+            return stats;
+        }
+        
+        private void browse() {
+            // Most browsers only look at the first page; some keep paging
+            if (browseCursor == null || random.nextInt(3) == 0) {
+                browseCursor = null;
+            }
+            String path = "/time-slots/available?pageSize=" + config.getPageSize()
+                + (browseCursor == null ? "" : "&cursor=" + URLEncoder.encode(browseCursor, StandardCharsets.UTF_8));
+            HttpResponse<String> response = timed(BROWSE, HttpRequest.newBuilder(uri(path)).GET().build());
+            if (response != null && response.statusCode() == 200) {
+                try {
+                    JsonNode data = objectMapper.readTree(response.body()).path("data");
+                    browseCursor = data.path("hasNextPage").asBoolean() ? data.path("nextCursor").asText() : null;
+                } catch (IOException e) {
+                    browseCursor = null;
+                }
+            }
+        }
+        
+        private void book() {
+            int candidateIndex = candidateCounter++;
+            Map<String, Object> body = new HashMap<>();
+            body.put("timeSlotId", slotIds.get(popularity.next(random)));
+            body.put("candidateName", "Load Candidate " + workerId + "-" + candidateIndex);
+            body.put("candidateEmail", candidateEmail(candidateIndex));
+            
+            HttpResponse<String> response = timed(BOOK, jsonRequest("/bookings", "POST", body));
+            if (response != null && response.statusCode() == 201) {
+                try {
+                    long bookingId = objectMapper.readTree(response.body()).path("data").path("bookingId").asLong();
+                    bookings.add(new long[] {bookingId, candidateIndex});
+                } catch (IOException e) {
+                    // Booking exists server side but cannot be rescheduled by this worker
+                }
+            }
+        }
+        
+        private void reschedule() {
+            long[] booking = bookings.get(random.nextInt(bookings.size()));
+            Map<String, Object> body = new HashMap<>();
+            body.put("bookingId", booking[0]);
+            body.put("newTimeSlotId", slotIds.get(popularity.next(random)));
+            body.put("candidateName", "Load Candidate " + workerId + "-" + booking[1]);
+            body.put("candidateEmail", candidateEmail((int) booking[1]));
+            timed(RESCHEDULE, jsonRequest("/bookings", "PUT", body));
+        }
+        
+        private String candidateEmail(int candidateIndex) {
+            return "load-candidate-" + workerId + "-" + candidateIndex + "@example.com";
+        }
+        
+        private HttpRequest jsonRequest(String path, String method, Map<String, Object> body) {
+            try {
+                return HttpRequest.newBuilder(uri(path))
+                    .header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        
+        private HttpResponse<String> timed(String endpoint, HttpRequest request) {
+            long start = System.nanoTime();
+            HttpResponse<String> response = null;
+            try {
+                response = send(request);
+            } catch (IOException e) {
+                // Counted as an error below
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            long latency = System.nanoTime() - start;
+            if (start >= warmupEnd) {
+                if (response != null) {
+                    stats.get(endpoint).record(latency, response.statusCode());
+                } else {
+                    stats.get(endpoint).recordFailure(latency);
+                }
+            }
+            return response;
+        }
+    }
+}
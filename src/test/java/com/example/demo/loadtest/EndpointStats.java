@@ -0,0 +1,88 @@
+package com.example.demo.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-endpoint outcome counters and latency samples. Each worker thread owns its
+ * own instance; instances are merged once the run has finished.
+ */
+public class EndpointStats {
+    
+    private long[] latenciesNanos = new long[1024];
+    private int samples;
+    private long success;
+    private long conflicts;
+    private long rejected;
+    private long shed;
+    private long errors;
+    
+    public void record(long latencyNanos, int httpStatus) {
+        if (samples == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, samples * 2);
+        }
+        latenciesNanos[samples++] = latencyNanos;
+        
+        if (httpStatus >= 200 && httpStatus < 300) {
+            success++;
+        } else if (httpStatus == 409) {
+            conflicts++;
+        } else if (httpStatus >= 400 && httpStatus < 500) {
+            rejected++;
+        } else if (httpStatus == 503) {
+            shed++;
+        } else {
+            errors++;
+        }
+    }
+    
+    public void recordFailure(long latencyNanos) {
+        record(latencyNanos, 599);
+    }
+    
+    public void merge(EndpointStats other) {
+        if (samples + other.samples > latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, samples + other.samples);
+        }
+        System.arraycopy(other.latenciesNanos, 0, latenciesNanos, samples, other.samples);
+        samples += other.samples;
+        success += other.success;
+        conflicts += other.conflicts;
+        rejected += other.rejected;
+        shed += other.shed;
+        errors += other.errors;
+    }
+    
+    public Map<String, Object> summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latenciesNanos, samples);
+        Arrays.sort(sorted);
+        
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", samples);
+        summary.put("throughputPerSecond", round(samples / elapsedSeconds));
+        summary.put("success", success);
+        summary.put("conflicts", conflicts);
+        summary.put("rejected", rejected);
+        summary.put("shed", shed);
+        summary.put("errors", errors);
+        summary.put("conflictRate", samples == 0 ? 0.0 : round((double) conflicts / samples));
+        summary.put("p50Millis", percentileMillis(sorted, 0.50));
+        summary.put("p95Millis", percentileMillis(sorted, 0.95));
+        summary.put("p99Millis", percentileMillis(sorted, 0.99));
+        summary.put("maxMillis", sorted.length == 0 ? 0.0 : round(sorted[sorted.length - 1] / 1_000_000.0));
+        return summary;
+    }
+    
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return round(sorted[Math.max(index, 0)] / 1_000_000.0);
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 1000.0) / 1000.0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.demo.loadtest;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+@Data
+@Builder
+public class LoadTestConfig {
+    
+    private int interviewers;
+    private int maxInterviewsPerWeek;
+    private int slotDurationMinutes;
+    private int threads;
+    private int durationSeconds;
+    private int warmupSeconds;
+    private int browseWeight;
+    private int bookWeight;
+    private int rescheduleWeight;
+    private double popularitySkew; // Zipf exponent, 0 = uniform
+    private int pageSize;
+    private long seed;
+    private Path reportPath;
+    
+    public static LoadTestConfig fromSystemProperties() {
+        return LoadTestConfig.builder()
+            .interviewers(Integer.getInteger("loadtest.interviewers", 50))
+            .maxInterviewsPerWeek(Integer.getInteger("loadtest.maxInterviewsPerWeek", 40))
+            .slotDurationMinutes(Integer.getInteger("loadtest.slotDurationMinutes", 30))
+            .threads(Integer.getInteger("loadtest.threads", 32))
+            .durationSeconds(Integer.getInteger("loadtest.durationSeconds", 30))
+            .warmupSeconds(Integer.getInteger("loadtest.warmupSeconds", 5))
+            .browseWeight(Integer.getInteger("loadtest.mix.browse", 80))
+            .bookWeight(Integer.getInteger("loadtest.mix.book", 15))
+            .rescheduleWeight(Integer.getInteger("loadtest.mix.reschedule", 5))
+            .popularitySkew(Double.parseDouble(System.getProperty("loadtest.skew", "1.1")))
+            .pageSize(Integer.getInteger("loadtest.pageSize", 20))
+            .seed(Long.getLong("loadtest.seed", 42L))
+            .reportPath(Paths.get(System.getProperty("loadtest.report", "target/load-test/summary.json")))
+            .build();
+    }
+}
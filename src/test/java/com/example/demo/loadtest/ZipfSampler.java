@@ -0,0 +1,42 @@
+package com.example.demo.loadtest;
+
+import java.util.Random;
+
+/**
+ * Samples ranks in [0, n) with probability proportional to 1 / (rank + 1)^skew,
+ * so a handful of "popular" slots receive most of the traffic.
+ */
+public class ZipfSampler {
+    
+    private final double[] cumulative;
+    
+    public ZipfSampler(int n, double skew) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("Sampler size must be positive");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1.0 / Math.pow(i + 1, skew);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+    
+    public int next(Random random) {
+        double u = random.nextDouble();
+        int low = 0;
+        int high = cumulative.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cumulative[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.demo.outbox;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.OutboxEvent;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.OutboxEventRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.dto.response.BookingResponse;
+import com.example.demo.service.BookingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class OutboxIntegrationTest {
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private InMemoryOutboxSink sink;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private CandidateBookingRepository bookingRepository;
+    
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        timeSlotRepository.deleteAll();
+        interviewerRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        sink.clear();
+    }
+    
+    @Test
+    void testBookingIsRelayedToSink() throws Exception {
+        Interviewer interviewer = interviewerRepository.save(Interviewer.builder()
+            .name("Rajesh Kumar")
+            .email("rajesh-outbox@example.com")
+            .maxInterviewsPerWeek(50)
+            .build());
+        TimeSlot slot = timeSlotRepository.save(TimeSlot.builder()
+            .interviewer(interviewer)
+            .slotDateTime(LocalDateTime.now().plusHours(2))
+            .build());
+        
+        BookSlotRequest request = new BookSlotRequest();
+        request.setTimeSlotId(slot.getId());
+        request.setCandidateName("Priya Patel");
+        request.setCandidateEmail("priya-outbox@example.com");
+        BookingResponse booking = bookingService.bookSlot(request);
+        
+        List<OutboxEvent> delivered = List.of();
+        for (int i = 0; i < 50 && delivered.isEmpty(); i++) {
+            Thread.sleep(100);
+            delivered = sink.getDelivered().stream()
+                .filter(event -> event.getAggregateId().equals(booking.getBookingId()))
+                .toList();
+        }
+        
+        assertEquals(1, delivered.size());
+        assertEquals("BOOKING_BOOKED", delivered.get(0).getEventType());
+        assertTrue(delivered.get(0).getPayload().contains("priya-outbox@example.com"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.demo.outbox;
+
+import com.example.demo.domain.entity.OutboxEvent;
+import com.example.demo.domain.repository.OutboxEventRepository;
+import com.example.demo.sharding.ShardDirectory;
+import com.example.demo.sharding.ShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+    
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    
+    @Mock
+    private OutboxSink failingSink;
+    
+    private InMemoryOutboxSink memorySink;
+    
+    private final List<OutboxEvent> batch = List.of(event(1L), event(2L));
+    
+    @BeforeEach
+    void setUp() {
+        memorySink = new InMemoryOutboxSink();
+    }
+    
+    @Test
+    void testRelay_DeliversBatchAndMarksDelivered() {
+        // Arrange
+        OutboxRelay relay = relay(List.of(memorySink));
+        when(outboxEventRepository.findPending(any(Pageable.class))).thenReturn(batch);
+        
+        // Act
+        relay.relay();
+        
+        // Assert
+        assertEquals(batch, memorySink.getDelivered());
+        verify(outboxEventRepository).markDelivered(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(outboxEventRepository, never()).incrementAttempts(any());
+    }
+    
+    @Test
+    void testRelay_SinkFailure_LeavesBatchPending() throws Exception {
+        // Arrange
+        OutboxRelay relay = relay(List.of(memorySink, failingSink));
+        when(outboxEventRepository.findPending(any(Pageable.class))).thenReturn(batch);
+        doThrow(new IllegalStateException("ATS unavailable")).when(failingSink).deliver(any());
+        
+        // Act
+        relay.relay();
+        
+        // Assert
+        verify(outboxEventRepository).incrementAttempts(List.of(1L, 2L));
+        verify(outboxEventRepository).deadLetterExhausted(eq(List.of(1L, 2L)), eq(10), any(LocalDateTime.class));
+        verify(outboxEventRepository, never()).markDelivered(any(), any());
+    }
+    
+    @Test
+    void testRelay_PoisonEvent_DoesNotBlockRestOfBatch() throws Exception {
+        // Arrange
+        OutboxRelay relay = relay(List.of(failingSink));
+        when(outboxEventRepository.findPending(any(Pageable.class))).thenReturn(batch);
+        doAnswer(invocation -> {
+            List<OutboxEvent> events = invocation.getArgument(0);
+            if (events.stream().anyMatch(event -> event.getId().equals(1L))) {
+                throw new IllegalArgumentException("Unmappable payload");
+            }
+            return null;
+        }).when(failingSink).deliver(any());
+        
+        // Act
+        relay.relay();
+        
+        // Assert
+        verify(outboxEventRepository).markDelivered(eq(List.of(2L)), any(LocalDateTime.class));
+        verify(outboxEventRepository).incrementAttempts(List.of(1L));
+        verify(outboxEventRepository).deadLetterExhausted(eq(List.of(1L)), eq(10), any(LocalDateTime.class));
+    }
+    
+    @Test
+    void testRelay_DrainsFullBatchesUntilEmpty() {
+        // Arrange
+        OutboxRelay relay = relay(List.of(memorySink));
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        when(outboxEventRepository.findPending(any(Pageable.class)))
+            .thenReturn(batch)
+            .thenReturn(Collections.emptyList());
+        
+        // Act
+        relay.relay();
+        
+        // Assert
+        verify(outboxEventRepository, times(2)).findPending(any(Pageable.class));
+        assertEquals(2, memorySink.getDelivered().size());
+    }
+    
+    private OutboxRelay relay(List<OutboxSink> sinks) {
+        OutboxRelay relay = new OutboxRelay(outboxEventRepository, sinks, new ShardRouter(new ShardDirectory(List.of())));
+        ReflectionTestUtils.setField(relay, "batchSize", 200);
+        ReflectionTestUtils.setField(relay, "maxAttempts", 10);
+        return relay;
+    }
+    
+    private static OutboxEvent event(Long id) {
+        return OutboxEvent.builder()
+            .id(id)
+            .eventType("BOOKING_BOOKED")
+            .aggregateId(id)
+            .payload("{}")
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.AutoBookRequest;
+import com.example.demo.dto.request.TimeWindowRequest;
+import com.example.demo.dto.response.BookingResponse;
+import com.example.demo.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.time.temporal.WeekFields;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@SpringBootTest
+class AutoBookingIntegrationTest {
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private CandidateBookingRepository bookingRepository;
+    
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        timeSlotRepository.deleteAll();
+        interviewerRepository.deleteAll();
+    }
+    
+    @Test
+    void testAutoBook_BooksEarliestSlotsInOrderAcrossInterviewers() {
+        LocalDateTime base = LocalDateTime.now().plusMinutes(10).withNano(0);
+        // The weekly cap counts the current week only
+        WeekFields weekFields = WeekFields.of(Locale.getDefault());
+        assumeTrue(base.plusHours(2).get(weekFields.weekOfWeekBasedYear()) == LocalDateTime.now().get(weekFields.weekOfWeekBasedYear()));
+        Interviewer first = interviewer("first-auto@example.com", 1);
+        Interviewer second = interviewer("second-auto@example.com", 5);
+        TimeSlot earliest = slot(first, base);
+        TimeSlot next = slot(second, base.plusHours(1));
+        TimeSlot sameInterviewer = slot(first, base.plusMinutes(30));
+        slot(second, base.plusDays(3)); // Outside the window
+        
+        BookingResponse a = bookingService.autoBook(request("a-auto@example.com", base.minusHours(1), base.plusHours(2)));
+        // first is now at its weekly cap, so its 30-minute slot is skipped
+        BookingResponse b = bookingService.autoBook(request("b-auto@example.com", base.minusHours(1), base.plusHours(2)));
+        
+        assertEquals(earliest.getId(), a.getTimeSlotId());
+        assertEquals(next.getId(), b.getTimeSlotId());
+        assertEquals(TimeSlot.TimeSlotStatus.AVAILABLE,
+            timeSlotRepository.findById(sameInterviewer.getId()).orElseThrow().getStatus());
+        assertThrows(BusinessException.class, () ->
+            bookingService.autoBook(request("c-auto@example.com", base.minusHours(1), base.plusHours(2))));
+    }
+    
+    private Interviewer interviewer(String email, int maxPerWeek) {
+        return interviewerRepository.save(Interviewer.builder()
+            .name("Interviewer")
+            .email(email)
+            .maxInterviewsPerWeek(maxPerWeek)
+            .build());
+    }
+    
+    private TimeSlot slot(Interviewer interviewer, LocalDateTime at) {
+        return timeSlotRepository.save(TimeSlot.builder().interviewer(interviewer).slotDateTime(at).build());
+    }
+    
+    private AutoBookRequest request(String email, LocalDateTime start, LocalDateTime end) {
+        TimeWindowRequest window = new TimeWindowRequest();
+        window.setStart(start);
+        window.setEnd(end);
+        AutoBookRequest request = new AutoBookRequest();
+        request.setCandidateName("Candidate");
+        request.setCandidateEmail(email);
+        request.setWindows(List.of(window));
+        return request;
+    }
+}
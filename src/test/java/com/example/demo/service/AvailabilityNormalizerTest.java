@@ -0,0 +1,62 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.request.AvailabilitySlotRequest;
+import com.example.demo.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilityNormalizerTest {
+    
+    @Test
+    void testNormalize_MergesDuplicateAndOverlappingWindowsWithSameDuration() {
+        List<AvailabilitySlotRequest> normalized = AvailabilityNormalizer.normalize(List.of(
+            window(DayOfWeek.MONDAY, "13:00", "17:00", 60),
+            window(DayOfWeek.MONDAY, "09:00", "12:00", 60),
+            window(DayOfWeek.MONDAY, "09:00", "12:00", 60),
+            window(DayOfWeek.MONDAY, "11:00", "13:00", 60),
+            window(DayOfWeek.TUESDAY, "09:00", "10:00", 30)));
+        
+        assertEquals(2, normalized.size());
+        assertEquals(LocalTime.of(9, 0), normalized.get(0).getStartTime());
+        assertEquals(LocalTime.of(17, 0), normalized.get(0).getEndTime());
+        assertEquals(DayOfWeek.TUESDAY, normalized.get(1).getDayOfWeek());
+    }
+    
+    @Test
+    void testNormalize_RejectsOverlapWithDifferentDurations() {
+        assertThrows(BusinessException.class, () -> AvailabilityNormalizer.normalize(List.of(
+            window(DayOfWeek.WEDNESDAY, "13:00", "17:00", 30),
+            window(DayOfWeek.WEDNESDAY, "14:00", "16:00", 60))));
+    }
+    
+    @Test
+    void testNormalize_KeepsTouchingWindowsWithDifferentDurations() {
+        List<AvailabilitySlotRequest> normalized = AvailabilityNormalizer.normalize(List.of(
+            window(DayOfWeek.FRIDAY, "09:00", "12:00", 30),
+            window(DayOfWeek.FRIDAY, "12:00", "15:00", 60)));
+        
+        assertEquals(2, normalized.size());
+    }
+    
+    @Test
+    void testNormalize_RejectsInvalidWindows() {
+        assertThrows(BusinessException.class, () -> AvailabilityNormalizer.normalize(List.of(
+            window(DayOfWeek.MONDAY, "12:00", "09:00", 60))));
+        assertThrows(BusinessException.class, () -> AvailabilityNormalizer.normalize(List.of(
+            window(DayOfWeek.MONDAY, "09:00", "09:30", 60))));
+    }
+    
+    private static AvailabilitySlotRequest window(DayOfWeek day, String start, String end, int duration) {
+        AvailabilitySlotRequest window = new AvailabilitySlotRequest();
+        window.setDayOfWeek(day);
+        window.setStartTime(LocalTime.parse(start));
+        window.setEndTime(LocalTime.parse(end));
+        window.setSlotDurationMinutes(duration);
+        return window;
+    }
+}
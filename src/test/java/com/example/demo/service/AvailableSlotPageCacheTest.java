@@ -0,0 +1,173 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.response.PagedTimeSlotResponse;
+import com.example.demo.dto.response.TimeSlotResponse;
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.event.BookingChangedEvent;
+import com.example.demo.event.SlotHeldEvent;
+import com.example.demo.sharding.ShardDirectory;
+import com.example.demo.sharding.ShardRouter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailableSlotPageCacheTest {
+    
+    @Mock
+    private TimeSlotService timeSlotService;
+    
+    @Mock
+    private TimeSlotRepository timeSlotRepository;
+    
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    
+    private AvailableSlotPageCache pageCache;
+    
+    @BeforeEach
+    void setUp() {
+        pageCache = new AvailableSlotPageCache(timeSlotService, objectMapper);
+        ReflectionTestUtils.setField(pageCache, "enabled", true);
+        ReflectionTestUtils.setField(pageCache, "maxEntries", 2);
+    }
+    
+    @Test
+    void testAvailablePage_ServesEncodedBodyUntilSlotsChange() throws Exception {
+        // Arrange
+        when(timeSlotService.queryAvailableSlots(isNull(), eq(20), eq(TimeSlotService.SlotRanking.CHRONOLOGICAL)))
+            .thenReturn(page(1L), page(2L));
+        
+        // Act
+        byte[] first = pageCache.availablePage(null, null);
+        byte[] second = pageCache.availablePage(null, 20);
+        pageCache.onBookingChanged(BookingChangedEvent.builder().type(BookingChangedEvent.ChangeType.BOOKED).build());
+        byte[] afterBooking = pageCache.availablePage(null, 20);
+        
+        // Assert
+        assertSame(first, second);
+        JsonNode body = objectMapper.readTree(first);
+        assertTrue(body.get("success").asBoolean());
+        assertEquals(1L, body.at("/data/timeSlots/0/id").asLong());
+        assertEquals(2L, objectMapper.readTree(afterBooking).at("/data/timeSlots/0/id").asLong());
+        verify(timeSlotService, times(2)).queryAvailableSlots(any(), anyInt(), any());
+    }
+    
+    @Test
+    void testAvailablePage_PageLoadedDuringInvalidationIsNotStored() {
+        // Arrange
+        when(timeSlotService.queryAvailableSlots(isNull(), eq(20), eq(TimeSlotService.SlotRanking.CHRONOLOGICAL)))
+            .thenAnswer(invocation -> {
+                pageCache.onSlotHeld(SlotHeldEvent.builder().timeSlotId(1L).build());
+                return page(1L);
+            });
+        
+        // Act
+        pageCache.availablePage(null, 20);
+        
+        // Assert
+        assertEquals(0, pageCache.size());
+    }
+    
+    @Test
+    void testAvailablePage_ReaderAfterInvalidationDoesNotJoinEarlierQuery() throws Exception {
+        // Arrange: a real TimeSlotService, whose own coalescing must not hand out the earlier page
+        TimeSlotService slotService = new TimeSlotService(timeSlotRepository, mock(InterviewerCapacityTracker.class),
+            mock(PlatformTransactionManager.class), new ShardRouter(new ShardDirectory(List.of())));
+        AvailableSlotPageCache cache = new AvailableSlotPageCache(slotService, objectMapper);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        
+        CountDownLatch staleQueryStarted = new CountDownLatch(1);
+        CountDownLatch releaseStaleQuery = new CountDownLatch(1);
+        when(timeSlotRepository.findAvailableSlots(eq(TimeSlot.TimeSlotStatus.AVAILABLE), any(Pageable.class)))
+            .thenAnswer(invocation -> {
+                staleQueryStarted.countDown();
+                assertTrue(releaseStaleQuery.await(5, TimeUnit.SECONDS));
+                return new PageImpl<>(List.of(slot(1L)));
+            })
+            .thenReturn(new PageImpl<>(List.of(slot(2L))));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        
+        try {
+            // Act: the booking commits and invalidates while the first query is still running
+            Future<byte[]> stale = executor.submit(() -> cache.availablePage(null, 20));
+            assertTrue(staleQueryStarted.await(5, TimeUnit.SECONDS));
+            cache.onBookingChanged(BookingChangedEvent.builder().type(BookingChangedEvent.ChangeType.BOOKED).build());
+            Future<byte[]> fresh = executor.submit(() -> cache.availablePage(null, 20));
+            Thread.sleep(100);
+            releaseStaleQuery.countDown();
+            stale.get(5, TimeUnit.SECONDS);
+            byte[] freshBody = fresh.get(5, TimeUnit.SECONDS);
+            byte[] cached = cache.availablePage(null, 20);
+            
+            // Assert
+            assertEquals(2L, objectMapper.readTree(freshBody).at("/data/timeSlots/0/id").asLong());
+            assertEquals(2L, objectMapper.readTree(cached).at("/data/timeSlots/0/id").asLong());
+            verify(timeSlotRepository, times(2)).findAvailableSlots(any(), any(Pageable.class));
+        } finally {
+            releaseStaleQuery.countDown();
+            executor.shutdownNow();
+        }
+    }
+    
+    @Test
+    void testAvailablePage_BoundedByMaxEntries() {
+        // Arrange
+        when(timeSlotService.queryAvailableSlots(any(), anyInt(), any())).thenReturn(page(1L));
+        
+        // Act
+        pageCache.availablePage("a", 20);
+        pageCache.availablePage("b", 20);
+        pageCache.availablePage("c", 20);
+        
+        // Assert
+        assertEquals(1, pageCache.size());
+    }
+    
+    private static TimeSlot slot(Long slotId) {
+        return TimeSlot.builder()
+            .id(slotId)
+            .interviewer(Interviewer.builder().id(1L).build())
+            .slotDateTime(LocalDateTime.now().plusDays(1))
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .build();
+    }
+    
+    private PagedTimeSlotResponse page(Long slotId) {
+        return PagedTimeSlotResponse.builder()
+            .timeSlots(List.of(TimeSlotResponse.builder()
+                .id(slotId)
+                .interviewerId(1L)
+                .slotDateTime(LocalDateTime.now().plusDays(1))
+                .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+                .build()))
+            .hasNextPage(false)
+            .pageSize(20)
+            .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.dto.request.BulkCancelRequest;
+import com.example.demo.dto.response.CancellationResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class BookingCancellationIntegrationTest {
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private CandidateBookingRepository bookingRepository;
+    
+    private Interviewer interviewer;
+    private TimeSlot first;
+    private TimeSlot second;
+    
+    @BeforeEach
+    void setUp() {
+        interviewer = interviewerRepository.save(Interviewer.builder()
+            .name("Rajesh Kumar")
+            .email("rajesh-cancel@example.com")
+            .maxInterviewsPerWeek(50)
+            .build());
+        LocalDateTime slotTime = LocalDateTime.now().plusHours(2).withNano(0);
+        first = timeSlotRepository.save(TimeSlot.builder().interviewer(interviewer).slotDateTime(slotTime).build());
+        second = timeSlotRepository.save(TimeSlot.builder().interviewer(interviewer).slotDateTime(slotTime.plusHours(1)).build());
+        book(first, "priya@example.com");
+        book(second, "amit@example.com");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        timeSlotRepository.deleteAll();
+        interviewerRepository.deleteAll();
+    }
+    
+    @Test
+    void testBulkCancel_RecyclesSlotsAfterCommit() {
+        CancellationResponse response = bookingService.cancelBookings(bulkRequest(true));
+        
+        assertEquals(2, response.getCancelledBookings());
+        assertEquals(0, bookingRepository.count());
+        assertEquals(TimeSlot.TimeSlotStatus.AVAILABLE, timeSlotRepository.findById(first.getId()).orElseThrow().getStatus());
+        assertEquals(TimeSlot.TimeSlotStatus.AVAILABLE, timeSlotRepository.findById(second.getId()).orElseThrow().getStatus());
+        
+        // The candidate is free to book again
+        book(first, "priya@example.com");
+    }
+    
+    @Test
+    void testBulkCancel_WithoutRelease_KeepsSlotsWithdrawn() {
+        bookingService.cancelBookings(bulkRequest(false));
+        
+        assertEquals(TimeSlot.TimeSlotStatus.CANCELLED, timeSlotRepository.findById(first.getId()).orElseThrow().getStatus());
+        assertEquals(TimeSlot.TimeSlotStatus.CANCELLED, timeSlotRepository.findById(second.getId()).orElseThrow().getStatus());
+    }
+    
+    private BulkCancelRequest bulkRequest(boolean releaseSlots) {
+        BulkCancelRequest request = new BulkCancelRequest();
+        request.setInterviewerId(interviewer.getId());
+        request.setFrom(LocalDateTime.now());
+        request.setTo(LocalDateTime.now().plusDays(1));
+        request.setReleaseSlots(releaseSlots);
+        return request;
+    }
+    
+    private void book(TimeSlot slot, String email) {
+        BookSlotRequest request = new BookSlotRequest();
+        request.setTimeSlotId(slot.getId());
+        request.setCandidateName("Candidate");
+        request.setCandidateEmail(email);
+        bookingService.bookSlot(request);
+    }
+}
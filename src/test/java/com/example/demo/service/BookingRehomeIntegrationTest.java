@@ -0,0 +1,171 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.AvailabilitySlot;
+import com.example.demo.domain.entity.CandidateBooking;
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.AvailabilitySlotRepository;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.response.RehomeResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class BookingRehomeIntegrationTest {
+    
+    @Autowired
+    private BookingRehomeService bookingRehomeService;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private CandidateBookingRepository bookingRepository;
+    
+    private Interviewer shrinking;
+    private Interviewer fallback;
+    private TimeSlot earlyFree;
+    private TimeSlot lateFree;
+    private TimeSlot staleFree;
+    private TimeSlot fallbackFree;
+    private CandidateBooking afternoon;
+    private CandidateBooking evening;
+    private CandidateBooking nextDay;
+    private CandidateBooking shortOne;
+    
+    @BeforeEach
+    void setUp() {
+        // Two days inside next week, so all slots share one interviewer week
+        LocalDateTime day = InterviewerCapacityTracker.currentWeekStart().plusWeeks(1).plusDays(1);
+        shrinking = interviewer("shrinking-rehome@example.com", 10);
+        fallback = interviewer("fallback-rehome@example.com", 10);
+        
+        // Only the morning window is left for the shrinking interviewer
+        availabilitySlotRepository.save(AvailabilitySlot.builder()
+            .interviewer(shrinking)
+            .dayOfWeek(day.getDayOfWeek())
+            .startTime(LocalTime.of(9, 0))
+            .endTime(LocalTime.of(12, 0))
+            .slotDurationMinutes(60)
+            .build());
+        
+        earlyFree = slot(shrinking, day.plusHours(9), 60, TimeSlot.TimeSlotStatus.AVAILABLE);
+        lateFree = slot(shrinking, day.plusHours(11), 60, TimeSlot.TimeSlotStatus.AVAILABLE);
+        staleFree = slot(shrinking, day.plusHours(16), 60, TimeSlot.TimeSlotStatus.AVAILABLE);
+        afternoon = booking(slot(shrinking, day.plusHours(14), 60, TimeSlot.TimeSlotStatus.BOOKED), "afternoon");
+        evening = booking(slot(shrinking, day.plusHours(15), 60, TimeSlot.TimeSlotStatus.BOOKED), "evening");
+        nextDay = booking(slot(shrinking, day.plusDays(1).plusHours(10), 60, TimeSlot.TimeSlotStatus.BOOKED), "next-day");
+        shortOne = booking(slot(shrinking, day.plusDays(1).plusHours(13), 30, TimeSlot.TimeSlotStatus.BOOKED), "short");
+        
+        fallbackFree = slot(fallback, day.plusDays(1).plusHours(11), 60, TimeSlot.TimeSlotStatus.AVAILABLE);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        timeSlotRepository.deleteAll();
+        availabilitySlotRepository.deleteAll();
+        interviewerRepository.deleteAll();
+    }
+    
+    @Test
+    void testPreview_PlansNearestSameInterviewerThenFallback() {
+        RehomeResponse plan = bookingRehomeService.preview(shrinking.getId());
+        
+        assertFalse(plan.isCommitted());
+        assertEquals(4, plan.getOrphanedBookings());
+        Map<Long, Long> targetByBooking = targets(plan);
+        assertEquals(lateFree.getId(), targetByBooking.get(afternoon.getId()));
+        assertEquals(earlyFree.getId(), targetByBooking.get(evening.getId()));
+        assertEquals(fallbackFree.getId(), targetByBooking.get(nextDay.getId()));
+        assertEquals(List.of(shortOne.getId()), plan.getUnplacedBookingIds());
+        assertFalse(targetByBooking.containsValue(staleFree.getId()), "Slots outside the availability are not targets");
+        assertEquals(TimeSlot.TimeSlotStatus.AVAILABLE, status(lateFree), "Preview must not move bookings");
+    }
+    
+    @Test
+    void testRehome_MovesBookingsAndRetiresVacatedSlots() {
+        RehomeResponse result = bookingRehomeService.rehome(shrinking.getId());
+        
+        assertTrue(result.isCommitted());
+        assertEquals(3, result.getMoves().size());
+        assertTrue(result.getConflictedBookingIds().isEmpty());
+        assertEquals(lateFree.getId(), bookingRepository.findAllById(List.of(afternoon.getId())).get(0).getTimeSlot().getId());
+        assertEquals(fallbackFree.getId(), bookingRepository.findAllById(List.of(nextDay.getId())).get(0).getTimeSlot().getId());
+        assertEquals(TimeSlot.TimeSlotStatus.BOOKED, status(earlyFree));
+        assertEquals(TimeSlot.TimeSlotStatus.BOOKED, status(fallbackFree));
+        assertEquals(TimeSlot.TimeSlotStatus.CANCELLED, status(afternoon.getTimeSlot()));
+        assertEquals(TimeSlot.TimeSlotStatus.CANCELLED, status(nextDay.getTimeSlot()));
+        assertEquals(TimeSlot.TimeSlotStatus.BOOKED, status(shortOne.getTimeSlot()));
+        
+        // Nothing is left to move once the remaining orphan has no compatible slot
+        RehomeResponse again = bookingRehomeService.rehome(shrinking.getId());
+        assertEquals(1, again.getOrphanedBookings());
+        assertTrue(again.getMoves().isEmpty());
+    }
+    
+    @Test
+    void testPreview_SkipsFallbackInterviewerWithFullWeek() {
+        fallback.setMaxInterviewsPerWeek(0);
+        interviewerRepository.save(fallback);
+        
+        RehomeResponse plan = bookingRehomeService.preview(shrinking.getId());
+        
+        assertFalse(targets(plan).containsKey(nextDay.getId()));
+        assertTrue(plan.getUnplacedBookingIds().contains(nextDay.getId()));
+    }
+    
+    private Map<Long, Long> targets(RehomeResponse plan) {
+        return plan.getMoves().stream()
+            .collect(Collectors.toMap(RehomeResponse.Move::getBookingId, RehomeResponse.Move::getToTimeSlotId));
+    }
+    
+    private Interviewer interviewer(String email, int maxPerWeek) {
+        return interviewerRepository.save(Interviewer.builder()
+            .name("Interviewer")
+            .email(email)
+            .maxInterviewsPerWeek(maxPerWeek)
+            .build());
+    }
+    
+    private TimeSlot slot(Interviewer interviewer, LocalDateTime at, int duration, TimeSlot.TimeSlotStatus status) {
+        return timeSlotRepository.save(TimeSlot.builder()
+            .interviewer(interviewer)
+            .slotDateTime(at)
+            .durationMinutes(duration)
+            .status(status)
+            .build());
+    }
+    
+    private CandidateBooking booking(TimeSlot slot, String name) {
+        return bookingRepository.save(CandidateBooking.builder()
+            .timeSlot(slot)
+            .candidateName(name)
+            .candidateEmail(name + "-rehome@example.com")
+            .build());
+    }
+    
+    // findById takes an optimistic lock, which cannot be verified on a slot joined to its booking
+    private TimeSlot.TimeSlotStatus status(TimeSlot slot) {
+        return timeSlotRepository.findAllById(List.of(slot.getId())).get(0).getStatus();
+    }
+}
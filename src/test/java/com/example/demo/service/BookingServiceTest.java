@@ -6,24 +6,36 @@ import com.example.demo.domain.entity.TimeSlot;
 import com.example.demo.domain.repository.CandidateBookingRepository;
 import com.example.demo.domain.repository.InterviewerRepository;
 import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.AutoBookRequest;
 import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.dto.request.BulkCancelRequest;
+import com.example.demo.dto.request.TimeWindowRequest;
 import com.example.demo.dto.request.UpdateBookingRequest;
 import com.example.demo.dto.response.BookingResponse;
+import com.example.demo.dto.response.CancellationResponse;
+import com.example.demo.event.BookingChangedEvent;
+import com.example.demo.event.SlotsCancelledEvent;
+import com.example.demo.exception.ConcurrentModificationException;
 import com.example.demo.exception.BusinessException;
 import com.example.demo.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +50,12 @@ class BookingServiceTest {
     @Mock
     private InterviewerRepository interviewerRepository;
     
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private SlotHoldService slotHoldService;
+    
     @InjectMocks
     private BookingService bookingService;
     
@@ -89,7 +107,7 @@ class BookingServiceTest {
             booking.setId(1L);
             return booking;
         });
-        when(timeSlotRepository.save(any(TimeSlot.class))).thenReturn(availableTimeSlot);
+        when(timeSlotRepository.saveAndFlush(any(TimeSlot.class))).thenReturn(availableTimeSlot);
         
         // Act
         BookingResponse response = bookingService.bookSlot(request);
@@ -100,7 +118,8 @@ class BookingServiceTest {
         assertEquals("priya@example.com", response.getCandidateEmail());
         assertEquals(1L, response.getTimeSlotId());
         verify(bookingRepository, times(1)).save(any(CandidateBooking.class));
-        verify(timeSlotRepository, times(1)).save(any(TimeSlot.class));
+        verify(timeSlotRepository, times(1)).saveAndFlush(any(TimeSlot.class));
+        verify(eventPublisher, times(1)).publishEvent(any(BookingChangedEvent.class));
     }
     
     @Test
@@ -135,6 +154,51 @@ class BookingServiceTest {
         });
     }
     
+    @Test
+    void testBookSlot_ConvertsHold() {
+        // Arrange
+        BookSlotRequest request = new BookSlotRequest();
+        request.setTimeSlotId(1L);
+        request.setCandidateName("Priya Patel");
+        request.setCandidateEmail("priya@example.com");
+        request.setHoldToken("hold-token");
+        availableTimeSlot.setStatus(TimeSlot.TimeSlotStatus.HELD);
+        
+        when(timeSlotRepository.findById(1L)).thenReturn(Optional.of(availableTimeSlot));
+        when(bookingRepository.findByCandidateEmail("priya@example.com"))
+            .thenReturn(Collections.emptyList());
+        when(timeSlotRepository.countBookedSlotsForWeek(any(), any(), any())).thenReturn(0L);
+        when(bookingRepository.save(any(CandidateBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        BookingResponse response = bookingService.bookSlot(request);
+        
+        // Assert
+        assertEquals(1L, response.getTimeSlotId());
+        assertEquals(TimeSlot.TimeSlotStatus.BOOKED, availableTimeSlot.getStatus());
+        verify(slotHoldService).consumeHold(availableTimeSlot, "hold-token", "priya@example.com");
+    }
+    
+    @Test
+    void testBookSlot_HeldByAnotherCandidate() {
+        // Arrange
+        BookSlotRequest request = new BookSlotRequest();
+        request.setTimeSlotId(1L);
+        request.setCandidateName("Priya Patel");
+        request.setCandidateEmail("priya@example.com");
+        availableTimeSlot.setStatus(TimeSlot.TimeSlotStatus.HELD);
+        
+        when(timeSlotRepository.findById(1L)).thenReturn(Optional.of(availableTimeSlot));
+        when(bookingRepository.findByCandidateEmail("priya@example.com"))
+            .thenReturn(Collections.emptyList());
+        doThrow(new BusinessException("Time slot is held by another candidate"))
+            .when(slotHoldService).consumeHold(availableTimeSlot, null, "priya@example.com");
+        
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> bookingService.bookSlot(request));
+        verify(bookingRepository, never()).save(any(CandidateBooking.class));
+    }
+    
     @Test
     void testBookSlot_CandidateAlreadyHasBooking() {
         // Arrange
@@ -177,6 +241,55 @@ class BookingServiceTest {
         });
     }
     
+    @Test
+    void testBookSlot_ChecksCapacityInTheSlotsWeek() {
+        // Arrange: the interviewer is full this week, but the slot is two weeks out
+        BookSlotRequest request = new BookSlotRequest();
+        request.setTimeSlotId(1L);
+        request.setCandidateName("Priya Patel");
+        request.setCandidateEmail("priya@example.com");
+        availableTimeSlot.setSlotDateTime(InterviewerCapacityTracker.currentWeekStart().plusWeeks(2).plusDays(1));
+        LocalDateTime thisWeek = InterviewerCapacityTracker.currentWeekStart();
+        LocalDateTime slotWeek = thisWeek.plusWeeks(2);
+        
+        when(bookingRepository.findByCandidateEmail("priya@example.com")).thenReturn(Collections.emptyList());
+        when(timeSlotRepository.findById(1L)).thenReturn(Optional.of(availableTimeSlot));
+        lenient().when(timeSlotRepository.countBookedSlotsForWeek(1L, thisWeek, thisWeek.plusWeeks(1))).thenReturn(5L);
+        when(timeSlotRepository.countBookedSlotsForWeek(1L, slotWeek, slotWeek.plusWeeks(1))).thenReturn(2L);
+        when(bookingRepository.save(any(CandidateBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        BookingResponse response = bookingService.bookSlot(request);
+        
+        // Assert
+        assertEquals(1L, response.getTimeSlotId());
+        assertEquals(TimeSlot.TimeSlotStatus.BOOKED, availableTimeSlot.getStatus());
+    }
+    
+    @Test
+    void testBookSlot_LocksInterviewerBeforeCountingTheWeek() {
+        // Arrange
+        BookSlotRequest request = new BookSlotRequest();
+        request.setTimeSlotId(1L);
+        request.setCandidateName("Priya Patel");
+        request.setCandidateEmail("priya@example.com");
+        
+        when(timeSlotRepository.findById(1L)).thenReturn(Optional.of(availableTimeSlot));
+        when(bookingRepository.findByCandidateEmail("priya@example.com"))
+            .thenReturn(Collections.emptyList());
+        when(timeSlotRepository.countBookedSlotsForWeek(any(), any(), any())).thenReturn(4L);
+        when(bookingRepository.save(any(CandidateBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        bookingService.bookSlot(request);
+        
+        // Assert: a concurrent booker of the same interviewer waits on the lock, then counts this booking
+        InOrder order = inOrder(interviewerRepository, timeSlotRepository);
+        order.verify(interviewerRepository).lockAllById(List.of(1L));
+        order.verify(timeSlotRepository).countBookedSlotsForWeek(any(), any(), any());
+        order.verify(timeSlotRepository).saveAndFlush(availableTimeSlot);
+    }
+    
     @Test
     void testUpdateBooking_Success() {
         // Arrange
@@ -203,10 +316,12 @@ class BookingServiceTest {
             .build();
         
         when(bookingRepository.findById(1L)).thenReturn(Optional.of(existingBooking));
-        when(timeSlotRepository.findById(3L)).thenReturn(Optional.of(newTimeSlot));
+        when(timeSlotRepository.findSlotRefById(3L)).thenReturn(Optional.of(slotRef(newTimeSlot)));
+        when(timeSlotRepository.lockSlotsById(List.of(2L, 3L))).thenReturn(List.of(bookedTimeSlot, newTimeSlot));
         when(timeSlotRepository.countBookedSlotsForWeek(any(), any(), any())).thenReturn(2L);
-        when(bookingRepository.save(any(CandidateBooking.class))).thenReturn(existingBooking);
-        when(timeSlotRepository.save(any(TimeSlot.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(timeSlotRepository.claimAvailableSlot(3L)).thenReturn(1);
+        when(bookingRepository.moveToSlot(eq(1L), eq(2L), eq(newTimeSlot), eq("Priya Patel Updated"), any())).thenReturn(1);
+        when(timeSlotRepository.releaseBookedSlot(2L)).thenReturn(1);
         
         // Act
         BookingResponse response = bookingService.updateBooking(request);
@@ -214,8 +329,110 @@ class BookingServiceTest {
         // Assert
         assertNotNull(response);
         assertEquals("Priya Patel Updated", response.getCandidateName());
-        verify(bookingRepository, times(1)).save(any(CandidateBooking.class));
-        verify(timeSlotRepository, times(2)).save(any(TimeSlot.class));
+        assertEquals(3L, response.getTimeSlotId());
+        InOrder order = inOrder(timeSlotRepository, bookingRepository);
+        order.verify(timeSlotRepository).lockSlotsById(List.of(2L, 3L));
+        order.verify(timeSlotRepository).claimAvailableSlot(3L);
+        order.verify(bookingRepository).moveToSlot(eq(1L), eq(2L), eq(newTimeSlot), any(), any());
+        order.verify(timeSlotRepository).releaseBookedSlot(2L);
+    }
+    
+    @Test
+    void testUpdateBooking_LocksTheInterviewerOnlyWhenEnteringAnotherWeek() {
+        // Arrange: the booking moves an hour later, inside the same interviewer week
+        UpdateBookingRequest request = new UpdateBookingRequest();
+        request.setBookingId(1L);
+        request.setNewTimeSlotId(3L);
+        request.setCandidateName("Priya Patel");
+        request.setCandidateEmail("priya@example.com");
+        bookedTimeSlot.setSlotDateTime(InterviewerCapacityTracker.currentWeekStart().plusWeeks(1).plusHours(9));
+        
+        TimeSlot laterSameWeek = TimeSlot.builder()
+            .id(3L)
+            .interviewer(interviewer)
+            .slotDateTime(bookedTimeSlot.getSlotDateTime().plusHours(1))
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .build();
+        CandidateBooking existingBooking = CandidateBooking.builder()
+            .id(1L)
+            .timeSlot(bookedTimeSlot)
+            .candidateName("Priya Patel")
+            .candidateEmail("priya@example.com")
+            .build();
+        
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(existingBooking));
+        when(timeSlotRepository.findSlotRefById(3L)).thenReturn(Optional.of(slotRef(laterSameWeek)));
+        when(timeSlotRepository.lockSlotsById(List.of(2L, 3L))).thenReturn(List.of(bookedTimeSlot, laterSameWeek));
+        when(timeSlotRepository.countBookedSlotsForWeek(any(), any(), any())).thenReturn(5L);
+        when(timeSlotRepository.claimAvailableSlot(3L)).thenReturn(1);
+        when(bookingRepository.moveToSlot(any(), any(), any(), any(), any())).thenReturn(1);
+        when(timeSlotRepository.releaseBookedSlot(2L)).thenReturn(1);
+        
+        // Act
+        BookingResponse response = bookingService.updateBooking(request);
+        
+        // Assert
+        assertEquals(3L, response.getTimeSlotId());
+        verify(interviewerRepository, never()).lockAllById(any());
+    }
+    
+    @Test
+    void testUpdateBooking_UnavailableSlotFailsBeforeLocking() {
+        // Arrange
+        UpdateBookingRequest request = new UpdateBookingRequest();
+        request.setBookingId(1L);
+        request.setNewTimeSlotId(3L);
+        request.setCandidateName("Priya Patel");
+        request.setCandidateEmail("priya@example.com");
+        
+        CandidateBooking existingBooking = CandidateBooking.builder()
+            .id(1L)
+            .timeSlot(bookedTimeSlot)
+            .candidateName("Priya Patel")
+            .candidateEmail("priya@example.com")
+            .build();
+        
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(existingBooking));
+        when(timeSlotRepository.findSlotRefById(3L)).thenReturn(Optional.of(slotRef(bookedTimeSlot)));
+        
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> bookingService.updateBooking(request));
+        verify(timeSlotRepository, never()).lockSlotsById(any());
+        verify(timeSlotRepository, never()).claimAvailableSlot(any());
+    }
+    
+    @Test
+    void testUpdateBooking_BookingMovedConcurrently() {
+        // Arrange
+        UpdateBookingRequest request = new UpdateBookingRequest();
+        request.setBookingId(1L);
+        request.setNewTimeSlotId(3L);
+        request.setCandidateName("Priya Patel");
+        request.setCandidateEmail("priya@example.com");
+        
+        TimeSlot newTimeSlot = TimeSlot.builder()
+            .id(3L)
+            .interviewer(interviewer)
+            .slotDateTime(LocalDateTime.now().plusDays(3))
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .build();
+        CandidateBooking existingBooking = CandidateBooking.builder()
+            .id(1L)
+            .timeSlot(bookedTimeSlot)
+            .candidateName("Priya Patel")
+            .candidateEmail("priya@example.com")
+            .build();
+        
+        when(bookingRepository.findById(1L)).thenReturn(Optional.of(existingBooking));
+        when(timeSlotRepository.findSlotRefById(3L)).thenReturn(Optional.of(slotRef(newTimeSlot)));
+        when(timeSlotRepository.lockSlotsById(List.of(2L, 3L))).thenReturn(List.of(bookedTimeSlot, newTimeSlot));
+        when(timeSlotRepository.countBookedSlotsForWeek(any(), any(), any())).thenReturn(0L);
+        when(timeSlotRepository.claimAvailableSlot(3L)).thenReturn(1);
+        when(bookingRepository.moveToSlot(any(), any(), any(), any(), any())).thenReturn(0);
+        
+        // Act & Assert
+        assertThrows(ConcurrentModificationException.class, () -> bookingService.updateBooking(request));
+        verify(timeSlotRepository, never()).releaseBookedSlot(any());
     }
     
     @Test
@@ -234,5 +451,194 @@ class BookingServiceTest {
             bookingService.updateBooking(request);
         });
     }
+    
+    @Test
+    void testCancelBooking_Success() {
+        // Arrange
+        when(bookingRepository.findBookingSlotRef(1L))
+            .thenReturn(Optional.of(bookingRef(1L, "priya@example.com", 2L)));
+        when(timeSlotRepository.cancelBookedSlots(List.of(2L))).thenReturn(1);
+        
+        // Act
+        CancellationResponse response = bookingService.cancelBooking(1L, "priya@example.com", true);
+        
+        // Assert
+        assertEquals(1, response.getCancelledBookings());
+        assertEquals(List.of(1L), response.getBookingIds());
+        verify(bookingRepository).deleteByIds(List.of(1L));
+        verify(eventPublisher).publishEvent(any(BookingChangedEvent.class));
+        verify(eventPublisher).publishEvent(SlotsCancelledEvent.builder()
+            .timeSlotIds(List.of(2L))
+            .recycle(true)
+            .build());
+    }
+    
+    @Test
+    void testCancelBooking_EmailMismatch() {
+        // Arrange
+        when(bookingRepository.findBookingSlotRef(1L))
+            .thenReturn(Optional.of(bookingRef(1L, "priya@example.com", 2L)));
+        
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> bookingService.cancelBooking(1L, "other@example.com", true));
+        verify(timeSlotRepository, never()).cancelBookedSlots(any());
+    }
+    
+    @Test
+    void testCancelBookings_ConcurrentChange() {
+        // Arrange
+        BulkCancelRequest request = new BulkCancelRequest();
+        request.setInterviewerId(1L);
+        request.setFrom(LocalDateTime.now());
+        request.setTo(LocalDateTime.now().plusWeeks(1));
+        
+        when(interviewerRepository.existsById(1L)).thenReturn(true);
+        when(bookingRepository.findActiveBookingsForInterviewer(eq(1L), any(), any())).thenReturn(List.of(
+            bookingRef(1L, "priya@example.com", 2L),
+            bookingRef(2L, "amit@example.com", 3L)));
+        when(timeSlotRepository.cancelBookedSlots(List.of(2L, 3L))).thenReturn(1);
+        
+        // Act & Assert
+        assertThrows(ConcurrentModificationException.class, () -> bookingService.cancelBookings(request));
+        verify(bookingRepository, never()).deleteByIds(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+    
+    private TimeSlotRepository.SlotRef slotRef(TimeSlot timeSlot) {
+        return new TimeSlotRepository.SlotRef() {
+            public Long getId() { return timeSlot.getId(); }
+            public Long getInterviewerId() { return timeSlot.getInterviewer().getId(); }
+            public LocalDateTime getSlotDateTime() { return timeSlot.getSlotDateTime(); }
+            public TimeSlot.TimeSlotStatus getStatus() { return timeSlot.getStatus(); }
+        };
+    }
+    
+    private CandidateBookingRepository.BookingSlotRef bookingRef(Long bookingId, String email, Long timeSlotId) {
+        return new CandidateBookingRepository.BookingSlotRef() {
+            public Long getBookingId() { return bookingId; }
+            public String getCandidateEmail() { return email; }
+            public Long getTimeSlotId() { return timeSlotId; }
+            public Long getInterviewerId() { return 1L; }
+            public LocalDateTime getSlotDateTime() { return LocalDateTime.now().plusDays(1); }
+            public String getPanelId() { return null; }
+        };
+    }
+    
+    @Test
+    void testAutoBook_SkipsInterviewersAtWeeklyCap() {
+        // Arrange
+        Interviewer fullInterviewer = Interviewer.builder().id(2L).maxInterviewsPerWeek(1).build();
+        TimeSlot earliest = TimeSlot.builder()
+            .id(3L)
+            .interviewer(fullInterviewer)
+            .slotDateTime(availableTimeSlot.getSlotDateTime().minusHours(1))
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .build();
+        AutoBookRequest request = autoBookRequest(window(2, 3), window(1, 2));
+        
+        when(timeSlotRepository.findAvailableSlotRefs(any(), any(), any(Pageable.class)))
+            .thenReturn(List.of(slotRef(earliest), slotRef(availableTimeSlot)));
+        when(interviewerRepository.tryLockById(2L)).thenReturn(Optional.of(fullInterviewer));
+        when(interviewerRepository.tryLockById(1L)).thenReturn(Optional.of(interviewer));
+        when(timeSlotRepository.tryLockAvailableSlot(1L)).thenReturn(Optional.of(availableTimeSlot));
+        when(timeSlotRepository.countBookedSlotsForWeek(eq(2L), any(), any())).thenReturn(1L);
+        when(timeSlotRepository.countBookedSlotsForWeek(eq(1L), any(), any())).thenReturn(0L);
+        when(bookingRepository.save(any(CandidateBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        BookingResponse response = bookingService.autoBook(request);
+        
+        // Assert
+        assertEquals(1L, response.getTimeSlotId());
+        assertEquals(TimeSlot.TimeSlotStatus.BOOKED, availableTimeSlot.getStatus());
+        assertEquals(TimeSlot.TimeSlotStatus.AVAILABLE, earliest.getStatus());
+        // Overlapping windows are merged and searched once
+        verify(timeSlotRepository, times(1)).findAvailableSlotRefs(any(), any(), any(Pageable.class));
+        verify(timeSlotRepository, never()).tryLockAvailableSlot(3L);
+    }
+    
+    @Test
+    void testAutoBook_SkipsContendedInterviewersAndSlots() {
+        // Arrange: another booker holds the first interviewer, and the next slot was just taken
+        Interviewer busyInterviewer = Interviewer.builder().id(2L).maxInterviewsPerWeek(5).build();
+        TimeSlot busy = TimeSlot.builder()
+            .id(3L)
+            .interviewer(busyInterviewer)
+            .slotDateTime(availableTimeSlot.getSlotDateTime().minusHours(2))
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .build();
+        TimeSlot taken = TimeSlot.builder()
+            .id(4L)
+            .interviewer(interviewer)
+            .slotDateTime(availableTimeSlot.getSlotDateTime().minusHours(1))
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .build();
+        AutoBookRequest request = autoBookRequest(window(1, 2));
+        
+        when(timeSlotRepository.findAvailableSlotRefs(any(), any(), any(Pageable.class)))
+            .thenReturn(List.of(slotRef(busy), slotRef(taken), slotRef(availableTimeSlot)));
+        when(interviewerRepository.tryLockById(2L)).thenReturn(Optional.empty());
+        when(interviewerRepository.tryLockById(1L)).thenReturn(Optional.of(interviewer));
+        when(timeSlotRepository.countBookedSlotsForWeek(eq(1L), any(), any())).thenReturn(0L);
+        when(timeSlotRepository.tryLockAvailableSlot(4L)).thenReturn(Optional.empty());
+        when(timeSlotRepository.tryLockAvailableSlot(1L)).thenReturn(Optional.of(availableTimeSlot));
+        when(bookingRepository.save(any(CandidateBooking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // Act
+        BookingResponse response = bookingService.autoBook(request);
+        
+        // Assert
+        assertEquals(1L, response.getTimeSlotId());
+        verify(timeSlotRepository, never()).tryLockAvailableSlot(3L);
+        verify(interviewerRepository, times(1)).tryLockById(1L);
+    }
+    
+    @Test
+    void testAutoBook_ChecksCapacityInTheSlotsWeek() {
+        // Arrange
+        TimeSlot inTwoWeeks = TimeSlot.builder()
+            .id(3L)
+            .interviewer(interviewer)
+            .slotDateTime(LocalDateTime.now().plusWeeks(2))
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .build();
+        AutoBookRequest request = autoBookRequest(window(13, 15));
+        LocalDateTime slotWeek = InterviewerCapacityTracker.weekStartOf(inTwoWeeks.getSlotDateTime());
+        
+        when(timeSlotRepository.findAvailableSlotRefs(any(), any(), any(Pageable.class)))
+            .thenReturn(List.of(slotRef(inTwoWeeks)));
+        when(interviewerRepository.tryLockById(1L)).thenReturn(Optional.of(interviewer));
+        when(timeSlotRepository.countBookedSlotsForWeek(eq(1L), eq(slotWeek), eq(slotWeek.plusWeeks(1)))).thenReturn(5L);
+        
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> bookingService.autoBook(request));
+        verify(bookingRepository, never()).save(any(CandidateBooking.class));
+    }
+    
+    @Test
+    void testAutoBook_NoMatchingSlot() {
+        // Arrange
+        AutoBookRequest request = autoBookRequest(window(1, 2));
+        when(timeSlotRepository.findAvailableSlotRefs(any(), any(), any(Pageable.class)))
+            .thenReturn(Collections.emptyList());
+        
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> bookingService.autoBook(request));
+        verify(bookingRepository, never()).save(any(CandidateBooking.class));
+    }
+    
+    private AutoBookRequest autoBookRequest(TimeWindowRequest... windows) {
+        AutoBookRequest request = new AutoBookRequest();
+        request.setCandidateName("Priya Patel");
+        request.setCandidateEmail("priya@example.com");
+        request.setWindows(List.of(windows));
+        return request;
+    }
+    
+    private TimeWindowRequest window(int fromDays, int toDays) {
+        TimeWindowRequest window = new TimeWindowRequest();
+        window.setStart(LocalDateTime.now().plusDays(fromDays).minusHours(2));
+        window.setEnd(LocalDateTime.now().plusDays(toDays));
+        return window;
+    }
 }
-
@@ -0,0 +1,102 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.event.BookingChangedEvent;
+import com.example.demo.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarFeedServiceTest {
+    
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    
+    @Mock
+    private InterviewerRepository interviewerRepository;
+    
+    @InjectMocks
+    private CalendarFeedService calendarFeedService;
+    
+    @Test
+    void testCurrentVersion_UnknownInterviewer() {
+        when(interviewerRepository.existsById(99L)).thenReturn(false);
+        
+        assertThrows(ResourceNotFoundException.class, () -> calendarFeedService.currentVersion(99L, null));
+    }
+    
+    @Test
+    void testCurrentVersion_StableUntilBookingChanges() {
+        when(interviewerRepository.existsById(1L)).thenReturn(true);
+        
+        CalendarFeedService.FeedVersion first = calendarFeedService.currentVersion(1L, null);
+        CalendarFeedService.FeedVersion second = calendarFeedService.currentVersion(1L, null);
+        assertEquals(first.etag(null), second.etag(null));
+        
+        calendarFeedService.onBookingChanged(BookingChangedEvent.builder()
+            .type(BookingChangedEvent.ChangeType.BOOKED)
+            .timeSlotId(10L)
+            .interviewerId(1L)
+            .build());
+        
+        CalendarFeedService.FeedVersion third = calendarFeedService.currentVersion(1L, null);
+        assertNotEquals(first.etag(null), third.etag(null));
+        assertFalse(third.isDelta());
+        verify(interviewerRepository, times(1)).existsById(1L);
+    }
+    
+    @Test
+    void testCurrentVersion_SyncTokenReturnsChangedSlots() {
+        when(interviewerRepository.existsById(1L)).thenReturn(true);
+        when(interviewerRepository.existsById(2L)).thenReturn(true);
+        CalendarFeedService.FeedVersion initial = calendarFeedService.currentVersion(1L, null);
+        String token = initial.syncToken();
+        calendarFeedService.currentVersion(2L, null);
+        
+        calendarFeedService.onBookingChanged(BookingChangedEvent.builder()
+            .type(BookingChangedEvent.ChangeType.RESCHEDULED)
+            .timeSlotId(20L)
+            .interviewerId(2L)
+            .previousTimeSlotId(10L)
+            .previousInterviewerId(1L)
+            .build());
+        
+        CalendarFeedService.FeedVersion delta = calendarFeedService.currentVersion(1L, token);
+        assertTrue(delta.isDelta());
+        assertEquals(Set.of(10L), delta.changedSlotIds());
+        
+        CalendarFeedService.FeedVersion upToDate = calendarFeedService.currentVersion(1L, delta.syncToken());
+        assertTrue(upToDate.changedSlotIds().isEmpty());
+        
+        // Tokens the change log cannot answer fall back to the full feed
+        String tooOld = initial.epoch() + "." + (initial.version() - 1);
+        assertFalse(calendarFeedService.currentVersion(1L, tooOld).isDelta());
+    }
+    
+    @Test
+    void testCurrentVersion_IgnoresValidatorsFromAnotherEpoch() {
+        // Arrange: a restarted instance counts its versions from scratch
+        when(interviewerRepository.existsById(1L)).thenReturn(true);
+        CalendarFeedService restarted = new CalendarFeedService(jdbcTemplate, interviewerRepository);
+        CalendarFeedService.FeedVersion before = calendarFeedService.currentVersion(1L, null);
+        CalendarFeedService.FeedVersion after = restarted.currentVersion(1L, null);
+        
+        // Act
+        CalendarFeedService.FeedVersion resumed = restarted.currentVersion(1L, before.syncToken());
+        
+        // Assert
+        assertEquals(before.version(), after.version());
+        assertNotEquals(before.etag(null), after.etag(null));
+        assertFalse(resumed.isDelta());
+        assertFalse(restarted.currentVersion(1L, "not-a-token").isDelta());
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.CohortCandidateRequest;
+import com.example.demo.dto.request.CohortScheduleRequest;
+import com.example.demo.dto.request.TimeWindowRequest;
+import com.example.demo.dto.response.CohortScheduleResponse;
+import com.example.demo.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class CohortSchedulingIntegrationTest {
+    
+    @Autowired
+    private CohortSchedulingService cohortSchedulingService;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private CandidateBookingRepository bookingRepository;
+    
+    private LocalDateTime base;
+    private TimeSlot limitedFirst;
+    private TimeSlot limitedSecond;
+    private TimeSlot open;
+    
+    @BeforeEach
+    void setUp() {
+        // Next week, so every slot falls into the same interviewer week
+        base = InterviewerCapacityTracker.currentWeekStart().plusWeeks(1).plusHours(10);
+        Interviewer limited = interviewer("limited-cohort@example.com", 1);
+        Interviewer roomy = interviewer("roomy-cohort@example.com", 5);
+        limitedFirst = slot(limited, base);
+        limitedSecond = slot(limited, base.plusHours(1));
+        open = slot(roomy, base.plusHours(2));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        timeSlotRepository.deleteAll();
+        interviewerRepository.deleteAll();
+    }
+    
+    @Test
+    void testPreview_MaximisesFillThenPreference() {
+        CohortScheduleRequest request = request(
+            candidate("a-cohort@example.com", window(base, base.plusMinutes(30)), window(base, base.plusHours(3))),
+            candidate("b-cohort@example.com", window(base, base.plusHours(3))),
+            candidate("c-cohort@example.com", window(base, base.plusMinutes(90))));
+        
+        CohortScheduleResponse plan = cohortSchedulingService.preview(request);
+        
+        assertFalse(plan.isCommitted());
+        assertEquals(2, plan.getAssignedCandidates());
+        assertEquals(0, plan.getTotalPreferenceCost());
+        Map<String, Long> slotByCandidate = plan.getAssignments().stream()
+            .collect(Collectors.toMap(CohortScheduleResponse.Assignment::getCandidateEmail,
+                CohortScheduleResponse.Assignment::getTimeSlotId));
+        assertEquals(limitedFirst.getId(), slotByCandidate.get("c-cohort@example.com"));
+        assertEquals(open.getId(), slotByCandidate.get("b-cohort@example.com"));
+        assertEquals(List.of("a-cohort@example.com"), plan.getUnassignedCandidates());
+        assertEquals(0, bookingRepository.count(), "Preview must not book");
+    }
+    
+    @Test
+    void testSchedule_BooksAssignmentsAndRespectsWeeklyCapacity() {
+        CohortScheduleResponse result = cohortSchedulingService.schedule(request(
+            candidate("b-cohort@example.com", window(base, base.plusHours(3))),
+            candidate("c-cohort@example.com", window(base, base.plusMinutes(90)))));
+        
+        assertTrue(result.isCommitted());
+        assertEquals(2, result.getAssignedCandidates());
+        assertTrue(result.getConflictedCandidates().isEmpty());
+        assertTrue(result.getAssignments().stream().allMatch(assignment -> assignment.getBookingId() != null));
+        assertEquals(TimeSlot.TimeSlotStatus.BOOKED, status(limitedFirst));
+        assertEquals(TimeSlot.TimeSlotStatus.BOOKED, status(open));
+        
+        // The limited interviewer is full for the week, so its free slot is not offered again
+        CohortScheduleResponse second = cohortSchedulingService.schedule(request(
+            candidate("d-cohort@example.com", window(base, base.plusHours(3))),
+            candidate("b-cohort@example.com", window(base, base.plusHours(3)))));
+        
+        assertEquals(0, second.getAssignedCandidates());
+        assertEquals(List.of("d-cohort@example.com"), second.getUnassignedCandidates());
+        assertEquals(List.of("b-cohort@example.com"), second.getAlreadyBookedCandidates());
+        assertEquals(TimeSlot.TimeSlotStatus.AVAILABLE, status(limitedSecond));
+    }
+    
+    @Test
+    void testPreview_RejectsDuplicateCandidates() {
+        CohortScheduleRequest request = request(
+            candidate("dup-cohort@example.com", window(base, base.plusHours(1))),
+            candidate("dup-cohort@example.com", window(base, base.plusHours(2))));
+        
+        assertThrows(BusinessException.class, () -> cohortSchedulingService.preview(request));
+    }
+    
+    private Interviewer interviewer(String email, int maxPerWeek) {
+        return interviewerRepository.save(Interviewer.builder()
+            .name("Interviewer")
+            .email(email)
+            .maxInterviewsPerWeek(maxPerWeek)
+            .build());
+    }
+    
+    private TimeSlot slot(Interviewer interviewer, LocalDateTime at) {
+        return timeSlotRepository.save(TimeSlot.builder().interviewer(interviewer).slotDateTime(at).build());
+    }
+    
+    // findById takes an optimistic lock, which cannot be verified on a slot joined to its booking
+    private TimeSlot.TimeSlotStatus status(TimeSlot slot) {
+        return timeSlotRepository.findAllById(List.of(slot.getId())).get(0).getStatus();
+    }
+    
+    private TimeWindowRequest window(LocalDateTime start, LocalDateTime end) {
+        TimeWindowRequest window = new TimeWindowRequest();
+        window.setStart(start);
+        window.setEnd(end);
+        return window;
+    }
+    
+    private CohortCandidateRequest candidate(String email, TimeWindowRequest... windows) {
+        CohortCandidateRequest candidate = new CohortCandidateRequest();
+        candidate.setCandidateName("Candidate");
+        candidate.setCandidateEmail(email);
+        candidate.setWindows(List.of(windows));
+        return candidate;
+    }
+    
+    private CohortScheduleRequest request(CohortCandidateRequest... candidates) {
+        CohortScheduleRequest request = new CohortScheduleRequest();
+        request.setCandidates(List.of(candidates));
+        return request;
+    }
+}
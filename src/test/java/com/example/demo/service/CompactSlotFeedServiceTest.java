@@ -0,0 +1,191 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.sharding.ShardDirectory;
+import com.example.demo.sharding.ShardRouter;
+import com.example.demo.util.CursorEncoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({CompactSlotFeedService.class, ShardRouter.class, ShardDirectory.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class CompactSlotFeedServiceTest {
+    
+    @Autowired
+    private CompactSlotFeedService compactSlotFeedService;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private final LocalDateTime base = LocalDateTime.of(2030, 1, 7, 9, 0);
+    private final List<TimeSlot> available = new ArrayList<>();
+    private Interviewer first;
+    private Interviewer second;
+    
+    @BeforeEach
+    void setUp() {
+        first = interviewer("first-compact@example.com");
+        second = interviewer("second-compact@example.com");
+        
+        available.add(slot(first, base, TimeSlot.TimeSlotStatus.AVAILABLE));
+        available.add(slot(second, base, TimeSlot.TimeSlotStatus.AVAILABLE)); // Same start, id tiebreak
+        slot(first, base.plusMinutes(30), TimeSlot.TimeSlotStatus.BOOKED);
+        available.add(slot(first, base.plusMinutes(90), TimeSlot.TimeSlotStatus.AVAILABLE));
+        available.add(slot(second, base.plusDays(1), TimeSlot.TimeSlotStatus.AVAILABLE));
+        entityManager.flush();
+    }
+    
+    @Test
+    void testWriteColumnarJson_ParallelArraysWithMinuteDeltas() throws Exception {
+        CompactSlotFeedService.SlotColumns page = compactSlotFeedService.loadAvailable(null, 3);
+        
+        JsonNode body = objectMapper.readTree(write(page, CompactSlotFeedService.Format.COLUMNAR_JSON));
+        
+        assertEquals(3, body.get("count").asInt());
+        assertEquals(base.toEpochSecond(ZoneOffset.UTC) / 60, body.get("baseEpochMinute").asLong());
+        assertEquals(List.of(available.get(0).getId(), available.get(1).getId(), available.get(2).getId()),
+            longs(body.get("ids")));
+        assertEquals(List.of(first.getId(), second.getId(), first.getId()), longs(body.get("interviewerIds")));
+        assertEquals(List.of(0L, 0L, 90L), longs(body.get("minuteDeltas")));
+        assertTrue(body.get("hasNextPage").asBoolean());
+        assertEquals(CursorEncoder.encode(base.plusMinutes(90), available.get(2).getId()), body.get("nextCursor").asText());
+    }
+    
+    @Test
+    void testLoadAvailable_ResumesFromCursorToLastPage() throws Exception {
+        CompactSlotFeedService.SlotColumns firstPage = compactSlotFeedService.loadAvailable(null, 2);
+        CompactSlotFeedService.SlotColumns lastPage = compactSlotFeedService.loadAvailable(firstPage.nextCursor(), 10);
+        
+        JsonNode body = objectMapper.readTree(write(lastPage, CompactSlotFeedService.Format.COLUMNAR_JSON));
+        assertEquals(List.of(available.get(2).getId(), available.get(3).getId()), longs(body.get("ids")));
+        assertEquals(List.of(0L, 60L * 24 - 90), longs(body.get("minuteDeltas")));
+        assertFalse(body.get("hasNextPage").asBoolean());
+        assertTrue(body.get("nextCursor").isNull());
+    }
+    
+    @Test
+    void testWriteCbor_SameStructureAsColumnarJson() throws Exception {
+        CompactSlotFeedService.SlotColumns page = compactSlotFeedService.loadAvailable(null, 10);
+        byte[] json = write(page, CompactSlotFeedService.Format.COLUMNAR_JSON);
+        byte[] cbor = write(page, CompactSlotFeedService.Format.CBOR);
+        
+        Object decoded = new CborReader(ByteBuffer.wrap(cbor)).read();
+        
+        assertEquals(objectMapper.readValue(json, Map.class).toString(), decoded.toString());
+        assertTrue(cbor.length < json.length);
+    }
+    
+    @Test
+    void testLoadAvailable_RejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> compactSlotFeedService.loadAvailable("not-a-cursor", 10));
+    }
+    
+    private byte[] write(CompactSlotFeedService.SlotColumns page, CompactSlotFeedService.Format format) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        compactSlotFeedService.write(page, format, out);
+        return out.toByteArray();
+    }
+    
+    private static List<Long> longs(JsonNode array) {
+        List<Long> values = new ArrayList<>();
+        array.forEach(node -> values.add(node.asLong()));
+        return values;
+    }
+    
+    private Interviewer interviewer(String email) {
+        Interviewer interviewer = Interviewer.builder()
+            .name(email)
+            .email(email)
+            .maxInterviewsPerWeek(10)
+            .build();
+        entityManager.persist(interviewer);
+        return interviewer;
+    }
+    
+    private TimeSlot slot(Interviewer interviewer, LocalDateTime start, TimeSlot.TimeSlotStatus status) {
+        TimeSlot slot = TimeSlot.builder()
+            .interviewer(interviewer)
+            .slotDateTime(start)
+            .durationMinutes(30)
+            .status(status)
+            .build();
+        entityManager.persist(slot);
+        return slot;
+    }
+    
+    // Decodes the subset CborWriter produces into the shapes Jackson reads JSON into
+    private record CborReader(ByteBuffer in) {
+        
+        Object read() {
+            int initial = in.get() & 0xFF;
+            int major = initial >>> 5;
+            if (major == 7) {
+                return initial == 0xF6 ? null : initial == 0xF5;
+            }
+            long argument = argument(initial & 0x1F);
+            switch (major) {
+                case 0:
+                    return narrow(argument);
+                case 1:
+                    return narrow(-1 - argument);
+                case 3:
+                    byte[] text = new byte[(int) argument];
+                    in.get(text);
+                    return new String(text, StandardCharsets.UTF_8);
+                case 4:
+                    List<Object> items = new ArrayList<>();
+                    for (long i = 0; i < argument; i++) {
+                        items.add(read());
+                    }
+                    return items;
+                case 5:
+                    Map<Object, Object> entries = new LinkedHashMap<>();
+                    for (long i = 0; i < argument; i++) {
+                        entries.put(read(), read());
+                    }
+                    return entries;
+                default:
+                    throw new IllegalStateException("Unexpected major type " + major);
+            }
+        }
+        
+        private long argument(int info) {
+            return switch (info) {
+                case 24 -> in.get() & 0xFF;
+                case 25 -> in.getShort() & 0xFFFF;
+                case 26 -> in.getInt() & 0xFFFFFFFFL;
+                case 27 -> in.getLong();
+                default -> info;
+            };
+        }
+        
+        private static Object narrow(long value) {
+            return value == (int) value ? (Object) (int) value : (Object) value;
+        }
+    }
+}
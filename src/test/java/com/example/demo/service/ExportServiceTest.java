@@ -0,0 +1,102 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.CandidateBooking;
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.service.ExportService.ExportFormat;
+import com.example.demo.sharding.ShardDirectory;
+import com.example.demo.sharding.ShardRouter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({ExportService.class, ShardRouter.class, ShardDirectory.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class ExportServiceTest {
+    
+    @Autowired
+    private ExportService exportService;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private final LocalDateTime base = LocalDateTime.of(2030, 1, 7, 9, 0);
+    
+    @BeforeEach
+    void setUp() {
+        Interviewer interviewer = Interviewer.builder()
+            .name("Rajesh Kumar")
+            .email("rajesh@example.com")
+            .maxInterviewsPerWeek(5)
+            .build();
+        entityManager.persist(interviewer);
+        
+        for (int i = 0; i < 3; i++) {
+            TimeSlot slot = TimeSlot.builder()
+                .interviewer(interviewer)
+                .slotDateTime(base.plusHours(i))
+                .status(i == 0 ? TimeSlot.TimeSlotStatus.BOOKED : TimeSlot.TimeSlotStatus.AVAILABLE)
+                .build();
+            entityManager.persist(slot);
+            if (i == 0) {
+                entityManager.persist(CandidateBooking.builder()
+                    .timeSlot(slot)
+                    .candidateName("Patel, Priya \"PP\"")
+                    .candidateEmail("priya@example.com")
+                    .build());
+            }
+        }
+        entityManager.flush();
+    }
+    
+    @Test
+    void testExportBookings_CsvEscapesValues() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        long rows = exportService.exportBookings(base, base.plusDays(1), ExportFormat.CSV, out);
+        
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, rows);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("bookingId,timeSlotId,interviewerId"));
+        assertTrue(lines[1].contains("\"Patel, Priya \"\"PP\"\"\",priya@example.com"));
+    }
+    
+    @Test
+    void testExportTimeSlots_Ndjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        long rows = exportService.exportTimeSlots(base, base.plusHours(2), ExportFormat.NDJSON, out);
+        
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(2, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("BOOKED", first.get("status").asText());
+        assertEquals("2030-01-07T09:00:00", first.get("slotDateTime").asText());
+        assertEquals("AVAILABLE", objectMapper.readTree(lines[1]).get("status").asText());
+    }
+    
+    @Test
+    void testExport_InvalidRange() {
+        assertThrows(IllegalArgumentException.class, () ->
+            exportService.exportBookings(base, base, ExportFormat.CSV, new ByteArrayOutputStream()));
+    }
+}
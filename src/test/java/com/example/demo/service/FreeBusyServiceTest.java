@@ -0,0 +1,101 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.sharding.ShardDirectory;
+import com.example.demo.sharding.ShardRouter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Import({FreeBusyService.class, ShardRouter.class, ShardDirectory.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class FreeBusyServiceTest {
+    
+    @Autowired
+    private FreeBusyService freeBusyService;
+    
+    @Autowired
+    private EntityManager entityManager;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    private final LocalDateTime base = LocalDateTime.of(2030, 1, 7, 9, 0);
+    private Interviewer busy;
+    private Interviewer idle;
+    private Interviewer other;
+    
+    @BeforeEach
+    void setUp() {
+        busy = interviewer("busy-freebusy@example.com");
+        idle = interviewer("idle-freebusy@example.com");
+        other = interviewer("other-freebusy@example.com");
+        
+        // 09-11 free, 11-12 booked, 12-12:30 held, 13-14 free, 14-15 cancelled
+        slot(busy, base, 60, TimeSlot.TimeSlotStatus.AVAILABLE);
+        slot(busy, base.plusHours(1), 60, TimeSlot.TimeSlotStatus.AVAILABLE);
+        slot(busy, base.plusHours(2), 60, TimeSlot.TimeSlotStatus.BOOKED);
+        slot(busy, base.plusHours(3), 30, TimeSlot.TimeSlotStatus.HELD);
+        slot(busy, base.plusHours(4), null, TimeSlot.TimeSlotStatus.AVAILABLE);
+        slot(busy, base.plusHours(5), 60, TimeSlot.TimeSlotStatus.CANCELLED);
+        slot(other, base.plusDays(3), 45, TimeSlot.TimeSlotStatus.AVAILABLE);
+        entityManager.flush();
+    }
+    
+    @Test
+    void testWriteFreeBusy_EncodesMergedRunsPerInterviewer() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        freeBusyService.writeFreeBusy(List.of(other.getId(), busy.getId(), idle.getId(), busy.getId()),
+            base, base.plusDays(1), out);
+        
+        JsonNode interviewers = objectMapper.readTree(out.toByteArray()).get("interviewers");
+        assertEquals(3, interviewers.size());
+        JsonNode busyRuns = interviewers.get(0).get("runs");
+        assertEquals(busy.getId(), interviewers.get(0).get("interviewerId").asLong());
+        assertEquals("[[0,120,\"F\"],[120,90,\"B\"],[240,60,\"F\"]]", busyRuns.toString());
+        assertEquals(0, interviewers.get(1).get("runs").size(), "Interviewers without slots are still listed");
+        assertEquals(0, interviewers.get(2).get("runs").size(), "Slots outside the range are not reported");
+    }
+    
+    @Test
+    void testValidateRange_RejectsOversizedRange() {
+        assertThrows(BusinessException.class, () -> freeBusyService.validateRange(base, base.plusDays(40)));
+        assertThrows(BusinessException.class, () -> freeBusyService.validateRange(base, base));
+    }
+    
+    private Interviewer interviewer(String email) {
+        Interviewer interviewer = Interviewer.builder()
+            .name("Interviewer")
+            .email(email)
+            .maxInterviewsPerWeek(5)
+            .build();
+        entityManager.persist(interviewer);
+        return interviewer;
+    }
+    
+    private void slot(Interviewer interviewer, LocalDateTime at, Integer duration, TimeSlot.TimeSlotStatus status) {
+        entityManager.persist(TimeSlot.builder()
+            .interviewer(interviewer)
+            .slotDateTime(at)
+            .durationMinutes(duration)
+            .status(status)
+            .build());
+    }
+}
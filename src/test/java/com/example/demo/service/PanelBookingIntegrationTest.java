@@ -0,0 +1,130 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.CandidateBooking;
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.PanelBookingRequest;
+import com.example.demo.dto.response.CancellationResponse;
+import com.example.demo.dto.response.PanelBookingResponse;
+import com.example.demo.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class PanelBookingIntegrationTest {
+    
+    @Autowired
+    private PanelService panelService;
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private CandidateBookingRepository bookingRepository;
+    
+    private LocalDateTime base;
+    private Interviewer first;
+    private Interviewer second;
+    private Interviewer third;
+    
+    @BeforeEach
+    void setUp() {
+        base = LocalDate.now().plusDays(2).atTime(10, 0);
+        first = interviewer("first-panel@example.com");
+        second = interviewer("second-panel@example.com");
+        third = interviewer("third-panel@example.com");
+        
+        slot(first, base);
+        slot(first, base.plusHours(1));
+        slot(first, base.plusHours(3));
+        slot(second, base.plusHours(1));
+        slot(second, base.plusHours(3));
+        slot(third, base);
+        slot(third, base.plusHours(3));
+    }
+    
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        timeSlotRepository.deleteAll();
+        interviewerRepository.deleteAll();
+    }
+    
+    @Test
+    void testFindCommonSlots_IntersectsAllCalendars() {
+        assertEquals(List.of(base.plusHours(1), base.plusHours(3)),
+            panelService.findCommonSlots(List.of(first.getId(), second.getId()), null, null, null, null));
+        assertEquals(List.of(base.plusHours(3)),
+            panelService.findCommonSlots(List.of(first.getId(), second.getId(), third.getId()), null, null, null, null));
+        assertTrue(panelService.findCommonSlots(List.of(first.getId(), second.getId()), 30, null, null, null).isEmpty(),
+            "Durations must match");
+    }
+    
+    @Test
+    void testBookPanel_ClaimsEverySlotAndCancelsAsAWhole() {
+        PanelBookingResponse panel = bookingService.bookPanel(
+            request(base.plusHours(3), first.getId(), second.getId(), third.getId()));
+        
+        assertEquals(3, panel.getBookings().size());
+        List<CandidateBooking> bookings = bookingRepository.findByCandidateEmail("panel-candidate@example.com");
+        assertTrue(bookings.stream().allMatch(booking -> panel.getPanelId().equals(booking.getPanelId())));
+        assertTrue(panelService.findCommonSlots(List.of(first.getId(), second.getId()), null, null, null, null)
+            .stream().noneMatch(base.plusHours(3)::equals), "Booked panel time must leave the index");
+        
+        // Cancelling one member booking releases the whole panel
+        CancellationResponse cancellation = bookingService.cancelBooking(
+            panel.getBookings().get(0).getBookingId(), "panel-candidate@example.com", false);
+        
+        assertEquals(3, cancellation.getCancelledBookings());
+        assertEquals(0, bookingRepository.count());
+    }
+    
+    @Test
+    void testBookPanel_AllOrNothingWhenOneInterviewerIsBusy() {
+        assertThrows(BusinessException.class, () ->
+            bookingService.bookPanel(request(base, first.getId(), second.getId())));
+        
+        assertEquals(0, bookingRepository.count());
+        assertTrue(timeSlotRepository.findAll().stream()
+            .allMatch(slot -> slot.getStatus() == TimeSlot.TimeSlotStatus.AVAILABLE));
+    }
+    
+    private Interviewer interviewer(String email) {
+        return interviewerRepository.save(Interviewer.builder()
+            .name("Interviewer")
+            .email(email)
+            .maxInterviewsPerWeek(5)
+            .build());
+    }
+    
+    private void slot(Interviewer interviewer, LocalDateTime at) {
+        timeSlotRepository.save(TimeSlot.builder().interviewer(interviewer).slotDateTime(at).build());
+    }
+    
+    private PanelBookingRequest request(LocalDateTime at, Long... interviewerIds) {
+        PanelBookingRequest request = new PanelBookingRequest();
+        request.setInterviewerIds(List.of(interviewerIds));
+        request.setSlotDateTime(at);
+        request.setCandidateName("Panel Candidate");
+        request.setCandidateEmail("panel-candidate@example.com");
+        return request;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.CandidateBooking;
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.UpdateBookingRequest;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.exception.ConcurrentModificationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class RescheduleConcurrencyIntegrationTest {
+    
+    private static final int BOOKINGS = 20;
+    private static final int FREE_SLOTS = 20;
+    private static final int THREADS = 8;
+    private static final int MOVES_PER_THREAD = 40;
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private CandidateBookingRepository bookingRepository;
+    
+    private final List<Long> slotIds = new ArrayList<>();
+    private final List<CandidateBooking> bookings = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        LocalDateTime base = InterviewerCapacityTracker.currentWeekStart().plusWeeks(1).plusHours(9);
+        List<Interviewer> interviewers = List.of(
+            interviewer("reschedule-a@example.com"),
+            interviewer("reschedule-b@example.com"));
+        
+        for (int i = 0; i < BOOKINGS + FREE_SLOTS; i++) {
+            boolean booked = i < BOOKINGS;
+            TimeSlot slot = timeSlotRepository.save(TimeSlot.builder()
+                .interviewer(interviewers.get(i % interviewers.size()))
+                .slotDateTime(base.plusHours(i))
+                .status(booked ? TimeSlot.TimeSlotStatus.BOOKED : TimeSlot.TimeSlotStatus.AVAILABLE)
+                .build());
+            slotIds.add(slot.getId());
+            if (booked) {
+                bookings.add(bookingRepository.save(CandidateBooking.builder()
+                    .timeSlot(slot)
+                    .candidateName("Candidate " + i)
+                    .candidateEmail("reschedule-" + i + "@example.com")
+                    .build()));
+            }
+        }
+    }
+    
+    @AfterEach
+    void tearDown() {
+        bookingRepository.deleteAll();
+        timeSlotRepository.deleteAll();
+        interviewerRepository.deleteAll();
+    }
+    
+    @Test
+    void testConcurrentReschedules_NeverDeadlockOrLoseSlots() throws InterruptedException {
+        AtomicInteger moved = new AtomicInteger();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        
+        for (int t = 0; t < THREADS; t++) {
+            pool.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < MOVES_PER_THREAD; i++) {
+                    CandidateBooking booking = bookings.get(random.nextInt(bookings.size()));
+                    UpdateBookingRequest request = new UpdateBookingRequest();
+                    request.setBookingId(booking.getId());
+                    request.setNewTimeSlotId(slotIds.get(random.nextInt(slotIds.size())));
+                    request.setCandidateName(booking.getCandidateName());
+                    request.setCandidateEmail(booking.getCandidateEmail());
+                    try {
+                        bookingService.updateBooking(request);
+                        moved.incrementAndGet();
+                    } catch (BusinessException | ConcurrentModificationException expected) {
+                        // Target taken or booking moved underneath us
+                    } catch (Throwable e) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(60, TimeUnit.SECONDS), "Reschedules did not finish");
+        
+        assertTrue(unexpected.isEmpty(), () -> "Unexpected failures: " + unexpected);
+        assertTrue(moved.get() > 0);
+        
+        List<CandidateBooking> after = bookingRepository.findAll();
+        Map<Long, TimeSlot> slots = timeSlotRepository.findAllById(slotIds).stream()
+            .collect(Collectors.toMap(TimeSlot::getId, Function.identity()));
+        Set<Long> occupied = new HashSet<>();
+        for (CandidateBooking booking : after) {
+            Long slotId = booking.getTimeSlot().getId();
+            assertTrue(occupied.add(slotId), "Two bookings share slot " + slotId);
+            assertEquals(TimeSlot.TimeSlotStatus.BOOKED, slots.get(slotId).getStatus());
+        }
+        long bookedSlots = slots.values().stream()
+            .filter(slot -> slot.getStatus() == TimeSlot.TimeSlotStatus.BOOKED)
+            .count();
+        assertEquals(BOOKINGS, after.size());
+        assertEquals(BOOKINGS, bookedSlots);
+    }
+    
+    private Interviewer interviewer(String email) {
+        return interviewerRepository.save(Interviewer.builder()
+            .name("Interviewer")
+            .email(email)
+            .maxInterviewsPerWeek(100)
+            .build());
+    }
+}
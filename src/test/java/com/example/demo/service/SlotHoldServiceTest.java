@@ -0,0 +1,135 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.SlotHold;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.SlotHoldRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.HoldSlotRequest;
+import com.example.demo.engine.BookingEngine;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.sharding.ShardRouter;
+import com.example.demo.util.HashedTimingWheel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlotHoldServiceTest {
+    
+    @Mock
+    private SlotHoldRepository slotHoldRepository;
+    
+    @Mock
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Mock
+    private CandidateBookingRepository bookingRepository;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Mock
+    private HashedTimingWheel<Long> expiryWheel;
+    
+    @Mock
+    private ShardRouter shardRouter;
+    
+    @Mock
+    private ObjectProvider<BookingEngine> bookingEngine;
+    
+    @InjectMocks
+    private SlotHoldService slotHoldService;
+    
+    private TimeSlot availableTimeSlot;
+    
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(slotHoldService, "expiryWheel", expiryWheel);
+        ReflectionTestUtils.setField(slotHoldService, "holdDurationMinutes", 5);
+        ReflectionTestUtils.setField(slotHoldService, "tickMillis", 1000L);
+        
+        availableTimeSlot = TimeSlot.builder()
+            .id(1L)
+            .interviewer(Interviewer.builder().id(1L).build())
+            .slotDateTime(LocalDateTime.now().plusDays(1))
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .version(1L)
+            .build();
+    }
+    
+    @Test
+    void testHoldSlot_ConcurrentHoldBySameCandidate() {
+        // Arrange
+        HoldSlotRequest request = new HoldSlotRequest();
+        request.setTimeSlotId(1L);
+        request.setCandidateEmail("priya@example.com");
+        
+        when(bookingRepository.findByCandidateEmail("priya@example.com")).thenReturn(Collections.emptyList());
+        when(slotHoldRepository.existsByCandidateEmail("priya@example.com")).thenReturn(false);
+        when(timeSlotRepository.findById(1L)).thenReturn(Optional.of(availableTimeSlot));
+        when(slotHoldRepository.saveAndFlush(any(SlotHold.class)))
+            .thenThrow(new DataIntegrityViolationException("idx_hold_candidate"));
+        
+        // Act & Assert
+        BusinessException exception = assertThrows(BusinessException.class,
+            () -> slotHoldService.holdSlot(request));
+        assertEquals("Candidate already holds a slot", exception.getMessage());
+        verify(expiryWheel, never()).schedule(any(), any());
+    }
+    
+    @Test
+    void testExpireHolds_RearmsHoldsNotYetExpired() {
+        // Arrange
+        LocalDateTime roundedUp = LocalDateTime.now().plusNanos(600_000_000);
+        when(slotHoldRepository.findSlotsOfExpiredHolds(anyList(), any(LocalDateTime.class)))
+            .thenReturn(Collections.emptyList());
+        when(slotHoldRepository.findExpiries(List.of(7L, 8L))).thenReturn(List.of(expiry(8L, roundedUp)));
+        
+        // Act
+        ReflectionTestUtils.invokeMethod(slotHoldService, "expireHolds", List.of(7L, 8L));
+        
+        // Assert
+        verify(slotHoldRepository).deleteExpiredHolds(eq(List.of(7L, 8L)), any(LocalDateTime.class));
+        verify(expiryWheel).schedule(eq(8L), eq(Duration.ofMillis(1000)));
+        verify(expiryWheel, never()).schedule(eq(7L), any());
+    }
+    
+    private static SlotHoldRepository.HoldExpiry expiry(Long id, LocalDateTime expiresAt) {
+        return new SlotHoldRepository.HoldExpiry() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+            
+            @Override
+            public LocalDateTime getExpiresAt() {
+                return expiresAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.AvailabilitySlot;
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.AvailabilitySlotRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSlotGenerationServiceTest {
+    
+    @Mock
+    private AvailabilitySlotRepository availabilitySlotRepository;
+    
+    @Mock
+    private TimeSlotRepository timeSlotRepository;
+    
+    @InjectMocks
+    private TimeSlotGenerationService timeSlotGenerationService;
+    
+    @Test
+    @SuppressWarnings("unchecked")
+    void testGenerate_SkipsSlotsCollidingWithExistingSlotsOfOtherDurations() {
+        // Arrange
+        Interviewer interviewer = Interviewer.builder().id(1L).maxInterviewsPerWeek(5).build();
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        AvailabilitySlot thirtyMinuteGrid = AvailabilitySlot.builder()
+            .interviewer(interviewer)
+            .dayOfWeek(tomorrow.getDayOfWeek())
+            .startTime(LocalTime.of(13, 0))
+            .endTime(LocalTime.of(15, 0))
+            .slotDurationMinutes(30)
+            .build();
+        // A 60-minute slot from an earlier rule occupies 13:30-14:30
+        TimeSlot existing = TimeSlot.builder()
+            .interviewer(interviewer)
+            .slotDateTime(LocalDateTime.of(tomorrow, LocalTime.of(13, 30)))
+            .durationMinutes(60)
+            .build();
+        
+        when(availabilitySlotRepository.findByInterviewerId(1L)).thenReturn(List.of(thirtyMinuteGrid));
+        when(timeSlotRepository.findByInterviewerIdAndSlotDateTimeBetween(eq(1L), any(), any()))
+            .thenReturn(new ArrayList<>(List.of(existing)));
+        
+        // Act
+        timeSlotGenerationService.generateTimeSlotsForNextWeeks(interviewer);
+        
+        // Assert
+        ArgumentCaptor<List<TimeSlot>> saved = ArgumentCaptor.forClass(List.class);
+        verify(timeSlotRepository).saveAll(saved.capture());
+        List<LocalTime> tomorrowSlots = saved.getValue().stream()
+            .filter(slot -> slot.getSlotDateTime().toLocalDate().equals(tomorrow))
+            .map(slot -> slot.getSlotDateTime().toLocalTime())
+            .toList();
+        assertEquals(List.of(LocalTime.of(13, 0), LocalTime.of(14, 30)), tomorrowSlots);
+        assertTrue(saved.getValue().stream().allMatch(slot -> slot.getDurationMinutes() == 30));
+    }
+}
@@ -4,20 +4,33 @@ import com.example.demo.domain.entity.Interviewer;
 import com.example.demo.domain.entity.TimeSlot;
 import com.example.demo.domain.repository.TimeSlotRepository;
 import com.example.demo.dto.response.PagedTimeSlotResponse;
+import com.example.demo.dto.response.TimeSlotResponse;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.service.InterviewerCapacityTracker.InterviewerWeek;
+import com.example.demo.sharding.ShardRouter;
+import com.example.demo.util.CursorEncoder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,6 +42,15 @@ class TimeSlotServiceTest {
     @Mock
     private TimeSlotRepository timeSlotRepository;
     
+    @Mock
+    private InterviewerCapacityTracker capacityTracker;
+    
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
+    @Mock
+    private ShardRouter shardRouter;
+    
     @InjectMocks
     private TimeSlotService timeSlotService;
     
@@ -87,7 +109,7 @@ class TimeSlotServiceTest {
     @Test
     void testGetAvailableSlots_WithCursor() {
         // Arrange
-        String cursor = "cursor123";
+        String cursor = CursorEncoder.encode(LocalDateTime.now(), 1L);
         Pageable pageable = PageRequest.of(0, 20);
         Page<TimeSlot> page = new PageImpl<>(timeSlots, pageable, 2);
         
@@ -143,5 +165,194 @@ class TimeSlotServiceTest {
         assertNotNull(response);
         assertEquals(100, response.getPageSize());
     }
+    
+    @Test
+    void testGetAvailableSlots_HideFullSkipsInterviewersAtLimit() {
+        // Arrange
+        Interviewer busy = Interviewer.builder().id(2L).name("Busy").email("busy@example.com").maxInterviewsPerWeek(1).build();
+        TimeSlot busySlot = TimeSlot.builder()
+            .id(3L)
+            .interviewer(busy)
+            .slotDateTime(LocalDateTime.now().plusHours(12))
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .build();
+        List<TimeSlot> slots = Arrays.asList(busySlot, timeSlots.get(0), timeSlots.get(1));
+        
+        when(timeSlotRepository.findAvailableSlots(eq(TimeSlot.TimeSlotStatus.AVAILABLE), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(slots, PageRequest.of(0, 20), 3));
+        when(capacityTracker.remainingCapacity(anyCollection())).thenAnswer(remainingByInterviewer(Map.of(1L, 4, 2L, 0)));
+        
+        // Act
+        PagedTimeSlotResponse response = timeSlotService.getAvailableSlots(null, 20, TimeSlotService.SlotRanking.HIDE_FULL);
+        
+        // Assert
+        assertEquals(2, response.getTimeSlots().size());
+        assertEquals(1L, response.getTimeSlots().get(0).getId());
+        assertEquals(4, response.getTimeSlots().get(0).getRemainingWeeklyCapacity());
+        assertFalse(response.getHasNextPage());
+    }
+    
+    @Test
+    void testGetAvailableSlots_HideFullJudgesEachSlotInItsOwnWeek() {
+        // Arrange: full this week, free next week
+        LocalDateTime nextWeek = InterviewerCapacityTracker.currentWeekStart().plusWeeks(1).plusDays(1);
+        TimeSlot nextWeekSlot = TimeSlot.builder()
+            .id(3L)
+            .interviewer(interviewer)
+            .slotDateTime(nextWeek)
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .build();
+        TimeSlot thisWeekSlot = TimeSlot.builder()
+            .id(4L)
+            .interviewer(interviewer)
+            .slotDateTime(InterviewerCapacityTracker.currentWeekStart().plusDays(6).plusHours(23))
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .build();
+        
+        when(timeSlotRepository.findAvailableSlots(eq(TimeSlot.TimeSlotStatus.AVAILABLE), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(thisWeekSlot, nextWeekSlot), PageRequest.of(0, 20), 2));
+        when(capacityTracker.remainingCapacity(anyCollection())).thenAnswer(invocation -> {
+            Collection<InterviewerWeek> weeks = invocation.getArgument(0);
+            Map<InterviewerWeek, Integer> remaining = new HashMap<>();
+            weeks.forEach(week -> remaining.put(week,
+                week.weekStart().equals(InterviewerCapacityTracker.currentWeekStart()) ? 0 : 3));
+            return remaining;
+        });
+        
+        // Act
+        PagedTimeSlotResponse response = timeSlotService.getAvailableSlots(null, 20, TimeSlotService.SlotRanking.HIDE_FULL);
+        
+        // Assert
+        assertEquals(1, response.getTimeSlots().size());
+        assertEquals(3L, response.getTimeSlots().get(0).getId());
+        assertEquals(3, response.getTimeSlots().get(0).getRemainingWeeklyCapacity());
+    }
+    
+    @Test
+    void testGetAvailableSlots_BalancedInterleavesByRemainingCapacity() {
+        // Arrange
+        Interviewer other = Interviewer.builder().id(2L).name("Other").email("other@example.com").maxInterviewsPerWeek(5).build();
+        LocalDateTime base = LocalDateTime.now().plusDays(1);
+        List<TimeSlot> slots = Arrays.asList(
+            TimeSlot.builder().id(1L).interviewer(interviewer).slotDateTime(base).status(TimeSlot.TimeSlotStatus.AVAILABLE).build(),
+            TimeSlot.builder().id(2L).interviewer(interviewer).slotDateTime(base.plusHours(1)).status(TimeSlot.TimeSlotStatus.AVAILABLE).build(),
+            TimeSlot.builder().id(3L).interviewer(other).slotDateTime(base.plusHours(2)).status(TimeSlot.TimeSlotStatus.AVAILABLE).build(),
+            TimeSlot.builder().id(4L).interviewer(other).slotDateTime(base.plusHours(3)).status(TimeSlot.TimeSlotStatus.AVAILABLE).build()
+        );
+        
+        when(timeSlotRepository.findAvailableSlots(eq(TimeSlot.TimeSlotStatus.AVAILABLE), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(slots, PageRequest.of(0, 20), 4));
+        when(capacityTracker.remainingCapacity(anyCollection())).thenAnswer(remainingByInterviewer(Map.of(1L, 1, 2L, 2)));
+        
+        // Act
+        PagedTimeSlotResponse response = timeSlotService.getAvailableSlots(null, 20, TimeSlotService.SlotRanking.BALANCED);
+        
+        // Assert
+        List<Long> ids = response.getTimeSlots().stream().map(slot -> slot.getId()).toList();
+        assertEquals(List.of(3L, 1L, 4L, 2L), ids);
+    }
+    
+    @Test
+    void testGetAvailableSlots_RankedCursorAdvancesPastHiddenSlots() {
+        // Arrange
+        when(timeSlotRepository.findAvailableSlots(eq(TimeSlot.TimeSlotStatus.AVAILABLE), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(timeSlots, PageRequest.of(0, 2), 10));
+        when(timeSlotRepository.findAvailableSlotsAfterCursor(eq(TimeSlot.TimeSlotStatus.AVAILABLE), any(), any(), any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 2), 0));
+        when(capacityTracker.remainingCapacity(anyCollection())).thenAnswer(remainingByInterviewer(Map.of(1L, 0)));
+        
+        // Act
+        PagedTimeSlotResponse response = timeSlotService.getAvailableSlots(null, 2, TimeSlotService.SlotRanking.HIDE_FULL);
+        
+        // Assert
+        assertTrue(response.getTimeSlots().isEmpty());
+        assertFalse(response.getHasNextPage());
+        verify(timeSlotRepository).findAvailableSlotsAfterCursor(
+            eq(TimeSlot.TimeSlotStatus.AVAILABLE), eq(timeSlots.get(1).getSlotDateTime()), eq(2L), any(Pageable.class));
+    }
+    
+    @Test
+    void testGetAvailableSlots_ConcurrentIdenticalRequestsShareOneQuery() throws Exception {
+        // Arrange
+        CountDownLatch queryRunning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(timeSlotRepository.findAvailableSlots(eq(TimeSlot.TimeSlotStatus.AVAILABLE), any(Pageable.class)))
+            .thenAnswer(invocation -> {
+                queryRunning.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return new PageImpl<>(timeSlots, PageRequest.of(0, 20), 2);
+            });
+        
+        // Act
+        CompletableFuture<PagedTimeSlotResponse> first =
+            CompletableFuture.supplyAsync(() -> timeSlotService.getAvailableSlots(null, 20));
+        assertTrue(queryRunning.await(5, TimeUnit.SECONDS));
+        CompletableFuture<PagedTimeSlotResponse> second =
+            CompletableFuture.supplyAsync(() -> timeSlotService.getAvailableSlots("", 20));
+        Thread.sleep(100); // Let the second request join the in-flight query
+        release.countDown();
+        
+        // Assert
+        assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        verify(timeSlotRepository, times(1)).findAvailableSlots(eq(TimeSlot.TimeSlotStatus.AVAILABLE), any(Pageable.class));
+        verify(transactionManager, times(1)).getTransaction(any());
+    }
+    
+    @Test
+    void testMergeShardPages_TakesGlobalKeysetOrderAcrossShards() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 9, 0);
+        PagedTimeSlotResponse shard0 = shardPage(true, slot(1L, start), slot(3L, start.plusHours(2)));
+        PagedTimeSlotResponse shard1 = shardPage(false, slot(2L, start), slot(4L, start.plusHours(1)));
+        
+        // Act
+        PagedTimeSlotResponse merged = TimeSlotService.mergeShardPages(List.of(shard0, shard1), 3);
+        PagedTimeSlotResponse lastPage = TimeSlotService.mergeShardPages(List.of(shardPage(false), shard1), 3);
+        
+        // Assert
+        assertEquals(List.of(1L, 2L, 4L), merged.getTimeSlots().stream().map(TimeSlotResponse::getId).toList());
+        assertTrue(merged.getHasNextPage());
+        assertEquals(CursorEncoder.encode(start.plusHours(1), 4L), merged.getNextCursor());
+        assertEquals(2, lastPage.getTimeSlots().size());
+        assertFalse(lastPage.getHasNextPage());
+        assertNull(lastPage.getNextCursor());
+    }
+    
+    @Test
+    void testGetAvailableSlots_RankedFeedRejectedWhenSharded() {
+        // Arrange
+        when(shardRouter.isSharded()).thenReturn(true);
+        
+        // Act & Assert
+        assertThrows(BusinessException.class,
+            () -> timeSlotService.getAvailableSlots(null, 20, TimeSlotService.SlotRanking.BALANCED));
+        verifyNoInteractions(timeSlotRepository);
+    }
+    
+    private static TimeSlotResponse slot(Long id, LocalDateTime slotDateTime) {
+        return TimeSlotResponse.builder()
+            .id(id)
+            .interviewerId(id)
+            .slotDateTime(slotDateTime)
+            .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+            .build();
+    }
+    
+    private static PagedTimeSlotResponse shardPage(boolean hasNextPage, TimeSlotResponse... slots) {
+        return PagedTimeSlotResponse.builder()
+            .timeSlots(List.of(slots))
+            .hasNextPage(hasNextPage)
+            .pageSize(3)
+            .build();
+    }
+    
+    // Remaining capacity per interviewer, whichever weeks are asked for
+    private static Answer<Map<InterviewerWeek, Integer>> remainingByInterviewer(Map<Long, Integer> byInterviewer) {
+        return invocation -> {
+            Collection<InterviewerWeek> weeks = invocation.getArgument(0);
+            Map<InterviewerWeek, Integer> remaining = new HashMap<>();
+            weeks.forEach(week -> remaining.put(week, byInterviewer.get(week.interviewerId())));
+            return remaining;
+        };
+    }
 }
-
@@ -0,0 +1,71 @@
+package com.example.demo.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaitlistIndexTest {
+    
+    private final LocalDateTime monday = LocalDateTime.of(2030, 1, 7, 0, 0);
+    
+    @Test
+    void testClaim_FirstComeFirstServedAcrossSpecificAndAnyQueues() {
+        WaitlistIndex index = new WaitlistIndex();
+        index.add(1L, "A", "a@example.com", null, monday.plusHours(9), monday.plusHours(12));
+        index.add(2L, "B", "b@example.com", 7L, monday.plusHours(9), monday.plusHours(12));
+        index.add(3L, "C", "c@example.com", null, monday.plusHours(9), monday.plusHours(12));
+        
+        assertEquals(1L, index.claim(7L, monday.plusHours(10)).orElseThrow().entryId());
+        assertEquals(2L, index.claim(7L, monday.plusHours(10)).orElseThrow().entryId());
+        // Interviewer-specific tickets never match other interviewers
+        assertEquals(3L, index.claim(8L, monday.plusHours(10)).orElseThrow().entryId());
+        assertTrue(index.claim(7L, monday.plusHours(10)).isEmpty());
+    }
+    
+    @Test
+    void testClaim_RespectsWindowBounds() {
+        WaitlistIndex index = new WaitlistIndex();
+        index.add(1L, "A", "a@example.com", null, monday.plusHours(9), monday.plusHours(10));
+        
+        assertTrue(index.claim(7L, monday.plusHours(10)).isEmpty(), "Window end is exclusive");
+        assertTrue(index.claim(7L, monday.plusHours(8)).isEmpty());
+        assertTrue(index.claim(7L, monday.plusHours(9)).isPresent());
+    }
+    
+    @Test
+    void testClaim_MultiDayWindowAndRemoval() {
+        WaitlistIndex index = new WaitlistIndex();
+        index.add(1L, "A", "a@example.com", null, monday.plusHours(9), monday.plusDays(2).plusHours(9));
+        index.add(2L, "B", "b@example.com", null, monday.plusHours(9), monday.plusDays(2).plusHours(9));
+        
+        assertTrue(index.remove(1L));
+        assertEquals(2L, index.claim(7L, monday.plusDays(1).plusHours(15)).orElseThrow().entryId());
+        assertEquals(0, index.size());
+    }
+    
+    @Test
+    void testPurgeExpired_DropsTicketsWhoseWindowHasEnded() {
+        WaitlistIndex index = new WaitlistIndex();
+        index.add(1L, "A", "a@example.com", null, monday.plusHours(9), monday.plusHours(10));
+        index.add(2L, "B", "b@example.com", null, monday.plusHours(9), monday.plusDays(1));
+        
+        index.purgeExpired(monday.plusHours(10));
+        
+        assertEquals(1, index.size());
+        assertEquals(2L, index.claim(7L, monday.plusHours(11)).orElseThrow().entryId());
+    }
+    
+    @Test
+    void testRestore_KeepsPlaceInLine() {
+        WaitlistIndex index = new WaitlistIndex();
+        index.add(1L, "A", "a@example.com", null, monday, monday.plusDays(1));
+        index.add(2L, "B", "b@example.com", null, monday, monday.plusDays(1));
+        
+        WaitlistIndex.Ticket first = index.claim(7L, monday.plusHours(10)).orElseThrow();
+        index.restore(first);
+        
+        assertEquals(1L, index.claim(7L, monday.plusHours(11)).orElseThrow().entryId());
+    }
+}
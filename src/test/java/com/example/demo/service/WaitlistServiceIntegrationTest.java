@@ -0,0 +1,141 @@
+package com.example.demo.service;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.entity.WaitlistEntry;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.domain.repository.WaitlistEntryRepository;
+import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.dto.request.JoinWaitlistRequest;
+import com.example.demo.dto.request.UpdateBookingRequest;
+import com.example.demo.dto.response.BookingResponse;
+import com.example.demo.dto.response.WaitlistEntryResponse;
+import com.example.demo.exception.BusinessException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class WaitlistServiceIntegrationTest {
+    
+    @Autowired
+    private WaitlistService waitlistService;
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private CandidateBookingRepository bookingRepository;
+    
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+    
+    @AfterEach
+    void tearDown() {
+        waitlistEntryRepository.deleteAll();
+        bookingRepository.deleteAll();
+        timeSlotRepository.deleteAll();
+        interviewerRepository.deleteAll();
+    }
+    
+    @Test
+    void testReleasedSlotIsAssignedToWaitlistedCandidate() throws Exception {
+        Interviewer interviewer = interviewerRepository.save(Interviewer.builder()
+            .name("Rajesh Kumar")
+            .email("rajesh-waitlist@example.com")
+            .maxInterviewsPerWeek(50)
+            .build());
+        LocalDateTime slotTime = LocalDateTime.now().plusHours(2).withNano(0);
+        TimeSlot popular = timeSlotRepository.save(TimeSlot.builder()
+            .interviewer(interviewer).slotDateTime(slotTime).build());
+        TimeSlot other = timeSlotRepository.save(TimeSlot.builder()
+            .interviewer(interviewer).slotDateTime(slotTime.plusHours(1)).build());
+        
+        BookSlotRequest bookRequest = new BookSlotRequest();
+        bookRequest.setTimeSlotId(popular.getId());
+        bookRequest.setCandidateName("Priya Patel");
+        bookRequest.setCandidateEmail("priya@example.com");
+        BookingResponse booking = bookingService.bookSlot(bookRequest);
+        
+        JoinWaitlistRequest joinRequest = new JoinWaitlistRequest();
+        joinRequest.setCandidateName("Amit Shah");
+        joinRequest.setCandidateEmail("amit@example.com");
+        joinRequest.setWindowStart(slotTime.minusMinutes(30));
+        joinRequest.setWindowEnd(slotTime.plusMinutes(30));
+        WaitlistEntryResponse entry = waitlistService.join(joinRequest);
+        
+        UpdateBookingRequest moveRequest = new UpdateBookingRequest();
+        moveRequest.setBookingId(booking.getBookingId());
+        moveRequest.setNewTimeSlotId(other.getId());
+        moveRequest.setCandidateName("Priya Patel");
+        moveRequest.setCandidateEmail("priya@example.com");
+        bookingService.updateBooking(moveRequest);
+        
+        WaitlistEntryResponse assigned = null;
+        for (int i = 0; i < 50; i++) {
+            assigned = waitlistService.getEntry(entry.getId());
+            if (assigned.getStatus() == WaitlistEntry.WaitlistStatus.ASSIGNED) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+        
+        assertEquals(WaitlistEntry.WaitlistStatus.ASSIGNED, assigned.getStatus());
+        assertEquals(popular.getId(), bookingService.getBookingById(assigned.getBookingId()).getTimeSlotId());
+    }
+    
+    @Test
+    void testJoin_ExpiredEntryDoesNotBlockRejoining() {
+        // Arrange: a window that passed while the candidate was still waiting
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        waitlistEntryRepository.save(WaitlistEntry.builder()
+            .candidateName("Amit Shah")
+            .candidateEmail("amit-expired@example.com")
+            .windowStart(now.minusHours(3))
+            .windowEnd(now.minusHours(1))
+            .build());
+        
+        JoinWaitlistRequest joinRequest = new JoinWaitlistRequest();
+        joinRequest.setCandidateName("Amit Shah");
+        joinRequest.setCandidateEmail("amit-expired@example.com");
+        joinRequest.setWindowStart(now.plusHours(1));
+        joinRequest.setWindowEnd(now.plusHours(3));
+        
+        // Act
+        WaitlistEntryResponse entry = waitlistService.join(joinRequest);
+        
+        // Assert
+        assertEquals(WaitlistEntry.WaitlistStatus.WAITING, entry.getStatus());
+        assertThrows(BusinessException.class, () -> waitlistService.join(joinRequest));
+    }
+    
+    @Test
+    void testLeave_DoesNotOverwriteAnAssignmentInProgress() {
+        // Arrange: the worker has claimed the entry but its booking has not finished
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+        WaitlistEntry entry = waitlistEntryRepository.save(WaitlistEntry.builder()
+            .candidateName("Amit Shah")
+            .candidateEmail("amit-leaving@example.com")
+            .windowStart(now.plusHours(1))
+            .windowEnd(now.plusHours(3))
+            .status(WaitlistEntry.WaitlistStatus.ASSIGNING)
+            .build());
+        
+        // Act & Assert
+        assertThrows(BusinessException.class, () -> waitlistService.leave(entry.getId()));
+        assertEquals(WaitlistEntry.WaitlistStatus.ASSIGNING, waitlistService.getEntry(entry.getId()).getStatus());
+    }
+}
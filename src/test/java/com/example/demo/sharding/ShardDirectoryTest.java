@@ -0,0 +1,44 @@
+package com.example.demo.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardDirectoryTest {
+    
+    private final ShardDirectory directory = new ShardDirectory(List.of("jdbc:h2:mem:a", "jdbc:h2:mem:b", "jdbc:h2:mem:c"));
+    
+    @Test
+    void testShardOf_FollowsInterleavedIdentities() {
+        assertEquals(0, directory.shardOf(1L));
+        assertEquals(1, directory.shardOf(2L));
+        assertEquals(2, directory.shardOf(3L));
+        assertEquals(0, directory.shardOf(4L));
+        for (int shard = 0; shard < 3; shard++) {
+            long id = directory.nextIdOnShard(shard, 100);
+            assertTrue(id >= 100 && id < 103);
+            assertEquals(shard, directory.shardOf(id));
+        }
+        assertEquals(2, directory.nextIdOnShard(1, 0), "An empty table starts at the shard's first id");
+    }
+    
+    @Test
+    void testHomeShardOf_IsStableAndCaseInsensitive() {
+        int shard = directory.homeShardOf("Asha.Rao@example.com");
+        
+        assertEquals(shard, directory.homeShardOf("asha.rao@example.com"));
+        assertTrue(shard >= 0 && shard < 3);
+    }
+    
+    @Test
+    void testDisabledDirectoryHasOneShard() {
+        ShardDirectory single = new ShardDirectory(false, List.of("jdbc:h2:mem:a", "jdbc:h2:mem:b"));
+        
+        assertFalse(single.isSharded());
+        assertEquals(1, single.shardCount());
+        assertEquals(0, single.shardOf(42L));
+        assertThrows(IllegalStateException.class, () -> new ShardDirectory(true, List.of()));
+    }
+}
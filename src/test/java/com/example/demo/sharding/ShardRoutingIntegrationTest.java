@@ -0,0 +1,327 @@
+package com.example.demo.sharding;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.entity.WaitlistEntry;
+import com.example.demo.domain.repository.CandidateBookingRepository;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.domain.repository.WaitlistEntryRepository;
+import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.dto.request.CohortScheduleRequest;
+import com.example.demo.dto.request.HoldSlotRequest;
+import com.example.demo.dto.request.JoinWaitlistRequest;
+import com.example.demo.dto.request.PanelBookingRequest;
+import com.example.demo.dto.request.UpdateBookingRequest;
+import com.example.demo.dto.response.BookingResponse;
+import com.example.demo.dto.response.PagedTimeSlotResponse;
+import com.example.demo.dto.response.RehomeResponse;
+import com.example.demo.dto.response.TimeSlotResponse;
+import com.example.demo.dto.response.WaitlistEntryResponse;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.service.BookingRehomeService;
+import com.example.demo.service.CohortSchedulingService;
+import com.example.demo.service.CompactSlotFeedService;
+import com.example.demo.service.ExportService;
+import com.example.demo.service.FreeBusyService;
+import com.example.demo.service.PanelService;
+import com.example.demo.service.ShardedBookingService;
+import com.example.demo.service.SlotHoldService;
+import com.example.demo.service.TimeSlotService;
+import com.example.demo.service.WaitlistService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "sharding.enabled=true",
+    "sharding.urls=jdbc:h2:mem:shard-routing-0;MODE=MySQL;DB_CLOSE_DELAY=-1,"
+        + "jdbc:h2:mem:shard-routing-1;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.jpa.open-in-view=false"
+})
+class ShardRoutingIntegrationTest {
+    
+    private static final int SLOTS_PER_INTERVIEWER = 4;
+    
+    @Autowired
+    private ShardRouter shardRouter;
+    
+    @Autowired
+    private ShardDirectory shardDirectory;
+    
+    @Autowired
+    private ShardedBookingService shardedBookingService;
+    
+    @Autowired
+    private TimeSlotService timeSlotService;
+    
+    @Autowired
+    private CompactSlotFeedService compactSlotFeedService;
+    
+    @Autowired
+    private WaitlistService waitlistService;
+    
+    @Autowired
+    private BookingRehomeService bookingRehomeService;
+    
+    @Autowired
+    private SlotHoldService slotHoldService;
+    
+    @Autowired
+    private PanelService panelService;
+    
+    @Autowired
+    private CohortSchedulingService cohortSchedulingService;
+    
+    @Autowired
+    private ExportService exportService;
+    
+    @Autowired
+    private FreeBusyService freeBusyService;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private CandidateBookingRepository bookingRepository;
+    
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    private final LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    private final List<List<TimeSlot>> slotsByShard = new ArrayList<>();
+    
+    @BeforeEach
+    void setUp() {
+        for (int shard = 0; shard < 2; shard++) {
+            String email = emailOnShard(shard);
+            int offsetMinutes = shard * 30; // Interleave the two shards' slots in time
+            slotsByShard.add(shardRouter.onHomeShard(email, () -> {
+                Interviewer interviewer = interviewerRepository.save(Interviewer.builder()
+                    .name(email)
+                    .email(email)
+                    .maxInterviewsPerWeek(10)
+                    .build());
+                List<TimeSlot> slots = new ArrayList<>();
+                for (int i = 0; i < SLOTS_PER_INTERVIEWER; i++) {
+                    slots.add(TimeSlot.builder()
+                        .interviewer(interviewer)
+                        .slotDateTime(base.plusHours(i).plusMinutes(offsetMinutes))
+                        .durationMinutes(30)
+                        .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+                        .build());
+                }
+                return timeSlotRepository.saveAll(slots);
+            }));
+        }
+    }
+    
+    @AfterEach
+    void tearDown() {
+        shardRouter.forEachShard(() -> {
+            waitlistEntryRepository.deleteAll();
+            bookingRepository.deleteAll();
+            timeSlotRepository.deleteAll();
+            interviewerRepository.deleteAll();
+        });
+    }
+    
+    @Test
+    void testRowsLiveOnTheShardTheirIdsResolveTo() {
+        for (int shard = 0; shard < 2; shard++) {
+            int expected = shard;
+            slotsByShard.get(shard).forEach(slot -> {
+                assertEquals(expected, shardDirectory.shardOf(slot.getId()));
+                assertEquals(expected, shardDirectory.shardOf(slot.getInterviewer().getId()));
+            });
+            Long stored = shardRouter.onShard(shard, () -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM time_slots", Long.class));
+            assertEquals(SLOTS_PER_INTERVIEWER, stored);
+        }
+    }
+    
+    @Test
+    void testAvailableFeedMergesShardsInKeysetOrder() {
+        List<TimeSlotResponse> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            PagedTimeSlotResponse page = timeSlotService.getAvailableSlots(cursor, 3);
+            paged.addAll(page.getTimeSlots());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        
+        List<Long> expected = slotsByShard.stream()
+            .flatMap(List::stream)
+            .sorted(Comparator.comparing(TimeSlot::getSlotDateTime).thenComparing(TimeSlot::getId))
+            .map(TimeSlot::getId)
+            .toList();
+        assertEquals(expected, paged.stream().map(TimeSlotResponse::getId).toList());
+        
+        CompactSlotFeedService.SlotColumns firstColumns = compactSlotFeedService.loadAvailable(null, 5);
+        CompactSlotFeedService.SlotColumns restColumns = compactSlotFeedService.loadAvailable(firstColumns.nextCursor(), 50);
+        List<Long> columnIds = new ArrayList<>();
+        for (CompactSlotFeedService.SlotColumns columns : List.of(firstColumns, restColumns)) {
+            for (int i = 0; i < columns.size(); i++) {
+                columnIds.add(columns.ids()[i]);
+            }
+        }
+        assertEquals(expected, columnIds);
+        assertNull(restColumns.nextCursor());
+    }
+    
+    @Test
+    void testBookingsAreRoutedAndCandidateLimitHoldsAcrossShards() {
+        TimeSlot onShard1 = slotsByShard.get(1).get(0);
+        TimeSlot otherOnShard1 = slotsByShard.get(1).get(1);
+        TimeSlot onShard0 = slotsByShard.get(0).get(0);
+        
+        BookingResponse booking = shardedBookingService.bookSlot(bookRequest(onShard1.getId()));
+        
+        assertEquals(1, shardDirectory.shardOf(booking.getBookingId()));
+        assertEquals(onShard1.getId(), shardedBookingService.getBookingById(booking.getBookingId()).getTimeSlotId());
+        assertThrows(BusinessException.class, () -> shardedBookingService.bookSlot(bookRequest(onShard0.getId())),
+            "The candidate's booking on shard 1 must block a booking on shard 0");
+        
+        assertThrows(BusinessException.class,
+            () -> shardedBookingService.updateBooking(updateRequest(booking.getBookingId(), onShard0.getId())));
+        BookingResponse moved = shardedBookingService.updateBooking(updateRequest(booking.getBookingId(), otherOnShard1.getId()));
+        assertEquals(otherOnShard1.getId(), moved.getTimeSlotId());
+        
+        shardedBookingService.cancelBooking(booking.getBookingId(), "kiran@example.com", true);
+        assertEquals(0L, shardRouter.onShard(1, () -> jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM candidate_bookings", Long.class)));
+        assertNotNull(shardedBookingService.bookSlot(bookRequest(onShard0.getId())));
+    }
+    
+    @Test
+    void testWaitlistAssignsReleasedSlotOnItsShard() throws Exception {
+        TimeSlot popular = slotsByShard.get(1).get(0);
+        TimeSlot other = slotsByShard.get(1).get(1);
+        BookingResponse booking = shardedBookingService.bookSlot(bookRequest(popular.getId()));
+        
+        JoinWaitlistRequest joinRequest = new JoinWaitlistRequest();
+        joinRequest.setCandidateName("Amit Shah");
+        joinRequest.setCandidateEmail("amit@example.com");
+        joinRequest.setWindowStart(popular.getSlotDateTime().minusMinutes(10));
+        joinRequest.setWindowEnd(popular.getSlotDateTime().plusMinutes(10));
+        WaitlistEntryResponse entry = waitlistService.join(joinRequest);
+        
+        shardedBookingService.updateBooking(updateRequest(booking.getBookingId(), other.getId()));
+        
+        WaitlistEntryResponse assigned = null;
+        for (int i = 0; i < 50; i++) {
+            assigned = waitlistService.getEntry(entry.getId());
+            if (assigned.getStatus() == WaitlistEntry.WaitlistStatus.ASSIGNED) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+        
+        assertEquals(WaitlistEntry.WaitlistStatus.ASSIGNED, assigned.getStatus());
+        assertEquals(1, shardDirectory.shardOf(assigned.getBookingId()));
+        assertEquals(popular.getId(), shardedBookingService.getBookingById(assigned.getBookingId()).getTimeSlotId());
+    }
+    
+    @Test
+    void testRehomingMovesBookingsWithinTheInterviewersShard() {
+        // The shard 1 interviewer has no availability windows, so every booking of theirs is orphaned
+        TimeSlot orphaned = slotsByShard.get(1).get(0);
+        Long orphanedInterviewerId = orphaned.getInterviewer().getId();
+        String email = emailOnShard(1, "rehome");
+        TimeSlot target = shardRouter.onHomeShard(email, () -> {
+            Interviewer interviewer = interviewerRepository.save(Interviewer.builder()
+                .name(email)
+                .email(email)
+                .maxInterviewsPerWeek(10)
+                .build());
+            return timeSlotRepository.save(TimeSlot.builder()
+                .interviewer(interviewer)
+                .slotDateTime(orphaned.getSlotDateTime().plusMinutes(15))
+                .durationMinutes(30)
+                .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+                .build());
+        });
+        BookingResponse booking = shardedBookingService.bookSlot(bookRequest(orphaned.getId()));
+        
+        RehomeResponse result = shardRouter.onShardOf(orphanedInterviewerId,
+            () -> bookingRehomeService.rehome(orphanedInterviewerId));
+        
+        assertEquals(1, result.getMoves().size());
+        assertEquals(target.getId(), result.getMoves().get(0).getToTimeSlotId());
+        assertEquals(target.getId(), shardedBookingService.getBookingById(booking.getBookingId()).getTimeSlotId());
+    }
+    
+    @Test
+    void testShardZeroOnlyFeaturesAreRejected() {
+        Long slotId = slotsByShard.get(1).get(0).getId();
+        List<Long> interviewerIds = slotsByShard.stream().map(slots -> slots.get(0).getInterviewer().getId()).toList();
+        LocalDateTime to = base.plusDays(1);
+        
+        HoldSlotRequest holdRequest = new HoldSlotRequest();
+        holdRequest.setTimeSlotId(slotId);
+        holdRequest.setCandidateEmail("kiran@example.com");
+        assertThrows(BusinessException.class, () -> slotHoldService.holdSlot(holdRequest));
+        assertThrows(BusinessException.class, () -> slotHoldService.releaseHold("token"));
+        
+        PanelBookingRequest panelRequest = new PanelBookingRequest();
+        panelRequest.setInterviewerIds(interviewerIds);
+        panelRequest.setSlotDateTime(base);
+        panelRequest.setCandidateName("Kiran Shah");
+        panelRequest.setCandidateEmail("kiran@example.com");
+        assertThrows(BusinessException.class, () -> shardedBookingService.bookPanel(panelRequest));
+        assertThrows(BusinessException.class, () -> shardedBookingService.cancelPanel("panel", "kiran@example.com", true));
+        assertThrows(BusinessException.class, () -> panelService.findCommonSlots(interviewerIds, 30, base, to, 5));
+        
+        assertThrows(BusinessException.class, () -> cohortSchedulingService.preview(new CohortScheduleRequest()));
+        assertThrows(BusinessException.class, () -> cohortSchedulingService.schedule(new CohortScheduleRequest()));
+        assertThrows(BusinessException.class, () -> exportService.validateRange(base, to));
+        assertThrows(BusinessException.class, () -> freeBusyService.validateRange(base, to));
+    }
+    
+    private String emailOnShard(int shard) {
+        return emailOnShard(shard, "interviewer");
+    }
+    
+    private String emailOnShard(int shard, String prefix) {
+        for (int i = 0; ; i++) {
+            String email = prefix + i + "-shard@example.com";
+            if (shardDirectory.homeShardOf(email) == shard) {
+                return email;
+            }
+        }
+    }
+    
+    private static BookSlotRequest bookRequest(Long slotId) {
+        BookSlotRequest request = new BookSlotRequest();
+        request.setTimeSlotId(slotId);
+        request.setCandidateName("Kiran Shah");
+        request.setCandidateEmail("kiran@example.com");
+        return request;
+    }
+    
+    private static UpdateBookingRequest updateRequest(Long bookingId, Long slotId) {
+        UpdateBookingRequest request = new UpdateBookingRequest();
+        request.setBookingId(bookingId);
+        request.setNewTimeSlotId(slotId);
+        request.setCandidateName("Kiran Shah");
+        request.setCandidateEmail("kiran@example.com");
+        return request;
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.demo.stress;
+
+import com.example.demo.domain.entity.Interviewer;
+import com.example.demo.domain.entity.TimeSlot;
+import com.example.demo.domain.repository.InterviewerRepository;
+import com.example.demo.domain.repository.TimeSlotRepository;
+import com.example.demo.dto.request.AvailabilitySlotRequest;
+import com.example.demo.dto.request.BookSlotRequest;
+import com.example.demo.dto.request.InterviewerAvailabilityRequest;
+import com.example.demo.dto.request.UpdateBookingRequest;
+import com.example.demo.exception.BusinessException;
+import com.example.demo.exception.ConcurrentModificationException;
+import com.example.demo.exception.ResourceNotFoundException;
+import com.example.demo.loadtest.EndpointStats;
+import com.example.demo.service.BookingService;
+import com.example.demo.service.InterviewerCapacityTracker;
+import com.example.demo.service.InterviewerService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fires concurrent bookings, reschedules, cancellations and availability updates at a small
+ * pool of shared slots through the real services and database, then checks the booking
+ * invariants on the tables: no slot holds two bookings, every booking sits on a BOOKED slot and
+ * every BOOKED slot has a booking, no interviewer is over their weekly limit, and no two slots
+ * of one interviewer overlap. Each worker draws its operations from its own seeded
+ * {@link Random}, so a run is repeatable up to thread interleaving. Run with
+ * {@code mvn -P stress-test test}, against MySQL with {@code -P stress-test,stress-mysql}; tune
+ * with {@code -Dstress.*} and read {@code target/stress-test/booking-invariants.json}.
+ */
+@SpringBootTest
+@Slf4j
+class BookingInvariantStressTest {
+    
+    private static final int CANDIDATES_PER_WORKER = 8;
+    
+    @Autowired
+    private BookingService bookingService;
+    
+    @Autowired
+    private InterviewerService interviewerService;
+    
+    @Autowired
+    private InterviewerRepository interviewerRepository;
+    
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+    
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Test
+    void bookingInvariantsHoldUnderContention() throws Exception {
+        int threads = Integer.getInteger("stress.threads", 16);
+        int opsPerThread = Integer.getInteger("stress.opsPerThread", 250);
+        int interviewers = Integer.getInteger("stress.interviewers", 8);
+        int slotsPerInterviewer = Integer.getInteger("stress.slotsPerInterviewer", 24);
+        int maxPerWeek = Integer.getInteger("stress.maxPerWeek", 10);
+        long seed = Long.getLong("stress.seed", 20240601L);
+        Path reportPath = Paths.get(System.getProperty("stress.report", "target/stress-test/booking-invariants.json"));
+        
+        List<Long> slotIds = new ArrayList<>();
+        List<Interviewer> seeded = seed(interviewers, slotsPerInterviewer, maxPerWeek, slotIds);
+        
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<Map<Operation, EndpointStats>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Worker worker = new Worker(t, new Random(seed + t), slotIds, seeded, maxPerWeek);
+            futures.add(pool.submit(() -> {
+                start.await();
+                return worker.run(opsPerThread);
+            }));
+        }
+        long began = System.nanoTime();
+        start.countDown();
+        Map<Operation, EndpointStats> totals = new LinkedHashMap<>();
+        for (Future<Map<Operation, EndpointStats>> future : futures) {
+            future.get().forEach((operation, stats) ->
+                totals.computeIfAbsent(operation, key -> new EndpointStats()).merge(stats));
+        }
+        double elapsedSeconds = (System.nanoTime() - began) / 1e9;
+        pool.shutdown();
+        
+        Map<String, Object> invariants = checkInvariants(seeded);
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("seed", seed);
+        report.put("threads", threads);
+        report.put("opsPerThread", opsPerThread);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("invariants", invariants);
+        Map<String, Object> operations = new LinkedHashMap<>();
+        totals.forEach((operation, stats) -> operations.put(operation.name(), stats.summarize(elapsedSeconds)));
+        report.put("operations", operations);
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportPath.toFile(), report);
+        log.info("Booking invariant stress run: {}", report);
+        
+        operations.values().forEach(summary ->
+            assertEquals(0L, ((Map<?, ?>) summary).get("errors"), () -> "Unexpected failures: " + report));
+        assertTrue((long) ((Map<?, ?>) operations.get(Operation.BOOK.name())).get("success") > 0);
+        assertEquals(0, invariants.get("doubleBookedSlots"));
+        assertEquals(0, invariants.get("bookingsOnUnbookedSlots"));
+        assertEquals(0, invariants.get("orphanedBookedSlots"));
+        assertEquals(0, invariants.get("interviewersOverWeeklyLimit"));
+        assertEquals(0, invariants.get("overlappingSlots"));
+        assertEquals(0, invariants.get("candidatesWithSeveralBookings"));
+    }
+    
+    private enum Operation {
+        BOOK, RESCHEDULE, CANCEL, AVAILABILITY
+    }
+    
+    private final class Worker {
+        
+        private final int index;
+        private final Random random;
+        private final List<Long> slotIds;
+        private final List<Interviewer> interviewers;
+        private final int maxPerWeek;
+        private final Map<String, Long> bookings = new HashMap<>();
+        private final Map<Operation, EndpointStats> stats = new LinkedHashMap<>();
+        
+        private Worker(int index, Random random, List<Long> slotIds, List<Interviewer> interviewers, int maxPerWeek) {
+            this.index = index;
+            this.random = random;
+            this.slotIds = slotIds;
+            this.interviewers = interviewers;
+            this.maxPerWeek = maxPerWeek;
+        }
+        
+        // Each candidate belongs to one worker, so only slots and interviewers are contended
+        private Map<Operation, EndpointStats> run(int operations) {
+            for (int i = 0; i < operations; i++) {
+                String candidate = "stress-" + index + "-" + random.nextInt(CANDIDATES_PER_WORKER) + "@example.com";
+                Long slotId = slotIds.get(random.nextInt(slotIds.size()));
+                int roll = random.nextInt(100);
+                Long bookingId = bookings.get(candidate);
+                if (roll < 5) {
+                    Interviewer interviewer = interviewers.get(random.nextInt(interviewers.size()));
+                    execute(Operation.AVAILABILITY, () -> interviewerService.createOrUpdateInterviewerAvailability(
+                        availability(interviewer.getEmail(), maxPerWeek, random.nextBoolean())));
+                } else if (bookingId == null) {
+                    execute(Operation.BOOK, () -> bookings.put(candidate,
+                        bookingService.bookSlot(book(slotId, candidate)).getBookingId()));
+                } else if (roll < 80) {
+                    execute(Operation.RESCHEDULE, () -> bookingService.updateBooking(move(bookingId, slotId, candidate)));
+                } else {
+                    execute(Operation.CANCEL, () -> {
+                        bookingService.cancelBooking(bookingId, candidate, true);
+                        bookings.remove(candidate);
+                    });
+                }
+            }
+            return stats;
+        }
+        
+        // Outcomes are classified the way GlobalExceptionHandler maps them to HTTP statuses
+        private void execute(Operation operation, Runnable call) {
+            EndpointStats endpoint = stats.computeIfAbsent(operation, key -> new EndpointStats());
+            long begin = System.nanoTime();
+            int status;
+            try {
+                call.run();
+                status = 200;
+            } catch (ConcurrentModificationException | OptimisticLockingFailureException
+                     | PessimisticLockingFailureException e) {
+                status = 409;
+            } catch (BusinessException | IllegalArgumentException e) {
+                status = 400;
+            } catch (ResourceNotFoundException e) {
+                status = 404;
+            } catch (RuntimeException e) {
+                log.error("Unexpected {} failure", operation, e);
+                status = 500;
+            }
+            endpoint.record(System.nanoTime() - begin, status);
+        }
+    }
+    
+    // Slots start within the hour so released ones are recycled; the weekly limit binds in every
+    // week the slots span, as BookingService counts the week of the slot being booked
+    private List<Interviewer> seed(int interviewers, int slotsPerInterviewer, int maxPerWeek, List<Long> slotIds) {
+        LocalDateTime first = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        List<Interviewer> seeded = new ArrayList<>();
+        for (int i = 0; i < interviewers; i++) {
+            Interviewer interviewer = interviewerRepository.save(Interviewer.builder()
+                .name("Stress Interviewer " + i)
+                .email("stress-interviewer-" + i + "@example.com")
+                .maxInterviewsPerWeek(maxPerWeek)
+                .build());
+            List<TimeSlot> slots = new ArrayList<>();
+            for (int k = 0; k < slotsPerInterviewer; k++) {
+                slots.add(TimeSlot.builder()
+                    .interviewer(interviewer)
+                    .slotDateTime(first.plusMinutes(30L * k))
+                    .durationMinutes(30)
+                    .status(TimeSlot.TimeSlotStatus.AVAILABLE)
+                    .build());
+            }
+            timeSlotRepository.saveAll(slots).forEach(slot -> slotIds.add(slot.getId()));
+            seeded.add(interviewer);
+        }
+        return seeded;
+    }
+    
+    private Map<String, Object> checkInvariants(List<Interviewer> interviewers) {
+        Map<String, Object> invariants = new LinkedHashMap<>();
+        invariants.put("bookings", count("SELECT COUNT(*) FROM candidate_bookings"));
+        invariants.put("doubleBookedSlots", count(
+            "SELECT COUNT(*) FROM (SELECT time_slot_id FROM candidate_bookings GROUP BY time_slot_id HAVING COUNT(*) > 1) d"));
+        invariants.put("bookingsOnUnbookedSlots", count(
+            "SELECT COUNT(*) FROM candidate_bookings b JOIN time_slots ts ON ts.id = b.time_slot_id WHERE ts.status <> 'BOOKED'"));
+        invariants.put("orphanedBookedSlots", count(
+            "SELECT COUNT(*) FROM time_slots ts WHERE ts.status = 'BOOKED' " +
+            "AND NOT EXISTS (SELECT 1 FROM candidate_bookings b WHERE b.time_slot_id = ts.id)"));
+        invariants.put("candidatesWithSeveralBookings", count(
+            "SELECT COUNT(*) FROM (SELECT candidate_email FROM candidate_bookings GROUP BY candidate_email HAVING COUNT(*) > 1) c"));
+        invariants.put("overlappingSlots", count(
+            "SELECT COUNT(*) FROM time_slots a JOIN time_slots b ON a.interviewer_id = b.interviewer_id AND a.id < b.id " +
+            "AND a.slot_date_time < TIMESTAMPADD(MINUTE, COALESCE(b.duration_minutes, 60), b.slot_date_time) " +
+            "AND b.slot_date_time < TIMESTAMPADD(MINUTE, COALESCE(a.duration_minutes, 60), a.slot_date_time)"));
+        int overLimit = 0;
+        for (Interviewer interviewer : interviewers) {
+            Map<LocalDateTime, Long> bookedPerWeek = jdbcTemplate.queryForList(
+                    "SELECT slot_date_time FROM time_slots WHERE interviewer_id = ? AND status = 'BOOKED'",
+                    Timestamp.class, interviewer.getId()).stream()
+                .collect(Collectors.groupingBy(
+                    slot -> InterviewerCapacityTracker.weekStartOf(slot.toLocalDateTime()), Collectors.counting()));
+            int limit = interviewerRepository.findById(interviewer.getId()).orElseThrow().getMaxInterviewsPerWeek();
+            if (bookedPerWeek.values().stream().anyMatch(booked -> booked > limit)) {
+                overLimit++;
+            }
+        }
+        invariants.put("interviewersOverWeeklyLimit", overLimit);
+        return invariants;
+    }
+    
+    private int count(String sql) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class);
+        return count == null ? 0 : count;
+    }
+    
+    // Alternates between two weekday windows so updates regenerate slots around the booked ones
+    private static InterviewerAvailabilityRequest availability(String email, int maxPerWeek, boolean mornings) {
+        InterviewerAvailabilityRequest request = new InterviewerAvailabilityRequest();
+        request.setName(email);
+        request.setEmail(email);
+        request.setMaxInterviewsPerWeek(maxPerWeek);
+        List<AvailabilitySlotRequest> windows = new ArrayList<>();
+        for (DayOfWeek day : List.of(DayOfWeek.TUESDAY, DayOfWeek.THURSDAY)) {
+            AvailabilitySlotRequest window = new AvailabilitySlotRequest();
+            window.setDayOfWeek(day);
+            window.setStartTime(mornings ? LocalTime.of(9, 0) : LocalTime.of(13, 0));
+            window.setEndTime(mornings ? LocalTime.of(12, 0) : LocalTime.of(17, 0));
+            window.setSlotDurationMinutes(60);
+            windows.add(window);
+        }
+        request.setAvailabilitySlots(windows);
+        return request;
+    }
+    
+    private static BookSlotRequest book(Long slotId, String candidate) {
+        BookSlotRequest request = new BookSlotRequest();
+        request.setTimeSlotId(slotId);
+        request.setCandidateName(candidate);
+        request.setCandidateEmail(candidate);
+        return request;
+    }
+    
+    private static UpdateBookingRequest move(Long bookingId, Long slotId, String candidate) {
+        UpdateBookingRequest request = new UpdateBookingRequest();
+        request.setBookingId(bookingId);
+        request.setNewTimeSlotId(slotId);
+        request.setCandidateName(candidate);
+        request.setCandidateEmail(candidate);
+        return request;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkheadTest {
+    
+    @Test
+    void testRejectsBeyondConcurrencyWithoutQueue() {
+        Bulkhead bulkhead = new Bulkhead(2, 0, Duration.ofSeconds(1));
+        
+        assertTrue(bulkhead.tryAcquire());
+        assertTrue(bulkhead.tryAcquire());
+        assertFalse(bulkhead.tryAcquire());
+        assertEquals(2, bulkhead.getActive());
+        
+        bulkhead.release();
+        assertTrue(bulkhead.tryAcquire());
+        assertEquals(3, bulkhead.getAdmitted());
+        assertEquals(1, bulkhead.getRejected());
+        assertEquals(0, bulkhead.getDelayed());
+    }
+    
+    @Test
+    void testQueuedCallerIsAdmittedOnRelease() throws Exception {
+        Bulkhead bulkhead = new Bulkhead(1, 1, Duration.ofSeconds(10));
+        assertTrue(bulkhead.tryAcquire());
+        
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(bulkhead::tryAcquire);
+        while (bulkhead.getQueued() == 0) {
+            Thread.onSpinWait();
+        }
+        assertFalse(bulkhead.tryAcquire(), "the queue holds one caller");
+        bulkhead.release();
+        
+        assertTrue(waiter.get(5, TimeUnit.SECONDS));
+        assertEquals(0, bulkhead.getQueued());
+        assertEquals(1, bulkhead.getDelayed());
+        assertEquals(1, bulkhead.getRejected());
+    }
+    
+    @Test
+    void testQueuedCallerGivesUpAfterMaxWait() {
+        Bulkhead bulkhead = new Bulkhead(1, 4, Duration.ofMillis(20));
+        assertTrue(bulkhead.tryAcquire());
+        
+        long start = System.nanoTime();
+        assertFalse(bulkhead.tryAcquire());
+        
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        assertEquals(0, bulkhead.getQueued());
+        assertEquals(1, bulkhead.getRejected());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CborWriterTest {
+    
+    // Vectors from RFC 8949 appendix A
+    @Test
+    void testWriteLong_UsesShortestHead() throws IOException {
+        assertEquals("00", hex(cbor -> cbor.writeLong(0)));
+        assertEquals("17", hex(cbor -> cbor.writeLong(23)));
+        assertEquals("1818", hex(cbor -> cbor.writeLong(24)));
+        assertEquals("1903e8", hex(cbor -> cbor.writeLong(1000)));
+        assertEquals("1a000f4240", hex(cbor -> cbor.writeLong(1000000)));
+        assertEquals("1b000000e8d4a51000", hex(cbor -> cbor.writeLong(1000000000000L)));
+        assertEquals("20", hex(cbor -> cbor.writeLong(-1)));
+        assertEquals("3903e7", hex(cbor -> cbor.writeLong(-1000)));
+        assertEquals("3b7fffffffffffffff", hex(cbor -> cbor.writeLong(Long.MIN_VALUE)));
+        assertEquals("1b7fffffffffffffff", hex(cbor -> cbor.writeLong(Long.MAX_VALUE)));
+    }
+    
+    @Test
+    void testContainers_EncodeDefiniteLengths() throws IOException {
+        assertEquals("83010203", hex(cbor -> cbor.startArray(3).writeLong(1).writeLong(2).writeLong(3)));
+        assertEquals("a16161f5", hex(cbor -> cbor.startMap(1).writeString("a").writeBoolean(true)));
+        assertEquals("80", hex(cbor -> cbor.startArray(0)));
+    }
+    
+    @Test
+    void testScalars() throws IOException {
+        assertEquals("6449455446", hex(cbor -> cbor.writeString("IETF")));
+        assertEquals("62c3bc", hex(cbor -> cbor.writeString("ü")));
+        assertEquals("f4f5f6f6", hex(cbor -> cbor.writeBoolean(false).writeBoolean(true).writeNull().writeString(null)));
+    }
+    
+    private static String hex(Encoding encoding) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encoding.write(new CborWriter(out));
+        return HexFormat.of().formatHex(out.toByteArray());
+    }
+    
+    @FunctionalInterface
+    private interface Encoding {
+        void write(CborWriter cbor) throws IOException;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedTimingWheelTest {
+    
+    private HashedTimingWheel<Integer> wheel;
+    
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.stop();
+        }
+    }
+    
+    @Test
+    void testExpiresTimersInBatches() throws Exception {
+        List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(5);
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(20), 8, Duration.ofMillis(20), batch -> {
+            batches.add(batch);
+            batch.forEach(item -> done.countDown());
+        });
+        wheel.start();
+        
+        for (int i = 0; i < 3; i++) {
+            wheel.schedule(i, Duration.ofMillis(60));
+        }
+        // Longer than one wheel rotation (8 x 20ms) to exercise remaining rounds
+        wheel.schedule(10, Duration.ofMillis(400));
+        wheel.schedule(11, Duration.ofMillis(400));
+        
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        List<Integer> expired = new ArrayList<>();
+        batches.forEach(expired::addAll);
+        Collections.sort(expired);
+        assertEquals(List.of(0, 1, 2, 10, 11), expired);
+        assertTrue(batches.size() <= 3, "Timers due on the same tick should share a batch");
+        assertEquals(0, wheel.size());
+    }
+    
+    @Test
+    void testNeverFiresBeforeDeadline() throws Exception {
+        List<Long> lateness = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(20);
+        long[] deadlines = new long[20];
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(50), 8, Duration.ofMillis(50), batch -> {
+            long now = System.nanoTime();
+            batch.forEach(item -> {
+                lateness.add(now - deadlines[item]);
+                done.countDown();
+            });
+        });
+        wheel.start();
+        
+        for (int i = 0; i < deadlines.length; i++) {
+            long delayNanos = TimeUnit.MILLISECONDS.toNanos(30 + 7L * i);
+            deadlines[i] = System.nanoTime() + delayNanos;
+            wheel.schedule(i, Duration.ofNanos(delayNanos));
+        }
+        
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertTrue(lateness.stream().allMatch(nanos -> nanos >= 0), "Timers fired early: " + lateness);
+    }
+    
+    @Test
+    void testRetriesFailedBatches() throws Exception {
+        AtomicBoolean failedOnce = new AtomicBoolean();
+        CountDownLatch delivered = new CountDownLatch(1);
+        wheel = new HashedTimingWheel<>("test-wheel", Duration.ofMillis(10), 16, Duration.ofMillis(30), batch -> {
+            if (failedOnce.compareAndSet(false, true)) {
+                throw new IllegalStateException("database unavailable");
+            }
+            delivered.countDown();
+        });
+        wheel.start();
+        
+        wheel.schedule(1, Duration.ZERO);
+        
+        assertTrue(delivered.await(2, TimeUnit.SECONDS));
+    }
+}
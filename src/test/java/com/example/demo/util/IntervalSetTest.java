@@ -0,0 +1,39 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalSetTest {
+    
+    @Test
+    void testOverlaps_HalfOpenBoundaries() {
+        IntervalSet set = IntervalSet.builder().add(60, 120).add(180, 240).build();
+        
+        assertTrue(set.overlaps(90, 100));
+        assertTrue(set.overlaps(30, 61));
+        assertFalse(set.overlaps(120, 180), "Touching intervals do not overlap");
+        assertFalse(set.overlaps(0, 60));
+        assertTrue(set.overlaps(100, 200));
+        assertFalse(set.overlaps(240, 300));
+    }
+    
+    @Test
+    void testBuild_MergesUnsortedOverlappingIntervals() {
+        IntervalSet set = IntervalSet.builder()
+            .add(200, 260)
+            .add(0, 30)
+            .add(30, 90)
+            .add(220, 230)
+            .build();
+        
+        assertEquals(2, set.size());
+        assertTrue(set.overlaps(89, 95));
+        assertFalse(set.overlaps(90, 200));
+    }
+    
+    @Test
+    void testEmptySet() {
+        assertFalse(IntervalSet.builder().build().overlaps(0, 10));
+    }
+}
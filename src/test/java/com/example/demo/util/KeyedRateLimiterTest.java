@@ -0,0 +1,59 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeyedRateLimiterTest {
+    
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    
+    @Test
+    void testBurstThenRefill() {
+        KeyedRateLimiter limiter = new KeyedRateLimiter(10, 3, 100, clock::get);
+        
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        long wait = limiter.tryAcquire("10.0.0.1");
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), wait);
+        
+        clock.addAndGet(wait);
+        assertEquals(0, limiter.tryAcquire("10.0.0.1"));
+        assertTrue(limiter.tryAcquire("10.0.0.1") > 0);
+    }
+    
+    @Test
+    void testKeysAreIndependent() {
+        KeyedRateLimiter limiter = new KeyedRateLimiter(1, 1, 100, clock::get);
+        
+        assertEquals(0, limiter.tryAcquire("a@example.com"));
+        assertTrue(limiter.tryAcquire("a@example.com") > 0);
+        assertEquals(0, limiter.tryAcquire("b@example.com"));
+    }
+    
+    @Test
+    void testEvictsFullBucketsWhenBounded() {
+        KeyedRateLimiter limiter = new KeyedRateLimiter(1, 1, 4, clock::get);
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire("client-" + i);
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        
+        assertEquals(0, limiter.tryAcquire("client-new"));
+        assertEquals(1, limiter.size());
+    }
+    
+    @Test
+    void testMapStaysBoundedUnderActiveKeys() {
+        KeyedRateLimiter limiter = new KeyedRateLimiter(1, 1, 8, clock::get);
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquire("client-" + i);
+        }
+        
+        assertTrue(limiter.size() <= 8);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MinCostFlowTest {
+    
+    @Test
+    void testSolve_PrefersFullFillOverGreedyPreference() {
+        // Candidate 1 likes slot A, also accepts B; candidate 2 only accepts A
+        MinCostFlow network = new MinCostFlow(6, 8);
+        network.addEdge(0, 1, 1, 0);
+        network.addEdge(0, 2, 1, 0);
+        int firstToA = network.addEdge(1, 3, 1, 0);
+        int firstToB = network.addEdge(1, 4, 1, 1);
+        int secondToA = network.addEdge(2, 3, 1, 0);
+        network.addEdge(3, 5, 1, 0);
+        network.addEdge(4, 5, 1, 0);
+        
+        long[] result = network.solve(0, 5);
+        
+        assertEquals(2, result[0]);
+        assertEquals(1, result[1]);
+        assertEquals(0, network.flow(firstToA));
+        assertEquals(1, network.flow(firstToB));
+        assertEquals(1, network.flow(secondToA));
+    }
+    
+    @Test
+    void testSolve_RespectsSharedCapacity() {
+        // Two slots of the same interviewer, who has room for one more interview
+        MinCostFlow network = new MinCostFlow(7, 8);
+        network.addEdge(0, 1, 1, 0);
+        network.addEdge(0, 2, 1, 0);
+        network.addEdge(1, 3, 1, 0);
+        network.addEdge(2, 4, 1, 0);
+        network.addEdge(3, 5, 1, 0);
+        network.addEdge(4, 5, 1, 0);
+        network.addEdge(5, 6, 1, 0);
+        
+        assertEquals(1, network.solve(0, 6)[0]);
+    }
+    
+    @Test
+    void testSolve_MatchesBruteForceOnRandomAssignments() {
+        Random random = new Random(42);
+        for (int round = 0; round < 200; round++) {
+            int candidates = 1 + random.nextInt(5);
+            int slots = 1 + random.nextInt(6);
+            int[][] cost = new int[candidates][slots];
+            MinCostFlow network = new MinCostFlow(candidates + slots + 2, candidates * slots);
+            int sink = candidates + slots + 1;
+            for (int i = 0; i < candidates; i++) {
+                network.addEdge(0, 1 + i, 1, 0);
+                for (int j = 0; j < slots; j++) {
+                    cost[i][j] = random.nextInt(3) == 0 ? -1 : random.nextInt(10);
+                    if (cost[i][j] >= 0) {
+                        network.addEdge(1 + i, 1 + candidates + j, 1, cost[i][j]);
+                    }
+                }
+            }
+            for (int j = 0; j < slots; j++) {
+                network.addEdge(1 + candidates + j, sink, 1, 0);
+            }
+            
+            long[] expected = bruteForce(cost, 0, new boolean[slots]);
+            long[] actual = network.solve(0, sink);
+            
+            assertEquals(expected[0], actual[0], "flow in round " + round);
+            assertEquals(expected[1], actual[1], "cost in round " + round);
+        }
+    }
+    
+    @Test
+    void testSolve_LargeCohortCompletes() {
+        int candidates = 10_000;
+        int slots = 50_000;
+        int sink = candidates + slots + 1;
+        Random random = new Random(7);
+        MinCostFlow network = new MinCostFlow(sink + 1, candidates * 21 + slots);
+        for (int i = 0; i < candidates; i++) {
+            network.addEdge(0, 1 + i, 1, 0);
+            // Every candidate has a private slot, so a perfect matching exists
+            network.addEdge(1 + i, 1 + candidates + i * 5, 1, 19);
+            for (int k = 0; k < 20; k++) {
+                network.addEdge(1 + i, 1 + candidates + random.nextInt(slots), 1, random.nextInt(20));
+            }
+        }
+        for (int j = 0; j < slots; j++) {
+            network.addEdge(1 + candidates + j, sink, 1, 0);
+        }
+        
+        long[] result = network.solve(0, sink);
+        
+        assertEquals(candidates, result[0]);
+        assertTrue(result[1] < (long) candidates * 19);
+    }
+    
+    // {max matched, min cost among maximum matchings}
+    private long[] bruteForce(int[][] cost, int candidate, boolean[] used) {
+        if (candidate == cost.length) {
+            return new long[] {0, 0};
+        }
+        long[] best = bruteForce(cost, candidate + 1, used);
+        for (int j = 0; j < used.length; j++) {
+            if (!used[j] && cost[candidate][j] >= 0) {
+                used[j] = true;
+                long[] rest = bruteForce(cost, candidate + 1, used);
+                used[j] = false;
+                long flow = rest[0] + 1;
+                long total = rest[1] + cost[candidate][j];
+                if (flow > best[0] || (flow == best[0] && total < best[1])) {
+                    best = new long[] {flow, total};
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpscRingBufferTest {
+    
+    @Test
+    void testOfferAndDrain_FifoAcrossWrapAround() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        
+        for (int i = 0; i < 10; i++) {
+            assertTrue(buffer.offer(i));
+            buffer.drain(drained::add, 1);
+        }
+        
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), drained);
+        assertEquals(0, buffer.size());
+    }
+    
+    @Test
+    void testOffer_RejectsWhenFull() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(2);
+        
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+        assertFalse(buffer.offer(3));
+        assertEquals(1, buffer.drain(value -> { }, 1));
+        assertTrue(buffer.offer(3));
+    }
+    
+    @Test
+    void testConcurrentProducers_NoLossOrDuplication() throws Exception {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+        int producers = 4;
+        int perProducer = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.submit(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        
+        Set<Integer> seen = new HashSet<>();
+        int[] lastPerProducer = new int[producers];
+        java.util.Arrays.fill(lastPerProducer, -1);
+        while (seen.size() < producers * perProducer) {
+            buffer.drain(value -> {
+                assertTrue(seen.add(value), "duplicate " + value);
+                // Elements from one producer keep their order
+                int producer = value / perProducer;
+                assertTrue(value > lastPerProducer[producer]);
+                lastPerProducer[producer] = value;
+            }, 256);
+        }
+        
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(0, buffer.size());
+    }
+}
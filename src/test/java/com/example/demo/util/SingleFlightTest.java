@@ -0,0 +1,90 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+    
+    @Test
+    void testExecute_ConcurrentCallersShareOneLoad() throws Exception {
+        SingleFlight<String, Object> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderLoading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object result = new Object();
+        int followers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(followers + 1);
+        
+        Future<Object> leader = executor.submit(() -> flight.execute("page", () -> {
+            loads.incrementAndGet();
+            leaderLoading.countDown();
+            awaitQuietly(release);
+            return result;
+        }));
+        assertTrue(leaderLoading.await(5, TimeUnit.SECONDS));
+        
+        CountDownLatch started = new CountDownLatch(followers);
+        List<Future<Object>> joined = new ArrayList<>();
+        for (int i = 0; i < followers; i++) {
+            joined.add(executor.submit(() -> {
+                started.countDown();
+                return flight.execute("page", () -> {
+                    loads.incrementAndGet();
+                    return new Object();
+                });
+            }));
+        }
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Thread.sleep(100); // Let the followers reach the in-flight entry
+        release.countDown();
+        
+        assertSame(result, leader.get(5, TimeUnit.SECONDS));
+        for (Future<Object> follower : joined) {
+            assertSame(result, follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, flight.inFlightCount());
+        executor.shutdownNow();
+    }
+    
+    @Test
+    void testExecute_EntryIsEvictedOnceComplete() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        
+        assertEquals(1, flight.execute("page", loads::incrementAndGet));
+        assertEquals(2, flight.execute("page", loads::incrementAndGet));
+        assertEquals(0, flight.inFlightCount());
+    }
+    
+    @Test
+    void testExecute_FailureIsRethrownAndNotRemembered() {
+        SingleFlight<String, Integer> flight = new SingleFlight<>();
+        
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+            () -> flight.execute("page", () -> {
+                throw new IllegalStateException("db down");
+            }));
+        
+        assertEquals("db down", thrown.getMessage());
+        assertEquals(7, flight.execute("page", () -> 7));
+    }
+    
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
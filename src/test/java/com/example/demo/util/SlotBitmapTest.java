@@ -0,0 +1,67 @@
+package com.example.demo.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlotBitmapTest {
+    
+    @Test
+    void testAnd_KeepsOnlyCommonBitsAcrossWords() {
+        SlotBitmap first = new SlotBitmap(200);
+        SlotBitmap second = new SlotBitmap(200);
+        first.set(3);
+        first.set(64);
+        first.set(130);
+        first.set(199);
+        second.set(64);
+        second.set(131);
+        second.set(199);
+        
+        SlotBitmap common = first.copy().and(second);
+        
+        assertEquals(2, common.cardinality());
+        assertTrue(common.get(64));
+        assertTrue(common.get(199));
+        assertTrue(first.get(130), "copy must leave the source untouched");
+    }
+    
+    @Test
+    void testNextSetBit_SkipsEmptyWords() {
+        SlotBitmap bitmap = new SlotBitmap(1000);
+        bitmap.set(5);
+        bitmap.set(700);
+        
+        assertEquals(5, bitmap.nextSetBit(0));
+        assertEquals(700, bitmap.nextSetBit(6));
+        assertEquals(700, bitmap.nextSetBit(700));
+        assertEquals(-1, bitmap.nextSetBit(701));
+        assertEquals(-1, bitmap.nextSetBit(5000));
+    }
+    
+    @Test
+    void testAnd_ShorterBitmapClearsTail() {
+        SlotBitmap longer = new SlotBitmap(128);
+        longer.set(10);
+        longer.set(70);
+        longer.set(100);
+        SlotBitmap shorter = new SlotBitmap(80);
+        shorter.set(10);
+        shorter.set(70);
+        
+        longer.and(shorter);
+        
+        assertEquals(2, longer.cardinality());
+        assertFalse(longer.get(100));
+    }
+    
+    @Test
+    void testClearAndBounds() {
+        SlotBitmap bitmap = new SlotBitmap(64);
+        bitmap.set(63);
+        bitmap.clear(63);
+        
+        assertFalse(bitmap.get(63));
+        assertThrows(IndexOutOfBoundsException.class, () -> bitmap.set(64));
+    }
+}